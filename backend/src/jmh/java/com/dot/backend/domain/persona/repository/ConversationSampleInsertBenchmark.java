@@ -0,0 +1,134 @@
+package com.dot.backend.domain.persona.repository;
+
+import com.dot.backend.domain.common.TimeOrderedIdGenerator;
+import com.dot.backend.domain.persona.ConversationSample;
+import com.dot.backend.domain.persona.SampleMessage;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 샘플 10만 건 저장 벤치마크 (H2 MySQL 모드, 실제 Flyway 스키마)
+ *
+ * - singleRowInserts: batch 없이 행마다 INSERT (기존 IDENTITY 엔티티를 Hibernate가 저장하던 방식)
+ * - jdbcBatchInsert: ConversationSampleJdbcRepository (JDBC batch, 청크 단위 커밋)
+ * - compressedChunkInsert: ConversationSampleChunkRepository (메시지 2000건 = 압축 BLOB 한 행)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ConversationSampleInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConversationSampleInsertBenchmark {
+
+    @Param({"100000"})
+    public int sampleCount;
+
+    @Param({"5000"})
+    public int chunkSize;
+
+    @Param({"2000"})
+    public int chunkMessages;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ConversationSampleJdbcRepository repository;
+    private ConversationSampleChunkRepository chunkRepository;
+    private Long personaId;
+    private List<SampleMessage> samples;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:sample_bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new ConversationSampleJdbcRepository(jdbcTemplate);
+        chunkRepository = new ConversationSampleChunkRepository(jdbcTemplate);
+
+        jdbcTemplate.update("INSERT INTO users (email, password) VALUES ('bench@dot.com', 'x')");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'bench@dot.com'", Long.class);
+        jdbcTemplate.update("INSERT INTO personas (user_id, name) VALUES (?, 'bench')", userId);
+        personaId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM personas", Long.class);
+
+        samples = new ArrayList<>(sampleCount);
+        for (int i = 0; i < sampleCount; i++) {
+            samples.add(new SampleMessage(
+                    i % 2 == 0 ? ConversationSample.Role.PERSONA : ConversationSample.Role.USER,
+                    "밥 먹었어? 오늘 날씨 좋다~ " + i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM conversation_sample");
+        jdbcTemplate.update("DELETE FROM conversation_sample_chunk");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public int singleRowInserts() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO conversation_sample (id, persona_id, role, message, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (SampleMessage sample : samples) {
+                ps.setLong(1, TimeOrderedIdGenerator.nextId());
+                ps.setLong(2, personaId);
+                ps.setString(3, sample.getRole().name());
+                ps.setString(4, sample.getMessage());
+                ps.setTimestamp(5, now);
+                ps.executeUpdate();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return samples.size();
+    }
+
+    @Benchmark
+    public int jdbcBatchInsert() {
+        int saved = 0;
+        for (int from = 0; from < samples.size(); from += chunkSize) {
+            List<SampleMessage> chunk = samples.subList(from, Math.min(from + chunkSize, samples.size()));
+            Integer count = transactionTemplate.execute(status -> repository.batchInsert(personaId, chunk));
+            saved += count != null ? count : 0;
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public int compressedChunkInsert() {
+        int saved = 0;
+        for (int from = 0; from < samples.size(); from += chunkSize) {
+            List<SampleMessage> chunk = samples.subList(from, Math.min(from + chunkSize, samples.size()));
+            Integer count = transactionTemplate.execute(status -> chunkRepository.append(personaId, chunk, chunkMessages));
+            saved += count != null ? count : 0;
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,184 @@
+package com.dot.backend.parser;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 카카오톡 내보내기 파일 생성기
+ *
+ * - 안드로이드 / 아이폰 형식
+ * - 화자 수, 여러 줄 메시지, 시스템 메시지, 이모지 비율 설정 가능
+ * - 같은 설정이면 항상 같은 파일을 만든다 (시드 고정)
+ */
+public class KakaoExportGenerator {
+
+    public enum Format {
+        ANDROID, IOS
+    }
+
+    private static final String[] PHRASES = {
+            "밥 먹었어?", "응 방금 먹었어", "오늘 날씨 좋다~", "산책 갈까", "집에 언제 와",
+            "알겠어", "조심히 들어가", "뭐해", "보고 싶다", "주말에 시간 돼?",
+            "그거 어떻게 됐어", "괜찮아 걱정 마", "사진 봤어", "전화 좀 해줘", "잘 자"
+    };
+
+    private static final String[] EXPRESSIONS = {"ㅋㅋㅋ", "ㅎㅎ", "ㅠㅠ", "~", "!!", ""};
+
+    private static final String[] EMOJIS = {"😀", "😂", "❤", "👍", "🙏", "😭"};
+
+    private static final String[] MEDIA = {"이모티콘", "사진", "동영상"};
+
+    private final Format format;
+    private final List<String> speakers;
+    private final long seed;
+    private final double multiLineRatio;
+    private final double systemLineRatio;
+    private final double emojiRatio;
+
+    public KakaoExportGenerator(Format format) {
+        this(format, List.of("엄마", "나"), 42L, 0.05, 0.01, 0.1);
+    }
+
+    /**
+     * @param multiLineRatio  여러 줄 메시지 비율
+     * @param systemLineRatio 입장/퇴장 등 시스템 메시지 비율
+     * @param emojiRatio      이모지가 들어간 메시지 비율
+     */
+    public KakaoExportGenerator(Format format, List<String> speakers, long seed,
+                                double multiLineRatio, double systemLineRatio, double emojiRatio) {
+        if (speakers.isEmpty()) {
+            throw new IllegalArgumentException("화자가 최소 한 명 필요합니다.");
+        }
+        this.format = format;
+        this.speakers = List.copyOf(speakers);
+        this.seed = seed;
+        this.multiLineRatio = multiLineRatio;
+        this.systemLineRatio = systemLineRatio;
+        this.emojiRatio = emojiRatio;
+    }
+
+    /**
+     * 목표 크기 이상이 될 때까지 메시지를 기록
+     *
+     * @return 기록한 메시지 수 (시스템 메시지 제외)
+     */
+    public long write(OutputStream out, long targetBytes) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime time = LocalDateTime.of(2020, 1, 1, 9, 0);
+        StringBuilder line = new StringBuilder(256);
+
+        long written = 0;
+        long messages = 0;
+
+        line.append(speakers.get(0)).append(" 님과 카카오톡 대화\n")
+                .append("저장한 날짜 : ").append(formatTime(time)).append("\n\n");
+        written += writeLine(out, line);
+
+        int previousDay = -1;
+        while (written < targetBytes) {
+            time = time.plusSeconds(random.nextLong(1, 1800));
+
+            // 날짜 구분선 (파서가 무시하는 줄)
+            if (time.getDayOfYear() != previousDay) {
+                previousDay = time.getDayOfYear();
+                line.append('\n').append(formatDate(time)).append('\n');
+                written += writeLine(out, line);
+            }
+
+            if (random.nextDouble() < systemLineRatio) {
+                String who = speakers.get(random.nextInt(speakers.size()));
+                line.append(who).append(random.nextBoolean() ? "님이 들어왔습니다." : "님이 나갔습니다.").append('\n');
+                written += writeLine(out, line);
+                continue;
+            }
+
+            String speaker = speakers.get(random.nextInt(speakers.size()));
+            line.append(formatTime(time));
+            line.append(format == Format.ANDROID ? ", " : " ");
+            line.append(speaker).append(" : ");
+            appendContent(line, random);
+            line.append('\n');
+
+            // 여러 줄 메시지 (이어지는 줄에는 시간/화자가 없음)
+            if (random.nextDouble() < multiLineRatio) {
+                int extra = random.nextInt(1, 4);
+                for (int i = 0; i < extra; i++) {
+                    appendContent(line, random);
+                    line.append('\n');
+                }
+            }
+
+            written += writeLine(out, line);
+            messages++;
+        }
+        out.flush();
+        return messages;
+    }
+
+    /**
+     * 임시 디렉토리에 생성된 파일을 재사용 (없으면 생성)
+     */
+    public static Path cached(Format format, long targetBytes) throws IOException {
+        Path file = Path.of(System.getProperty("java.io.tmpdir"),
+                "dot-kakao-bench-" + format.name().toLowerCase() + "-" + targetBytes + ".txt");
+        if (Files.exists(file) && Files.size(file) >= targetBytes) {
+            return file;
+        }
+
+        Path temp = Files.createTempFile(file.getParent(), "dot-kakao-bench", ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16)) {
+            new KakaoExportGenerator(format).write(out, targetBytes);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    // === Helper Methods ===
+
+    private void appendContent(StringBuilder line, SplittableRandom random) {
+        if (random.nextInt(20) == 0) {
+            line.append(MEDIA[random.nextInt(MEDIA.length)]);
+            return;
+        }
+        line.append(PHRASES[random.nextInt(PHRASES.length)]);
+        line.append(EXPRESSIONS[random.nextInt(EXPRESSIONS.length)]);
+        if (random.nextDouble() < emojiRatio) {
+            line.append(EMOJIS[random.nextInt(EMOJIS.length)]);
+        }
+    }
+
+    private String formatTime(LocalDateTime time) {
+        if (format == Format.IOS) {
+            return String.format("%04d-%02d-%02d %02d:%02d:%02d",
+                    time.getYear(), time.getMonthValue(), time.getDayOfMonth(),
+                    time.getHour(), time.getMinute(), time.getSecond());
+        }
+        int hour = time.getHour() % 12 == 0 ? 12 : time.getHour() % 12;
+        return String.format("%d년 %d월 %d일 %s %d:%02d",
+                time.getYear(), time.getMonthValue(), time.getDayOfMonth(),
+                time.getHour() < 12 ? "오전" : "오후", hour, time.getMinute());
+    }
+
+    private String formatDate(LocalDateTime time) {
+        if (format == Format.IOS) {
+            return String.format("%04d-%02d-%02d", time.getYear(), time.getMonthValue(), time.getDayOfMonth());
+        }
+        return String.format("--------------- %d년 %d월 %d일 ---------------",
+                time.getYear(), time.getMonthValue(), time.getDayOfMonth());
+    }
+
+    private static int writeLine(OutputStream out, StringBuilder line) throws IOException {
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        line.setLength(0);
+        return bytes.length;
+    }
+}
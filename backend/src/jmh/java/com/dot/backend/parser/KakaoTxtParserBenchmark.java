@@ -0,0 +1,141 @@
+package com.dot.backend.parser;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KakaoTxtParser 벤치마크
+ *
+ * - 처리량: ops/s + bytes/s, messages/s (AuxCounters)
+ * - 할당률: gc 프로파일러 (gc.alloc.rate, gc.alloc.rate.norm)
+ * - 최대 힙: 반복(iteration)마다 힙 풀 peak를 초기화하고 종료 시 출력
+ *
+ * 실행: ./gradlew jmh 또는 java -jar build/libs/*-jmh.jar KakaoTxtParserBenchmark -p sizeMb=1,16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx4g"})
+public class KakaoTxtParserBenchmark {
+
+    private static final String TARGET_SPEAKER = "엄마";
+
+    @Param({"1", "16", "256", "1024"})
+    public int sizeMb;
+
+    @Param({"ANDROID", "IOS"})
+    public KakaoExportGenerator.Format format;
+
+    private Path file;
+    private long fileSize;
+    private KakaoTxtParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = KakaoExportGenerator.cached(format, sizeMb * 1024L * 1024L);
+        fileSize = Files.size(file);
+        // Gemini 호출은 측정 대상이 아니므로 클라이언트 없이 생성 (기본 시스템 키워드)
+        parser = new KakaoTxtParser(null, List.of());
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : heapPools()) {
+            pool.resetPeakUsage();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : heapPools()) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        System.out.printf("%n[peak heap] %s %dMB: %dMB%n", format, sizeMb, peak / (1024 * 1024));
+    }
+
+    /**
+     * 반복마다 처리한 바이트 / 메시지 수 (ops와 같은 단위로 초당 값이 출력됨)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long bytes;
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            messages = 0;
+        }
+    }
+
+    @Benchmark
+    public void parseStreaming(Counters counters, Blackhole bh) throws IOException {
+        long[] count = {0};
+        try (InputStream in = Files.newInputStream(file)) {
+            parser.parse(in, message -> {
+                bh.consume(message);
+                count[0]++;
+            });
+        }
+        counters.bytes += fileSize;
+        counters.messages += count[0];
+    }
+
+    @Benchmark
+    public List<ParsedMessage> parseToList(Counters counters) throws IOException {
+        List<ParsedMessage> messages;
+        try (InputStream in = Files.newInputStream(file)) {
+            messages = parser.parse(in);
+        }
+        counters.bytes += fileSize;
+        counters.messages += messages.size();
+        return messages;
+    }
+
+    /**
+     * 화자 목록 + 화자별 통계 (기존 extractSpeakers를 대체한 한 번의 패스 집계)
+     */
+    @Benchmark
+    public List<String> speakerStatistics(Counters counters) throws IOException {
+        ConversationStatistics statistics = new ConversationStatistics();
+        try (InputStream in = Files.newInputStream(file)) {
+            parser.parse(in, statistics);
+        }
+        counters.bytes += fileSize;
+        counters.messages += statistics.getTotalCount();
+        statistics.toSummary(TARGET_SPEAKER);
+        return statistics.getSpeakers();
+    }
+
+    @Benchmark
+    public String sampling(Counters counters) throws IOException {
+        ConversationSampler sampler = new ConversationSampler(TARGET_SPEAKER);
+        long[] count = {0};
+        try (InputStream in = Files.newInputStream(file)) {
+            parser.parse(in, sampler.andThen(message -> count[0]++));
+        }
+        counters.bytes += fileSize;
+        counters.messages += count[0];
+        return sampler.render();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+}
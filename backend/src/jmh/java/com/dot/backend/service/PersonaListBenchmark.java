@@ -0,0 +1,88 @@
+package com.dot.backend.service;
+
+import com.dot.backend.DotBackendApplication;
+import com.dot.backend.domain.user.User;
+import com.dot.backend.domain.user.repository.UserRepository;
+import com.dot.backend.dto.persona.PersonaListResponse;
+import com.dot.backend.util.EncryptionUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PersonaService.getPersonaList 벤치마크 (애플리케이션 전체 기동, H2 MySQL 모드, 실제 Flyway 스키마)
+ *
+ * 조회 → 이름 / 전화번호 복호화 → 응답 변환까지 서비스 호출 한 번의 시간 (PII 암호화가 목록 응답에 더하는 비용 추적용)
+ * - personaCount: 사용자 한 명의 Persona 수 (decryptAll이 PARALLEL_THRESHOLD 이상에서 병렬로 바뀌는 지점 포함)
+ * - decryptionCache: 이름 복호화 캐시 사용 여부 (false면 encryption.cache.max-entries=0, 매번 복호화)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PersonaListBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonaListBenchmark {
+
+    private static final String EMAIL = "bench@dot.com";
+
+    @Param({"10", "100", "1000"})
+    public int personaCount;
+
+    @Param({"true", "false"})
+    public boolean decryptionCache;
+
+    private ConfigurableApplicationContext context;
+    private PersonaService personaService;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DotBackendApplication.class)
+                .profiles("dev")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:persona_list_bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.com.dot.backend=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "encryption.cache.max-entries=" + (decryptionCache ? 10000 : 0))
+                .run();
+
+        EncryptionUtil encryptionUtil = context.getBean(EncryptionUtil.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO users (email, password) VALUES (?, 'x')", EMAIL);
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, EMAIL);
+
+        // 이름 / 전화번호는 서비스와 같은 방식으로 암호화 (행마다 다른 값)
+        List<Object[]> rows = new ArrayList<>(personaCount);
+        for (int i = 0; i < personaCount; i++) {
+            rows.add(new Object[]{userId, encryptionUtil.encrypt("사람" + i),
+                    encryptionUtil.encrypt(String.format("010-%04d-%04d", i / 10000, i % 10000))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO personas (user_id, name, phone_number) VALUES (?, ?, ?)", rows);
+
+        personaService = context.getBean(PersonaService.class);
+        user = context.getBean(UserRepository.class).findByEmail(EMAIL).orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PersonaListResponse> getPersonaList() {
+        return personaService.getPersonaList(user);
+    }
+}
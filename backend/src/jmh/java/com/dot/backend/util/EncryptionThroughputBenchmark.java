@@ -0,0 +1,84 @@
+package com.dot.backend.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncryptionUtil 처리량 벤치마크 (값 길이 x 스레드 수)
+ *
+ * - payload: 이름 / 전화번호 (목록 행마다 복호화하는 필드), 긴 메모 (2160자 = UTF-8 5.2KB, 스레드 버퍼 안에서 처리되는 크기)
+ * - 스레드 수: 하위 클래스별로 1 / 4 / 16 (JMH -t는 값 하나만 받으므로 클래스로 나눔)
+ * - isEncrypted: 암호문 / 평문 각각 (Base64 디코딩 기반 휴리스틱, 평문은 예외 경로)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EncryptionThroughputBenchmark
+ * 특정 조합만: java -jar build/libs/backend-0.0.1-jmh.jar 'EncryptionThroughputBenchmark.SixteenThreads' -p payload=MEMO
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class EncryptionThroughputBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    public enum Payload {
+        NAME("홍길동"),
+        PHONE_NUMBER("010-1234-5678"),
+        MEMO("항상 따뜻하고 다정한 말투로 이야기해 주세요. 밥은 먹었는지, 아픈 데는 없는지 먼저 물어봐요. ".repeat(40));
+
+        private final String value;
+
+        Payload(String value) {
+            this.value = value;
+        }
+    }
+
+    @Param({"NAME", "PHONE_NUMBER", "MEMO"})
+    public Payload payload;
+
+    private EncryptionUtil encryptionUtil;
+    private String plainText;
+    private String encrypted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encryptionUtil = new EncryptionUtil(KEY);
+        plainText = payload.value;
+        encrypted = encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtil.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public boolean isEncrypted() {
+        return encryptionUtil.isEncrypted(encrypted);
+    }
+
+    @Benchmark
+    public boolean isEncryptedPlainText() {
+        return encryptionUtil.isEncrypted(plainText);
+    }
+
+    @Threads(1)
+    public static class OneThread extends EncryptionThroughputBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends EncryptionThroughputBenchmark {
+    }
+
+    @Threads(16)
+    public static class SixteenThreads extends EncryptionThroughputBenchmark {
+    }
+}
@@ -0,0 +1,126 @@
+package com.dot.backend.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncryptionUtil 벤치마크 (여러 스레드에서 목록 행 단위 암호화 / 복호화)
+ *
+ * - perCall*: 변경 전 방식 (호출마다 Cipher.getInstance, 공유 SecureRandom IV, ByteBuffer / java.util.Base64)
+ * - threadLocal*: 현재 EncryptionUtil (스레드별 Cipher / 카운터 IV / 버퍼)
+ * 값은 이름 / 전화번호 길이 (목록 응답에서 행마다 복호화하는 필드)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EncryptionUtilBenchmark
+ * 스레드 수 지정: java -jar build/libs/backend-0.0.1-jmh.jar EncryptionUtilBenchmark -t 16 -prof gc (스레드 수별 비교는 EncryptionThroughputBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class EncryptionUtilBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+    private static final String[] VALUES = {"홍길동", "010-1234-5678", "어머니", "김철수", "010-9876-5432", "Alice Kim"};
+
+    private EncryptionUtil encryptionUtil;
+    private PerCallCipher perCallCipher;
+    private String[] encrypted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encryptionUtil = new EncryptionUtil(KEY);
+        perCallCipher = new PerCallCipher(KEY);
+        encrypted = new String[VALUES.length];
+        for (int i = 0; i < VALUES.length; i++) {
+            encrypted[i] = encryptionUtil.encrypt(VALUES[i]);
+        }
+    }
+
+    /**
+     * 스레드마다 값 순환 (같은 값만 반복하지 않도록)
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        int next() {
+            index = index + 1 == VALUES.length ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public String perCallEncrypt(Cursor cursor) {
+        return perCallCipher.encrypt(VALUES[cursor.next()]);
+    }
+
+    @Benchmark
+    public String threadLocalEncrypt(Cursor cursor) {
+        return encryptionUtil.encrypt(VALUES[cursor.next()]);
+    }
+
+    @Benchmark
+    public String perCallDecrypt(Cursor cursor) {
+        return perCallCipher.decrypt(encrypted[cursor.next()]);
+    }
+
+    @Benchmark
+    public String threadLocalDecrypt(Cursor cursor) {
+        return encryptionUtil.decrypt(encrypted[cursor.next()]);
+    }
+
+    /**
+     * 변경 전 EncryptionUtil 구현 (비교 기준)
+     */
+    static class PerCallCipher {
+
+        private final SecretKeySpec secretKey;
+        private final SecureRandom secureRandom = new SecureRandom();
+
+        PerCallCipher(String key) {
+            this.secretKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+        }
+
+        String encrypt(String plainText) {
+            try {
+                byte[] iv = new byte[12];
+                secureRandom.nextBytes(iv);
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
+                byteBuffer.put(iv);
+                byteBuffer.put(cipherText);
+                return Base64.getEncoder().encodeToString(byteBuffer.array());
+            } catch (Exception e) {
+                throw new RuntimeException("Encryption failed", e);
+            }
+        }
+
+        String decrypt(String encryptedText) {
+            try {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(Base64.getDecoder().decode(encryptedText));
+                byte[] iv = new byte[12];
+                byteBuffer.get(iv);
+                byte[] cipherText = new byte[byteBuffer.remaining()];
+                byteBuffer.get(cipherText);
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new RuntimeException("Decryption failed", e);
+            }
+        }
+    }
+}
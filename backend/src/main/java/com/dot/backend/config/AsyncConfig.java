@@ -0,0 +1,100 @@
+package com.dot.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 / 주기 작업 설정
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * Persona 생성 파이프라인 전용 스레드 풀 (파싱 / Gemini 호출 / 샘플 저장)
+     * 요청 스레드와 분리해서 대용량 카톡 파일이 API 응답을 막지 않도록 함
+     * 큐가 가득 차면 제출한 PersonaIngestionService가 거절을 받아 해당 Persona를 실패 처리
+     */
+    @Bean(name = "personaIngestionExecutor")
+    public Executor personaIngestionExecutor(
+            @Value("${persona.ingestion.pool-size:2}") int poolSize,
+            @Value("${persona.ingestion.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("persona-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 프로필 이미지 리사이즈 전용 스레드 풀 (디코딩 / 리사이즈는 CPU 작업이라 작게 유지)
+     */
+    @Bean(name = "profileImageExecutor")
+    public Executor profileImageExecutor(
+            @Value("${persona.profile-image.pool-size:2}") int poolSize,
+            @Value("${persona.profile-image.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("profile-image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대화 샘플 벡터 색인(HNSW) 생성 전용 스레드 풀 (임베딩 / 그래프 구성은 CPU 작업, 채팅 요청 스레드와 분리)
+     * 색인 작업과 style card 계산이 같이 쓴다. 큐가 가득 차면 거절하므로 제출하는 쪽에서 RejectedExecutionException을 처리한다
+     */
+    @Bean(name = "sampleIndexExecutor")
+    public Executor sampleIndexExecutor(
+            @Value("${chat.embedding.pool-size:1}") int poolSize,
+            @Value("${chat.embedding.queue-capacity:64}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sample-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);  // 메모리 색인이라 종료 시 기다릴 필요 없음
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 채팅 장기 기억 추출 전용 스레드 풀 (턴마다 Gemini 호출, 채팅 응답과 분리)
+     * 큐가 가득 차면 해당 턴의 추출은 건너뜀 (채팅 요청이 실패하지 않도록)
+     */
+    @Bean(name = "chatMemoryExecutor")
+    public Executor chatMemoryExecutor(
+            @Value("${chat.memory.pool-size:2}") int poolSize,
+            @Value("${chat.memory.queue-capacity:500}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-memory-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
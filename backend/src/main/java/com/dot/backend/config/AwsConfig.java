@@ -1,16 +1,19 @@
 package com.dot.backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 /**
- * AWS S3 클라이언트 설정
+ * AWS S3 클라이언트 / presigner 설정 (storage.type=s3 일 때만 생성)
  */
 @Configuration
 public class AwsConfig {
@@ -25,21 +28,33 @@ public class AwsConfig {
     private String secretKey;
 
     @Bean
-    public S3Client s3Client() {
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+    public S3AsyncClient s3AsyncClient() {
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .build();
+    }
+
+    /**
+     * 클라이언트 직접 업로드 / 다운로드용 presigned URL 서명 (네트워크 호출 없이 로컬에서 서명)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider())
+                .build();
+    }
+
+    private AwsCredentialsProvider credentialsProvider() {
         // 개발 환경: access key가 있으면 사용, 없으면 DefaultCredentialsProvider (IAM Role, 환경변수 등)
         if (accessKey != null && !accessKey.isEmpty() && secretKey != null && !secretKey.isEmpty()) {
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
-            return S3Client.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        } else {
-            // 프로덕션: EC2 IAM Role 또는 환경변수에서 자동으로 가져옴
-            return S3Client.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(DefaultCredentialsProvider.create())
-                    .build();
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
         }
+        // 프로덕션: EC2 IAM Role 또는 환경변수에서 자동으로 가져옴
+        return DefaultCredentialsProvider.create();
     }
 }
 
@@ -0,0 +1,30 @@
+package com.dot.backend.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 암호화 키 분리 확인 (dev 외 프로필)
+ *
+ * blind index HMAC 키가 데이터 암호화(AES-GCM) 키와 같으면 데이터 키를 교체할 때 저장된 blind index가 모두 깨진다.
+ * 같은 값으로 설정된 채 시작하지 않도록 막는다 (키가 없으면 BlindIndex 생성 단계에서 실패).
+ */
+@Configuration
+@Profile("!dev")
+public class EncryptionKeyConfig implements InitializingBean {
+
+    @Value("${encryption.key}")
+    private String encryptionKey;
+
+    @Value("${encryption.blind-index-key:}")
+    private String blindIndexKey;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (blindIndexKey.equals(encryptionKey)) {
+            throw new IllegalStateException("BLIND_INDEX_KEY는 ENCRYPTION_KEY와 다른 값이어야 합니다");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.dot.backend.config;
+
+import com.dot.backend.domain.common.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * ID 생성 노드 번호 확인 (dev 외 프로필)
+ *
+ * 노드 번호가 없으면 16개 중 무작위로 고르므로 두 인스턴스가 같은 번호를 쓰면 같은 밀리초에 같은 ID(PK 충돌)가 생긴다.
+ * 여러 인스턴스로 운영하는 환경에서는 DOT_NODE_ID 없이 시작하지 않도록 막는다.
+ */
+@Configuration
+@Profile("!dev")
+public class IdGeneratorConfig implements InitializingBean {
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!TimeOrderedIdGenerator.isNodeIdConfigured()) {
+            throw new IllegalStateException("DOT_NODE_ID(0~15)가 설정되지 않았습니다. 서버 인스턴스마다 다른 값을 지정하세요");
+        }
+    }
+}
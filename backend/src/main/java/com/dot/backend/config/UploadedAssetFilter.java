@@ -0,0 +1,134 @@
+package com.dot.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 zero-copy 서빙 (Tomcat sendfile)
+ *
+ * 파일 전체를 받는 GET 요청은 헤더만 쓰고 파일 경로를 Tomcat에 넘겨서, 파일 내용이 힙 / 서블릿 출력 버퍼를 거치지 않고
+ * 커널에서 소켓으로 바로 전송되게 한다. 다음 경우는 그대로 통과시켜 WebConfig의 리소스 핸들러가 처리한다.
+ * - Range 요청, HEAD 요청
+ * - 클라이언트가 받을 수 있는 미리 압축된 파일(.br / .gz)이 있는 경우
+ * - sendfile을 지원하지 않는 커넥터, sendfile 이득이 없는 작은 파일
+ * 캐시 헤더와 ETag는 두 경로가 같은 규칙(CACHE_CONTROL, etag)을 쓴다.
+ */
+public class UploadedAssetFilter extends OncePerRequestFilter {
+
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /** 업로드 파일명은 UUID라 같은 URL의 내용이 바뀌지 않음 → 1년 + immutable (새로고침 시 재검증도 생략) */
+    static final CacheControl CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private final String urlPrefix;
+    private final Path root;
+    private final long minSendfileBytes;
+
+    /**
+     * @param uploadDir        업로드 디렉토리 (URL 경로와 같음)
+     * @param minSendfileBytes 이보다 작은 파일은 일반 복사로 전송 (Tomcat DefaultServlet 기본값 48KB)
+     */
+    public UploadedAssetFilter(String uploadDir, long minSendfileBytes) {
+        this(uploadDir, Paths.get(uploadDir), minSendfileBytes);
+    }
+
+    UploadedAssetFilter(String uploadDir, Path root, long minSendfileBytes) {
+        this.urlPrefix = "/" + uploadDir + "/";
+        this.root = root.toAbsolutePath().normalize();
+        this.minSendfileBytes = minSendfileBytes;
+    }
+
+    /**
+     * 강한 ETag (수정 시각 + 크기, 파일명이 바뀌지 않는 업로드 파일에 충분)
+     */
+    static String etag(long lastModified, long length) {
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+    }
+
+    static String etag(Resource resource) {
+        try {
+            return etag(resource.lastModified(), resource.contentLength());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + urlPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Path file = request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))
+                ? resolve(request) : null;
+        if (file == null || hasPrecompressed(file, request) || Files.size(file) < minSendfileBytes) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag(lastModified, length), lastModified)) {
+            return; // 304
+        }
+
+        response.setContentType(mediaType(request, file));
+        response.setContentLengthLong(length);
+        request.setAttribute(SENDFILE_FILENAME_ATTR, file.toString());
+        request.setAttribute(SENDFILE_START_ATTR, 0L);
+        request.setAttribute(SENDFILE_END_ATTR, length);
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * 요청 경로 -> 업로드 디렉토리 안의 실제 파일 (없거나 디렉토리 밖이면 null)
+     */
+    private Path resolve(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length() + urlPrefix.length());
+        Path file = root.resolve(UriUtils.decode(path, StandardCharsets.UTF_8)).normalize();
+        return file.startsWith(root) && Files.isRegularFile(file) ? file : null;
+    }
+
+    private static boolean hasPrecompressed(Path file, HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return (acceptEncoding.contains("br") && Files.exists(Paths.get(file + ".br")))
+                || (acceptEncoding.contains("gzip") && Files.exists(Paths.get(file + ".gz")));
+    }
+
+    private static String mediaType(HttpServletRequest request, Path file) {
+        String fileName = file.getFileName().toString();
+        String mimeType = request.getServletContext().getMimeType(fileName);
+        return mimeType != null ? mimeType
+                : MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+}
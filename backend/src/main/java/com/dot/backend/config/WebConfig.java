@@ -1,14 +1,21 @@
 package com.dot.backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 
 import java.io.File;
 
 /**
  * 정적 리소스 핸들러 설정 (업로드된 파일 서빙)
+ *
+ * 업로드 파일명은 UUID라 내용이 바뀌지 않으므로 immutable 캐시 + 강한 ETag로 내려준다.
+ * 전체 파일 GET은 UploadedAssetFilter가 Tomcat sendfile로 처리하고,
+ * Range 요청 / 미리 압축된 파일(.br, .gz) / 작은 파일은 이 리소스 핸들러가 처리한다.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -16,12 +23,28 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
+    @Value("${file.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // uploads/** 경로로 요청이 오면 실제 파일 시스템의 uploadDir에서 찾음
         String path = new File(uploadDir).getAbsolutePath();
-        
+
         registry.addResourceHandler("/" + uploadDir + "/**")
-                .addResourceLocations("file:" + path + File.separator);
+                .addResourceLocations("file:" + path + File.separator)
+                .setCacheControl(UploadedAssetFilter.CACHE_CONTROL)
+                .setEtagGenerator(UploadedAssetFilter::etag)
+                // 파일마다 이름이 다르므로 해석 결과 캐시는 쓰지 않음 (캐시가 끝없이 커짐)
+                .resourceChain(false)
+                .addResolver(new EncodedResourceResolver());
+    }
+
+    @Bean
+    public FilterRegistrationBean<UploadedAssetFilter> uploadedAssetFilter() {
+        FilterRegistrationBean<UploadedAssetFilter> registration =
+                new FilterRegistrationBean<>(new UploadedAssetFilter(uploadDir, sendfileMinBytes));
+        registration.addUrlPatterns("/" + uploadDir + "/*");
+        return registration;
     }
 }
@@ -0,0 +1,92 @@
+package com.dot.backend.controller;
+
+import com.dot.backend.storage.LocalPresigner;
+import com.dot.backend.storage.StorageBackend;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로컬 저장소 presigned URL 엔드포인트 (S3 presigned URL 대역, storage.type=local 일 때만)
+ *
+ * - PUT /api/storage/local/{key}?expires&length&signature - 서명된 업로드
+ * - GET /api/storage/local/{key}?expires&length&signature - 서명된 다운로드
+ * JWT 대신 URL 서명으로 인증한다 (LocalPresigner). S3와 같은 방식으로 클라이언트 코드를 개발 / 테스트하기 위한 용도.
+ */
+@RestController
+@RequestMapping("/api/storage/local")
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+@Tag(name = "Storage (local)", description = "로컬 저장소 presigned URL 대역 (개발 / 테스트용)")
+@Slf4j
+public class LocalStorageController {
+
+    private final LocalPresigner presigner;
+    private final StorageBackend storageBackend;
+
+    @PutMapping("/**")
+    @Operation(summary = "서명된 업로드", description = "presign API가 내려준 URL과 헤더 그대로 파일 본문을 PUT 합니다.")
+    public ResponseEntity<Void> upload(
+        @RequestParam long expires,
+        @RequestParam long length,
+        @RequestParam String signature,
+        HttpServletRequest request
+    ) throws IOException {
+        String key = keyOf(request);
+        String contentType = request.getContentType();
+        if (request.getContentLengthLong() != length
+                || !presigner.verify("PUT", key, contentType, length, expires, signature)) {
+            log.warn("Rejected presigned upload: key={}", key);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try (InputStream in = request.getInputStream()) {
+            storageBackend.store(key, in, length, contentType);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/**")
+    @Operation(summary = "서명된 다운로드", description = "presign API가 내려준 URL로 파일을 받습니다.")
+    public ResponseEntity<Resource> download(
+        @RequestParam long expires,
+        @RequestParam long length,
+        @RequestParam String signature,
+        HttpServletRequest request
+    ) throws IOException {
+        String key = keyOf(request);
+        if (!presigner.verify("GET", key, null, length, expires, signature)) {
+            log.warn("Rejected presigned download: key={}", key);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        long size = storageBackend.sizeOf(key);
+        if (size < 0) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentLength(size)
+                .contentType(MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(new InputStreamResource(storageBackend.open(key)));
+    }
+
+    private static String keyOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length() + LocalPresigner.PATH_PREFIX.length());
+        return UriUtils.decode(path, StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,7 @@
 package com.dot.backend.controller;
 
+import com.dot.backend.domain.chatsession.dto.SpeakerSelectRequest;
+import com.dot.backend.domain.chatsession.dto.UploadResponse;
 import com.dot.backend.domain.user.User;
 import com.dot.backend.domain.user.repository.UserRepository;
 import com.dot.backend.dto.persona.*;
@@ -32,10 +34,19 @@ import java.util.List;
 /**
  * Persona 관리 API 컨트롤러
  *
+ * - POST /api/personas/uploads - 카톡 파일 업로드 (화자 목록 반환, 2단계 업로드의 1단계)
+ * - POST /api/personas/uploads/{uploadId}/speaker - 업로드한 카톡 파일의 화자 선택
+ * - POST /api/personas/uploads/presign - 카톡 파일 직접 업로드 URL 발급 (presigned PUT)
+ * - POST /api/personas/uploads/complete - 카톡 파일 직접 업로드 완료 (파싱 후 화자 목록 반환)
  * - POST /api/personas - Persona 생성
  * - GET /api/personas - Persona 목록 조회
  * - GET /api/personas/{id} - Persona 상세 조회
+ * - GET /api/personas/{id}/ingestion - Persona 생성 진행 상태 조회
  * - PUT /api/personas/{id} - Persona 수정
+ * - POST /api/personas/{id}/profile-image/presign - 프로필 이미지 직접 업로드 URL 발급
+ * - POST /api/personas/{id}/profile-image/complete - 프로필 이미지 직접 업로드 완료
+ * - GET /api/personas/{id}/profile-image/download-url - 프로필 이미지 원본 다운로드 URL 발급
+ * - POST /api/personas/{id}/kakao-file - 카톡 파일 재업로드 (새 메시지만 추가)
  * - DELETE /api/personas/{id} - Persona 삭제
  */
 @RestController
@@ -48,6 +59,163 @@ public class PersonaController {
     private final PersonaService personaService;
     private final UserRepository userRepository;
 
+    /**
+     * 카톡 파일 업로드 (2단계 업로드의 1단계)
+     */
+    @PostMapping(value = "/uploads", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "카톡 파일 업로드 (화자 목록 조회)",
+        description = "카톡 대화 파일을 올려 한 번 파싱하고, 화자 목록과 uploadId를 반환합니다.\n\n" +
+            "**흐름:**\n" +
+            "1. POST /api/personas/uploads - 파일 업로드, 화자 목록 확인\n" +
+            "2. POST /api/personas/uploads/{uploadId}/speaker - 화자 선택\n" +
+            "3. POST /api/personas - uploadId로 Persona 생성 (파일을 다시 올리지 않음)\n\n" +
+            "파싱 결과는 서버에 일정 시간 보관되며, 조회할 때마다 만료 시간이 연장됩니다 (expiresAt).\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "업로드 및 파싱 성공",
+            content = @Content(schema = @Schema(implementation = UploadResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "빈 파일 또는 카톡 대화 형식이 아님"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<UploadResponse> uploadKakaoFile(
+        @Parameter(description = "카톡 대화 파일 (.txt 또는 .txt가 든 .zip)", required = true)
+        @RequestPart("kakaoFile")
+        MultipartFile kakaoFile,
+
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        UploadResponse response = personaService.uploadKakaoFile(currentUser, kakaoFile);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 업로드한 카톡 파일의 화자 선택 (2단계 업로드의 2단계)
+     */
+    @PostMapping("/uploads/{uploadId}/speaker")
+    @Operation(
+        summary = "업로드한 카톡 파일의 화자 선택",
+        description = "업로드 때 파싱해 둔 결과로 화자를 검증하고 선택해 둡니다. " +
+            "이후 Persona 생성 시 uploadId만 보내면 선택한 화자로 생성됩니다.\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "화자 선택 성공",
+            content = @Content(schema = @Schema(implementation = UploadResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "화자 이름 불일치 또는 업로드 만료",
+            content = @Content(
+                examples = @ExampleObject(
+                    value = "{\"message\": \"화자 '엄마'를 찾을 수 없습니다\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<UploadResponse> selectUploadSpeaker(
+        @PathVariable String uploadId,
+        @Valid @RequestBody SpeakerSelectRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        UploadResponse response = personaService.selectUploadSpeaker(currentUser, uploadId, request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 카톡 파일 직접 업로드 URL 발급 (presigned PUT)
+     */
+    @PostMapping("/uploads/presign")
+    @Operation(
+        summary = "카톡 파일 직접 업로드 URL 발급",
+        description = "큰 카톡 파일을 앱 서버를 거치지 않고 저장소에 바로 올리기 위한 서명된 URL을 발급합니다.\n\n" +
+            "**흐름:**\n" +
+            "1. POST /api/personas/uploads/presign - URL 발급\n" +
+            "2. 응답의 url로 method(PUT) 요청, headers를 그대로 포함해서 파일 본문 전송\n" +
+            "3. POST /api/personas/uploads/complete - objectKey로 완료 알림 (화자 목록과 uploadId 반환)\n" +
+            "4. 이후는 POST /api/personas/uploads 와 같음 (화자 선택 → uploadId로 Persona 생성)\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "URL 발급 성공",
+            content = @Content(schema = @Schema(implementation = PresignedUrlResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "파일 크기 초과 등 잘못된 요청"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<PresignedUrlResponse> presignKakaoUpload(
+        @Valid @RequestBody PresignUploadRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        PresignedUrlResponse response = personaService.presignKakaoUpload(currentUser, request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 카톡 파일 직접 업로드 완료 알림
+     */
+    @PostMapping("/uploads/complete")
+    @Operation(
+        summary = "카톡 파일 직접 업로드 완료",
+        description = "저장소에 올린 카톡 파일을 서버가 읽어 파싱하고, 화자 목록과 uploadId를 반환합니다 " +
+            "(POST /api/personas/uploads 응답과 같음). 파싱이 끝난 원본 파일은 저장소에서 삭제됩니다.\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "파싱 성공",
+            content = @Content(schema = @Schema(implementation = UploadResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 objectKey, 업로드되지 않은 파일 또는 카톡 대화 형식이 아님"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<UploadResponse> completeKakaoUpload(
+        @Valid @RequestBody UploadCompleteRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        UploadResponse response = personaService.completeKakaoUpload(currentUser, request);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Persona 생성 (Multipart Form)
      */
@@ -58,16 +226,20 @@ public class PersonaController {
             "**변경사항:**\n" +
             "- Content-Type: multipart/form-data 사용\n" +
             "- 프로필 이미지를 직접 업로드 (바이너리)\n" +
-            "- 카톡 대화 파일 업로드 및 화자 선택 한 번에 처리\n\n" +
+            "- 카톡 대화 파일 업로드 및 화자 선택 한 번에 처리\n" +
+            "- 또는 POST /api/personas/uploads 로 미리 올린 파일을 uploadId로 지정 (재업로드 / 재파싱 없음)\n" +
+            "- 파싱 / Trait 생성 / 샘플 저장은 백그라운드에서 처리 (응답의 status = PROCESSING)\n" +
+            "- 진행 상태는 GET /api/personas/{id}/ingestion 으로 조회, READY가 되면 채팅 가능\n\n" +
             "**필수 필드:**\n" +
             "- name: Persona 이름\n" +
-            "- speakerName: 카톡 파일에서 Persona에 해당하는 화자 이름 (kakaoFile 있을 때 필수)\n\n" +
+            "- speakerName: 카톡 파일에서 Persona에 해당하는 화자 이름 (kakaoFile 있을 때 필수, uploadId 사용 시 선택한 화자가 있으면 생략 가능)\n\n" +
             "**선택 필드:**\n" +
             "- phoneNumber: 전화번호 (단순 추가 정보, 010-1234-5678 형식)\n" +
             "- relationship: 관계 (예: 어머니)\n" +
             "- memo: AI 참조용 메모\n" +
             "- profileImage: 프로필 이미지 파일 (JPG, PNG 등)\n" +
-            "- kakaoFile: 카톡 대화 파일 (.txt)\n\n" +
+            "- kakaoFile: 카톡 대화 파일 (.txt 또는 .zip)\n" +
+            "- uploadId: 미리 업로드한 카톡 파일 ID (kakaoFile과 함께 보낼 수 없음)\n\n" +
             "**인증 필요:** Bearer Token"
     )
     @ApiResponses({
@@ -116,10 +288,14 @@ public class PersonaController {
         @RequestPart(value = "profileImage", required = false)
         MultipartFile profileImage,
 
-        @Parameter(description = "카톡 대화 파일 (.txt)")
+        @Parameter(description = "카톡 대화 파일 (.txt 또는 .txt가 든 .zip)")
         @RequestPart(value = "kakaoFile", required = false)
         MultipartFile kakaoFile,
 
+        @Parameter(description = "미리 업로드한 카톡 파일 ID (POST /api/personas/uploads 응답의 uploadId)")
+        @RequestPart(value = "uploadId", required = false)
+        String uploadId,
+
         @Parameter(description = "화자 이름 (카톡 파일에서 Persona에 해당하는 이름)")
         @RequestPart(value = "speakerName", required = false)
         String speakerName,
@@ -143,6 +319,7 @@ public class PersonaController {
                 memo,
                 profileImage,
                 kakaoFile,
+                uploadId,
                 speakerName
         );
 
@@ -204,6 +381,50 @@ public class PersonaController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Persona 검색
+     */
+    @GetMapping("/search")
+    @Operation(
+        summary = "Persona 검색",
+        description = "이름 접두어 또는 전화번호로 현재 로그인한 사용자의 Persona를 검색합니다.\n\n" +
+            "**특징:**\n" +
+            "- 숫자와 구분 기호(-, +, 괄호, 공백)만 있으면 전화번호 완전 일치 (하이픈 유무 무시)\n" +
+            "- 그 외에는 이름 접두어 검색 (이름 전체 또는 단어의 앞부분, 대소문자 / 공백 무시)\n" +
+            "- 삭제되지 않은 활성 Persona만 조회, 응답 형식은 목록 조회와 같음\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "검색 성공",
+            content = @Content(schema = @Schema(implementation = PersonaListResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "검색어 없음",
+            content = @Content(
+                examples = @ExampleObject(
+                    value = "{\"message\": \"검색어를 입력해주세요\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<List<PersonaListResponse>> searchPersonas(
+        @Parameter(description = "검색어 (이름 앞부분 또는 전화번호)", example = "엄")
+        @RequestParam("q") String query,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        List<PersonaListResponse> response = personaService.searchPersonas(currentUser, query);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Persona 상세 조회
      */
@@ -247,6 +468,44 @@ public class PersonaController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Persona 생성 진행 상태 조회
+     */
+    @GetMapping("/{id}/ingestion")
+    @Operation(
+        summary = "Persona 생성 진행 상태 조회",
+        description = "백그라운드에서 진행 중인 Persona 생성(파싱 → Trait 생성 → 샘플 저장)의 단계와 진행률을 조회합니다.\n\n" +
+            "**상태:**\n" +
+            "- PROCESSING: 생성 중 (채팅 불가)\n" +
+            "- READY: 채팅 가능\n" +
+            "- FAILED: 생성 실패 (errorMessage 참고)\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = PersonaIngestionResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Persona를 찾을 수 없음"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<PersonaIngestionResponse> getIngestionStatus(
+        @PathVariable Long id,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        PersonaIngestionResponse response = personaService.getIngestionStatus(currentUser, id);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Persona 수정 (Multipart Form)
      */
@@ -322,6 +581,161 @@ public class PersonaController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 프로필 이미지 직접 업로드 URL 발급 (presigned PUT)
+     */
+    @PostMapping("/{id}/profile-image/presign")
+    @Operation(
+        summary = "프로필 이미지 직접 업로드 URL 발급",
+        description = "프로필 이미지를 저장소에 바로 올리기 위한 서명된 URL을 발급합니다. " +
+            "업로드 후 POST /api/personas/{id}/profile-image/complete 로 알리면 프로필 이미지가 교체됩니다.\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "URL 발급 성공",
+            content = @Content(schema = @Schema(implementation = PresignedUrlResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "이미지가 아니거나 파일 크기 초과"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<PresignedUrlResponse> presignProfileImageUpload(
+        @PathVariable Long id,
+        @Valid @RequestBody PresignUploadRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        PresignedUrlResponse response = personaService.presignProfileImageUpload(currentUser, id, request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 완료 알림
+     */
+    @PostMapping("/{id}/profile-image/complete")
+    @Operation(
+        summary = "프로필 이미지 직접 업로드 완료",
+        description = "저장소에 올린 이미지로 프로필 이미지를 교체합니다. 기존 이미지는 삭제되고, " +
+            "목록 / 상세용 리사이즈 버전은 백그라운드에서 생성됩니다.\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "교체 성공",
+            content = @Content(schema = @Schema(implementation = PersonaResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 objectKey 또는 업로드되지 않은 파일"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<PersonaResponse> completeProfileImageUpload(
+        @PathVariable Long id,
+        @Valid @RequestBody UploadCompleteRequest request,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        PersonaResponse response = personaService.completeProfileImageUpload(currentUser, id, request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 프로필 이미지 원본 다운로드 URL 발급 (presigned GET)
+     */
+    @GetMapping("/{id}/profile-image/download-url")
+    @Operation(
+        summary = "프로필 이미지 원본 다운로드 URL 발급",
+        description = "프로필 이미지 원본을 저장소에서 바로 받을 수 있는 서명된 URL을 발급합니다 (일정 시간 후 만료).\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "URL 발급 성공",
+            content = @Content(schema = @Schema(implementation = PresignedUrlResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "프로필 이미지가 없음"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<PresignedUrlResponse> presignProfileImageDownload(
+        @PathVariable Long id,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        PresignedUrlResponse response = personaService.presignProfileImageDownload(currentUser, id);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 카톡 파일 재업로드 (증분 가져오기)
+     */
+    @PostMapping(value = "/{id}/kakao-file", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "카톡 파일 재업로드",
+        description = "같은 대화방을 다시 내보낸 카톡 파일을 업로드하면, 이전에 가져온 지점 이후의 새 메시지만 추가합니다.\n\n" +
+            "**처리 과정:**\n" +
+            "1. 저장된 워터마크(마지막 메시지 시간 + 꼬리 메시지 해시)로 이전 가져오기의 마지막 지점 탐색\n" +
+            "2. 그 이후의 메시지만 대화 샘플로 추가\n" +
+            "3. 워터마크 갱신 (Trait은 다시 생성하지 않음)\n\n" +
+            "**선택 필드:**\n" +
+            "- speakerName: 화자 이름 (생략 시 최초 등록 때의 화자 사용)\n\n" +
+            "**인증 필요:** Bearer Token"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "재업로드 성공",
+            content = @Content(schema = @Schema(implementation = KakaoImportResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Persona를 찾을 수 없음"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "인증 실패"
+        )
+    })
+    public ResponseEntity<KakaoImportResponse> reimportKakaoFile(
+        @PathVariable Long id,
+
+        @Parameter(description = "카톡 대화 파일 (.txt 또는 .txt가 든 .zip)", required = true)
+        @RequestPart("kakaoFile")
+        MultipartFile kakaoFile,
+
+        @Parameter(description = "화자 이름 (생략 시 최초 등록 때의 화자 사용)")
+        @RequestPart(value = "speakerName", required = false)
+        String speakerName,
+
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        User currentUser = getCurrentUser(userDetails);
+        KakaoImportResponse response = personaService.reimportKakaoFile(currentUser, id, kakaoFile, speakerName);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Persona 삭제 (Soft Delete)
      */
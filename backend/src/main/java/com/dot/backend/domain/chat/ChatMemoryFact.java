@@ -0,0 +1,54 @@
+package com.dot.backend.domain.chat;
+
+import com.dot.backend.domain.common.BaseEntity;
+import com.dot.backend.domain.common.TimeOrderedId;
+import com.dot.backend.domain.persona.Persona;
+import com.dot.backend.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅에서 추출한 장기 기억 (사용자-Persona 쌍마다 짧은 사실 문장)
+ *
+ * 최근 대화 창(10개)에서 밀려난 이름 / 약속 / 취향 등을 턴마다 관련 있는 것만 프롬프트에 넣기 위해 저장
+ */
+@Entity
+@Table(
+    name = "chat_memory_fact",
+    indexes = {
+        @Index(name = "idx_memory_fact_user_persona", columnList = "user_id, persona_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMemoryFact extends BaseEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "persona_id", nullable = false)
+    private Persona persona;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 500)
+    private String content;
+
+    @Column(name = "source_message_id", nullable = false)
+    private Long sourceMessageId; // 사실을 추출한 사용자 메시지 (chat_message.id)
+
+    @Builder
+    public ChatMemoryFact(Persona persona, User user, String content, Long sourceMessageId) {
+        this.persona = persona;
+        this.user = user;
+        this.content = content;
+        this.sourceMessageId = sourceMessageId;
+    }
+}
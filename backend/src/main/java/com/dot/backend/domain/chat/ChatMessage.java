@@ -1,6 +1,7 @@
 package com.dot.backend.domain.chat;
 
 import com.dot.backend.domain.common.BaseEntity;
+import com.dot.backend.domain.common.TimeOrderedId;
 import com.dot.backend.domain.persona.Persona;
 import com.dot.backend.domain.user.User;
 import jakarta.persistence.*;
@@ -16,7 +17,7 @@ import lombok.NoArgsConstructor;
 public class ChatMessage extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,19 @@
+package com.dot.backend.domain.chat.repository;
+
+import com.dot.backend.domain.chat.ChatMemoryFact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatMemoryFactRepository extends JpaRepository<ChatMemoryFact, Long> {
+
+    // 사용자-Persona의 기억 내용 (오래된 순, 엔티티 없이 문자열만)
+    @Query("SELECT f.content FROM ChatMemoryFact f WHERE f.user.id = :userId AND f.persona.id = :personaId ORDER BY f.id")
+    List<String> findContents(@Param("userId") Long userId, @Param("personaId") Long personaId);
+
+    // 사용자-Persona의 기억 id (최신 순, 개수 제한 정리용)
+    @Query("SELECT f.id FROM ChatMemoryFact f WHERE f.user.id = :userId AND f.persona.id = :personaId ORDER BY f.id DESC")
+    List<Long> findIdsNewestFirst(@Param("userId") Long userId, @Param("personaId") Long personaId);
+}
@@ -1,6 +1,7 @@
 package com.dot.backend.domain.chatsession;
 
 import com.dot.backend.domain.common.BaseEntity;
+import com.dot.backend.domain.common.TimeOrderedId;
 import com.dot.backend.domain.persona.Persona;
 import com.dot.backend.domain.user.User;
 import jakarta.persistence.*;
@@ -23,7 +24,7 @@ import java.time.LocalDateTime;
 public class ChatSession extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,10 +1,16 @@
 package com.dot.backend.domain.chatsession.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@Schema(description = "화자 선택 요청 (업로드 2단계)")
 public class SpeakerSelectRequest {
+
+    @Schema(description = "Persona에 해당하는 화자 이름", example = "엄마")
+    @NotBlank(message = "화자 이름을 입력해주세요")
     private String speakerName; // 선택한 화자 이름
 }
@@ -1,12 +1,31 @@
 package com.dot.backend.domain.chatsession.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.List;
 
 @Getter
 @AllArgsConstructor
+@Builder
+@Schema(description = "카톡 파일 업로드(1단계) 결과")
 public class UploadResponse {
+
+    @Schema(description = "업로드 ID (화자 선택 / Persona 생성 시 사용)", example = "3f2b6c1e-8a4d-4b7a-9c2e-5d1f0a6b7c8d")
+    private String uploadId;
+
+    @Schema(description = "파싱된 화자 목록 (처음 등장 순서)", example = "[\"엄마\", \"나\"]")
     private List<String> speakers; // 파싱된 화자 목록
-}
\ No newline at end of file
+
+    @Schema(description = "파싱된 전체 메시지 수", example = "15230")
+    private int messageCount;
+
+    @Schema(description = "선택한 화자 (선택 전이면 null)", example = "엄마")
+    private String selectedSpeaker;
+
+    @Schema(description = "업로드 만료 시각 (조회할 때마다 연장)", example = "2026-05-03T12:30:00Z")
+    private Instant expiresAt;
+}
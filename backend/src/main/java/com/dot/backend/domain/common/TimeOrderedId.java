@@ -0,0 +1,21 @@
+package com.dot.backend.domain.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 시간순 ID를 생성하는 엔티티 ID 표시
+ *
+ * IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC batch가 동작한다.
+ *
+ * @see TimeOrderedIdGenerator
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,99 @@
+package com.dot.backend.domain.common;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간순 53비트 ID 생성기 (DB 왕복 없이 프로세스 안에서 생성)
+ *
+ * [41비트: 2026-01-01 기준 밀리초][4비트: 노드 ID][8비트: 같은 밀리초 안의 순번]
+ *
+ * - 자바스크립트 Number로도 정확히 표현되는 범위 (2^53 미만, 약 69년 사용 가능)
+ * - 노드당 밀리초에 256개, 순번이 넘치면 다음 밀리초를 미리 사용 (대기 없음)
+ * - 시계가 뒤로 가도 마지막 시간 이후로만 생성해서 항상 증가
+ * - 노드 ID: 시스템 프로퍼티 dot.node-id 또는 환경 변수 DOT_NODE_ID (0~15), 없으면 무작위
+ *   (무작위는 단일 인스턴스 개발용, dev 외 프로필은 IdGeneratorConfig가 설정 없이 시작하지 않도록 막음)
+ *
+ * 엔티티는 {@link TimeOrderedId}로 사용하고, JDBC로 직접 저장할 때는 {@link #nextId()}를 호출한다.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    /** 2026-01-01T00:00:00Z */
+    static final long EPOCH_MILLIS = 1767225600000L;
+
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long NODE_ID = resolveNodeId();
+
+    private static long lastMillis = -1;
+    private static long sequence;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    /**
+     * 다음 ID (스레드 안전, 호출마다 증가)
+     */
+    public static synchronized long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        if (now < 0) {
+            throw new IllegalStateException("시스템 시계가 ID 기준 시각(2026-01-01) 이전입니다");
+        }
+
+        if (now <= lastMillis) {
+            // 같은 밀리초 (또는 시계 역행): 순번 증가, 넘치면 다음 밀리초로
+            now = lastMillis;
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                now++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+
+        return (now << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 노드 ID가 설정되어 있는지 (false면 무작위 노드 ID 사용 중)
+     */
+    public static boolean isNodeIdConfigured() {
+        String value = configuredNodeId();
+        return value != null && !value.isBlank();
+    }
+
+    private static String configuredNodeId() {
+        return System.getProperty("dot.node-id", System.getenv("DOT_NODE_ID"));
+    }
+
+    static long resolveNodeId() {
+        String value = configuredNodeId();
+        if (value == null || value.isBlank()) {
+            return ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1);
+        }
+
+        long nodeId;
+        try {
+            nodeId = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("DOT_NODE_ID는 숫자여야 합니다: " + value);
+        }
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalStateException("DOT_NODE_ID는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + value);
+        }
+        return nodeId;
+    }
+}
@@ -1,6 +1,7 @@
 package com.dot.backend.domain.persona;
 
 import com.dot.backend.domain.common.BaseEntity;
+import com.dot.backend.domain.common.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -14,7 +15,7 @@ import lombok.NoArgsConstructor;
 public class ConversationSample extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
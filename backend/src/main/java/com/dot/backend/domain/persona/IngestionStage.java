@@ -0,0 +1,30 @@
+package com.dot.backend.domain.persona;
+
+/**
+ * Persona 생성 파이프라인 단계 (파싱 / 샘플 저장 → Trait 생성 → 마무리)
+ *
+ * 단계별 진행률 구간: 각 단계 안의 진행률을 전체 0~100%로 환산할 때 사용
+ */
+public enum IngestionStage {
+    QUEUED(0, 0),               // 대기 중
+    PARSING(0, 40),             // 카톡 파일 파싱 (ConversationSample을 청크 단위로 함께 저장)
+    GENERATING_TRAIT(40, 70),   // Gemini로 Trait 생성
+    SAVING_SAMPLES(70, 100),    // 샘플 저장 마무리 (변경 알림 / 재업로드 워터마크 기록)
+    COMPLETED(100, 100);        // 완료
+
+    private final int startPercent;
+    private final int endPercent;
+
+    IngestionStage(int startPercent, int endPercent) {
+        this.startPercent = startPercent;
+        this.endPercent = endPercent;
+    }
+
+    /**
+     * 단계 안의 진행 비율(0.0 ~ 1.0)을 전체 진행률(%)로 환산
+     */
+    public int toOverallPercent(double fraction) {
+        double clamped = Math.max(0, Math.min(1, fraction));
+        return startPercent + (int) Math.round((endPercent - startPercent) * clamped);
+    }
+}
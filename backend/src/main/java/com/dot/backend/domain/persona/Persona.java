@@ -8,13 +8,19 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(
     name = "personas",
     indexes = {
-        @Index(name = "idx_persona_user_deleted", columnList = "user_id, is_deleted")
+        @Index(name = "idx_persona_user_deleted", columnList = "user_id, is_deleted"),
+        @Index(name = "idx_persona_user_phone_hash", columnList = "user_id, phone_number_hash")
     }
 )
 @Getter
@@ -38,18 +44,64 @@ public class Persona extends BaseEntity {
     @Column(name = "phone_number", length = 500)
     private String phoneNumber; // 암호화 저장 (선택 사항)
 
+    @Column(name = "phone_number_hash", length = 32)
+    private String phoneNumberHash; // 전화번호 blind index (BlindIndex, 일치 검색용)
+
+    @ElementCollection
+    @CollectionTable(
+        name = "persona_name_token",
+        joinColumns = @JoinColumn(name = "persona_id"),
+        indexes = @Index(name = "idx_persona_name_token", columnList = "token")
+    )
+    @Column(name = "token", nullable = false, length = 16)
+    @Builder.Default
+    private Set<String> nameTokens = new HashSet<>(); // 이름 접두어 blind index (BlindIndex, 접두어 검색용)
+
     @Column(length = 100)
     private String relationship; // 예: 어머니, 아버지, 친구 등
 
     @Column(name = "profile_image_url", length = 1000)
     private String profileImageUrl; // S3 URL
 
+    @Column(name = "profile_image_variants", length = 100)
+    private String profileImageVariants; // 생성이 끝난 리사이즈 버전 (ProfileImageVariant 이름, 쉼표 구분)
+
     @Column(columnDefinition = "TEXT")
     private String memo; // AI 참조용 메모 (시스템 프롬프트 생성에 사용)
 
     @Column(columnDefinition = "TEXT")
     private String trait; // Gemini가 분석하여 생성한 페르소나 지침서
 
+    @Column(name = "style_card", columnDefinition = "TEXT")
+    private String styleCard; // 대화 샘플 군집별 대표 교환 (렌더링된 few-shot 예시, 샘플이 바뀔 때만 다시 계산)
+
+    @Column(name = "speaker_name", length = 100)
+    private String speakerName; // 카톡 파일에서 Persona에 해당하는 화자 이름
+
+    @Column(name = "import_last_message_at")
+    private LocalDateTime importLastMessageAt; // 마지막으로 가져온 카톡 메시지 시간 (재업로드 워터마크)
+
+    @Column(name = "import_tail_hash")
+    private Long importTailHash; // 마지막으로 가져온 꼬리 메시지들의 롤링 해시 (재업로드 워터마크)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private PersonaStatus status = PersonaStatus.READY;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ingestion_stage", length = 30)
+    private IngestionStage ingestionStage; // 생성 파이프라인 현재 단계
+
+    @Column(name = "ingestion_progress")
+    private Integer ingestionProgress; // 생성 파이프라인 진행률 (0~100)
+
+    @Column(name = "ingestion_error", length = 500)
+    private String ingestionError; // 실패 사유
+
+    @Column(name = "ingestion_heartbeat_at")
+    private LocalDateTime ingestionHeartbeatAt; // 생성 작업을 맡은 노드가 마지막으로 살아 있음을 기록한 시간 (lease)
+
     @Column(name = "is_deleted", nullable = false)
     @Builder.Default
     private Boolean isDeleted = false;
@@ -84,14 +136,105 @@ public class Persona extends BaseEntity {
         }
     }
 
+    /**
+     * 검색용 blind index 갱신 (이름 / 전화번호가 바뀔 때, null이면 유지)
+     */
+    public void updateBlindIndex(Collection<String> nameTokens, String phoneNumberHash) {
+        if (nameTokens != null) {
+            this.nameTokens.clear();
+            this.nameTokens.addAll(nameTokens);
+        }
+        if (phoneNumberHash != null) {
+            this.phoneNumberHash = phoneNumberHash;
+        }
+    }
+
     public void updateProfileImage(String imageUrl) {
         this.profileImageUrl = imageUrl;
+        this.profileImageVariants = null; // 새 이미지의 리사이즈 버전은 백그라운드에서 다시 생성
+    }
+
+    /**
+     * 리사이즈 버전 생성 완료 기록 (그 사이 이미지가 바뀌었으면 무시)
+     *
+     * @return 기록 여부
+     */
+    public boolean completeProfileImageVariants(String imageUrl, Collection<ProfileImageVariant> variants) {
+        if (imageUrl == null || !imageUrl.equals(this.profileImageUrl)) {
+            return false;
+        }
+        this.profileImageVariants = variants.stream()
+                .map(ProfileImageVariant::name)
+                .collect(Collectors.joining(","));
+        return true;
+    }
+
+    /**
+     * 용도에 맞는 크기의 프로필 이미지 URL (아직 생성 전이면 원본)
+     */
+    public String getProfileImageUrl(ProfileImageVariant variant) {
+        if (profileImageUrl == null || profileImageVariants == null
+                || !Arrays.asList(profileImageVariants.split(",")).contains(variant.name())) {
+            return profileImageUrl;
+        }
+        return variant.urlFor(profileImageUrl);
     }
 
     public void updateTrait(String trait) {
         this.trait = trait;
     }
 
+    public void updateStyleCard(String styleCard) {
+        this.styleCard = styleCard;
+    }
+
+    public void updateSpeakerName(String speakerName) {
+        this.speakerName = speakerName;
+    }
+
+    /**
+     * 카톡 가져오기 워터마크 갱신 (다음 재업로드 시 이 지점 이후만 추가)
+     */
+    public void updateImportWatermark(LocalDateTime lastMessageAt, long tailHash) {
+        this.importLastMessageAt = lastMessageAt;
+        this.importTailHash = tailHash;
+    }
+
+    /**
+     * 백그라운드 생성 파이프라인 시작 (완료 전까지 채팅 불가)
+     */
+    public void startIngestion() {
+        this.status = PersonaStatus.PROCESSING;
+        this.ingestionStage = IngestionStage.QUEUED;
+        this.ingestionProgress = 0;
+        this.ingestionError = null;
+        this.ingestionHeartbeatAt = LocalDateTime.now();
+    }
+
+    public void updateIngestionProgress(IngestionStage stage, int progress) {
+        if (this.status != PersonaStatus.PROCESSING) {
+            throw new IllegalStateException("생성 중인 Persona가 아닙니다");
+        }
+        this.ingestionStage = stage;
+        this.ingestionProgress = progress;
+        this.ingestionHeartbeatAt = LocalDateTime.now();
+    }
+
+    public void completeIngestion() {
+        if (this.status != PersonaStatus.PROCESSING) {
+            // lease 만료로 이미 실패 처리된 작업이 뒤늦게 끝난 경우
+            throw new IllegalStateException("생성 중인 Persona가 아닙니다");
+        }
+        this.status = PersonaStatus.READY;
+        this.ingestionStage = IngestionStage.COMPLETED;
+        this.ingestionProgress = 100;
+    }
+
+    public void failIngestion(String reason) {
+        this.status = PersonaStatus.FAILED;
+        this.ingestionError = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+
     public void softDelete() {
         this.isDeleted = true;
         this.deletedAt = LocalDateTime.now();
@@ -112,10 +255,11 @@ public class Persona extends BaseEntity {
     /**
      * Persona가 채팅 가능한 상태인지 확인
      * - 삭제되지 않은 상태
+     * - 생성 파이프라인이 완료된 상태 (READY)
      * - trait(지침서)가 생성되어 있는 경우
      */
     public boolean isReadyForChat() {
-        return !this.isDeleted && trait != null && !trait.isBlank();
+        return !this.isDeleted && status == PersonaStatus.READY && trait != null && !trait.isBlank();
     }
 }
 
@@ -0,0 +1,7 @@
+package com.dot.backend.domain.persona;
+
+public enum PersonaStatus {
+    PROCESSING,    // 카톡 파일 분석 / Trait 생성 중 (채팅 불가)
+    READY,         // 채팅 가능
+    FAILED         // 분석 실패 (다시 등록 필요)
+}
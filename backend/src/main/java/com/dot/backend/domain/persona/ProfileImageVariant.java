@@ -0,0 +1,30 @@
+package com.dot.backend.domain.persona;
+
+/**
+ * 프로필 이미지 리사이즈 버전 (정사각형 중앙 크롭, JPEG)
+ *
+ * 원본 URL의 파일명에 크기를 붙여 변환본 URL을 만든다.
+ * 예: /uploads/profiles/1/abc.png -> /uploads/profiles/1/abc_128.jpg
+ * 작은 크기부터 선언 (ProfileImageProcessor가 큰 버전부터 순서대로 줄여 나감)
+ */
+public enum ProfileImageVariant {
+    THUMBNAIL(128),  // 목록 / 채팅 아바타
+    MEDIUM(512);     // 상세 화면
+
+    private final int size;
+
+    ProfileImageVariant(int size) {
+        this.size = size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String urlFor(String originalUrl) {
+        int slash = originalUrl.lastIndexOf('/');
+        int dot = originalUrl.lastIndexOf('.');
+        String base = dot > slash ? originalUrl.substring(0, dot) : originalUrl;
+        return base + "_" + size + ".jpg";
+    }
+}
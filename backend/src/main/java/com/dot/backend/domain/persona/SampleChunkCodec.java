@@ -0,0 +1,114 @@
+package com.dot.backend.domain.persona;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 대화 샘플 압축 청크 인코딩
+ *
+ * [버전 1바이트] + deflate( 메시지마다 [varint: (UTF-8 길이 << 1) | role 비트][UTF-8 바이트] )
+ *
+ * - role 비트: 0 = USER, 1 = PERSONA
+ * - 메시지 순서 유지, 청크 하나에 수천 건을 묶어 행 수 / 인덱스 크기를 줄임
+ */
+public final class SampleChunkCodec {
+
+    static final byte VERSION = 1;
+
+    private SampleChunkCodec() {
+    }
+
+    public static byte[] encode(List<SampleMessage> messages) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, messages.size() * 16));
+        out.write(VERSION);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream deflated = new DeflaterOutputStream(out, deflater, 8192)) {
+            byte[] varint = new byte[5];
+            for (SampleMessage message : messages) {
+                byte[] bytes = message.getMessage().getBytes(StandardCharsets.UTF_8);
+                int header = (bytes.length << 1) | (message.getRole() == ConversationSample.Role.PERSONA ? 1 : 0);
+                deflated.write(varint, 0, writeVarint(header, varint));
+                deflated.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    public static List<SampleMessage> decode(byte[] payload) {
+        List<SampleMessage> messages = new ArrayList<>();
+        decode(payload, messages::add);
+        return messages;
+    }
+
+    /**
+     * 청크 하나를 메시지 순서대로 풀어서 전달 (리스트를 만들지 않음)
+     */
+    public static void decode(byte[] payload, Consumer<SampleMessage> consumer) {
+        if (payload.length == 0 || payload[0] != VERSION) {
+            throw new IllegalStateException("지원하지 않는 샘플 청크 형식입니다");
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1)))) {
+            int header;
+            while ((header = readVarint(in)) >= 0) {
+                ConversationSample.Role role = (header & 1) == 1
+                        ? ConversationSample.Role.PERSONA
+                        : ConversationSample.Role.USER;
+                byte[] bytes = new byte[header >>> 1];
+                in.readFully(bytes);
+                consumer.accept(new SampleMessage(role, new String(bytes, StandardCharsets.UTF_8)));
+            }
+        } catch (EOFException e) {
+            throw new IllegalStateException("샘플 청크가 손상되었습니다", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private static int writeVarint(int value, byte[] buffer) {
+        int i = 0;
+        while ((value & ~0x7F) != 0) {
+            buffer[i++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[i++] = (byte) value;
+        return i;
+    }
+
+    /**
+     * @return 읽은 값, 스트림 끝이면 -1
+     */
+    private static int readVarint(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0) return -1;
+                throw new EOFException();
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalStateException("샘플 청크가 손상되었습니다");
+    }
+}
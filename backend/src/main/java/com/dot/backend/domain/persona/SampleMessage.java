@@ -0,0 +1,18 @@
+package com.dot.backend.domain.persona;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 저장 방식(행 / 압축 청크)과 무관한 대화 샘플 한 건
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class SampleMessage {
+    private final ConversationSample.Role role;   // 누가 한 말인지 (USER / PERSONA)
+    private final String message;                 // 메시지 내용
+}
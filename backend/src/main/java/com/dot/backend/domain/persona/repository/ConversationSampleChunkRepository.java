@@ -0,0 +1,100 @@
+package com.dot.backend.domain.persona.repository;
+
+import com.dot.backend.domain.common.TimeOrderedIdGenerator;
+import com.dot.backend.domain.persona.SampleChunkCodec;
+import com.dot.backend.domain.persona.SampleMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 대화 샘플 압축 청크 저장 / 순차 조회 (conversation_sample_chunk)
+ *
+ * 메시지 수천 건을 SampleChunkCodec으로 압축한 BLOB 한 행으로 저장한다.
+ * 청크 순서(chunk_seq)는 Persona 안에서 0부터 증가하며, 조회 시 청크 순서 → 청크 안의 순서로 원래 순서를 복원한다.
+ *
+ * 트랜잭션은 호출하는 쪽에서 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConversationSampleChunkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO conversation_sample_chunk (id, persona_id, chunk_seq, message_count, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    /** 순차 조회 시 한 번에 가져오는 청크 수 (청크 하나가 메시지 수천 건의 압축 BLOB) */
+    private static final int FETCH_SIZE = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지를 chunkSize개씩 압축해서 기존 청크 뒤에 추가
+     *
+     * @return 저장된 메시지 수
+     */
+    public int append(Long personaId, List<SampleMessage> messages, int chunkSize) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Integer lastSeq = jdbcTemplate.queryForObject(
+                "SELECT MAX(chunk_seq) FROM conversation_sample_chunk WHERE persona_id = ?", Integer.class, personaId);
+        int nextSeq = lastSeq != null ? lastSeq + 1 : 0;
+
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < messages.size(); from += chunkSize) {
+            List<SampleMessage> chunk = messages.subList(from, Math.min(from + chunkSize, messages.size()));
+            rows.add(new Object[]{TimeOrderedIdGenerator.nextId(), personaId, nextSeq++, chunk.size(),
+                    SampleChunkCodec.encode(chunk), now});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        return messages.size();
+    }
+
+    /**
+     * 저장 순서대로 한 건씩 전달 (청크 한 개씩만 메모리에 풀어서 스트리밍)
+     *
+     * 드라이버가 결과 전체를 먼저 받아 두지 않도록 fetch size를 지정한다
+     * (MySQL은 useCursorFetch=true일 때 서버 커서로 FETCH_SIZE행씩 가져옴)
+     */
+    public void forEach(Long personaId, Consumer<SampleMessage> consumer) {
+        jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT payload FROM conversation_sample_chunk WHERE persona_id = ? ORDER BY chunk_seq",
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setLong(1, personaId);
+                    return statement;
+                },
+                rs -> {
+                    SampleChunkCodec.decode(rs.getBytes(1), consumer);
+                });
+    }
+
+    public long count(Long personaId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(message_count), 0) FROM conversation_sample_chunk WHERE persona_id = ?",
+                Long.class, personaId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * @return 삭제된 청크에 들어 있던 메시지 수
+     */
+    public long deleteAll(Long personaId) {
+        long count = count(personaId);
+        jdbcTemplate.update("DELETE FROM conversation_sample_chunk WHERE persona_id = ?", personaId);
+        return count;
+    }
+}
@@ -0,0 +1,94 @@
+package com.dot.backend.domain.persona.repository;
+
+import com.dot.backend.domain.common.TimeOrderedIdGenerator;
+import com.dot.backend.domain.persona.ConversationSample;
+import com.dot.backend.domain.persona.SampleMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * ConversationSample 대량 저장 / 순차 조회 (JDBC batch, 행 단위 저장 방식)
+ *
+ * 카톡 파일의 수천~수만 건 샘플은 영속성 컨텍스트(더티 체킹, 1차 캐시)를 거치지 않고 JdbcTemplate.batchUpdate로 한 번에 보낸다.
+ * ID는 엔티티와 같은 TimeOrderedIdGenerator로 생성
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 드라이버가 multi-row INSERT로 재작성)
+ *
+ * 트랜잭션은 호출하는 쪽에서 관리 (청크 단위 커밋 등)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConversationSampleJdbcRepository {
+
+    /** JDBC batch 한 번에 보내는 행 수 */
+    static final int BATCH_SIZE = 500;
+
+    /** 순차 조회 시 한 번에 가져오는 행 수 */
+    private static final int FETCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO conversation_sample (id, persona_id, role, message, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 샘플 일괄 저장 (감사 필드 created_at은 직접 기록)
+     *
+     * @return 저장된 행 수
+     */
+    public int batchInsert(Long personaId, List<SampleMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, BATCH_SIZE, (ps, message) -> {
+            ps.setLong(1, TimeOrderedIdGenerator.nextId());
+            ps.setLong(2, personaId);
+            ps.setString(3, message.getRole().name());
+            ps.setString(4, message.getMessage());
+            ps.setTimestamp(5, now);
+        });
+        return messages.size();
+    }
+
+    /**
+     * 저장 순서대로 한 건씩 전달 (ID가 시간순이므로 ID 순서 = 저장 순서)
+     *
+     * 결과 전체를 메모리에 받아 두지 않도록 FETCH_SIZE행씩 가져온다 (MySQL은 useCursorFetch=true 필요)
+     */
+    public void forEach(Long personaId, Consumer<SampleMessage> consumer) {
+        jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT role, message FROM conversation_sample WHERE persona_id = ? ORDER BY id",
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setLong(1, personaId);
+                    return statement;
+                },
+                rs -> {
+                    consumer.accept(new SampleMessage(
+                            ConversationSample.Role.valueOf(rs.getString(1)), rs.getString(2)));
+                });
+    }
+
+    public long count(Long personaId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM conversation_sample WHERE persona_id = ?", Long.class, personaId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * @return 삭제된 행 수
+     */
+    public long deleteAll(Long personaId) {
+        return jdbcTemplate.update("DELETE FROM conversation_sample WHERE persona_id = ?", personaId);
+    }
+}
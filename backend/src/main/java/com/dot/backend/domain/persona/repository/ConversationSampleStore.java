@@ -0,0 +1,69 @@
+package com.dot.backend.domain.persona.repository;
+
+import com.dot.backend.domain.persona.SampleMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 대화 샘플 저장소 (저장 방식 선택)
+ *
+ * - ROWS: 메시지 한 건 = conversation_sample 한 행
+ * - CHUNKED: 메시지 수천 건 = 압축된 conversation_sample_chunk 한 행 (행 수 / 인덱스 / 삭제 비용 감소)
+ *
+ * 저장은 설정된 방식으로만 하고, 조회는 두 테이블을 모두 읽는다 (방식을 바꿔도 기존 데이터 유지).
+ * 기존 행 데이터가 먼저 저장된 것이므로 행 → 청크 순서로 전달한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConversationSampleStore {
+
+    public enum StorageMode {
+        ROWS, CHUNKED
+    }
+
+    private final ConversationSampleJdbcRepository rowRepository;
+    private final ConversationSampleChunkRepository chunkRepository;
+
+    @Value("${persona.samples.storage:CHUNKED}")
+    private StorageMode storageMode = StorageMode.CHUNKED;
+
+    /** 청크 하나에 묶는 메시지 수 */
+    @Value("${persona.samples.chunk-messages:2000}")
+    private int chunkMessages = 2000;
+
+    /**
+     * 샘플 추가 (기존 샘플 뒤에 이어서 저장)
+     *
+     * @return 저장된 메시지 수
+     */
+    public int append(Long personaId, List<SampleMessage> messages) {
+        return storageMode == StorageMode.CHUNKED
+                ? chunkRepository.append(personaId, messages, chunkMessages)
+                : rowRepository.batchInsert(personaId, messages);
+    }
+
+    /**
+     * 저장 순서대로 한 건씩 전달 (전체를 메모리에 올리지 않음)
+     */
+    public void forEach(Long personaId, Consumer<SampleMessage> consumer) {
+        rowRepository.forEach(personaId, consumer);
+        chunkRepository.forEach(personaId, consumer);
+    }
+
+    public long count(Long personaId) {
+        return rowRepository.count(personaId) + chunkRepository.count(personaId);
+    }
+
+    /**
+     * Persona의 샘플 전체 삭제 (두 테이블 모두)
+     *
+     * @return 삭제된 메시지 수
+     */
+    public long deleteAll(Long personaId) {
+        return rowRepository.deleteAll(personaId) + chunkRepository.deleteAll(personaId);
+    }
+}
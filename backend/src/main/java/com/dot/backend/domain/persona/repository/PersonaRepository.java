@@ -1,13 +1,17 @@
 package com.dot.backend.domain.persona.repository;
 
 import com.dot.backend.domain.persona.Persona;
+import com.dot.backend.domain.persona.PersonaStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,21 +26,45 @@ public interface PersonaRepository extends JpaRepository<Persona, Long> {
     @Query("SELECT p FROM Persona p WHERE p.user.id = :userId AND p.isDeleted = true")
     List<Persona> findDeletedByUserId(@Param("userId") Long userId);
 
-    // 전화번호로 Persona 조회
-    @Query("SELECT p FROM Persona p WHERE p.user.id = :userId AND p.phoneNumber = :phoneNumber AND p.isDeleted = false")
-    Optional<Persona> findByUserIdAndPhoneNumber(@Param("userId") Long userId, @Param("phoneNumber") String phoneNumber);
+    // 전화번호로 Persona 조회 (암호문은 매번 달라서 blind index로 찾음, BlindIndex.phoneNumber)
+    @Query("SELECT p FROM Persona p WHERE p.user.id = :userId AND p.phoneNumberHash = :phoneNumberHash AND p.isDeleted = false")
+    List<Persona> findActiveByUserIdAndPhoneNumberHash(@Param("userId") Long userId, @Param("phoneNumberHash") String phoneNumberHash);
+
+    // 이름 접두어로 Persona 조회 (BlindIndex.namePrefixToken, 토큰 충돌이 있을 수 있으므로 복호화해서 다시 확인)
+    @Query("SELECT p FROM Persona p JOIN p.nameTokens t WHERE p.user.id = :userId AND t = :token AND p.isDeleted = false")
+    List<Persona> findActiveByUserIdAndNameToken(@Param("userId") Long userId, @Param("token") String token);
 
     // ID와 User로 조회 (권한 검증용)
     @Query("SELECT p FROM Persona p WHERE p.id = :id AND p.user.id = :userId AND p.isDeleted = false")
     Optional<Persona> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
+    // ID와 User로 조회 + 행 잠금 (카톡 재업로드처럼 워터마크를 읽고 갱신하는 작업을 Persona별로 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Persona p WHERE p.id = :id AND p.user.id = :userId AND p.isDeleted = false")
+    Optional<Persona> findByIdAndUserIdForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
     // 30일 경과된 삭제 Persona 조회 (배치 작업용)
     @Query("SELECT p FROM Persona p WHERE p.isDeleted = true AND p.deletedAt < :threshold")
     List<Persona> findExpiredDeletedPersonas(@Param("threshold") LocalDateTime threshold);
 
-    // 전화번호 중복 확인
-    boolean existsByUserIdAndPhoneNumberAndIsDeletedFalse(Long userId, String phoneNumber);
+    // 전화번호 중복 확인 (blind index)
+    boolean existsByUserIdAndPhoneNumberHashAndIsDeletedFalse(Long userId, String phoneNumberHash);
+
+    // 이 노드가 맡은 생성 작업의 lease 연장 (대기 / 실행 중인 작업)
+    @Modifying
+    @Query("UPDATE Persona p SET p.ingestionHeartbeatAt = :now WHERE p.id IN :ids AND p.status = :status")
+    int renewIngestionHeartbeats(@Param("ids") Collection<Long> ids, @Param("status") PersonaStatus status,
+                                 @Param("now") LocalDateTime now);
+
+    // lease가 만료된 생성 작업 (맡은 노드가 종료 / 재시작되어 더 이상 갱신하지 않는 작업)
+    @Query("SELECT p.id FROM Persona p WHERE p.status = :status " +
+           "AND (p.ingestionHeartbeatAt IS NULL OR p.ingestionHeartbeatAt < :cutoff)")
+    List<Long> findIdsByStatusAndIngestionHeartbeatBefore(@Param("status") PersonaStatus status,
+                                                          @Param("cutoff") LocalDateTime cutoff);
 
+    // 사용자의 모든 Persona id (삭제된 것 포함, 회원 탈퇴 시 색인 파일 정리용)
+    @Query("SELECT p.id FROM Persona p WHERE p.user.id = :userId")
+    List<Long> findAllIdsByUserId(@Param("userId") Long userId);
 
     // 사용자의 모든 Persona 삭제 (회원 탈퇴용)
     @Modifying
@@ -1,6 +1,7 @@
 package com.dot.backend.domain.token;
 
 import com.dot.backend.domain.common.BaseEntity;
+import com.dot.backend.domain.common.TimeOrderedId;
 import com.dot.backend.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -29,7 +30,7 @@ import java.time.LocalDateTime;
 public class RefreshToken extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,35 @@
+package com.dot.backend.dto.persona;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카톡 파일 재업로드(증분 가져오기) 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "카톡 파일 재업로드 결과")
+public class KakaoImportResponse {
+
+    @Schema(description = "Persona ID", example = "1")
+    private Long personaId;
+
+    @Schema(description = "파일에서 읽은 전체 메시지 수", example = "15230")
+    private int scannedCount;
+
+    @Schema(description = "새로 추가된 메시지 수", example = "412")
+    private int appendedCount;
+
+    @Schema(description = "이전 가져오기의 마지막 지점을 정확히 찾았는지 여부 (false면 시간 기준으로만 판단)", example = "true")
+    private boolean anchored;
+
+    @Schema(description = "마지막으로 가져온 메시지 시간", example = "2026-05-03T21:14:00")
+    private LocalDateTime lastMessageAt;
+}
@@ -0,0 +1,38 @@
+package com.dot.backend.dto.persona;
+
+import com.dot.backend.domain.persona.IngestionStage;
+import com.dot.backend.domain.persona.PersonaStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Persona 생성 진행 상태 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Persona 생성 진행 상태")
+public class PersonaIngestionResponse {
+
+    @Schema(description = "Persona ID", example = "1")
+    private Long personaId;
+
+    @Schema(description = "상태", example = "PROCESSING")
+    private PersonaStatus status;
+
+    @Schema(description = "현재 단계 (QUEUED, PARSING, GENERATING_TRAIT, SAVING_SAMPLES, COMPLETED)", example = "PARSING")
+    private IngestionStage stage;
+
+    @Schema(description = "진행률 (0~100)", example = "35")
+    private Integer progress;
+
+    @Schema(description = "실패 사유 (FAILED일 때)", example = "zip 파일에 카톡 대화 파일(.txt)이 없습니다")
+    private String errorMessage;
+
+    @Schema(description = "채팅 가능 여부", example = "false")
+    private Boolean readyForChat;
+}
@@ -1,5 +1,6 @@
 package com.dot.backend.dto.persona;
 
+import com.dot.backend.domain.persona.PersonaStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,7 +29,9 @@ public class PersonaListResponse {
     @Schema(description = "관계", example = "어머니")
     private String relationship;
 
-    @Schema(description = "프로필 이미지 URL", example = "https://dot-bucket.s3.amazonaws.com/profiles/123.jpg")
+    @Schema(description = "프로필 이미지 URL (목록용 128px 썸네일, 리사이즈 전이면 원본)", example = "/uploads/profiles/1/abc_128.jpg")
     private String profileImageUrl;
-}
 
+    @Schema(description = "상태 (PROCESSING: 생성 중, READY: 채팅 가능, FAILED: 생성 실패)", example = "READY")
+    private PersonaStatus status;
+}
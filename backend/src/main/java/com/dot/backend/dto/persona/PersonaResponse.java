@@ -1,5 +1,6 @@
 package com.dot.backend.dto.persona;
 
+import com.dot.backend.domain.persona.PersonaStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,12 +31,18 @@ public class PersonaResponse {
     @Schema(description = "관계", example = "어머니")
     private String relationship;
 
-    @Schema(description = "프로필 이미지 URL", example = "https://dot-bucket.s3.amazonaws.com/profiles/123.jpg")
+    @Schema(description = "프로필 이미지 URL (상세 화면용 512px, 리사이즈 전이면 원본)", example = "/uploads/profiles/1/abc_512.jpg")
     private String profileImageUrl;
 
+    @Schema(description = "프로필 이미지 원본 URL", example = "/uploads/profiles/1/abc.png")
+    private String profileImageOriginalUrl;
+
     @Schema(description = "메모 (AI 참조용)", example = "따뜻하고 다정한 말투")
     private String memo;
 
+    @Schema(description = "상태 (PROCESSING: 생성 중, READY: 채팅 가능, FAILED: 생성 실패)", example = "READY")
+    private PersonaStatus status;
+
     @Schema(description = "생성일시", example = "2026-02-18T10:30:00")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,32 @@
+package com.dot.backend.dto.persona;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직접 업로드(presigned PUT) URL 발급 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "직접 업로드 URL 발급 요청")
+public class PresignUploadRequest {
+
+    @Schema(description = "원본 파일 이름 (확장자 판별용)", example = "KakaoTalk_Chat_엄마.zip")
+    @NotBlank(message = "파일 이름을 입력해주세요")
+    private String fileName;
+
+    @Schema(description = "업로드할 Content-Type (PUT 요청에 같은 값을 보내야 함, 프로필 이미지는 image/jpeg, image/png, image/webp, image/gif만)", example = "application/zip")
+    @NotBlank(message = "Content-Type을 입력해주세요")
+    private String contentType;
+
+    @Schema(description = "파일 크기 (bytes, PUT 요청의 Content-Length와 같아야 함)", example = "52428800")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private long contentLength;
+}
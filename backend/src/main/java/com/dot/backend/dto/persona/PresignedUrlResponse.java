@@ -0,0 +1,36 @@
+package com.dot.backend.dto.persona;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * presigned URL 응답 DTO (저장소에 직접 업로드 / 다운로드)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "저장소 직접 업로드 / 다운로드 URL")
+public class PresignedUrlResponse {
+
+    @Schema(description = "저장소 내부 key (업로드 완료 알림에 그대로 보냄)", example = "private/kakao/1/3f2c9a7e-5b1d-4c8e-9f0a-2d6b7e4c1a9f.zip")
+    private String objectKey;
+
+    @Schema(description = "요청을 보낼 URL (서명 포함)")
+    private String url;
+
+    @Schema(description = "HTTP 메서드", example = "PUT")
+    private String method;
+
+    @Schema(description = "요청에 그대로 함께 보내야 하는 헤더", example = "{\"Content-Type\": \"application/zip\"}")
+    private Map<String, String> headers;
+
+    @Schema(description = "URL 만료 시각", example = "2026-05-03T12:15:00Z")
+    private Instant expiresAt;
+}
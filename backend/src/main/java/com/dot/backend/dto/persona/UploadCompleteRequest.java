@@ -0,0 +1,23 @@
+package com.dot.backend.dto.persona;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직접 업로드 완료 알림 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "직접 업로드 완료 알림")
+public class UploadCompleteRequest {
+
+    @Schema(description = "URL 발급 때 받은 objectKey", example = "private/kakao/1/3f2c9a7e-5b1d-4c8e-9f0a-2d6b7e4c1a9f.zip")
+    @NotBlank(message = "objectKey를 입력해주세요")
+    private String objectKey;
+}
@@ -0,0 +1,97 @@
+package com.dot.backend.migration;
+
+import com.dot.backend.util.BlindIndex;
+import com.dot.backend.util.EncryptionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 Persona의 검색용 blind index 채우기 (V21에서 추가한 phone_number_hash / persona_name_token)
+ *
+ * 암호화 키가 필요하므로 SQL이 아닌 Java 마이그레이션으로 실행한다.
+ * Spring 빈으로 등록되어 Flyway 자동 설정이 실행하며, id 순서로 BATCH_SIZE행씩 읽어서 batch로 저장한다.
+ * 복호화에 실패한 행(키가 다른 데이터 등)은 건너뛰고 로그만 남김 (검색에서만 빠지고 조회에는 영향 없음).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class V22__BackfillPersonaBlindIndex extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final EncryptionUtil encryptionUtil;
+    private final BlindIndex blindIndex;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long lastId = 0;
+        int backfilled = 0;
+        int skipped = 0;
+
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, user_id, name, phone_number FROM personas WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement updatePhoneNumber = connection.prepareStatement(
+                     "UPDATE personas SET phone_number_hash = ? WHERE id = ?");
+             PreparedStatement insertToken = connection.prepareStatement(
+                     "INSERT INTO persona_name_token (persona_id, token) VALUES (?, ?)")) {
+
+            while (true) {
+                List<PersonaRow> rows = new ArrayList<>(BATCH_SIZE);
+                select.setLong(1, lastId);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(new PersonaRow(resultSet.getLong("id"), resultSet.getLong("user_id"),
+                                resultSet.getString("name"), resultSet.getString("phone_number")));
+                    }
+                }
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                for (PersonaRow row : rows) {
+                    String name;
+                    String phoneNumber;
+                    try {
+                        name = encryptionUtil.decrypt(row.name());
+                        phoneNumber = encryptionUtil.decrypt(row.phoneNumber());
+                    } catch (RuntimeException e) {
+                        log.warn("Skipping blind index backfill for persona {}: decryption failed", row.id());
+                        skipped++;
+                        continue;
+                    }
+
+                    String phoneNumberHash = blindIndex.phoneNumber(row.userId(), phoneNumber);
+                    if (phoneNumberHash != null) {
+                        updatePhoneNumber.setString(1, phoneNumberHash);
+                        updatePhoneNumber.setLong(2, row.id());
+                        updatePhoneNumber.addBatch();
+                    }
+                    for (String token : blindIndex.nameTokens(row.userId(), name)) {
+                        insertToken.setLong(1, row.id());
+                        insertToken.setString(2, token);
+                        insertToken.addBatch();
+                    }
+                    backfilled++;
+                }
+                updatePhoneNumber.executeBatch();
+                insertToken.executeBatch();
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        }
+
+        log.info("Backfilled persona blind index: {} personas, {} skipped", backfilled, skipped);
+    }
+
+    private record PersonaRow(long id, long userId, String name, String phoneNumber) {
+    }
+}
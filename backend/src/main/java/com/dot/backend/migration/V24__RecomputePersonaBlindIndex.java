@@ -0,0 +1,34 @@
+package com.dot.backend.migration;
+
+import com.dot.backend.util.BlindIndex;
+import com.dot.backend.util.EncryptionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * 검색용 blind index를 별도 키(BLIND_INDEX_KEY)로 다시 계산
+ *
+ * 이전에는 BLIND_INDEX_KEY가 없으면 데이터 암호화 키(ENCRYPTION_KEY)를 HMAC 키로 썼으므로,
+ * 키를 분리한 뒤에는 V22에서 채운 값으로 검색되지 않는다. 기존 값을 지우고 V22와 같은 방식으로 다시 채운다.
+ */
+@Component
+@Slf4j
+public class V24__RecomputePersonaBlindIndex extends V22__BackfillPersonaBlindIndex {
+
+    public V24__RecomputePersonaBlindIndex(EncryptionUtil encryptionUtil, BlindIndex blindIndex) {
+        super(encryptionUtil, blindIndex);
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.executeUpdate("DELETE FROM persona_name_token");
+            statement.executeUpdate("UPDATE personas SET phone_number_hash = NULL");
+        }
+        log.info("Cleared persona blind index, recomputing with blind index key");
+        super.migrate(context);
+    }
+}
@@ -0,0 +1,207 @@
+package com.dot.backend.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Trait 분석용 대표 대화 샘플러 (스트리밍, O(n) 시간 / O(k) 메모리)
+ *
+ * - 같은 화자의 연속 메시지를 하나의 턴으로 묶고, (상대방 턴 → 대상 화자 턴) 쌍을 하나의 교환(exchange)으로 샘플링
+ * - 시간 층화: 전체 대화를 최대 k개의 연속 구간으로 나누고 구간마다 교환 하나를 무작위로 유지
+ *   구간 수가 k를 넘으면 인접 구간을 둘씩 합치고 구간 길이를 두 배로 늘린다 (전체 길이를 몰라도 전 기간에 고르게 분포)
+ * - 렌더링 결과는 글자 수 예산 안으로 제한
+ *
+ * 같은 입력에 대해서는 항상 같은 샘플을 만든다 (시드 고정).
+ */
+public class ConversationSampler implements Consumer<ParsedMessage> {
+
+    /** 기본 글자 수 예산 (기존 150줄 샘플과 비슷한 프롬프트 크기) */
+    public static final int DEFAULT_CHAR_BUDGET = 6000;
+
+    /** 턴 하나의 최대 글자 수 (긴 메시지가 예산을 독점하지 않도록) */
+    private static final int MAX_TURN_CHARS = 200;
+
+    /** 교환 하나의 평균 렌더링 길이 추정치 (구간 수 산정용, 실제로 더 길면 렌더링 시 솎아냄) */
+    private static final int ESTIMATED_EXCHANGE_CHARS = 50;
+
+    private final String targetSpeaker;
+    private final int charBudget;
+    private final int capacity;
+    private final SplittableRandom random;
+
+    private final List<Stratum> strata = new ArrayList<>();
+    private long stride = 1;
+    private long exchangeCount;
+
+    // 진행 중인 턴
+    private String turnSpeaker;
+    private StringBuilder turnText;
+
+    // 직전에 완성된 턴
+    private Turn previousTurn;
+
+    /**
+     * @param targetSpeaker 분석 대상 화자 (null이면 모든 턴을 대상으로 샘플링)
+     */
+    public ConversationSampler(String targetSpeaker) {
+        this(targetSpeaker, DEFAULT_CHAR_BUDGET);
+    }
+
+    public ConversationSampler(String targetSpeaker, int charBudget) {
+        this.targetSpeaker = targetSpeaker;
+        this.charBudget = charBudget;
+        // 합치기 직후에는 구간 수가 절반이 되므로 예산의 두 배만큼 구간을 유지
+        this.capacity = Math.max(8, 2 * charBudget / ESTIMATED_EXCHANGE_CHARS);
+        this.random = new SplittableRandom(0x5EEDL ^ (targetSpeaker != null ? targetSpeaker.hashCode() : 0));
+    }
+
+    @Override
+    public void accept(ParsedMessage message) {
+        if (turnSpeaker != null && turnSpeaker.equals(message.getSpeaker())) {
+            if (turnText.length() < MAX_TURN_CHARS) {
+                turnText.append('\n').append(message.getContent());
+            }
+            return;
+        }
+
+        completeTurn();
+        turnSpeaker = message.getSpeaker();
+        turnText = new StringBuilder(message.getContent());
+    }
+
+    /**
+     * 지금까지 본 교환 수 (파싱이 끝난 뒤 호출)
+     */
+    public long getExchangeCount() {
+        completeTurn();
+        return exchangeCount;
+    }
+
+    /**
+     * 샘플링된 교환을 시간 순서대로 렌더링 ("화자: 내용" 줄, 교환 사이는 빈 줄, 파싱이 끝난 뒤 호출)
+     */
+    public String render() {
+        completeTurn();
+
+        List<String> rendered = new ArrayList<>(strata.size());
+        for (Stratum stratum : strata) {
+            rendered.add(stratum.exchange.render());
+        }
+
+        // 예산을 넘으면 시간 분포를 유지하도록 일정 간격으로 솎아냄
+        for (int step = 1; step <= rendered.size(); step++) {
+            int total = 0;
+            for (int i = 0; i < rendered.size(); i += step) {
+                total += rendered.get(i).length() + 2;
+            }
+            if (total <= charBudget || step == rendered.size()) {
+                List<String> selected = new ArrayList<>();
+                for (int i = 0; i < rendered.size(); i += step) {
+                    selected.add(rendered.get(i));
+                }
+                return String.join("\n\n", selected);
+            }
+        }
+        return "";
+    }
+
+    // === Helper Methods ===
+
+    private void completeTurn() {
+        if (turnSpeaker == null) return;
+
+        String text = turnText.length() > MAX_TURN_CHARS
+                ? turnText.substring(0, MAX_TURN_CHARS) + "…"
+                : turnText.toString();
+        Turn turn = new Turn(turnSpeaker, text);
+        turnSpeaker = null;
+        turnText = null;
+
+        if (targetSpeaker == null || targetSpeaker.equals(turn.speaker)) {
+            // 대상 화자의 턴: 바로 앞 상대방 턴과 묶어서 교환으로 샘플링
+            Turn context = previousTurn != null && !previousTurn.speaker.equals(turn.speaker) ? previousTurn : null;
+            offer(new Exchange(context, turn));
+        }
+        previousTurn = turn;
+    }
+
+    private void offer(Exchange exchange) {
+        exchangeCount++;
+
+        Stratum last = strata.isEmpty() ? null : strata.get(strata.size() - 1);
+        if (last != null && last.seen < stride) {
+            // 현재 구간에서 크기 1 reservoir sampling
+            last.seen++;
+            if (random.nextLong(last.seen) == 0) {
+                last.exchange = exchange;
+            }
+            return;
+        }
+
+        strata.add(new Stratum(exchange));
+        if (strata.size() > capacity) {
+            compact();
+        }
+    }
+
+    /**
+     * 인접 구간을 둘씩 합침 (각 구간이 본 교환 수에 비례한 확률로 대표를 선택해 균등성 유지)
+     */
+    private void compact() {
+        List<Stratum> merged = new ArrayList<>(strata.size() / 2 + 1);
+        for (int i = 0; i < strata.size(); i += 2) {
+            Stratum a = strata.get(i);
+            if (i + 1 < strata.size()) {
+                Stratum b = strata.get(i + 1);
+                long total = a.seen + b.seen;
+                if (random.nextLong(total) >= a.seen) {
+                    a.exchange = b.exchange;
+                }
+                a.seen = total;
+            }
+            merged.add(a);
+        }
+        strata.clear();
+        strata.addAll(merged);
+        stride *= 2;
+    }
+
+    private static final class Turn {
+        private final String speaker;
+        private final String text;
+
+        private Turn(String speaker, String text) {
+            this.speaker = speaker;
+            this.text = text;
+        }
+
+        private String render() {
+            return speaker + ": " + text.replace("\n", "\n" + speaker + ": ");
+        }
+    }
+
+    private static final class Exchange {
+        private final Turn context;
+        private final Turn reply;
+
+        private Exchange(Turn context, Turn reply) {
+            this.context = context;
+            this.reply = reply;
+        }
+
+        private String render() {
+            return context != null ? context.render() + "\n" + reply.render() : reply.render();
+        }
+    }
+
+    private static final class Stratum {
+        private Exchange exchange;
+        private long seen = 1;
+
+        private Stratum(Exchange exchange) {
+            this.exchange = exchange;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.dot.backend.parser;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 대화 전체의 화자별 통계 집계기
+ *
+ * {@link KakaoTxtParser#parse(java.io.InputStream, Consumer)}에 Consumer로 넘겨서 파싱과 동시에 한 번의 패스로 집계한다.
+ * 화자 목록(처음 등장 순서), 화자 존재 여부, Trait 생성용 요약을 메시지 목록을 다시 훑지 않고 제공한다.
+ */
+public class ConversationStatistics implements Consumer<ParsedMessage> {
+
+    // LinkedHashMap: 처음 등장 순서 유지
+    private final Map<String, SpeakerStatistics> speakers = new LinkedHashMap<>();
+
+    private int totalCount;
+    private String previousSpeaker;
+    private LocalDateTime previousSentAt;
+
+    @Override
+    public void accept(ParsedMessage message) {
+        totalCount++;
+
+        String speaker = message.getSpeaker();
+        LocalDateTime sentAt = KakaoTimestamp.parse(message.getSentAt());
+
+        // 상대방 메시지 직후의 첫 메시지만 답장으로 보고 지연 시간 기록
+        long replyLatency = -1;
+        if (previousSpeaker != null && !previousSpeaker.equals(speaker)
+                && previousSentAt != null && sentAt != null && !sentAt.isBefore(previousSentAt)) {
+            replyLatency = Duration.between(previousSentAt, sentAt).getSeconds();
+        }
+
+        speakers.computeIfAbsent(speaker, SpeakerStatistics::new)
+                .record(message.getContent(), sentAt, replyLatency);
+
+        previousSpeaker = speaker;
+        if (sentAt != null) {
+            previousSentAt = sentAt;
+        }
+    }
+
+    /**
+     * 화자 목록 (중복 제거, 처음 등장 순서)
+     */
+    public List<String> getSpeakers() {
+        return new ArrayList<>(speakers.keySet());
+    }
+
+    public boolean contains(String speaker) {
+        return speakers.containsKey(speaker);
+    }
+
+    public SpeakerStatistics get(String speaker) {
+        return speakers.get(speaker);
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Trait 생성 프롬프트용 화자 통계 요약 (원본 메시지 대신 사용하는 압축된 구조화 정보)
+     */
+    public String toSummary(String speaker) {
+        SpeakerStatistics stats = speakers.get(speaker);
+        if (stats == null || stats.getMessageCount() == 0) {
+            return "통계 없음";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("- 메시지 수: ").append(stats.getMessageCount())
+                .append(" (전체 ").append(totalCount).append("건 중 ")
+                .append(percent(stats.getMessageCount(), totalCount)).append("%)\n");
+
+        sb.append("- 평균 길이: ").append(String.format("%.1f", stats.getAverageLength())).append("자 / 분포: ")
+                .append(histogram(stats.getLengthHistogram(), SpeakerStatistics.LENGTH_LABELS, stats.getMessageCount()))
+                .append("\n");
+
+        sb.append("- 자주 쓰는 표현: ").append(entries(stats.topExpressions(8))).append("\n");
+        sb.append("- 자주 쓰는 문장 끝: ").append(entries(stats.topEndings(8))).append("\n");
+
+        List<Integer> hours = stats.topHours(4);
+        sb.append("- 주 활동 시간대: ")
+                .append(hours.isEmpty() ? "정보 없음" : hours.stream().map(h -> h + "시").collect(Collectors.joining(", ")))
+                .append("\n");
+
+        int replies = stats.getReplyCount();
+        sb.append("- 답장 속도: ")
+                .append(replies == 0 ? "정보 없음"
+                        : histogram(stats.getResponseLatencyHistogram(), SpeakerStatistics.LATENCY_LABELS, replies));
+
+        return sb.toString();
+    }
+
+    // === Helper Methods ===
+
+    private static String histogram(int[] counts, String[] labels, int total) {
+        List<String> parts = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                parts.add(labels[i] + " " + percent(counts[i], total) + "%");
+            }
+        }
+        return String.join(", ", parts);
+    }
+
+    private static String entries(List<Map.Entry<String, Integer>> entries) {
+        if (entries.isEmpty()) return "없음";
+        return entries.stream()
+                .map(e -> "\"" + e.getKey() + "\"(" + e.getValue() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static long percent(int part, int total) {
+        return total == 0 ? 0 : Math.round(part * 100.0 / total);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dot.backend.parser;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 재업로드된 카톡 파일에서 이전 워터마크 이후의 메시지만 수집
+ *
+ * 워터마크 = (마지막 메시지 시간, 마지막 {@link TailHash#WINDOW}개 메시지의 롤링 해시)
+ *
+ * 1. 마지막 메시지 시간과 같은 시간의 메시지에서 롤링 해시가 일치하면 그 지점을 기준점(anchor)으로 삼고,
+ *    이후 메시지만 새 메시지로 수집한다. (안드로이드 형식은 분 단위라 시간만으로는 경계를 알 수 없음)
+ * 2. 기준점을 찾지 못하면(앞부분이 잘린 내보내기 등) 마지막 메시지 시간 이후의 메시지만 수집한다.
+ *
+ * 새 메시지는 보관하지 않고 sink로 바로 넘긴다. 기준점을 찾기 전에 시간 기준으로 새 메시지로 보인 메시지만
+ * 기준점이 나오면 버려야 하므로 잠시 모아 두며, MAX_PENDING개를 넘으면 기준점 찾기를 포기하고 내보낸다
+ * (내보내기는 시간순이라 정상 파일에서는 기준점 앞에 이런 메시지가 없음). 파싱이 끝나면 {@link #finish()}를 호출한다.
+ */
+public class IncrementalImportCollector implements Consumer<ParsedMessage> {
+
+    /** 기준점을 찾는 동안 보류하는 최대 메시지 수 */
+    static final int MAX_PENDING = 1_000;
+
+    private final LocalDateTime previousLastMessageAt;
+    private final Long previousTailHash;
+    private final Consumer<ParsedMessage> sink;
+
+    private final TailHash tailHash = new TailHash();
+
+    /** 기준점을 찾기 전에 시간 기준으로 새 메시지로 본 메시지 (기준점을 찾으면 버림) */
+    private List<ParsedMessage> pending = new ArrayList<>();
+
+    @Getter
+    private int newCount;
+
+    @Getter
+    private boolean anchored;
+
+    @Getter
+    private int scannedCount;
+
+    @Getter
+    private LocalDateTime lastMessageAt;
+
+    /**
+     * @param previousLastMessageAt 이전 가져오기의 마지막 메시지 시간 (없으면 전체가 새 메시지)
+     * @param previousTailHash 이전 가져오기의 꼬리 해시 (없으면 시간 기준으로만 판단)
+     * @param sink 새 메시지를 원래 순서대로 받음
+     */
+    public IncrementalImportCollector(LocalDateTime previousLastMessageAt, Long previousTailHash,
+                                      Consumer<ParsedMessage> sink) {
+        this.previousLastMessageAt = previousLastMessageAt;
+        this.previousTailHash = previousTailHash;
+        this.sink = sink;
+        if (previousLastMessageAt == null || previousTailHash == null) {
+            pending = null;  // 기준점을 찾을 일이 없음
+        }
+    }
+
+    @Override
+    public void accept(ParsedMessage message) {
+        scannedCount++;
+        tailHash.push(message);
+
+        LocalDateTime sentAt = KakaoTimestamp.parse(message.getSentAt());
+        if (sentAt != null) {
+            lastMessageAt = sentAt;
+        }
+
+        if (anchored || previousLastMessageAt == null) {
+            emit(message);
+            return;
+        }
+
+        if (sentAt == null) {
+            return;
+        }
+
+        if (sentAt.isAfter(previousLastMessageAt)) {
+            if (pending == null) {
+                emit(message);
+            } else {
+                pending.add(message);
+                if (pending.size() > MAX_PENDING) {
+                    flushPending();
+                }
+            }
+        } else if (pending != null
+                && sentAt.isEqual(previousLastMessageAt)
+                && tailHash.value() == previousTailHash) {
+            // 이전 가져오기의 마지막 메시지 위치 → 이후부터 새 메시지
+            anchored = true;
+            pending = null;
+        }
+    }
+
+    /**
+     * 보류 중인 메시지 내보내기 (기준점을 찾지 못한 경우, 파싱이 끝나면 호출)
+     */
+    public void finish() {
+        if (pending != null) {
+            flushPending();
+        }
+    }
+
+    /**
+     * 파일 전체를 기준으로 계산한 새 꼬리 해시 (다음 재업로드의 워터마크)
+     */
+    public long getTailHash() {
+        return tailHash.value();
+    }
+
+    private void flushPending() {
+        List<ParsedMessage> messages = pending;
+        pending = null;
+        messages.forEach(this::emit);
+    }
+
+    private void emit(ParsedMessage message) {
+        newCount++;
+        sink.accept(message);
+    }
+}
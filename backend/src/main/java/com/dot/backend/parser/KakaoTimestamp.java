@@ -0,0 +1,115 @@
+package com.dot.backend.parser;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * 카카오톡 메시지 시간 문자열 파싱
+ *
+ * - 안드로이드: "2024년 1월 15일 오전 10:23"
+ * - 아이폰: "2024-01-15 10:23:45"
+ *
+ * 정규식/DateTimeFormatter 없이 숫자만 직접 읽어서 메시지마다 호출해도 부담이 없도록 한다.
+ */
+public final class KakaoTimestamp {
+
+    private KakaoTimestamp() {
+    }
+
+    /**
+     * @param sentAt ParsedMessage의 시간 문자열
+     * @return 파싱된 시간, 형식이 맞지 않으면 null
+     */
+    public static LocalDateTime parse(String sentAt) {
+        if (sentAt == null || sentAt.length() < 10) {
+            return null;
+        }
+
+        try {
+            if (sentAt.charAt(4) == '-') {
+                return parseIos(sentAt);
+            }
+            return parseAndroid(sentAt);
+        } catch (DateTimeException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    // "2024-01-15 10:23:45"
+    private static LocalDateTime parseIos(String s) {
+        if (s.length() < 19) return null;
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 7);
+        int day = digits(s, 8, 10);
+        int hour = digits(s, 11, 13);
+        int minute = digits(s, 14, 16);
+        int second = digits(s, 17, 19);
+        if ((year | month | day | hour | minute | second) < 0) return null;
+        return LocalDateTime.of(year, month, day, hour, minute, second);
+    }
+
+    // "2024년 1월 15일 오전 10:23"
+    private static LocalDateTime parseAndroid(String s) {
+        int[] pos = {0};
+        int year = number(s, pos, '년');
+        int month = number(s, pos, '월');
+        int day = number(s, pos, '일');
+        if ((year | month | day) < 0) return null;
+
+        skipSpaces(s, pos);
+        boolean pm;
+        if (s.startsWith("오전", pos[0])) {
+            pm = false;
+        } else if (s.startsWith("오후", pos[0])) {
+            pm = true;
+        } else {
+            return null;
+        }
+        pos[0] += 2;
+
+        int hour = number(s, pos, ':');
+        int minute = number(s, pos, (char) 0);
+        if ((hour | minute) < 0) return null;
+
+        // 오전 12시 = 0시, 오후 12시 = 12시
+        hour = hour % 12 + (pm ? 12 : 0);
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * pos부터 공백을 건너뛰고 숫자를 읽은 뒤 terminator까지 소비 (terminator가 0이면 문자열 끝 또는 숫자 끝까지)
+     */
+    private static int number(String s, int[] pos, char terminator) {
+        skipSpaces(s, pos);
+        int value = 0;
+        int start = pos[0];
+        int i = start;
+        while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+            value = value * 10 + (s.charAt(i) - '0');
+            i++;
+        }
+        if (i == start) return -1;
+        if (terminator != 0) {
+            if (i >= s.length() || s.charAt(i) != terminator) return -1;
+            i++;
+        }
+        pos[0] = i;
+        return value;
+    }
+
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void skipSpaces(String s, int[] pos) {
+        while (pos[0] < s.length() && s.charAt(pos[0]) == ' ') {
+            pos[0]++;
+        }
+    }
+}
@@ -1,27 +1,33 @@
 package com.dot.backend.parser;
 
 import com.dot.backend.client.GeminiApiClient;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class KakaoTxtParser {
 
     private final GeminiApiClient geminiApiClient;
+    private final SystemMessageMatcher systemMessageMatcher;
 
     // 카카오톡 메시지 패턴
     // 예: "2024년 1월 15일 오전 10:23, 홍길동 : 안녕하세요"
@@ -35,8 +41,9 @@ public class KakaoTxtParser {
             "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}) (.+?) : (.+)$"
     );
 
-    // 시스템 메시지 패턴 (입장, 퇴장 등 - 무시할 것들)
-    private static final List<String> SYSTEM_KEYWORDS = List.of(
+    // 시스템 메시지 기본 키워드 (입장, 퇴장 등 - 무시할 것들)
+    // kakao.parser.system-keywords 설정은 기본 키워드에 더해짐 (사진, 이모티콘, 삭제된 메시지 등 현지화 문구 추가용)
+    static final List<String> DEFAULT_SYSTEM_KEYWORDS = List.of(
             "님이 들어왔습니다",
             "님이 나갔습니다",
             "님을 초대했습니다",
@@ -44,6 +51,38 @@ public class KakaoTxtParser {
             "채팅방 멤버"
     );
 
+    // zip 파일 시그니처 (PK\3\4)
+    private static final byte[] ZIP_MAGIC = {0x50, 0x4B, 0x03, 0x04};
+
+    // 윈도우에서 만든 zip은 파일명이 CP949 (UTF-8 플래그가 있는 항목은 UTF-8로 읽힘)
+    private static final Charset ZIP_ENTRY_NAME_CHARSET = Charset.forName("MS949");
+
+    static final int DEFAULT_MAX_ZIP_ENTRIES = 100;
+    static final long DEFAULT_MAX_UNZIPPED_BYTES = 1024L * 1024 * 1024;
+
+    // zip 폭탄 방지: 항목 수 / 압축 해제 총량 제한
+    @Value("${kakao.parser.zip.max-entries:" + DEFAULT_MAX_ZIP_ENTRIES + "}")
+    private int maxZipEntries = DEFAULT_MAX_ZIP_ENTRIES;
+
+    @Value("${kakao.parser.zip.max-unzipped-bytes:" + DEFAULT_MAX_UNZIPPED_BYTES + "}")
+    private long maxUnzippedBytes = DEFAULT_MAX_UNZIPPED_BYTES;
+
+    public KakaoTxtParser(
+            GeminiApiClient geminiApiClient,
+            @Value("${kakao.parser.system-keywords:}") List<String> systemKeywords
+    ) {
+        this.geminiApiClient = geminiApiClient;
+
+        // 설정 키워드는 기본 키워드에 추가 (중복은 SystemMessageMatcher.of에서 제거)
+        List<String> keywords = new ArrayList<>(DEFAULT_SYSTEM_KEYWORDS);
+        if (systemKeywords != null) {
+            keywords.addAll(systemKeywords);
+        }
+        this.systemMessageMatcher = SystemMessageMatcher.of(keywords);
+
+        log.info("KakaoTxtParser initialized with {} system keywords", systemMessageMatcher.getKeywords().size());
+    }
+
     /**
      * TXT 파일을 파싱해서 메시지 목록 반환 (MultipartFile 버전)
      */
@@ -51,67 +90,126 @@ public class KakaoTxtParser {
         return parse(file.getInputStream());
     }
 
+    /**
+     * TXT 파일을 스트리밍 파싱 (MultipartFile 버전)
+     */
+    public void parse(MultipartFile file, Consumer<ParsedMessage> consumer) throws IOException {
+        parse(file.getInputStream(), consumer);
+    }
+
     /**
      * TXT 파일을 파싱해서 메시지 목록 반환 (InputStream 버전)
      */
     public List<ParsedMessage> parse(InputStream inputStream) throws IOException {
         List<ParsedMessage> messages = new ArrayList<>();
+        parse(inputStream, messages::add);
+        return messages;
+    }
+
+    /**
+     * TXT 파일을 스트리밍 파싱 (메시지를 리스트로 모으지 않고 한 건씩 전달)
+     *
+     * 대용량 파일에서 필요한 부분만 보관하고 싶을 때 사용 (예: 재업로드 시 새 메시지만 수집)
+     * zip 파일이면 디스크에 풀지 않고 안의 .txt 항목을 순서대로 압축 해제하며 파싱
+     */
+    public void parse(InputStream inputStream, Consumer<ParsedMessage> consumer) throws IOException {
+        try (BufferedInputStream in = new BufferedInputStream(inputStream, 1 << 16)) {
+            if (isZip(in)) {
+                parseZip(in, consumer);
+            } else {
+                parseLines(in, consumer);
+            }
+        }
+    }
+
+    /**
+     * zip 안의 .txt 항목을 차례로 파싱 (항목 수 / 압축 해제 총량 초과 시 IllegalArgumentException, 총량에는 건너뛴 항목도 포함)
+     */
+    private void parseZip(InputStream in, Consumer<ParsedMessage> consumer) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in, ZIP_ENTRY_NAME_CHARSET);
+        UnzippedSizeLimit limit = new UnzippedSizeLimit(zip, maxUnzippedBytes);
+
+        int entryCount = 0;
+        int txtCount = 0;
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (++entryCount > maxZipEntries) {
+                throw new IllegalArgumentException("zip 파일의 항목 수가 너무 많습니다 (최대 " + maxZipEntries + "개)");
+            }
+            if (entry.getSize() > maxUnzippedBytes) {
+                throw new IllegalArgumentException("zip 파일의 압축 해제 크기가 너무 큽니다 (최대 " + maxUnzippedBytes + " bytes)");
+            }
+            if (entry.isDirectory() || !isTxtEntry(entry.getName())) {
+                // 건너뛰는 항목도 다음 항목으로 넘어갈 때 어차피 압축 해제되므로 같은 한도로 셈
+                // (선언 크기는 조작할 수 있어 실제로 풀린 바이트 기준, .txt가 아닌 항목으로 한도를 피하는 zip bomb 방지)
+                limit.transferTo(OutputStream.nullOutputStream());
+                continue;
+            }
+
+            log.debug("Parsing zip entry: {}", entry.getName());
+            parseLines(limit, consumer);
+            txtCount++;
+        }
+
+        if (txtCount == 0) {
+            throw new IllegalArgumentException("zip 파일에 카톡 대화 파일(.txt)이 없습니다");
+        }
+    }
 
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+    /**
+     * 한 줄씩 읽으며 메시지 파싱 (스트림은 닫지 않음 - zip 항목을 이어서 읽기 위해)
+     */
+    private void parseLines(InputStream in, Consumer<ParsedMessage> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
 
-            String line;
-            while ((line = reader.readLine()) != null) {
-                line = line.trim();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
 
-                // 빈 줄 스킵
-                if (line.isEmpty()) continue;
+            // 빈 줄 스킵
+            if (line.isEmpty()) continue;
 
-                // 시스템 메시지 스킵
-                if (isSystemMessage(line)) continue;
+            // 시스템 메시지 스킵
+            if (isSystemMessage(line)) continue;
 
-                // 메시지 파싱 시도
-                Matcher androidMatcher = ANDROID_PATTERN.matcher(line);
-                Matcher iosMatcher = IOS_PATTERN.matcher(line);
+            // 메시지 파싱 시도
+            Matcher androidMatcher = ANDROID_PATTERN.matcher(line);
+            Matcher iosMatcher = IOS_PATTERN.matcher(line);
 
-                if (androidMatcher.matches()) {
-                    String sentAt = androidMatcher.group(1);
-                    String speaker = androidMatcher.group(3);
-                    String content = androidMatcher.group(4);
-                    messages.add(new ParsedMessage(speaker, content, sentAt));
+            if (androidMatcher.matches()) {
+                String sentAt = androidMatcher.group(1);
+                String speaker = androidMatcher.group(3);
+                String content = androidMatcher.group(4);
+                consumer.accept(new ParsedMessage(speaker, content, sentAt));
 
-                } else if (iosMatcher.matches()) {
-                    String sentAt = iosMatcher.group(1);
-                    String speaker = iosMatcher.group(2);
-                    String content = iosMatcher.group(3);
-                    messages.add(new ParsedMessage(speaker, content, sentAt));
-                }
+            } else if (iosMatcher.matches()) {
+                String sentAt = iosMatcher.group(1);
+                String speaker = iosMatcher.group(2);
+                String content = iosMatcher.group(3);
+                consumer.accept(new ParsedMessage(speaker, content, sentAt));
             }
         }
+    }
 
-        return messages;
+    private static boolean isZip(BufferedInputStream in) throws IOException {
+        in.mark(ZIP_MAGIC.length);
+        byte[] header = in.readNBytes(ZIP_MAGIC.length);
+        in.reset();
+        return Arrays.equals(header, ZIP_MAGIC);
     }
 
-    /**
-     * 파싱된 메시지에서 화자 목록만 추출 (중복 제거, 순서 유지)
-     */
-    public List<String> extractSpeakers(List<ParsedMessage> messages) {
-        // LinkedHashSet: 중복 제거하면서 처음 등장 순서 유지
-        Set<String> speakers = new LinkedHashSet<>();
-        for (ParsedMessage message : messages) {
-            speakers.add(message.getSpeaker());
-        }
-        return new ArrayList<>(speakers);
+    private static boolean isTxtEntry(String name) {
+        // macOS 압축 시 생기는 메타데이터 항목 제외
+        return name.toLowerCase(Locale.ROOT).endsWith(".txt")
+                && !name.startsWith("__MACOSX/")
+                && !name.contains("/._");
     }
 
     /**
-     * 시스템 메시지 여부 확인
+     * 시스템 메시지 여부 확인 (Aho-Corasick, 키워드 수와 무관하게 한 번만 스캔)
      */
     private boolean isSystemMessage(String line) {
-        for (String keyword : SYSTEM_KEYWORDS) {
-            if (line.contains(keyword)) return true;
-        }
-        return false;
+        return systemMessageMatcher.containsAny(line);
     }
 
     /**
@@ -122,18 +220,15 @@ public class KakaoTxtParser {
             String userName,
             String relationship,
             String memo,
-            List<ParsedMessage> messages,
+            String conversationSample,
+            ConversationStatistics statistics,
             String speakerName
     ) {
         log.info("Analyzing conversation between {} and {} to generate trait", speakerName, userName);
 
-        // 1. 분석을 위한 데이터 준비 (상대방과의 대화 흐름을 파악하기 위해 전체 샘플링)
-        List<String> samples = messages.stream()
-                .limit(150) // 분석 정확도를 위해 샘플 수 약간 증가
-                .map(m -> m.getSpeaker() + ": " + m.getContent())
-                .collect(Collectors.toList());
-
-        String conversationData = String.join("\n", samples);
+        // 1. 분석을 위한 데이터 준비
+        //    대화 샘플은 ConversationSampler가 전체 기간에서 (상대방 → 대상 화자) 교환 단위로 고르게 추출한 것
+        String conversationData = conversationSample != null ? conversationSample : "";
 
         // 2. Gemini용 시스템 프롬프트 작성
         String analyzerSystemPrompt = 
@@ -167,6 +262,11 @@ public class KakaoTxtParser {
         userRequest.append("- 사용자와의 관계: ").append(relationship != null ? relationship : "정보 없음").append("\n");
         userRequest.append("- 메모/특이사항: ").append(memo != null ? memo : "정보 없음").append("\n");
         userRequest.append("- 분석 대상 화자 이름: ").append(speakerName).append("\n\n");
+        if (statistics != null && speakerName != null && statistics.contains(speakerName)) {
+            // 전체 대화에서 집계한 화자 통계 (샘플에 드러나지 않는 습관까지 압축해서 전달)
+            userRequest.append("[화자 통계 (전체 대화 기준)]\n");
+            userRequest.append(statistics.toSummary(speakerName)).append("\n\n");
+        }
         userRequest.append("[대화 데이터 샘플]\n");
         userRequest.append(conversationData);
 
@@ -179,4 +279,49 @@ public class KakaoTxtParser {
             return String.format("# Role\n당신은 %s입니다.\n# Style & Tone\n- 호칭: 사용자\n- 문체: 자연스러운 말투\n# Context\n%s와의 관계\n# Constraints\n친절하게 대답하세요.", personaName, relationship);
         }
     }
+
+    /**
+     * zip 항목들의 압축 해제 총량을 세고 제한을 넘으면 중단 (close는 무시 - 다음 항목을 계속 읽기 위해)
+     */
+    private static final class UnzippedSizeLimit extends FilterInputStream {
+        private final long maxBytes;
+        private long readBytes;
+
+        private UnzippedSizeLimit(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count(n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void count(long n) {
+            readBytes += n;
+            if (readBytes > maxBytes) {
+                throw new IllegalArgumentException("zip 파일의 압축 해제 크기가 너무 큽니다 (최대 " + maxBytes + " bytes)");
+            }
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.dot.backend.parser;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 키 수가 제한된 빈도 집계 (Space-Saving 알고리즘)
+ *
+ * 카운터가 가득 찬 상태에서 새 키가 오면 가장 작은 카운터를 새 키에 넘겨주고 (개수 + 1)로 시작한다.
+ * 전체 n건 중 n / capacity 번보다 많이 나온 키는 항상 남아 있으며, 개수는 실제보다 최대 (넘겨받은 개수)만큼 클 수 있다.
+ * 처음 capacity개 키만 세고 나머지를 버리는 방식과 달리 대화 후반에 자주 쓰기 시작한 표현도 상위에 나타남.
+ */
+class SpaceSavingCounter {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    // 개수 오름차순 (같으면 나중에 들어온 카운터가 앞), 가장 작은 카운터를 O(log n)에 찾기 위함
+    private final TreeSet<Counter> byCount = new TreeSet<>(
+            Comparator.<Counter>comparingInt(c -> c.count).thenComparing(c -> c.sequence, Comparator.reverseOrder()));
+    private long nextSequence;
+
+    SpaceSavingCounter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    void increment(String key) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            // TreeSet 정렬 기준이 바뀌므로 뺐다가 다시 넣음
+            byCount.remove(counter);
+            counter.count++;
+            byCount.add(counter);
+            return;
+        }
+
+        int count = 1;
+        if (counters.size() >= capacity) {
+            Counter smallest = byCount.pollFirst();
+            counters.remove(smallest.key);
+            count = smallest.count + 1;
+        }
+        counter = new Counter(key, count, nextSequence++);
+        counters.put(key, counter);
+        byCount.add(counter);
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    /**
+     * 개수 내림차순 상위 키 (같은 개수면 먼저 들어온 키가 앞)
+     */
+    List<Map.Entry<String, Integer>> top(int limit) {
+        List<Map.Entry<String, Integer>> result = new ArrayList<>(Math.min(limit, counters.size()));
+        Iterator<Counter> it = byCount.descendingIterator();
+        while (it.hasNext() && result.size() < limit) {
+            Counter counter = it.next();
+            result.add(new AbstractMap.SimpleImmutableEntry<>(counter.key, counter.count));
+        }
+        return result;
+    }
+
+    private static final class Counter {
+        private final String key;
+        private int count;
+        private final long sequence;
+
+        private Counter(String key, int count, long sequence) {
+            this.key = key;
+            this.count = count;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.dot.backend.parser;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 화자 한 명의 대화 통계 (파싱 중 한 번의 패스로 누적)
+ *
+ * 메모리는 메시지 수와 무관하게 고정 크기 (표현 / 어미 빈도는 SpaceSavingCounter로 키 수 제한)
+ */
+@Getter
+public class SpeakerStatistics {
+
+    /** 메시지 길이 히스토그램 구간 상한 (글자 수, 마지막 구간은 그 이상) */
+    static final int[] LENGTH_BUCKETS = {5, 10, 20, 40, 80};
+    static final String[] LENGTH_LABELS = {"1-5자", "6-10자", "11-20자", "21-40자", "41-80자", "81자 이상"};
+
+    /** 답장 지연 히스토그램 구간 상한 (초, 마지막 구간은 그 이상) */
+    static final long[] LATENCY_BUCKETS = {60, 5 * 60, 30 * 60, 2 * 3600, 12 * 3600};
+    static final String[] LATENCY_LABELS = {"1분 이내", "5분 이내", "30분 이내", "2시간 이내", "12시간 이내", "12시간 이상"};
+
+    private static final int MAX_DISTINCT_KEYS = 512;
+    private static final String KAKAO_EMOTICON = "이모티콘";
+
+    // 내보내기 파일에서 미디어 대신 들어가는 문구 (말투 분석에서 제외)
+    private static final Set<String> MEDIA_PLACEHOLDERS = Set.of(KAKAO_EMOTICON, "사진", "동영상", "음성메시지", "파일");
+
+    private final String speaker;
+    private int messageCount;
+    private long totalLength;
+    private final int[] lengthHistogram = new int[LENGTH_BUCKETS.length + 1];
+    private final int[] activeHours = new int[24];
+    private final int[] responseLatencyHistogram = new int[LATENCY_BUCKETS.length + 1];
+    @Getter(AccessLevel.NONE)
+    private final SpaceSavingCounter expressionCounts = new SpaceSavingCounter(MAX_DISTINCT_KEYS);
+    @Getter(AccessLevel.NONE)
+    private final SpaceSavingCounter endingCounts = new SpaceSavingCounter(MAX_DISTINCT_KEYS);
+
+    public SpeakerStatistics(String speaker) {
+        this.speaker = speaker;
+    }
+
+    /**
+     * 메시지 한 건 누적
+     *
+     * @param sentAt 메시지 시간 (파싱 실패 시 null)
+     * @param replyLatencySeconds 상대방 메시지에 대한 답장이면 지연 시간(초), 아니면 -1
+     */
+    void record(String content, LocalDateTime sentAt, long replyLatencySeconds) {
+        messageCount++;
+
+        int length = content.codePointCount(0, content.length());
+        totalLength += length;
+        lengthHistogram[bucket(length)]++;
+
+        if (sentAt != null) {
+            activeHours[sentAt.getHour()]++;
+        }
+
+        if (replyLatencySeconds >= 0) {
+            responseLatencyHistogram[latencyBucket(replyLatencySeconds)]++;
+        }
+
+        countExpressions(content);
+        if (!MEDIA_PLACEHOLDERS.contains(content)) {
+            countEnding(content);
+        }
+    }
+
+    public double getAverageLength() {
+        return messageCount == 0 ? 0 : (double) totalLength / messageCount;
+    }
+
+    public int getReplyCount() {
+        int sum = 0;
+        for (int count : responseLatencyHistogram) sum += count;
+        return sum;
+    }
+
+    /**
+     * 빈도 상위 표현 (이모지, 카톡 이모티콘, ㅋㅋ/ㅎㅎ/ㅠㅠ 등)
+     */
+    public List<Map.Entry<String, Integer>> topExpressions(int limit) {
+        return expressionCounts.top(limit);
+    }
+
+    /**
+     * 빈도 상위 종결 어미 (문장 끝 두 글자)
+     */
+    public List<Map.Entry<String, Integer>> topEndings(int limit) {
+        return endingCounts.top(limit);
+    }
+
+    /**
+     * 메시지가 많은 시간대 (0~23시)
+     */
+    public List<Integer> topHours(int limit) {
+        Integer[] hours = new Integer[24];
+        for (int h = 0; h < 24; h++) hours[h] = h;
+        return Arrays.stream(hours)
+                .filter(h -> activeHours[h] > 0)
+                .sorted((a, b) -> Integer.compare(activeHours[b], activeHours[a]))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    // === Helper Methods ===
+
+    private void countExpressions(String content) {
+        if (content.equals(KAKAO_EMOTICON)) {
+            expressionCounts.increment(KAKAO_EMOTICON);
+            return;
+        }
+
+        int i = 0;
+        while (i < content.length()) {
+            int cp = content.codePointAt(i);
+            int width = Character.charCount(cp);
+
+            if (isEmoji(cp)) {
+                expressionCounts.increment(new String(Character.toChars(cp)));
+                i += width;
+            } else if (isExpressiveJamo(cp)) {
+                // ㅋㅋㅋ, ㅎㅎ, ㅠㅠ 같은 반복 자모는 두 글자 표현으로 묶어서 집계
+                int run = i;
+                while (run < content.length() && content.charAt(run) == cp) run++;
+                if (run - i >= 2) {
+                    expressionCounts.increment(String.valueOf((char) cp).repeat(2));
+                }
+                i = run;
+            } else {
+                i += width;
+            }
+        }
+    }
+
+    private void countEnding(String content) {
+        int end = content.length();
+        while (end > 0 && !isWordChar(content.charAt(end - 1))) end--;
+        if (end == 0) return;
+
+        int start = Math.max(0, end - 2);
+        if (Character.isLowSurrogate(content.charAt(start))) start++;
+        endingCounts.increment(content.substring(start, end));
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= '가' && c <= '힣') || Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isExpressiveJamo(int cp) {
+        return cp == 'ㅋ' || cp == 'ㅎ' || cp == 'ㅠ' || cp == 'ㅜ';
+    }
+
+    private static boolean isEmoji(int cp) {
+        return (cp >= 0x1F300 && cp <= 0x1FAFF)  // 기호, 이모티콘, 사람 등
+                || (cp >= 0x2600 && cp <= 0x27BF); // 기타 기호, 딩뱃 (❤ 포함)
+    }
+
+    private static int bucket(int length) {
+        for (int i = 0; i < LENGTH_BUCKETS.length; i++) {
+            if (length <= LENGTH_BUCKETS[i]) return i;
+        }
+        return LENGTH_BUCKETS.length;
+    }
+
+    private static int latencyBucket(long seconds) {
+        for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+            if (seconds < LATENCY_BUCKETS[i]) return i;
+        }
+        return LATENCY_BUCKETS.length;
+    }
+}
@@ -0,0 +1,173 @@
+package com.dot.backend.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시스템 메시지 키워드 다중 패턴 매처 (Aho-Corasick)
+ *
+ * 키워드 수와 관계없이 한 줄을 한 번만 훑어서 포함 여부를 판단한다.
+ * 생성 후에는 불변이므로 여러 스레드에서 공유해도 안전하다.
+ */
+public final class SystemMessageMatcher {
+
+    private static final int ROOT = 0;
+
+    // 노드별 전이 테이블 (키 문자는 정렬되어 있어 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final int[] outputKeyword; // 해당 노드(또는 failure 체인)에서 끝나는 키워드 인덱스, 없으면 -1
+    private final int[] outputLink;    // 다음 출력 노드 (failure 체인상), 없으면 -1
+    private final List<String> keywords;
+
+    private SystemMessageMatcher(List<String> keywords) {
+        this.keywords = List.copyOf(keywords);
+
+        // 1. Trie 구성
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(-1);
+
+        for (int k = 0; k < this.keywords.size(); k++) {
+            String keyword = this.keywords.get(k);
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = trie.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(-1);
+                    trie.get(node).put(keyword.charAt(i), next);
+                }
+                node = next;
+            }
+            if (terminal.get(node) < 0) {
+                terminal.set(node, k);
+            }
+        }
+
+        int size = trie.size();
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        this.failure = new int[size];
+        this.outputKeyword = new int[size];
+        this.outputLink = new int[size];
+
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            char[] chars = new char[edges.size()];
+            int[] targets = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                chars[i] = edge.getKey();
+                targets[i] = edge.getValue();
+                i++;
+            }
+            edgeChars[node] = chars;
+            edgeTargets[node] = targets;
+            outputKeyword[node] = terminal.get(node);
+            outputLink[node] = -1;
+        }
+
+        // 2. BFS로 failure / output 링크 계산
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[ROOT]) {
+            failure[target] = ROOT;
+            queue.add(target);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                int next;
+                while ((next = transition(fallback, c)) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = next >= 0 ? next : ROOT;
+
+                int fail = failure[child];
+                outputLink[child] = outputKeyword[fail] >= 0 ? fail : outputLink[fail];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 키워드 목록으로 매처 생성 (빈 문자열, 중복은 무시)
+     */
+    public static SystemMessageMatcher of(Collection<String> keywords) {
+        List<String> cleaned = keywords.stream()
+                .filter(k -> k != null && !k.isBlank())
+                .map(String::strip)
+                .distinct()
+                .toList();
+        return new SystemMessageMatcher(cleaned);
+    }
+
+    /**
+     * 키워드 중 하나라도 포함되어 있는지 확인
+     */
+    public boolean containsAny(CharSequence text) {
+        if (keywords.isEmpty()) return false;
+
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, text.charAt(i));
+            if (outputKeyword[node] >= 0 || outputLink[node] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 포함된 모든 키워드 조회 (등록 순서, 중복 제거)
+     */
+    public List<String> findAll(CharSequence text) {
+        if (keywords.isEmpty()) return List.of();
+
+        boolean[] found = new boolean[keywords.size()];
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            node = step(node, text.charAt(i));
+            for (int out = outputKeyword[node] >= 0 ? node : outputLink[node]; out >= 0; out = outputLink[out]) {
+                found[outputKeyword[out]] = true;
+            }
+        }
+
+        List<String> result = new ArrayList<>();
+        for (int k = 0; k < found.length; k++) {
+            if (found[k]) result.add(keywords.get(k));
+        }
+        return result;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    private int step(int node, char c) {
+        int next;
+        while ((next = transition(node, c)) < 0 && node != ROOT) {
+            node = failure[node];
+        }
+        return next >= 0 ? next : ROOT;
+    }
+
+    private int transition(int node, char c) {
+        int idx = Arrays.binarySearch(edgeChars[node], c);
+        return idx >= 0 ? edgeTargets[node][idx] : -1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.dot.backend.parser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 최근 N개 메시지에 대한 롤링 해시 (Rabin-Karp 방식)
+ *
+ * 재업로드된 카톡 파일에서 "이전에 가져온 마지막 지점"을 찾기 위한 워터마크로 사용한다.
+ * 메시지를 하나씩 push할 때마다 O(1)로 갱신되며, 메모리는 윈도우 크기만큼만 사용한다.
+ */
+public final class TailHash {
+
+    /** 워터마크 비교에 사용하는 꼬리 메시지 수 */
+    public static final int WINDOW = 16;
+
+    private static final long BASE = 0x100000001B3L;
+    private static final long BASE_POW_WINDOW_MINUS_1 = pow(BASE, WINDOW - 1);
+
+    private final long[] window = new long[WINDOW];
+    private int size;
+    private int head;
+    private long hash;
+
+    /**
+     * 메시지를 윈도우에 추가 (가득 차 있으면 가장 오래된 메시지를 밀어냄)
+     */
+    public void push(ParsedMessage message) {
+        long value = messageHash(message);
+
+        if (size == WINDOW) {
+            long oldest = window[head];
+            hash -= oldest * BASE_POW_WINDOW_MINUS_1;
+        } else {
+            size++;
+        }
+
+        window[head] = value;
+        head = (head + 1) % WINDOW;
+        hash = hash * BASE + value;
+    }
+
+    /**
+     * 현재 윈도우의 해시 (윈도우에 포함된 메시지 수도 섞어서 짧은 파일끼리의 충돌 방지)
+     */
+    public long value() {
+        return hash * 31 + size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 메시지 단위 64bit FNV-1a 해시 (화자, 내용, 시간)
+     */
+    static long messageHash(ParsedMessage message) {
+        long h = 0xCBF29CE484222325L;
+        h = fnv(h, message.getSpeaker());
+        h = fnv(h, message.getContent());
+        h = fnv(h, message.getSentAt());
+        return h;
+    }
+
+    private static long fnv(long h, String value) {
+        if (value != null) {
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= (b & 0xFF);
+                h *= 0x100000001B3L;
+            }
+        }
+        // 필드 구분자
+        h ^= 0xFF;
+        h *= 0x100000001B3L;
+        return h;
+    }
+
+    private static long pow(long base, int exp) {
+        long result = 1;
+        for (int i = 0; i < exp; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
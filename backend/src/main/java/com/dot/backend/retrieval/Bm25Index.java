@@ -0,0 +1,503 @@
+package com.dot.backend.retrieval;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Persona 한 명의 대화 교환에 대한 BM25 역색인 (불변, 여러 스레드에서 동시에 검색 가능)
+ *
+ * - 문서 = 교환 하나 (사용자 턴 + Persona 턴), 토큰 = 문자 bigram (KoreanBigramTokenizer)
+ * - posting list는 CSR 형태의 int 배열 (termId별 [offsets[t], offsets[t+1]) 구간에 docId / tf)
+ *   → 객체 / boxing 없이 배열만 순차로 읽어서 10만 교환 규모에서도 검색이 1ms 안쪽
+ * - 점수: Okapi BM25 (k1 = 1.2, b = 0.75), idf는 음수가 나오지 않는 Lucene 방식
+ *
+ * 모든 데이터는 int / byte 버퍼에 담는다 (메모리에서 만들면 배열을 감싼 버퍼, 세그먼트 파일에서 열면 mmap 버퍼, IndexSegment).
+ * termId = 정렬된 토큰 목록에서의 위치, idf / 길이 정규화는 df / 문서 길이로 검색할 때 계산 → 열 때 미리 계산할 것이 없음.
+ */
+public class Bm25Index {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /** 질의에서 쓰는 최대 토큰 수 (긴 메시지가 검색 시간을 늘리지 않도록) */
+    private static final int MAX_QUERY_TERMS = 64;
+
+    private final int size;
+    private final long totalLength;
+    private final float averageLength;
+
+    /** 토큰 오름차순 (termId = 위치) */
+    private final IntBuffer terms;
+    private final IntBuffer postingOffsets;
+    private final IntBuffer postingDocs;
+    private final IntBuffer postingFreqs;
+    private final IntBuffer docLengths;
+
+    /** 교환 i의 사용자 턴 = bytes[offsets[2i], offsets[2i+1]), Persona 턴 = bytes[offsets[2i+1], offsets[2i+2]) (UTF-8) */
+    private final IntBuffer textOffsets;
+    private final ByteBuffer textBytes;
+
+    Bm25Index(int size, long totalLength, IntBuffer terms, IntBuffer postingOffsets, IntBuffer postingDocs,
+              IntBuffer postingFreqs, IntBuffer docLengths, IntBuffer textOffsets, ByteBuffer textBytes) {
+        this.size = size;
+        this.totalLength = totalLength;
+        this.averageLength = size > 0 ? Math.max(1f, (float) totalLength / size) : 1f;
+        this.terms = terms;
+        this.postingOffsets = postingOffsets;
+        this.postingDocs = postingDocs;
+        this.postingFreqs = postingFreqs;
+        this.docLengths = docLengths;
+        this.textOffsets = textOffsets;
+        this.textBytes = textBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder(null);
+    }
+
+    /**
+     * 기존 색인 뒤에 교환을 이어 붙인 새 색인을 만드는 builder (기존 교환은 토큰화하지 않고 posting을 복사)
+     */
+    public static Builder builder(Bm25Index base) {
+        return new Builder(base);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int termCount() {
+        return terms.limit();
+    }
+
+    /**
+     * 교환 번호로 교환 조회 (다른 색인의 검색 결과를 교환으로 바꿀 때 사용)
+     */
+    SampleExchange exchange(int position, float score) {
+        return new SampleExchange(position, context(position), reply(position), score);
+    }
+
+    /**
+     * 색인한 교환 원문 (사용자 턴이 있으면 "사용자 턴\nPersona 턴")
+     */
+    String text(int position) {
+        String context = context(position);
+        return context != null ? context + "\n" + reply(position) : reply(position);
+    }
+
+    /**
+     * 질의와 가장 관련 있는 교환 최대 k개 (점수 내림차순, 겹치는 토큰이 없는 교환은 제외)
+     */
+    public List<SampleExchange> search(String query, int k) {
+        if (k <= 0 || size == 0) {
+            return List.of();
+        }
+
+        int[] queryTerms = queryTerms(query);
+        if (queryTerms.length == 0) {
+            return List.of();
+        }
+
+        // term-at-a-time 누적, 점수가 생긴 문서만 기록해서 전체 문서를 훑지 않음
+        float[] scores = new float[size];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+        float lengthScale = K1 * B / averageLength;
+        float lengthBase = K1 * (1 - B);
+        for (int term : queryTerms) {
+            int start = postingOffsets.get(term);
+            int end = postingOffsets.get(term + 1);
+            int df = end - start;
+            float termIdf = (float) Math.log(1 + (size - df + 0.5) / (df + 0.5));
+            for (int p = start; p < end; p++) {
+                int doc = postingDocs.get(p);
+                float tf = postingFreqs.get(p);
+                if (scores[doc] == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = doc;
+                }
+                float lengthNorm = lengthBase + lengthScale * docLengths.get(doc);
+                scores[doc] += termIdf * tf * (K1 + 1) / (tf + lengthNorm);
+            }
+        }
+
+        return topK(scores, touched, touchedCount, k);
+    }
+
+    // === Segment Access (IndexSegment) ===
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    IntBuffer terms() {
+        return terms.duplicate();
+    }
+
+    IntBuffer postingOffsets() {
+        return postingOffsets.duplicate();
+    }
+
+    IntBuffer postingDocs() {
+        return postingDocs.duplicate();
+    }
+
+    IntBuffer postingFreqs() {
+        return postingFreqs.duplicate();
+    }
+
+    IntBuffer docLengths() {
+        return docLengths.duplicate();
+    }
+
+    IntBuffer textOffsets() {
+        return textOffsets.duplicate();
+    }
+
+    ByteBuffer textBytes() {
+        return textBytes.duplicate();
+    }
+
+    // === Helper Methods ===
+
+    private String context(int position) {
+        String context = decode(textOffsets.get(2 * position), textOffsets.get(2 * position + 1));
+        return context.isEmpty() ? null : context;
+    }
+
+    private String reply(int position) {
+        return decode(textOffsets.get(2 * position + 1), textOffsets.get(2 * position + 2));
+    }
+
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        textBytes.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 질의 토큰 -> 색인에 있는 termId (중복 제거)
+     */
+    private int[] queryTerms(String query) {
+        int[] result = new int[MAX_QUERY_TERMS];
+        int[] count = {0};
+        KoreanBigramTokenizer.tokenize(query, token -> {
+            if (count[0] == MAX_QUERY_TERMS) {
+                return;
+            }
+            int termId = termId(token);
+            if (termId < 0) {
+                return;
+            }
+            for (int i = 0; i < count[0]; i++) {
+                if (result[i] == termId) {
+                    return;
+                }
+            }
+            result[count[0]++] = termId;
+        });
+        return Arrays.copyOf(result, count[0]);
+    }
+
+    /**
+     * 정렬된 토큰 목록에서 이진 탐색 (없으면 -1)
+     */
+    private int termId(int token) {
+        int low = 0;
+        int high = terms.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = terms.get(mid);
+            if (value < token) {
+                low = mid + 1;
+            } else if (value > token) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 점수 상위 k개 (크기 k의 min-heap, 동점이면 최근 교환 우선)
+     */
+    private List<SampleExchange> topK(float[] scores, int[] touched, int touchedCount, int k) {
+        int heapCapacity = Math.min(k, touchedCount);
+        int[] heap = new int[heapCapacity];
+        int heapSize = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            if (heapSize < heapCapacity) {
+                heap[heapSize++] = doc;
+                siftUp(heap, heapSize - 1, scores);
+            } else if (ranksAbove(doc, heap[0], scores)) {
+                heap[0] = doc;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        SampleExchange[] result = new SampleExchange[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            int doc = heap[0];
+            result[i] = exchange(doc, scores[doc]);
+            heap[0] = heap[i];
+            siftDown(heap, i, scores);
+        }
+        return Arrays.asList(result);
+    }
+
+    private static boolean ranksAbove(int a, int b, float[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a > b);
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksAbove(heap[parent], heap[index], scores)) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        int index = 0;
+        while (true) {
+            int lowest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && ranksAbove(heap[lowest], heap[left], scores)) {
+                lowest = left;
+            }
+            if (right < size && ranksAbove(heap[lowest], heap[right], scores)) {
+                lowest = right;
+            }
+            if (lowest == index) {
+                return;
+            }
+            swap(heap, index, lowest);
+            index = lowest;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * 교환을 순서대로 받아 색인을 만듦 (한 번만 build)
+     *
+     * base가 있으면 새 교환의 docId는 base.size()부터 이어지고, build 때 base의 토큰 목록 / posting과 병합한다.
+     */
+    public static class Builder {
+
+        private final Bm25Index base;
+
+        // 새 교환에 나온 토큰 → 임시 id (build 때 정렬된 termId로 바꿈)
+        private final IntIntHashMap localIds = new IntIntHashMap(1 << 12);
+        private int[] localTokens = new int[1 << 12];
+
+        // 문서별 (임시 id, tf) 목록을 이어 붙인 배열, docOffsets[d]부터 docOffsets[d+1] 전까지가 문서 d
+        private int[] docTerms = new int[1 << 12];
+        private int[] docFreqs = new int[1 << 12];
+        private int[] docOffsets = new int[1 << 8];
+        private int[] docLengths = new int[1 << 8];
+        private int docCount;
+        private int entryCount;
+
+        // 교환 원문 (UTF-8), textOffsets는 문서당 2칸 (사용자 턴 시작, Persona 턴 시작) + 마지막 끝 위치
+        private byte[] textBytes = new byte[1 << 14];
+        private int[] textOffsets = new int[1 << 9];
+        private int textLength;
+
+        // 문서 하나를 토큰화할 때 쓰는 버퍼
+        private int[] tokens = new int[256];
+        private int tokenCount;
+
+        private Builder(Bm25Index base) {
+            this.base = base;
+        }
+
+        /**
+         * @param context 사용자 턴 (없으면 null)
+         * @param reply   Persona 턴
+         */
+        public Builder add(String context, String reply) {
+            tokenCount = 0;
+            KoreanBigramTokenizer.tokenize(context, this::addToken);
+            KoreanBigramTokenizer.tokenize(reply, this::addToken);
+
+            int doc = docCount++;
+            if (doc + 1 >= docOffsets.length) {
+                docOffsets = Arrays.copyOf(docOffsets, docOffsets.length * 2);
+                docLengths = Arrays.copyOf(docLengths, docLengths.length * 2);
+            }
+            docLengths[doc] = tokenCount;
+            appendText(2 * doc, context);
+            appendText(2 * doc + 1, reply);
+
+            // 정렬 후 같은 토큰을 묶어 tf 계산
+            Arrays.sort(tokens, 0, tokenCount);
+            for (int i = 0; i < tokenCount; ) {
+                int term = tokens[i];
+                int j = i;
+                while (j < tokenCount && tokens[j] == term) {
+                    j++;
+                }
+                appendEntry(term, j - i);
+                i = j;
+            }
+            docOffsets[doc + 1] = entryCount;
+            return this;
+        }
+
+        public Bm25Index build() {
+            int baseSize = base != null ? base.size : 0;
+            int[] baseTerms = base != null ? toArray(base.terms) : new int[0];
+
+            // 1. 기존 토큰 목록과 새 토큰을 병합 정렬 → termId, 임시 id / 기존 termId → 새 termId
+            int localCount = localIds.size();
+            long[] sortedLocal = new long[localCount];
+            for (int id = 0; id < localCount; id++) {
+                sortedLocal[id] = ((long) localTokens[id] << 32) | id;
+            }
+            Arrays.sort(sortedLocal);
+
+            int[] terms = new int[baseTerms.length + localCount];
+            int[] baseToTerm = new int[baseTerms.length];
+            int[] localToTerm = new int[localCount];
+            int termCount = 0;
+            for (int b = 0, l = 0; b < baseTerms.length || l < localCount; ) {
+                int localToken = l < localCount ? (int) (sortedLocal[l] >> 32) : 0;
+                boolean takeBase = l == localCount || (b < baseTerms.length && baseTerms[b] <= localToken);
+                boolean takeLocal = b == baseTerms.length || (l < localCount && localToken <= baseTerms[b]);
+                terms[termCount] = takeBase ? baseTerms[b] : localToken;
+                if (takeBase) {
+                    baseToTerm[b++] = termCount;
+                }
+                if (takeLocal) {
+                    localToTerm[(int) sortedLocal[l++]] = termCount;
+                }
+                termCount++;
+            }
+            terms = Arrays.copyOf(terms, termCount);
+
+            // 2. termId별 문서 수 → posting 구간 시작 위치
+            int[] basePostingOffsets = base != null ? toArray(base.postingOffsets) : new int[]{0};
+            int[] postingOffsets = new int[termCount + 1];
+            for (int b = 0; b < baseTerms.length; b++) {
+                postingOffsets[baseToTerm[b] + 1] += basePostingOffsets[b + 1] - basePostingOffsets[b];
+            }
+            for (int e = 0; e < entryCount; e++) {
+                postingOffsets[localToTerm[docTerms[e]] + 1]++;
+            }
+            for (int t = 0; t < termCount; t++) {
+                postingOffsets[t + 1] += postingOffsets[t];
+            }
+
+            // 3. 기존 posting을 앞에 복사하고 새 문서를 순서대로 채움 → 각 posting list는 docId 오름차순
+            int postingCount = postingOffsets[termCount];
+            int[] postingDocs = new int[postingCount];
+            int[] postingFreqs = new int[postingCount];
+            int[] cursor = Arrays.copyOf(postingOffsets, termCount);
+            for (int b = 0; b < baseTerms.length; b++) {
+                int start = basePostingOffsets[b];
+                int length = basePostingOffsets[b + 1] - start;
+                int term = baseToTerm[b];
+                base.postingDocs.get(start, postingDocs, cursor[term], length);
+                base.postingFreqs.get(start, postingFreqs, cursor[term], length);
+                cursor[term] += length;
+            }
+            for (int doc = 0; doc < docCount; doc++) {
+                for (int e = docOffsets[doc]; e < docOffsets[doc + 1]; e++) {
+                    int p = cursor[localToTerm[docTerms[e]]]++;
+                    postingDocs[p] = baseSize + doc;
+                    postingFreqs[p] = docFreqs[e];
+                }
+            }
+
+            // 4. 문서 길이 / 원문은 기존 뒤에 이어 붙임
+            int size = baseSize + docCount;
+            int[] lengths = new int[size];
+            long totalLength = 0;
+            if (base != null) {
+                base.docLengths.get(0, lengths, 0, baseSize);
+                totalLength = base.totalLength;
+            }
+            for (int doc = 0; doc < docCount; doc++) {
+                lengths[baseSize + doc] = docLengths[doc];
+                totalLength += docLengths[doc];
+            }
+
+            int baseTextLength = base != null ? base.textOffsets.get(2 * baseSize) : 0;
+            byte[] text = new byte[baseTextLength + textLength];
+            int[] offsets = new int[2 * size + 1];
+            if (base != null) {
+                base.textBytes.get(0, text, 0, baseTextLength);
+                base.textOffsets.get(0, offsets, 0, 2 * baseSize);
+            }
+            System.arraycopy(textBytes, 0, text, baseTextLength, textLength);
+            for (int i = 0; i < 2 * docCount; i++) {
+                offsets[2 * baseSize + i] = baseTextLength + textOffsets[i];
+            }
+            offsets[2 * size] = text.length;
+
+            return new Bm25Index(size, totalLength, IntBuffer.wrap(terms), IntBuffer.wrap(postingOffsets),
+                    IntBuffer.wrap(postingDocs), IntBuffer.wrap(postingFreqs), IntBuffer.wrap(lengths),
+                    IntBuffer.wrap(offsets), ByteBuffer.wrap(text));
+        }
+
+        private void addToken(int token) {
+            if (tokenCount == tokens.length) {
+                tokens = Arrays.copyOf(tokens, tokenCount * 2);
+            }
+            int id = localIds.putIfAbsent(token, localIds.size());
+            if (id == localTokens.length) {
+                localTokens = Arrays.copyOf(localTokens, id * 2);
+            }
+            localTokens[id] = token;
+            tokens[tokenCount++] = id;
+        }
+
+        private void appendEntry(int term, int freq) {
+            if (entryCount == docTerms.length) {
+                docTerms = Arrays.copyOf(docTerms, entryCount * 2);
+                docFreqs = Arrays.copyOf(docFreqs, entryCount * 2);
+            }
+            docTerms[entryCount] = term;
+            docFreqs[entryCount] = freq;
+            entryCount++;
+        }
+
+        private void appendText(int slot, String value) {
+            if (slot + 1 >= textOffsets.length) {
+                textOffsets = Arrays.copyOf(textOffsets, textOffsets.length * 2);
+            }
+            textOffsets[slot] = textLength;
+            if (value == null) {
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (textLength + bytes.length > textBytes.length) {
+                textBytes = Arrays.copyOf(textBytes, Math.max(textBytes.length * 2, textLength + bytes.length));
+            }
+            System.arraycopy(bytes, 0, textBytes, textLength, bytes.length);
+            textLength += bytes.length;
+        }
+
+        private static int[] toArray(IntBuffer buffer) {
+            int[] array = new int[buffer.limit()];
+            buffer.get(0, array);
+            return array;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.dot.backend.retrieval;
+
+/**
+ * 텍스트 → 고정 길이 벡터 (CPU에서만 계산, 외부 API 호출 없음)
+ *
+ * 구현체는 L2 정규화된 벡터를 만들어야 한다 (HnswIndex는 내적을 코사인 유사도로 사용).
+ * 여러 스레드에서 동시에 호출할 수 있어야 한다.
+ */
+public interface Embedder {
+
+    int dimension();
+
+    /**
+     * 임베딩 방식 / 설정 식별자 (저장된 벡터를 재사용할 수 있는지 판별, IndexSegment)
+     * 같은 텍스트에 다른 벡터를 만들도록 바뀌면 id도 바꿔야 한다.
+     */
+    String id();
+
+    /**
+     * @param text 임베딩할 텍스트 (null이면 0 벡터)
+     * @param out  결과를 쓸 배열 (길이 = dimension())
+     */
+    void embed(CharSequence text, float[] out);
+}
@@ -0,0 +1,82 @@
+package com.dot.backend.retrieval;
+
+import java.util.List;
+
+/**
+ * 검색한 대화 교환 / style card를 시스템 프롬프트용 few-shot 예시로 렌더링 (토큰 예산 안에서)
+ *
+ * 토큰 수는 토크나이저 없이 추정한다: 한글 / 한자 등 비 ASCII 글자 1개 = 1토큰, ASCII는 4글자 = 1토큰.
+ * 예시는 관련도 순서로 넣다가 예산을 넘는 첫 예시에서 멈춘다 (잘린 예시는 넣지 않음).
+ */
+public final class FewShotPrompt {
+
+    private static final String HEADER = "\n\n# Examples (실제 대화)\n" +
+            "아래는 실제 카카오톡 대화에서 지금 메시지와 비슷한 상황의 대화입니다. " +
+            "'나'가 당신의 실제 답장이니 말투와 반응 방식을 참고하되, 내용을 그대로 반복하지는 마십시오.\n";
+
+    private static final String STYLE_CARD_HEADER = "\n\n# Style Card (대표 대화)\n" +
+            "아래는 실제 카카오톡 대화에서 자주 나오는 유형별 대표 대화입니다. " +
+            "'나'가 당신의 실제 답장이니 평소 말투와 반응 방식의 기준으로 삼으십시오.\n";
+
+    private FewShotPrompt() {
+    }
+
+    /**
+     * @return 시스템 프롬프트 뒤에 붙일 문자열 (넣을 예시가 없으면 "")
+     */
+    public static String render(List<SampleExchange> exchanges, int maxTokens) {
+        return render(HEADER, exchanges, maxTokens);
+    }
+
+    /**
+     * StyleCardBuilder가 고른 대표 교환 렌더링 (Persona에 저장해 두고 매 턴 그대로 붙임)
+     *
+     * @return style card 문자열 (넣을 예시가 없으면 "")
+     */
+    public static String renderStyleCard(List<SampleExchange> exchanges, int maxTokens) {
+        return render(STYLE_CARD_HEADER, exchanges, maxTokens);
+    }
+
+    public static int estimateTokens(CharSequence text) {
+        int nonAscii = 0;
+        int ascii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                nonAscii++;
+            }
+        }
+        return nonAscii + (ascii + 3) / 4;
+    }
+
+    private static String render(String header, List<SampleExchange> exchanges, int maxTokens) {
+        int budget = maxTokens - estimateTokens(header);
+        StringBuilder examples = new StringBuilder();
+        for (SampleExchange exchange : exchanges) {
+            String rendered = render(exchange);
+            int tokens = estimateTokens(rendered);
+            if (tokens > budget) {
+                break;
+            }
+            examples.append(rendered);
+            budget -= tokens;
+        }
+        return examples.length() > 0 ? header + examples : "";
+    }
+
+    private static String render(SampleExchange exchange) {
+        StringBuilder sb = new StringBuilder("\n");
+        if (exchange.getContext() != null) {
+            appendTurn(sb, "상대", exchange.getContext());
+        }
+        appendTurn(sb, "나", exchange.getReply());
+        return sb.toString();
+    }
+
+    private static void appendTurn(StringBuilder sb, String speaker, String text) {
+        for (String line : text.split("\n")) {
+            sb.append(speaker).append(": ").append(line).append('\n');
+        }
+    }
+}
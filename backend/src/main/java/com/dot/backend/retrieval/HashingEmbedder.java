@@ -0,0 +1,69 @@
+package com.dot.backend.retrieval;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * feature hashing 임베더 (모델 파일 / 네트워크 없이 바로 계산)
+ *
+ * KoreanBigramTokenizer의 bigram 토큰을 해시해서 dimension개 칸 중 하나에 ±1을 더하고 L2 정규화한다.
+ * 부호도 해시로 정해서 칸이 겹친 토큰끼리 서로 상쇄되게 한다 (내적의 기댓값이 공유 bigram 수에 비례).
+ * 의미가 아니라 표면 형태가 비슷한 문장을 가깝게 두지만, 조사 / 어미 변형에 강하고 교환당 수 μs면 끝난다.
+ */
+@Component
+public class HashingEmbedder implements Embedder {
+
+    private final int dimension;
+
+    public HashingEmbedder(@Value("${chat.embedding.dimension:128}") int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("임베딩 차원은 1 이상이어야 합니다: " + dimension);
+        }
+        this.dimension = dimension;
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public String id() {
+        return "hashing-bigram-v1-" + dimension;
+    }
+
+    @Override
+    public void embed(CharSequence text, float[] out) {
+        Arrays.fill(out, 0, dimension, 0f);
+        KoreanBigramTokenizer.tokenize(text, token -> {
+            int hash = mix(token);
+            int bucket = Math.floorMod(hash, dimension);
+            out[bucket] += (hash & 0x8000_0000) == 0 ? 1f : -1f;
+        });
+
+        float norm = 0;
+        for (int i = 0; i < dimension; i++) {
+            norm += out[i] * out[i];
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < dimension; i++) {
+                out[i] *= scale;
+            }
+        }
+    }
+
+    /**
+     * murmur3 fmix32 (인접한 글자 코드가 같은 칸에 몰리지 않도록 비트를 섞음)
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85eb_ca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2_ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
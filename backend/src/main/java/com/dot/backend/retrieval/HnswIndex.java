@@ -0,0 +1,529 @@
+package com.dot.backend.retrieval;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * L2 정규화된 벡터에 대한 HNSW 근사 최근접 이웃 색인 (build 후 불변, 여러 스레드에서 동시에 검색 가능)
+ *
+ * - 벡터는 direct ByteBuffer(off-heap)에 [노드 * dimension] 순서로 연속 저장 → 교환 수십만 개도 힙 / GC 부담 없음
+ * - 이웃 목록은 int 버퍼: 레벨 0은 노드당 (1 + 2M)칸, 상위 레벨은 레벨이 있는 노드만 레벨당 (1 + M)칸 ([0] = 이웃 수)
+ * - 유사도 = 내적 (정규화된 벡터라 코사인 유사도와 같음), 클수록 가까움
+ * - 이웃 선택은 논문(Malkov & Yashunin)의 휴리스틱: 이미 고른 이웃보다 자신에게 더 가까운 후보만 연결해 군집 사이 길을 남김
+ *
+ * 세그먼트 파일에서 열면 벡터 / 이웃 버퍼가 그대로 mmap 버퍼가 된다 (IndexSegment).
+ * 샘플이 추가되면 기존 그래프를 복사한 builder에 새 벡터만 삽입한다 (builder(base, ...)).
+ */
+public class HnswIndex {
+
+    private static final int MAX_LEVEL = 16;
+
+    private final int dimension;
+    private final int m;
+    private final int maxConnections0;
+
+    private FloatBuffer vectors;
+    private IntBuffer links0;
+
+    /** 노드별 상위 레벨 이웃 시작 위치 (upperOffsets[node + 1] - upperOffsets[node] = 레벨 수 x (1 + M)) */
+    private IntBuffer upperOffsets;
+    private IntBuffer upperLinks;
+
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    private HnswIndex(int dimension, int m) {
+        this.dimension = dimension;
+        this.m = m;
+        this.maxConnections0 = 2 * m;
+    }
+
+    /**
+     * 세그먼트 파일에서 읽은 버퍼로 색인 구성
+     */
+    HnswIndex(int dimension, int m, int size, int entryPoint, int maxLevel, FloatBuffer vectors,
+              IntBuffer links0, IntBuffer upperOffsets, IntBuffer upperLinks) {
+        this(dimension, m);
+        this.size = size;
+        this.entryPoint = entryPoint;
+        this.maxLevel = maxLevel;
+        this.vectors = vectors;
+        this.links0 = links0;
+        this.upperOffsets = upperOffsets;
+        this.upperLinks = upperLinks;
+    }
+
+    /**
+     * @param dimension      벡터 차원
+     * @param capacity       넣을 벡터 수 (off-heap 버퍼를 한 번에 잡음)
+     * @param m              상위 레벨 노드당 이웃 수 (레벨 0은 2M)
+     * @param efConstruction 삽입할 때 탐색하는 후보 수 (클수록 정확하지만 build가 느림)
+     * @param seed           레벨 추첨 시드 (같은 입력이면 같은 그래프)
+     */
+    public static Builder builder(int dimension, int capacity, int m, int efConstruction, long seed) {
+        return new Builder(new HnswIndex(dimension, m), null, capacity, efConstruction, seed);
+    }
+
+    /**
+     * 기존 색인의 벡터 / 그래프를 복사하고 이어서 삽입하는 builder (M / 차원은 base를 따름)
+     *
+     * @param capacity base.size()를 포함한 전체 벡터 수
+     */
+    public static Builder builder(HnswIndex base, int capacity, int efConstruction, long seed) {
+        return new Builder(new HnswIndex(base.dimension, base.m), base, capacity, efConstruction, seed);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    // === Segment Access (IndexSegment) ===
+
+    int m() {
+        return m;
+    }
+
+    int entryPoint() {
+        return entryPoint;
+    }
+
+    int maxLevel() {
+        return maxLevel;
+    }
+
+    FloatBuffer vectors() {
+        return vectors.duplicate().limit(size * dimension);
+    }
+
+    IntBuffer links0() {
+        return links0.duplicate().limit(size * (maxConnections0 + 1));
+    }
+
+    IntBuffer upperOffsets() {
+        return upperOffsets.duplicate().limit(size + 1);
+    }
+
+    IntBuffer upperLinks() {
+        return upperLinks.duplicate().limit(upperOffsets.get(size));
+    }
+
+    /**
+     * 검색 결과 한 건 (node = 추가한 순서, 0부터)
+     */
+    public record Hit(int node, float similarity) {
+    }
+
+    /**
+     * 질의 벡터와 가장 가까운 노드 최대 k개 (유사도 내림차순)
+     *
+     * @param ef 레벨 0에서 유지할 후보 수 (k보다 작으면 k, 클수록 recall이 오르고 느려짐)
+     */
+    public List<Hit> search(float[] query, int k, int ef) {
+        if (k <= 0 || size == 0) {
+            return List.of();
+        }
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("질의 벡터 차원이 다릅니다: " + query.length + " != " + dimension);
+        }
+
+        int current = entryPoint;
+        float currentSimilarity = similarity(query, current);
+        for (int level = maxLevel; level > 0; level--) {
+            current = greedyClosest(query, current, currentSimilarity, level);
+            currentSimilarity = similarity(query, current);
+        }
+
+        NodeHeap results = searchLayer(query, current, currentSimilarity, Math.max(ef, k), 0, new BitSet(size));
+        while (results.size() > k) {
+            results.pop();
+        }
+
+        Hit[] hits = new Hit[results.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            float similarity = results.topKey();
+            hits[i] = new Hit(results.pop(), similarity);
+        }
+        return Arrays.asList(hits);
+    }
+
+    // === Helper Methods ===
+
+    private float similarity(float[] query, int node) {
+        int base = node * dimension;
+        float sum = 0;
+        for (int i = 0; i < dimension; i++) {
+            sum += query[i] * vectors.get(base + i);
+        }
+        return sum;
+    }
+
+    private float similarity(int a, int b) {
+        int baseA = a * dimension;
+        int baseB = b * dimension;
+        float sum = 0;
+        for (int i = 0; i < dimension; i++) {
+            sum += vectors.get(baseA + i) * vectors.get(baseB + i);
+        }
+        return sum;
+    }
+
+    private IntBuffer links(int level) {
+        return level == 0 ? links0 : upperLinks;
+    }
+
+    /**
+     * 이웃 목록 시작 위치 ([offset] = 이웃 수, 그 뒤로 이웃 노드)
+     */
+    private int linksOffset(int node, int level) {
+        return level == 0 ? node * (maxConnections0 + 1) : upperOffsets.get(node) + (level - 1) * (m + 1);
+    }
+
+    /**
+     * 상위 레벨: 더 가까운 이웃이 없을 때까지 한 칸씩 이동
+     */
+    private int greedyClosest(float[] query, int current, float currentSimilarity, int level) {
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            IntBuffer links = links(level);
+            int offset = linksOffset(current, level);
+            for (int i = 1, count = links.get(offset); i <= count; i++) {
+                int neighbor = links.get(offset + i);
+                float similarity = similarity(query, neighbor);
+                if (similarity > currentSimilarity) {
+                    current = neighbor;
+                    currentSimilarity = similarity;
+                    moved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 레벨에서 best-first 탐색, 가장 가까운 ef개를 유사도 min-heap으로 반환 (top = ef개 중 가장 먼 노드)
+     */
+    private NodeHeap searchLayer(float[] query, int entry, float entrySimilarity, int ef, int level, BitSet visited) {
+        NodeHeap candidates = new NodeHeap(ef);   // key = -유사도 → 가장 가까운 후보부터
+        NodeHeap results = new NodeHeap(ef + 1);  // key = 유사도 → 가장 먼 결과가 top
+        visited.set(entry);
+        candidates.push(entry, -entrySimilarity);
+        results.push(entry, entrySimilarity);
+
+        while (candidates.size() > 0) {
+            float candidateSimilarity = -candidates.topKey();
+            if (results.size() >= ef && candidateSimilarity < results.topKey()) {
+                break;
+            }
+            int candidate = candidates.pop();
+
+            IntBuffer links = links(level);
+            int offset = linksOffset(candidate, level);
+            for (int i = 1, count = links.get(offset); i <= count; i++) {
+                int neighbor = links.get(offset + i);
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+
+                float similarity = similarity(query, neighbor);
+                if (results.size() < ef || similarity > results.topKey()) {
+                    candidates.push(neighbor, -similarity);
+                    results.push(neighbor, similarity);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 유사도 내림차순 후보 중 이웃으로 연결할 노드를 골라 앞쪽에 모음, 고른 수 반환
+     */
+    private int selectNeighbors(int[] candidates, float[] similarities, int count, int maxCount) {
+        int selected = 0;
+        for (int i = 0; i < count && selected < maxCount; i++) {
+            int candidate = candidates[i];
+            boolean diverse = true;
+            for (int j = 0; j < selected; j++) {
+                if (similarity(candidate, candidates[j]) > similarities[i]) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                candidates[selected] = candidate;
+                similarities[selected] = similarities[i];
+                selected++;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * neighbor의 이웃 목록에 node 추가 (가득 찼으면 기존 이웃 + node 중에서 다시 고름)
+     */
+    private void connect(int neighbor, int node, float similarity, int level) {
+        int maxCount = level == 0 ? maxConnections0 : m;
+        IntBuffer links = links(level);
+        int offset = linksOffset(neighbor, level);
+        int count = links.get(offset);
+        if (count < maxCount) {
+            links.put(offset + 1 + count, node);
+            links.put(offset, count + 1);
+            return;
+        }
+
+        int[] candidates = new int[count + 1];
+        float[] similarities = new float[count + 1];
+        for (int i = 0; i < count; i++) {
+            candidates[i] = links.get(offset + 1 + i);
+            similarities[i] = similarity(neighbor, candidates[i]);
+        }
+        candidates[count] = node;
+        similarities[count] = similarity;
+        sortDescending(candidates, similarities, count + 1);
+
+        int selected = selectNeighbors(candidates, similarities, count + 1, maxCount);
+        links.put(offset + 1, candidates, 0, selected);
+        links.put(offset, selected);
+    }
+
+    private static void sortDescending(int[] nodes, float[] keys, int count) {
+        for (int i = 1; i < count; i++) {
+            int node = nodes[i];
+            float key = keys[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] < key) {
+                nodes[j + 1] = nodes[j];
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            nodes[j + 1] = node;
+            keys[j + 1] = key;
+        }
+    }
+
+    /**
+     * (노드, key) 이진 min-heap (객체 / boxing 없이 배열 두 개)
+     */
+    private static final class NodeHeap {
+
+        private int[] nodes;
+        private float[] keys;
+        private int size;
+
+        NodeHeap(int initialCapacity) {
+            nodes = new int[Math.max(initialCapacity, 4)];
+            keys = new float[nodes.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        float topKey() {
+            return keys[0];
+        }
+
+        void push(int node, float key) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                nodes[index] = nodes[parent];
+                keys[index] = keys[parent];
+                index = parent;
+            }
+            nodes[index] = node;
+            keys[index] = key;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            size--;
+            int node = nodes[size];
+            float key = keys[size];
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                nodes[index] = nodes[child];
+                keys[index] = keys[child];
+                index = child;
+            }
+            nodes[index] = node;
+            keys[index] = key;
+            return top;
+        }
+    }
+
+    /**
+     * 벡터를 하나씩 삽입해 그래프를 만듦 (한 스레드에서만 사용, build 후에는 add 불가)
+     */
+    public static class Builder {
+
+        private final HnswIndex index;
+        private final int capacity;
+        private final int efConstruction;
+        private final double levelMultiplier;
+        private final Random random;
+        private final BitSet visited;
+        private int[] upperLinks;
+        private boolean built;
+
+        private Builder(HnswIndex index, HnswIndex base, int capacity, int efConstruction, long seed) {
+            if (index.m < 2) {
+                throw new IllegalArgumentException("HNSW M은 2 이상이어야 합니다: " + index.m);
+            }
+            int baseSize = base != null ? base.size : 0;
+            long bytes = (long) capacity * index.dimension * Float.BYTES;
+            if (capacity < baseSize || bytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("벡터 색인 용량이 잘못됐습니다: " + capacity + " x " + index.dimension);
+            }
+            this.index = index;
+            this.capacity = capacity;
+            this.efConstruction = Math.max(efConstruction, index.m);
+            this.levelMultiplier = 1 / Math.log(index.m);
+            this.random = new Random(seed);
+            this.visited = new BitSet(capacity);
+
+            index.vectors = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder()).asFloatBuffer();
+            int[] links0 = new int[capacity * (index.maxConnections0 + 1)];
+            int[] upperOffsets = new int[capacity + 1];
+            upperLinks = new int[Math.max(16, capacity / index.m * (index.m + 1))];
+            if (base != null) {
+                index.vectors.put(0, base.vectors, 0, baseSize * index.dimension);
+                base.links0.get(0, links0, 0, baseSize * (index.maxConnections0 + 1));
+                base.upperOffsets.get(0, upperOffsets, 0, baseSize + 1);
+                int upperLength = upperOffsets[baseSize];
+                if (upperLength > upperLinks.length) {
+                    upperLinks = new int[upperLength * 2];
+                }
+                base.upperLinks.get(0, upperLinks, 0, upperLength);
+                index.size = baseSize;
+                index.entryPoint = base.entryPoint;
+                index.maxLevel = base.maxLevel;
+            }
+            index.links0 = IntBuffer.wrap(links0);
+            index.upperOffsets = IntBuffer.wrap(upperOffsets);
+            index.upperLinks = IntBuffer.wrap(upperLinks);
+        }
+
+        /**
+         * @param vector L2 정규화된 벡터 (복사해서 저장하므로 호출 후 재사용 가능)
+         */
+        public Builder add(float[] vector) {
+            HnswIndex h = index;
+            if (built) {
+                throw new IllegalStateException("이미 build된 색인입니다");
+            }
+            if (vector.length != h.dimension) {
+                throw new IllegalArgumentException("벡터 차원이 다릅니다: " + vector.length + " != " + h.dimension);
+            }
+            if (h.size == capacity) {
+                throw new IllegalStateException("색인 용량을 넘었습니다: " + capacity);
+            }
+
+            int node = h.size;
+            h.vectors.put(node * h.dimension, vector, 0, h.dimension);
+            int level = randomLevel();
+            addUpperLevels(node, level);
+            h.size++;
+
+            if (h.entryPoint < 0) {
+                h.entryPoint = node;
+                h.maxLevel = level;
+                return this;
+            }
+
+            int current = h.entryPoint;
+            float currentSimilarity = h.similarity(vector, current);
+            for (int l = h.maxLevel; l > level; l--) {
+                current = h.greedyClosest(vector, current, currentSimilarity, l);
+                currentSimilarity = h.similarity(vector, current);
+            }
+
+            for (int l = Math.min(level, h.maxLevel); l >= 0; l--) {
+                visited.clear();
+                NodeHeap found = h.searchLayer(vector, current, currentSimilarity, efConstruction, l, visited);
+
+                int count = found.size();
+                int[] candidates = new int[count];
+                float[] similarities = new float[count];
+                for (int i = count - 1; i >= 0; i--) {
+                    similarities[i] = found.topKey();
+                    candidates[i] = found.pop();
+                }
+                current = candidates[0];
+                currentSimilarity = similarities[0];
+
+                int selected = h.selectNeighbors(candidates, similarities, count, h.m);
+                IntBuffer links = h.links(l);
+                int offset = h.linksOffset(node, l);
+                links.put(offset + 1, candidates, 0, selected);
+                links.put(offset, selected);
+                for (int i = 0; i < selected; i++) {
+                    h.connect(candidates[i], node, similarities[i], l);
+                }
+            }
+
+            if (level > h.maxLevel) {
+                h.maxLevel = level;
+                h.entryPoint = node;
+            }
+            return this;
+        }
+
+        public HnswIndex build() {
+            built = true;
+            return index;
+        }
+
+        private int randomLevel() {
+            double level = -Math.log(1 - random.nextDouble()) * levelMultiplier;
+            return (int) Math.min(level, MAX_LEVEL);
+        }
+
+        /**
+         * 노드의 상위 레벨 이웃 칸 확보 (레벨 0만 있으면 0칸)
+         */
+        private void addUpperLevels(int node, int level) {
+            IntBuffer offsets = index.upperOffsets;
+            int start = offsets.get(node);
+            int end = start + level * (index.m + 1);
+            if (end > upperLinks.length) {
+                upperLinks = Arrays.copyOf(upperLinks, Math.max(upperLinks.length * 2, end));
+                index.upperLinks = IntBuffer.wrap(upperLinks);
+            }
+            offsets.put(node + 1, end);
+        }
+    }
+}
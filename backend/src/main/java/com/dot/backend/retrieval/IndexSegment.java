@@ -0,0 +1,232 @@
+package com.dot.backend.retrieval;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Persona 샘플 색인(BM25 + HNSW)의 불변 세그먼트 파일 포맷
+ *
+ * 레이아웃 (little-endian, 섹션은 64바이트 정렬)
+ * - 헤더 4KB: magic "DSIX", 포맷 버전, 세그먼트 버전, 색인한 메시지 수, 교환 수, 토큰 수, 전체 문서 길이,
+ *   임베더 id(벡터가 없으면 빈 문자열), HNSW 차원 / M / entry point / 최대 레벨, 섹션별 (offset, length)
+ * - 섹션: Bm25Index / HnswIndex의 버퍼를 그대로 나열 (Section 순서)
+ *
+ * 열 때는 섹션마다 읽기 전용 mmap 버퍼를 만들어 색인에 그대로 넘긴다.
+ * 복사 / 역직렬화가 없어서 콜드 스타트 비용은 검색이 실제로 건드리는 페이지의 page-in뿐이다.
+ * 파일은 한 번 쓰면 바꾸지 않는다 (샘플이 바뀌면 IndexSegmentStore가 새 버전 파일을 씀).
+ */
+final class IndexSegment {
+
+    private static final int MAGIC = 0x58495344;  // "DSIX" (little-endian)
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4096;
+    private static final int ALIGNMENT = 64;
+    private static final int MAX_EMBEDDER_ID_BYTES = 256;
+
+    private enum Section {
+        TERMS, POSTING_OFFSETS, POSTING_DOCS, POSTING_FREQS, DOC_LENGTHS, TEXT_OFFSETS, TEXT_BYTES,
+        VECTORS, LINKS0, UPPER_OFFSETS, UPPER_LINKS
+    }
+
+    /**
+     * @param vectors     벡터 색인 (없으면 null)
+     * @param embedderId  vectors를 만든 임베더 (Embedder.id(), 다른 임베더 설정으로 열면 벡터를 다시 만듦)
+     */
+    record Contents(long version, long messageCount, Bm25Index lexical, HnswIndex vectors, String embedderId) {
+    }
+
+    private IndexSegment() {
+    }
+
+    /**
+     * 세그먼트 파일 쓰기 (새 파일, 다 쓴 뒤 fsync)
+     */
+    static void write(Path file, Contents contents) throws IOException {
+        Bm25Index lexical = contents.lexical();
+        HnswIndex vectors = contents.vectors();
+        byte[] embedderId = vectors != null ? contents.embedderId().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (embedderId.length > MAX_EMBEDDER_ID_BYTES) {
+            throw new IllegalArgumentException("임베더 id가 너무 깁니다: " + contents.embedderId());
+        }
+
+        Buffer[] sections = {
+                lexical.terms(), lexical.postingOffsets(), lexical.postingDocs(), lexical.postingFreqs(),
+                lexical.docLengths(), lexical.textOffsets(), lexical.textBytes(),
+                vectors != null ? vectors.vectors() : FloatBuffer.allocate(0),
+                vectors != null ? vectors.links0() : IntBuffer.allocate(0),
+                vectors != null ? vectors.upperOffsets() : IntBuffer.allocate(0),
+                vectors != null ? vectors.upperLinks() : IntBuffer.allocate(0)
+        };
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long[] offsets = new long[sections.length];
+            long[] lengths = new long[sections.length];
+            long position = HEADER_SIZE;
+            ByteBuffer chunk = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < sections.length; i++) {
+                position = align(position);
+                offsets[i] = position;
+                lengths[i] = writeSection(channel, position, sections[i], chunk);
+                position += lengths[i];
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION)
+                    .putLong(contents.version()).putLong(contents.messageCount())
+                    .putInt(lexical.size()).putInt(lexical.termCount()).putLong(lexical.totalLength())
+                    .putInt(vectors != null ? vectors.dimension() : 0)
+                    .putInt(vectors != null ? vectors.m() : 0)
+                    .putInt(vectors != null ? vectors.entryPoint() : -1)
+                    .putInt(vectors != null ? vectors.maxLevel() : -1)
+                    .putInt(embedderId.length).put(embedderId);
+            header.position(align(header.position()));
+            for (int i = 0; i < sections.length; i++) {
+                header.putLong(offsets[i]).putLong(lengths[i]);
+            }
+            header.clear();
+            writeFully(channel, header, 0);
+            channel.force(true);
+        }
+    }
+
+    /**
+     * 세그먼트 파일 열기 (섹션별 mmap, 헤더 / 섹션 크기가 맞지 않으면 IOException)
+     */
+    static Contents open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("세그먼트 파일이 너무 작습니다: " + file);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // 헤더를 다 읽을 때까지
+            }
+            header.flip();
+
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 세그먼트 파일입니다: " + file);
+            }
+            long version = header.getLong();
+            long messageCount = header.getLong();
+            int size = header.getInt();
+            int termCount = header.getInt();
+            long totalLength = header.getLong();
+            int dimension = header.getInt();
+            int m = header.getInt();
+            int entryPoint = header.getInt();
+            int maxLevel = header.getInt();
+            int embedderIdLength = header.getInt();
+            if (embedderIdLength < 0 || embedderIdLength > MAX_EMBEDDER_ID_BYTES) {
+                throw new IOException("세그먼트 헤더가 손상됐습니다: " + file);
+            }
+            byte[] embedderId = new byte[embedderIdLength];
+            header.get(embedderId);
+            header.position(align(header.position()));
+
+            Section[] sections = Section.values();
+            ByteBuffer[] mapped = new ByteBuffer[sections.length];
+            for (Section section : sections) {
+                long offset = header.getLong();
+                long length = header.getLong();
+                if (offset < HEADER_SIZE || length < 0 || length > Integer.MAX_VALUE
+                        || (length > 0 && offset + length > fileSize)) {
+                    throw new IOException("세그먼트 섹션 범위가 잘못됐습니다: " + section + " in " + file);
+                }
+                mapped[section.ordinal()] = length > 0
+                        ? channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                        : ByteBuffer.allocate(0);
+            }
+
+            Bm25Index lexical = new Bm25Index(size, totalLength,
+                    ints(mapped, Section.TERMS, termCount),
+                    ints(mapped, Section.POSTING_OFFSETS, termCount + 1),
+                    ints(mapped, Section.POSTING_DOCS, -1),
+                    ints(mapped, Section.POSTING_FREQS, -1),
+                    ints(mapped, Section.DOC_LENGTHS, size),
+                    ints(mapped, Section.TEXT_OFFSETS, 2 * size + 1),
+                    mapped[Section.TEXT_BYTES.ordinal()]);
+
+            HnswIndex vectors = null;
+            if (embedderIdLength > 0) {
+                FloatBuffer vectorBuffer = mapped[Section.VECTORS.ordinal()].order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+                if (dimension <= 0 || m < 2 || vectorBuffer.limit() != (long) size * dimension) {
+                    throw new IOException("세그먼트 벡터 섹션이 잘못됐습니다: " + file);
+                }
+                vectors = new HnswIndex(dimension, m, size, entryPoint, maxLevel, vectorBuffer,
+                        ints(mapped, Section.LINKS0, size * (2 * m + 1)),
+                        ints(mapped, Section.UPPER_OFFSETS, size + 1),
+                        ints(mapped, Section.UPPER_LINKS, -1));
+            }
+            return new Contents(version, messageCount, lexical, vectors, new String(embedderId, StandardCharsets.UTF_8));
+        }
+    }
+
+    // === Helper Methods ===
+
+    private static IntBuffer ints(ByteBuffer[] mapped, Section section, long expectedCount) throws IOException {
+        IntBuffer buffer = mapped[section.ordinal()].order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        if (expectedCount >= 0 && buffer.limit() != expectedCount) {
+            throw new IOException("세그먼트 섹션 크기가 다릅니다: " + section + " " + buffer.limit() + " != " + expectedCount);
+        }
+        return buffer;
+    }
+
+    /**
+     * 버퍼 내용을 little-endian 바이트로 position부터 씀
+     *
+     * @return 쓴 바이트 수
+     */
+    private static long writeSection(FileChannel channel, long position, Buffer section, ByteBuffer chunk) throws IOException {
+        if (section instanceof ByteBuffer bytes) {
+            long length = bytes.remaining();
+            writeFully(channel, bytes, position);
+            return length;
+        }
+
+        long written = 0;
+        while (section.hasRemaining()) {
+            chunk.clear();
+            if (section instanceof IntBuffer ints) {
+                IntBuffer view = chunk.asIntBuffer();
+                int count = Math.min(view.remaining(), ints.remaining());
+                view.put(ints.slice().limit(count));
+                ints.position(ints.position() + count);
+                chunk.limit(count * Integer.BYTES);
+            } else {
+                FloatBuffer floats = (FloatBuffer) section;
+                FloatBuffer view = chunk.asFloatBuffer();
+                int count = Math.min(view.remaining(), floats.remaining());
+                view.put(floats.slice().limit(count));
+                floats.position(floats.position() + count);
+                chunk.limit(count * Float.BYTES);
+            }
+            written += writeFully(channel, chunk, position + written);
+        }
+        return written;
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        return length;
+    }
+
+    private static long align(long position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private static int align(int position) {
+        return (int) align((long) position);
+    }
+}
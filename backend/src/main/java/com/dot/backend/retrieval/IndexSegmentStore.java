@@ -0,0 +1,185 @@
+package com.dot.backend.retrieval;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Persona 샘플 색인 세그먼트 파일 관리 ({indexDir}/{personaId}/v{version}.seg)
+ *
+ * - 새 세그먼트는 임시 파일에 다 쓴 뒤 이동해서, 읽는 쪽은 완성된 파일만 본다 (여러 노드가 같은 디렉토리를 써도 안전)
+ * - 저장할 때 이전 버전 파일은 지운다 (이미 mmap한 노드는 파일이 지워져도 기존 매핑으로 계속 읽음)
+ * - 열다가 실패한(손상 / 포맷 변경) 세그먼트는 지우고 이전 버전을 연다 (없으면 호출한 쪽에서 다시 만듦)
+ * - Persona 삭제 / 회원 탈퇴 시 디렉토리째 지운다 (세그먼트에 대화 원문이 평문으로 들어 있음)
+ *   삭제한 Persona는 기록해 두고, 삭제 전에 시작한 백그라운드 저장이 뒤늦게 파일을 다시 만들지 않게 한다
+ * chat.few-shot.index-dir가 비어 있으면 저장하지 않는다 (매번 메모리에서 생성).
+ */
+@Component
+@Slf4j
+public class IndexSegmentStore {
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("v(\\d+)\\.seg");
+
+    /** 삭제 기록 최대 개수 (삭제 직후 끝나는 백그라운드 저장만 막으면 되므로 오래된 것부터 버림) */
+    private static final int MAX_DELETED = 10_000;
+
+    private final Path root;
+
+    /** 세그먼트를 지운 Persona (save / deleteAll이 같은 락 안에서 확인 / 기록) */
+    private final Set<Long> deleted = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > MAX_DELETED;
+        }
+    });
+
+    public IndexSegmentStore(@Value("${chat.few-shot.index-dir:}") String indexDir) {
+        this.root = indexDir == null || indexDir.isBlank() ? null : Paths.get(indexDir).toAbsolutePath().normalize();
+    }
+
+    public boolean isEnabled() {
+        return root != null;
+    }
+
+    /**
+     * 가장 최근 세그먼트 (없거나 저장 안 함이면 null)
+     */
+    IndexSegment.Contents openLatest(Long personaId) {
+        if (root == null) {
+            return null;
+        }
+
+        // 열리지 않는 최신 버전은 지우고 그 이전 버전으로
+        for (Path file = latest(personaId); file != null; file = latest(personaId)) {
+            try {
+                long start = System.nanoTime();
+                IndexSegment.Contents contents = IndexSegment.open(file);
+                log.info("Opened sample index segment for persona {}: v{}, {} exchanges in {}ms",
+                        personaId, contents.version(), contents.lexical().size(), (System.nanoTime() - start) / 1_000_000);
+                return contents;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Discarding unreadable sample index segment: {}", file, e);
+                if (!deleteQuietly(file)) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 새 버전 세그먼트 저장 (버전 = 현재 최신 + 1)
+     *
+     * @return 저장한 버전 (저장 안 함 / 이미 삭제된 Persona면 -1)
+     */
+    synchronized long save(Long personaId, long messageCount, Bm25Index lexical, HnswIndex vectors, String embedderId)
+            throws IOException {
+        if (root == null) {
+            return -1;
+        }
+        if (deleted.contains(personaId)) {
+            log.info("Skipped saving sample index segment for deleted persona {}", personaId);
+            return -1;
+        }
+        Path dir = root.resolve(String.valueOf(personaId));
+        Files.createDirectories(dir);
+
+        Path previous = latest(personaId);
+        long version = previous != null ? versionOf(previous) + 1 : 1;
+        Path target = dir.resolve("v" + version + ".seg");
+        Path temp = dir.resolve(".v" + version + "-" + System.nanoTime() + ".tmp");
+        try {
+            IndexSegment.write(temp, new IndexSegment.Contents(version, messageCount, lexical, vectors, embedderId));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+
+        // 이전 버전 정리 (다른 노드가 쓰는 중인 임시 파일은 건드리지 않음)
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "v*.seg")) {
+            for (Path file : files) {
+                long fileVersion = versionOf(file);
+                if (fileVersion > 0 && fileVersion < version) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+        log.info("Saved sample index segment for persona {}: v{}, {} exchanges, vectors={}",
+                personaId, version, lexical.size(), vectors != null);
+        return version;
+    }
+
+    /**
+     * Persona의 세그먼트 / 임시 파일과 디렉토리 삭제
+     */
+    synchronized void deleteAll(Long personaId) {
+        if (root == null) {
+            return;
+        }
+        deleted.add(personaId);
+        Path dir = root.resolve(String.valueOf(personaId));
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list sample index segments: {}", dir, e);
+        }
+        deleteQuietly(dir);
+        log.info("Deleted sample index segments for persona {}", personaId);
+    }
+
+    // === Helper Methods ===
+
+    private Path latest(Long personaId) {
+        Path dir = root.resolve(String.valueOf(personaId));
+        if (!Files.isDirectory(dir)) {
+            return null;
+        }
+
+        Path latest = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "v*.seg")) {
+            for (Path file : files) {
+                if (versionOf(file) > 0 && (latest == null || versionOf(file) > versionOf(latest))) {
+                    latest = file;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list sample index segments: {}", dir, e);
+        }
+        return latest;
+    }
+
+    private static long versionOf(Path file) {
+        Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to delete sample index file: {}", file, e);
+            return false;
+        }
+    }
+}
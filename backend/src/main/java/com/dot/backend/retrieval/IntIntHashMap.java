@@ -0,0 +1,104 @@
+package com.dot.backend.retrieval;
+
+/**
+ * int → int 해시 맵 (open addressing, boxing 없음)
+ *
+ * 키 0은 빈 칸 표시로 쓰므로 저장할 수 없다 (토큰은 0이 나오지 않음, KoreanBigramTokenizer).
+ */
+final class IntIntHashMap {
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    IntIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * @return 값 (없으면 missingValue)
+     */
+    int get(int key, int missingValue) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int existing = keys[slot];
+            if (existing == key) {
+                return values[slot];
+            }
+            if (existing == 0) {
+                return missingValue;
+            }
+        }
+    }
+
+    /**
+     * 키가 없을 때만 저장
+     *
+     * @return 기존 값 (없어서 새로 저장했으면 value)
+     */
+    int putIfAbsent(int key, int value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("키 0은 저장할 수 없습니다");
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int existing = keys[slot];
+            if (existing == key) {
+                return values[slot];
+            }
+            if (existing == 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size * 2 > keys.length) {
+                    grow();
+                }
+                return value;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 저장된 키 / 값을 넘김 (순서 없음)
+     */
+    void forEach(IntIntConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    @FunctionalInterface
+    interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+}
@@ -0,0 +1,50 @@
+package com.dot.backend.retrieval;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 한국어 대화용 문자 bigram 토크나이저
+ *
+ * 형태소 분석 없이 어절(글자 / 숫자가 이어진 구간) 안의 인접한 두 글자를 토큰으로 쓴다.
+ * 조사 / 어미가 붙어도 어간의 bigram이 겹치므로 "밥 먹었어?" ↔ "밥은 먹었니" 같은 변형을 잡을 수 있다.
+ * - 한 글자 어절은 unigram 토큰
+ * - 영문은 소문자로 정규화, 문장 부호 / 공백 / 이모티콘은 어절 구분자
+ *
+ * 토큰은 두 글자를 int 하나에 담는다 (상위 16비트 = 첫 글자, 하위 16비트 = 둘째 글자, unigram은 하위 0).
+ * 글자는 0이 될 수 없으므로 토큰 0은 나오지 않는다 (IntIntHashMap의 빈 칸 표시로 사용).
+ */
+final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    static void tokenize(CharSequence text, IntConsumer sink) {
+        if (text == null) {
+            return;
+        }
+
+        char previous = 0;
+        int wordLength = 0;
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                c = Character.toLowerCase(c);
+                if (wordLength > 0) {
+                    sink.accept(bigram(previous, c));
+                }
+                previous = c;
+                wordLength++;
+                continue;
+            }
+
+            if (wordLength == 1) {
+                sink.accept(bigram(previous, (char) 0));
+            }
+            wordLength = 0;
+        }
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+}
@@ -0,0 +1,143 @@
+package com.dot.backend.retrieval;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 장기 기억 프롬프트 (사실 추출 요청 / 응답 파싱 / 관련 사실 렌더링)
+ *
+ * - 추출: 한 턴(사용자 메시지 → 응답)에서 오래 기억할 사실을 한 줄에 하나씩 "- "로 받음, 없으면 "없음"
+ * - 중복: 공백 / 문장부호 / 대소문자를 무시하고 이미 아는 사실과 같으면 버림
+ * - 선택: 사실들을 BM25로 색인해서 지금 메시지와 관련 있는 것만 넣음 (사실이 늘어도 프롬프트 크기는 고정)
+ */
+public final class MemoryPrompt {
+
+    /** 사실 한 줄의 최대 글자 수 (chat_memory_fact.content보다 작게) */
+    public static final int MAX_FACT_CHARS = 200;
+
+    /** 추출 요청에 함께 보내는 기존 사실 수 (최근 것부터, 같은 사실을 다시 뽑지 않도록) */
+    private static final int MAX_KNOWN_FACTS_IN_PROMPT = 50;
+
+    private static final String NONE = "없음";
+
+    private static final Pattern BULLET = Pattern.compile("^([-*•]|\\d+[.)])\\s*");
+
+    private static final String HEADER = "\n\n# Memory (기억하고 있는 사실)\n" +
+            "아래는 예전 대화에서 사용자가 알려준 사실입니다. 지금 대화와 관련 있으면 자연스럽게 반영하십시오.\n";
+
+    private MemoryPrompt() {
+    }
+
+    /**
+     * 사실 추출용 시스템 프롬프트
+     *
+     * @param knownFacts 이미 저장된 사실 (오래된 순)
+     */
+    public static String extractionPrompt(List<String> knownFacts) {
+        StringBuilder sb = new StringBuilder()
+                .append("당신은 대화에서 오래 기억해야 할 사실을 뽑는 도우미입니다.\n")
+                .append("다음 대화 한 턴에서 사용자에 대한 사실(이름, 가족 / 지인, 일정 / 약속, 취향, 건강, 직장 / 학교 등)만 ")
+                .append("한 줄에 하나씩 '- '로 시작하는 짧은 한 문장으로 쓰십시오.\n")
+                .append("인사, 감정 표현, 일시적인 상황은 제외하고, 이미 아는 사실은 다시 쓰지 마십시오. ")
+                .append("뽑을 사실이 없으면 '").append(NONE).append("'이라고만 쓰십시오.\n");
+        if (!knownFacts.isEmpty()) {
+            sb.append("\n이미 아는 사실:\n");
+            for (String fact : knownFacts.subList(Math.max(0, knownFacts.size() - MAX_KNOWN_FACTS_IN_PROMPT), knownFacts.size())) {
+                sb.append("- ").append(fact).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 추출 요청의 사용자 메시지 (대화 한 턴)
+     */
+    public static String turn(String userMessage, String reply) {
+        return "사용자: " + userMessage + "\n상대: " + reply;
+    }
+
+    /**
+     * 추출 응답에서 새 사실만
+     *
+     * @param knownFacts 이미 저장된 사실 (중복 제거용)
+     * @param maxFacts   최대 개수 (넘으면 앞에서부터)
+     */
+    public static List<String> parseFacts(String response, Collection<String> knownFacts, int maxFacts) {
+        List<String> facts = new ArrayList<>();
+        if (response == null) {
+            return facts;
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (String known : knownFacts) {
+            seen.add(normalize(known));
+        }
+        for (String line : response.split("\n")) {
+            String fact = stripBullet(line.trim());
+            if (facts.size() >= maxFacts) {
+                break;
+            }
+            if (fact.isEmpty() || fact.startsWith(NONE)) {
+                continue;
+            }
+            if (fact.length() > MAX_FACT_CHARS) {
+                fact = fact.substring(0, MAX_FACT_CHARS);
+            }
+            String key = normalize(fact);
+            if (!key.isEmpty() && seen.add(key)) {
+                facts.add(fact);
+            }
+        }
+        return facts;
+    }
+
+    /**
+     * 지금 메시지와 관련 있는 사실만 렌더링
+     *
+     * @param facts    저장된 사실 (오래된 순)
+     * @param maxFacts 넣을 최대 사실 수
+     * @return 시스템 프롬프트 뒤에 붙일 문자열 (관련 사실이 없으면 "")
+     */
+    public static String render(List<String> facts, String message, int maxFacts) {
+        if (facts.isEmpty() || maxFacts <= 0) {
+            return "";
+        }
+
+        Bm25Index.Builder builder = Bm25Index.builder();
+        for (String fact : facts) {
+            builder.add(null, fact);
+        }
+        List<SampleExchange> hits = builder.build().search(message, maxFacts);
+        if (hits.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(HEADER);
+        for (SampleExchange hit : hits) {
+            sb.append("- ").append(hit.getReply()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * 줄 앞의 목록 기호 ("- ", "* ", "1. ", "2) ") 제거
+     */
+    private static String stripBullet(String line) {
+        return BULLET.matcher(line).replaceFirst("").trim();
+    }
+
+    private static String normalize(String fact) {
+        StringBuilder sb = new StringBuilder(fact.length());
+        fact.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .map(Character::toLowerCase)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,429 @@
+package com.dot.backend.retrieval;
+
+import com.dot.backend.domain.persona.repository.ConversationSampleStore;
+import com.dot.backend.service.ConversationSamplesChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Persona별 대화 샘플 색인 (프로세스 내 LRU 캐시)
+ *
+ * 처음 검색할 때 디스크의 최신 세그먼트(IndexSegmentStore)를 mmap으로 열고, 없으면 ConversationSampleStore를 훑어 BM25 색인을 만든다.
+ * 벡터 색인(HnswIndex)은 BM25 색인의 교환을 임베딩해서 sampleIndexExecutor에서 따로 만들고, 준비되기 전까지는 BM25만 쓴다.
+ * 백그라운드 작업이 끝나면 (BM25 + 벡터) 새 세그먼트로 저장 → 재시작 / 다른 노드에서는 다시 만들지 않고 연다.
+ * 샘플이 바뀌면(ConversationSamplesChangedEvent) 해당 Persona 색인을 버리고, 다음 검색 때 세그먼트 뒤에 추가된 메시지만 색인한다.
+ * (샘플은 추가만 되므로 세그먼트가 색인한 메시지 수 이후만 읽으면 됨, 메시지 수가 줄었으면 처음부터 다시 생성)
+ * - 항목 수 / 전체 교환 수 한도를 넘으면 가장 오래 쓰지 않은 Persona 색인부터 제거
+ * - 색인 생성은 캐시 락 밖에서 하고, 생성 중에 무효화되면 결과를 캐시에 넣지 않음 (다음 검색에서 다시 생성)
+ * - 같은 Persona의 생성은 한 번만 실행하고, 동시에 들어온 검색은 그 결과를 기다림 (첫 검색이 몰려도 생성은 한 번)
+ * - 캐시에 있던 Persona의 샘플이 바뀌면 sampleIndexExecutor에서 미리 다시 만들어 둠 (채팅 스레드에서 생성하지 않도록)
+ */
+@Component
+@Slf4j
+public class PersonaSampleIndex {
+
+    /**
+     * 검색 방식
+     * - BM25: 문자 bigram 키워드 검색만
+     * - VECTOR: 임베딩 벡터 근접 검색 (벡터 색인 준비 전에는 BM25)
+     * - HYBRID: 두 결과를 순위 기반으로 합침 (Reciprocal Rank Fusion)
+     */
+    public enum Retrieval {
+        BM25, VECTOR, HYBRID
+    }
+
+    /** RRF 상수 (순위 1위와 10위의 점수 차를 완만하게) */
+    private static final int RRF_K = 60;
+
+    private final ConversationSampleStore conversationSampleStore;
+    private final IndexSegmentStore segmentStore;
+    private final Embedder embedder;
+    private final Executor sampleIndexExecutor;
+    private final int maxEntries;
+    private final long maxExchanges;
+
+    @Value("${chat.few-shot.retrieval:HYBRID}")
+    private Retrieval retrieval;
+
+    @Value("${chat.embedding.hnsw-m:16}")
+    private int hnswM;
+
+    @Value("${chat.embedding.hnsw-ef-construction:100}")
+    private int hnswEfConstruction;
+
+    @Value("${chat.embedding.hnsw-ef-search:64}")
+    private int hnswEfSearch;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동 (맨 앞이 LRU)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** 캐시된 색인들의 교환 수 합 */
+    private long cachedExchanges;
+
+    /** 무효화할 때마다 증가 (생성 중에 무효화됐는지 판별) */
+    private long generation;
+
+    /** 생성 중인 색인 (같은 Persona를 동시에 검색하면 먼저 시작한 생성 결과를 기다림) */
+    private final Map<Long, CompletableFuture<Entry>> building = new HashMap<>();
+
+    public PersonaSampleIndex(
+            ConversationSampleStore conversationSampleStore,
+            IndexSegmentStore segmentStore,
+            Embedder embedder,
+            @Qualifier("sampleIndexExecutor") Executor sampleIndexExecutor,
+            @Value("${chat.few-shot.index-cache-size:64}") int maxEntries,
+            @Value("${chat.few-shot.index-cache-max-exchanges:500000}") long maxExchanges) {
+        this.conversationSampleStore = conversationSampleStore;
+        this.segmentStore = segmentStore;
+        this.embedder = embedder;
+        this.sampleIndexExecutor = sampleIndexExecutor;
+        this.maxEntries = maxEntries;
+        this.maxExchanges = maxExchanges;
+    }
+
+    /**
+     * 질의와 가장 관련 있는 교환 최대 k개
+     */
+    public List<SampleExchange> search(Long personaId, String query, int k) {
+        Entry entry = getOrBuild(personaId);
+        scheduleBackgroundWork(personaId, entry);
+        HnswIndex vectors = retrieval == Retrieval.BM25 ? null : entry.vectors;
+
+        long start = System.nanoTime();
+        List<SampleExchange> result;
+        if (vectors == null) {
+            result = entry.lexical.search(query, k);
+        } else if (retrieval == Retrieval.VECTOR) {
+            result = vectorSearch(entry.lexical, vectors, query, k);
+        } else {
+            result = fuse(entry.lexical.search(query, 2 * k), vectorSearch(entry.lexical, vectors, query, 2 * k), k);
+        }
+        log.debug("Sample search for persona {} ({}): {} of {} exchanges in {}µs",
+                personaId, vectors == null ? Retrieval.BM25 : retrieval, result.size(), entry.lexical.size(),
+                (System.nanoTime() - start) / 1000);
+        return result;
+    }
+
+    public synchronized void invalidate(Long personaId) {
+        generation++;
+        building.remove(personaId);  // 무효화 전에 시작한 생성에는 더 이상 합류하지 않음
+        Entry removed = entries.remove(personaId);
+        if (removed != null) {
+            removed.evicted = true;
+            cachedExchanges -= removed.lexical.size();
+        }
+    }
+
+    /**
+     * 캐시된 색인과 디스크 세그먼트 삭제 (Persona 삭제 / 회원 탈퇴)
+     */
+    public void delete(Long personaId) {
+        invalidate(personaId);
+        segmentStore.deleteAll(personaId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSamplesChanged(ConversationSamplesChangedEvent event) {
+        Long personaId = event.getPersonaId();
+        boolean cached;
+        synchronized (this) {
+            cached = entries.containsKey(personaId);
+        }
+        invalidate(personaId);
+        if (cached) {
+            prebuild(personaId);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private Entry getOrBuild(Long personaId) {
+        long buildGeneration;
+        CompletableFuture<Entry> build;
+        CompletableFuture<Entry> running;
+        synchronized (this) {
+            Entry cached = entries.get(personaId);
+            if (cached != null) {
+                return cached;
+            }
+            running = building.get(personaId);
+            build = running == null ? new CompletableFuture<>() : null;
+            if (running == null) {
+                building.put(personaId, build);
+            }
+            buildGeneration = generation;
+        }
+        if (running != null) {
+            return await(running);
+        }
+
+        Entry entry;
+        try {
+            entry = load(personaId);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                building.remove(personaId, build);
+            }
+            build.completeExceptionally(e);
+            throw e;
+        }
+
+        synchronized (this) {
+            building.remove(personaId, build);
+            if (generation == buildGeneration && !entries.containsKey(personaId)) {
+                entries.put(personaId, entry);
+                cachedExchanges += entry.lexical.size();
+                evict(personaId);
+            } else {
+                entry.evicted = true;
+            }
+        }
+        build.complete(entry);
+        return entry;
+    }
+
+    /**
+     * 다른 스레드가 생성 중인 색인 기다리기 (캐시 락 밖에서)
+     */
+    private Entry await(CompletableFuture<Entry> build) {
+        try {
+            return build.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 샘플이 바뀐 Persona 색인을 백그라운드에서 미리 생성 (거절되면 다음 검색에서 생성)
+     */
+    private void prebuild(Long personaId) {
+        try {
+            sampleIndexExecutor.execute(() -> {
+                try {
+                    scheduleBackgroundWork(personaId, getOrBuild(personaId));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to prebuild sample index for persona {}", personaId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Sample index prebuild rejected for persona {}", personaId);
+        }
+    }
+
+    /**
+     * 세그먼트를 열고 그 뒤에 추가된 메시지만 색인 (세그먼트가 없거나 맞지 않으면 처음부터)
+     */
+    private Entry load(Long personaId) {
+        IndexSegment.Contents segment = segmentStore.openLatest(personaId);
+        long messageCount = conversationSampleStore.count(personaId);
+        if (segment != null && segment.messageCount() > messageCount) {
+            log.warn("Sample index segment for persona {} is ahead of samples ({} > {}), rebuilding",
+                    personaId, segment.messageCount(), messageCount);
+            segment = null;
+        }
+
+        // 다른 임베더 설정으로 만든 벡터는 버리고 다시 생성
+        HnswIndex segmentVectors = segment != null && segment.vectors() != null
+                && embedder.id().equals(segment.embedderId())
+                && segment.vectors().size() == segment.lexical().size() ? segment.vectors() : null;
+        if (segment != null && segment.messageCount() == messageCount) {
+            boolean complete = segmentVectors != null || retrieval == Retrieval.BM25;
+            return new Entry(segment.lexical(), segmentVectors, null, messageCount, complete);
+        }
+
+        long start = System.nanoTime();
+        long skip = segment != null ? segment.messageCount() : 0;
+        Bm25Index.Builder builder = segment != null ? Bm25Index.builder(segment.lexical()) : Bm25Index.builder();
+        SampleExchangeCollector collector = new SampleExchangeCollector(builder::add);
+        long[] seen = {0};
+        conversationSampleStore.forEach(personaId, message -> {
+            if (seen[0]++ >= skip) {
+                collector.accept(message);
+            }
+        });
+        int added = collector.finish();
+        Bm25Index index = builder.build();
+
+        log.info("Built sample index for persona {}: {} exchanges ({} new), {} terms in {}ms",
+                personaId, index.size(), added, index.termCount(), (System.nanoTime() - start) / 1_000_000);
+        return new Entry(index, null, segmentVectors, Math.max(seen[0], skip), false);
+    }
+
+    /**
+     * 벡터 색인 생성 / 세그먼트 저장이 남았으면 한 번만 백그라운드 실행 예약
+     */
+    private void scheduleBackgroundWork(Long personaId, Entry entry) {
+        boolean needsVectors = retrieval != Retrieval.BM25 && entry.vectors == null && entry.lexical.size() > 0;
+        boolean needsSave = !entry.persisted && segmentStore.isEnabled();
+        if ((!needsVectors && !needsSave) || entry.evicted || !entry.backgroundScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            sampleIndexExecutor.execute(() -> runBackgroundWork(personaId, entry));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 차면 이번 검색은 지금 있는 색인으로 처리하고 다음 검색에서 다시 예약
+            entry.backgroundScheduled.set(false);
+            log.warn("Sample index background work rejected for persona {}", personaId);
+        }
+    }
+
+    private void runBackgroundWork(Long personaId, Entry entry) {
+        if (retrieval != Retrieval.BM25 && entry.vectors == null && entry.lexical.size() > 0) {
+            HnswIndex vectors = buildVectors(personaId, entry);
+            if (vectors == null) {
+                return;
+            }
+            entry.vectors = vectors;
+        }
+        entry.baseVectors = null;
+
+        if (!entry.persisted && !entry.evicted) {
+            try {
+                segmentStore.save(personaId, entry.messageCount, entry.lexical, entry.vectors, embedder.id());
+                entry.persisted = true;
+            } catch (IOException | RuntimeException e) {
+                // 메모리 색인은 그대로 사용, 다음에 이 Persona 색인을 다시 만들 때 저장 재시도
+                log.error("Failed to save sample index segment for persona {}", personaId, e);
+            }
+        }
+    }
+
+    /**
+     * @return 벡터 색인 (캐시에서 빠졌거나 실패하면 null)
+     */
+    private HnswIndex buildVectors(Long personaId, Entry entry) {
+        Bm25Index lexical = entry.lexical;
+        HnswIndex base = entry.baseVectors;
+        try {
+            long start = System.nanoTime();
+            HnswIndex.Builder builder = base != null
+                    ? HnswIndex.builder(base, lexical.size(), hnswEfConstruction, personaId + base.size())
+                    : HnswIndex.builder(embedder.dimension(), lexical.size(), hnswM, hnswEfConstruction, personaId);
+            float[] vector = new float[embedder.dimension()];
+            for (int i = base != null ? base.size() : 0; i < lexical.size(); i++) {
+                // 캐시에서 빠졌으면 중단 (off-heap 버퍼는 GC 때 해제)
+                if (entry.evicted) {
+                    return null;
+                }
+                embedder.embed(lexical.text(i), vector);
+                builder.add(vector);
+            }
+            HnswIndex vectors = builder.build();
+
+            log.info("Built sample vector index for persona {}: {} exchanges ({} new), {} dims in {}ms",
+                    personaId, lexical.size(), lexical.size() - (base != null ? base.size() : 0),
+                    embedder.dimension(), (System.nanoTime() - start) / 1_000_000);
+            return vectors;
+        } catch (RuntimeException e) {
+            // 다시 예약하지 않음 (같은 입력이면 같은 실패), 이 Persona는 무효화될 때까지 BM25로 검색
+            log.error("Failed to build sample vector index for persona {}", personaId, e);
+            return null;
+        }
+    }
+
+    private List<SampleExchange> vectorSearch(Bm25Index lexical, HnswIndex vectors, String query, int k) {
+        float[] vector = new float[embedder.dimension()];
+        embedder.embed(query, vector);
+
+        List<SampleExchange> result = new ArrayList<>(k);
+        for (HnswIndex.Hit hit : vectors.search(vector, k, hnswEfSearch)) {
+            // 0 이하 = 겹치는 특징이 없음 (BM25의 "겹치는 토큰 없음" 제외와 같은 기준)
+            if (hit.similarity() > 0) {
+                result.add(lexical.exchange(hit.node(), hit.similarity()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reciprocal Rank Fusion: 교환별로 각 결과 목록의 1 / (RRF_K + 순위)를 더해 상위 k개
+     * (BM25 점수와 코사인 유사도는 척도가 달라서 점수 대신 순위로 합침)
+     */
+    private static List<SampleExchange> fuse(List<SampleExchange> lexical, List<SampleExchange> semantic, int k) {
+        Map<Integer, SampleExchange> exchanges = new LinkedHashMap<>();
+        Map<Integer, Float> scores = new LinkedHashMap<>();
+        for (List<SampleExchange> ranking : List.of(lexical, semantic)) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                SampleExchange exchange = ranking.get(rank);
+                exchanges.putIfAbsent(exchange.getPosition(), exchange);
+                scores.merge(exchange.getPosition(), 1f / (RRF_K + rank + 1), Float::sum);
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Float>comparingByValue().reversed())
+                .limit(k)
+                .map(e -> {
+                    SampleExchange exchange = exchanges.get(e.getKey());
+                    return new SampleExchange(exchange.getPosition(), exchange.getContext(), exchange.getReply(), e.getValue());
+                })
+                .toList();
+    }
+
+    /**
+     * 한도를 넘는 만큼 LRU 순서로 제거 (방금 넣은 항목은 남김)
+     */
+    private void evict(Long keep) {
+        Iterator<Map.Entry<Long, Entry>> lru = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || cachedExchanges > maxExchanges) && lru.hasNext()) {
+            Map.Entry<Long, Entry> eldest = lru.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            lru.remove();
+            eldest.getValue().evicted = true;
+            cachedExchanges -= eldest.getValue().lexical.size();
+        }
+    }
+
+    /**
+     * Persona 한 명의 색인 (BM25는 만들 때 바로, 벡터 색인 / 세그먼트 저장은 백그라운드에서 채워짐)
+     */
+    private static final class Entry {
+
+        private final Bm25Index lexical;
+
+        /** lexical이 색인한 메시지 수 (다음 증분 색인의 시작 위치) */
+        private final long messageCount;
+
+        private final AtomicBoolean backgroundScheduled = new AtomicBoolean();
+        private volatile HnswIndex vectors;
+
+        /** 증분 생성 시 이어서 삽입할 세그먼트의 벡터 색인 (생성 후 null) */
+        private volatile HnswIndex baseVectors;
+
+        /** 지금 내용이 세그먼트 파일로 저장돼 있는지 */
+        private volatile boolean persisted;
+
+        private volatile boolean evicted;
+
+        private Entry(Bm25Index lexical, HnswIndex vectors, HnswIndex baseVectors, long messageCount, boolean persisted) {
+            this.lexical = lexical;
+            this.vectors = vectors;
+            this.baseVectors = baseVectors;
+            this.messageCount = messageCount;
+            this.persisted = persisted;
+        }
+    }
+}
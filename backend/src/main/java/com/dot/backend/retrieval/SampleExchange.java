@@ -0,0 +1,26 @@
+package com.dot.backend.retrieval;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 대화 샘플의 교환 한 건 (사용자 턴 → Persona 턴)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class SampleExchange {
+
+    /** 교환 번호 (Persona 대화 샘플에서의 순서, 0부터) */
+    private final int position;
+
+    /** 직전 사용자 턴 (대화 첫 턴이라 없으면 null) */
+    private final String context;
+
+    /** Persona의 답 턴 */
+    private final String reply;
+
+    /** 검색 점수 (높을수록 관련 있음) */
+    private final float score;
+}
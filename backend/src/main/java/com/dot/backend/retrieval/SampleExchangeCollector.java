@@ -0,0 +1,79 @@
+package com.dot.backend.retrieval;
+
+import com.dot.backend.domain.persona.ConversationSample;
+import com.dot.backend.domain.persona.SampleMessage;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 대화 샘플을 교환(사용자 턴 → Persona 턴) 단위로 묶음 (스트리밍)
+ *
+ * 같은 역할의 연속 메시지는 한 턴으로 합치고, Persona 턴이 끝날 때마다 (직전 사용자 턴, Persona 턴)을 넘긴다.
+ * 턴 하나는 최대 MAX_TURN_CHARS 글자까지만 유지한다 (ConversationSampler와 같은 규칙).
+ */
+public class SampleExchangeCollector implements Consumer<SampleMessage> {
+
+    /** 턴 하나의 최대 글자 수 (긴 메시지가 프롬프트 예산을 독점하지 않도록) */
+    static final int MAX_TURN_CHARS = 200;
+
+    private final BiConsumer<String, String> sink;
+
+    private ConversationSample.Role turnRole;
+    private StringBuilder turnText;
+
+    /** 직전에 완성된 사용자 턴 (Persona 턴이 이어지지 않으면 다음 사용자 턴으로 교체) */
+    private String pendingContext;
+
+    private int exchangeCount;
+
+    /**
+     * @param sink (context, reply)를 받음, context는 없으면 null
+     */
+    public SampleExchangeCollector(BiConsumer<String, String> sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void accept(SampleMessage message) {
+        if (turnRole == message.getRole()) {
+            if (turnText.length() < MAX_TURN_CHARS) {
+                turnText.append('\n').append(message.getMessage());
+            }
+            return;
+        }
+
+        completeTurn();
+        turnRole = message.getRole();
+        turnText = new StringBuilder(message.getMessage());
+    }
+
+    /**
+     * 진행 중인 턴을 마무리 (모든 샘플을 넘긴 뒤 호출)
+     *
+     * @return 넘긴 교환 수
+     */
+    public int finish() {
+        completeTurn();
+        return exchangeCount;
+    }
+
+    private void completeTurn() {
+        if (turnRole == null) {
+            return;
+        }
+
+        String text = turnText.length() > MAX_TURN_CHARS
+                ? turnText.substring(0, MAX_TURN_CHARS) + "…"
+                : turnText.toString();
+        if (turnRole == ConversationSample.Role.USER) {
+            pendingContext = text;
+        } else {
+            sink.accept(pendingContext, text);
+            pendingContext = null;
+            exchangeCount++;
+        }
+        turnRole = null;
+        turnText = null;
+    }
+}
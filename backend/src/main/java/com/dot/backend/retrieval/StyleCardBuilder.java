@@ -0,0 +1,262 @@
+package com.dot.backend.retrieval;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 대화 교환을 군집화해서 군집별 대표 교환을 고름 (style card)
+ *
+ * - 교환을 임베딩해서 최대 sampleSize개를 reservoir sampling으로 유지 (교환 수와 무관하게 메모리 / 시간 상한)
+ * - spherical k-means (코사인 유사도, greedy k-means++ 초기화, 배정이 바뀌지 않거나 MAX_ITERATIONS까지, RESTARTS번 중 최선)
+ * - 군집 중심에 가장 가까운 교환을 대표로, 큰 군집부터 (자주 나오는 대화 유형이 먼저)
+ * 같은 입력 / 시드면 같은 결과.
+ */
+public class StyleCardBuilder {
+
+    private static final int MAX_ITERATIONS = 25;
+    private static final int RESTARTS = 3;
+
+    private final Embedder embedder;
+    private final int sampleSize;
+    private final Random random;
+
+    private final List<String> contexts = new ArrayList<>();
+    private final List<String> replies = new ArrayList<>();
+    private final List<float[]> vectors = new ArrayList<>();
+    private long seen;
+
+    /**
+     * @param sampleSize 군집화에 쓰는 최대 교환 수
+     * @param seed       reservoir sampling / 초기화 시드
+     */
+    public StyleCardBuilder(Embedder embedder, int sampleSize, long seed) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("샘플 수는 1 이상이어야 합니다: " + sampleSize);
+        }
+        this.embedder = embedder;
+        this.sampleSize = sampleSize;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @param context 사용자 턴 (없으면 null)
+     * @param reply   Persona 턴
+     */
+    public void add(String context, String reply) {
+        long index = seen++;
+        int slot;
+        if (index < sampleSize) {
+            slot = -1;
+        } else {
+            long candidate = (long) (random.nextDouble() * (index + 1));
+            if (candidate >= sampleSize) {
+                return;
+            }
+            slot = (int) candidate;
+        }
+
+        float[] vector = new float[embedder.dimension()];
+        embedder.embed(context != null ? context + "\n" + reply : reply, vector);
+        if (slot < 0) {
+            contexts.add(context);
+            replies.add(reply);
+            vectors.add(vector);
+        } else {
+            contexts.set(slot, context);
+            replies.set(slot, reply);
+            vectors.set(slot, vector);
+        }
+    }
+
+    /**
+     * @param clusters 군집 수 (교환이 더 적으면 교환 수)
+     * @return 군집별 대표 교환, 큰 군집부터 (score = 군집이 차지하는 비율, position = 샘플 안에서의 순서)
+     */
+    public List<SampleExchange> build(int clusters) {
+        int n = vectors.size();
+        int k = Math.min(clusters, n);
+        if (k <= 0) {
+            return List.of();
+        }
+
+        // 초기화에 따라 지역 최적해에 빠질 수 있어서 여러 번 돌려 거리 합이 가장 작은 결과를 씀
+        float[][] centroids = null;
+        int[] assignment = null;
+        int[] sizes = null;
+        double bestInertia = Double.MAX_VALUE;
+        for (int restart = 0; restart < RESTARTS; restart++) {
+            float[][] trialCentroids = initialCentroids(k);
+            int[] trialAssignment = new int[n];
+            int[] trialSizes = new int[k];
+            for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+                boolean changed = assign(trialCentroids, trialAssignment) || iteration == 0;
+                updateCentroids(trialCentroids, trialAssignment, trialSizes);
+                if (!changed) {
+                    break;
+                }
+            }
+
+            double inertia = 0;
+            for (int i = 0; i < n; i++) {
+                inertia += distance(vectors.get(i), trialCentroids[trialAssignment[i]]);
+            }
+            if (inertia < bestInertia) {
+                bestInertia = inertia;
+                centroids = trialCentroids;
+                assignment = trialAssignment;
+                sizes = trialSizes;
+            }
+        }
+
+        // 군집별로 중심에 가장 가까운 교환
+        int[] representatives = new int[k];
+        float[] best = new float[k];
+        Arrays.fill(representatives, -1);
+        Arrays.fill(best, Float.NEGATIVE_INFINITY);
+        for (int i = 0; i < n; i++) {
+            int c = assignment[i];
+            float similarity = dot(vectors.get(i), centroids[c]);
+            if (similarity > best[c]) {
+                best[c] = similarity;
+                representatives[c] = i;
+            }
+        }
+
+        List<SampleExchange> result = new ArrayList<>(k);
+        for (int c = 0; c < k; c++) {
+            int i = representatives[c];
+            if (i >= 0) {
+                result.add(new SampleExchange(i, contexts.get(i), replies.get(i), (float) sizes[c] / n));
+            }
+        }
+        result.sort(Comparator.comparingDouble(SampleExchange::getScore).reversed());
+        return result;
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * greedy k-means++: 이미 고른 중심과 멀수록(1 - 코사인 유사도) 다음 중심 후보로 뽑힐 확률이 높고,
+     * 후보 여러 개 중 전체 거리 합을 가장 많이 줄이는 것을 고름 (한 군집에 중심 두 개가 몰리는 경우를 줄임)
+     */
+    private float[][] initialCentroids(int k) {
+        int n = vectors.size();
+        int candidates = 2 + (int) Math.log(k);
+        float[][] centroids = new float[k][];
+        centroids[0] = vectors.get(random.nextInt(n)).clone();
+
+        double[] distances = new double[n];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            distances[i] = distance(vectors.get(i), centroids[0]);
+            total += distances[i];
+        }
+
+        double[] trial = new double[n];
+        double[] best = new double[n];
+        for (int c = 1; c < k; c++) {
+            int chosen = -1;
+            double bestTotal = Double.MAX_VALUE;
+            for (int t = 0; t < candidates; t++) {
+                int candidate = sample(distances, total);
+                double trialTotal = 0;
+                for (int i = 0; i < n; i++) {
+                    trial[i] = Math.min(distances[i], distance(vectors.get(i), vectors.get(candidate)));
+                    trialTotal += trial[i];
+                }
+                if (trialTotal < bestTotal) {
+                    bestTotal = trialTotal;
+                    chosen = candidate;
+                    System.arraycopy(trial, 0, best, 0, n);
+                }
+            }
+            centroids[c] = vectors.get(chosen).clone();
+            System.arraycopy(best, 0, distances, 0, n);
+            total = bestTotal;
+        }
+        return centroids;
+    }
+
+    /**
+     * 거리에 비례하는 확률로 교환 하나 (모두 0이면 균등)
+     */
+    private int sample(double[] distances, double total) {
+        if (total <= 0) {
+            return random.nextInt(distances.length);
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < distances.length; i++) {
+            target -= distances[i];
+            if (target <= 0) {
+                return i;
+            }
+        }
+        return distances.length - 1;
+    }
+
+    /**
+     * @return 배정이 하나라도 바뀌었는지
+     */
+    private boolean assign(float[][] centroids, int[] assignment) {
+        boolean changed = false;
+        for (int i = 0; i < assignment.length; i++) {
+            float[] vector = vectors.get(i);
+            int closest = 0;
+            float best = Float.NEGATIVE_INFINITY;
+            for (int c = 0; c < centroids.length; c++) {
+                float similarity = dot(vector, centroids[c]);
+                if (similarity > best) {
+                    best = similarity;
+                    closest = c;
+                }
+            }
+            if (assignment[i] != closest) {
+                assignment[i] = closest;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 중심 = 군집 벡터 합을 정규화 (빈 군집은 이전 중심 유지)
+     */
+    private void updateCentroids(float[][] centroids, int[] assignment, int[] sizes) {
+        int dimension = embedder.dimension();
+        float[][] sums = new float[centroids.length][dimension];
+        Arrays.fill(sizes, 0);
+        for (int i = 0; i < assignment.length; i++) {
+            float[] vector = vectors.get(i);
+            float[] sum = sums[assignment[i]];
+            for (int d = 0; d < dimension; d++) {
+                sum[d] += vector[d];
+            }
+            sizes[assignment[i]]++;
+        }
+
+        for (int c = 0; c < centroids.length; c++) {
+            float norm = (float) Math.sqrt(dot(sums[c], sums[c]));
+            if (sizes[c] == 0 || norm == 0) {
+                continue;
+            }
+            for (int d = 0; d < dimension; d++) {
+                centroids[c][d] = sums[c][d] / norm;
+            }
+        }
+    }
+
+    private static double distance(float[] a, float[] b) {
+        return Math.max(0, 1 - dot(a, b));
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
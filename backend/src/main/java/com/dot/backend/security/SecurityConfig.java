@@ -53,7 +53,8 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",   // OpenAPI JSON
                                 "/swagger-resources/**",
                                 "/webjars/**",
-                                "/uploads/**"       // 프로필 이미지 등 업로드된 파일 접근 허용
+                                "/uploads/**",      // 프로필 이미지 등 업로드된 파일 접근 허용
+                                "/api/storage/local/**"  // 로컬 presigned URL (URL 서명으로 인증)
                         ).permitAll()
 
                         // 그 외 모든 요청은 인증 필요
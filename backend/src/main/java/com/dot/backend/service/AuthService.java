@@ -9,6 +9,7 @@ import com.dot.backend.dto.auth.*;
 import com.dot.backend.exception.DuplicateEmailException;
 import com.dot.backend.exception.InvalidCredentialsException;
 import com.dot.backend.exception.InvalidRefreshTokenException;
+import com.dot.backend.retrieval.PersonaSampleIndex;
 import com.dot.backend.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PersonaRepository personaRepository;
+    private final PersonaSampleIndex personaSampleIndex;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final com.dot.backend.util.EncryptionUtil encryptionUtil;
@@ -172,6 +174,8 @@ public class AuthService {
         // - 실패 시 롤백 전략 수립 필요 (일관성 vs 가용성)
 
         // 3. ✅ Persona 삭제 (VoiceData, CallSession, CallLog CASCADE 삭제)
+        // 대화 원문이 들어 있는 샘플 색인 세그먼트 파일도 함께 삭제
+        personaRepository.findAllIdsByUserId(currentUser.getId()).forEach(personaSampleIndex::delete);
         personaRepository.deleteAllByUserId(currentUser.getId());
 
         // 4. ✅ Refresh Token 삭제
@@ -0,0 +1,127 @@
+package com.dot.backend.service;
+
+import com.dot.backend.client.GeminiApiClient;
+import com.dot.backend.domain.chat.ChatMemoryFact;
+import com.dot.backend.domain.chat.ChatMessage;
+import com.dot.backend.domain.chat.repository.ChatMemoryFactRepository;
+import com.dot.backend.domain.chat.repository.ChatMessageRepository;
+import com.dot.backend.domain.persona.repository.PersonaRepository;
+import com.dot.backend.domain.user.repository.UserRepository;
+import com.dot.backend.retrieval.MemoryPrompt;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 채팅 장기 기억 (사용자-Persona별 사실 저장 / 관련 사실 조회)
+ *
+ * - 추출: 턴이 커밋되면(ChatTurnCompletedEvent) 백그라운드에서 Gemini로 새 사실을 뽑아 chat_memory_fact에 저장
+ *   (짧은 메시지는 건너뜀, 사용자-Persona당 max-facts개를 넘으면 오래된 것부터 삭제)
+ * - 조회: 턴마다 저장된 사실 중 지금 메시지와 관련 있는 것만 시스템 프롬프트에 넣음 (MemoryPrompt)
+ */
+@Service
+@Slf4j
+public class ChatMemoryService {
+
+    private final ChatMemoryFactRepository chatMemoryFactRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final PersonaRepository personaRepository;
+    private final UserRepository userRepository;
+    private final GeminiApiClient geminiApiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxFacts;
+    private final int maxFactsPerTurn;
+    private final int maxInjected;
+    private final int minMessageChars;
+
+    public ChatMemoryService(
+            ChatMemoryFactRepository chatMemoryFactRepository,
+            ChatMessageRepository chatMessageRepository,
+            PersonaRepository personaRepository,
+            UserRepository userRepository,
+            GeminiApiClient geminiApiClient,
+            TransactionTemplate transactionTemplate,
+            @Value("${chat.memory.max-facts:200}") int maxFacts,
+            @Value("${chat.memory.max-facts-per-turn:3}") int maxFactsPerTurn,
+            @Value("${chat.memory.max-injected:5}") int maxInjected,
+            @Value("${chat.memory.min-message-chars:6}") int minMessageChars) {
+        this.chatMemoryFactRepository = chatMemoryFactRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.personaRepository = personaRepository;
+        this.userRepository = userRepository;
+        this.geminiApiClient = geminiApiClient;
+        this.transactionTemplate = transactionTemplate;
+        this.maxFacts = maxFacts;
+        this.maxFactsPerTurn = maxFactsPerTurn;
+        this.maxInjected = maxInjected;
+        this.minMessageChars = minMessageChars;
+    }
+
+    /**
+     * 지금 메시지와 관련 있는 기억 (시스템 프롬프트 뒤에 붙일 문자열, 없으면 "")
+     */
+    public String relevantMemory(Long userId, Long personaId, String message) {
+        if (maxInjected <= 0) {
+            return "";
+        }
+        return MemoryPrompt.render(chatMemoryFactRepository.findContents(userId, personaId), message, maxInjected);
+    }
+
+    @Async("chatMemoryExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChatTurnCompleted(ChatTurnCompletedEvent event) {
+        if (maxFacts <= 0) {
+            return;
+        }
+        try {
+            extract(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to extract memory facts for persona {}, message {}",
+                    event.getPersonaId(), event.getUserMessageId(), e);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private void extract(ChatTurnCompletedEvent event) {
+        ChatMessage userMessage = chatMessageRepository.findById(event.getUserMessageId()).orElse(null);
+        ChatMessage reply = chatMessageRepository.findById(event.getAssistantMessageId()).orElse(null);
+        if (userMessage == null || reply == null || userMessage.getContent().strip().length() < minMessageChars) {
+            return;
+        }
+
+        List<String> known = chatMemoryFactRepository.findContents(event.getUserId(), event.getPersonaId());
+        String response = geminiApiClient.generateResponse(MemoryPrompt.extractionPrompt(known), null,
+                MemoryPrompt.turn(userMessage.getContent(), reply.getContent()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 추출하는 동안 다른 턴이 저장한 사실과도 중복 제거
+            List<String> facts = MemoryPrompt.parseFacts(response,
+                    chatMemoryFactRepository.findContents(event.getUserId(), event.getPersonaId()), maxFactsPerTurn);
+            if (facts.isEmpty() || !personaRepository.existsById(event.getPersonaId())) {
+                return;
+            }
+
+            for (String fact : facts) {
+                chatMemoryFactRepository.save(ChatMemoryFact.builder()
+                        .persona(personaRepository.getReferenceById(event.getPersonaId()))
+                        .user(userRepository.getReferenceById(event.getUserId()))
+                        .content(fact)
+                        .sourceMessageId(event.getUserMessageId())
+                        .build());
+            }
+
+            List<Long> ids = chatMemoryFactRepository.findIdsNewestFirst(event.getUserId(), event.getPersonaId());
+            if (ids.size() > maxFacts) {
+                chatMemoryFactRepository.deleteAllByIdInBatch(ids.subList(maxFacts, ids.size()));
+            }
+            log.info("Saved {} memory facts for persona {}, user {}", facts.size(), event.getPersonaId(), event.getUserId());
+        });
+    }
+}
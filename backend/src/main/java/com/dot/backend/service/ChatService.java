@@ -8,8 +8,13 @@ import com.dot.backend.domain.chatsession.repository.ChatSessionRepository;
 import com.dot.backend.domain.user.User;
 import com.dot.backend.dto.chat.ChatMessageResponse;
 import com.dot.backend.dto.chat.SendMessageRequest;
+import com.dot.backend.retrieval.FewShotPrompt;
+import com.dot.backend.retrieval.PersonaSampleIndex;
+import com.dot.backend.retrieval.SampleExchange;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +32,17 @@ public class ChatService {
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final GeminiApiClient geminiApiClient;
+    private final PersonaSampleIndex personaSampleIndex;
+    private final ChatMemoryService chatMemoryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 프롬프트에 넣을 최대 few-shot 예시 수 */
+    @Value("${chat.few-shot.max-examples:5}")
+    private int fewShotMaxExamples;
+
+    /** few-shot 예시에 쓸 최대 토큰 수 (추정치, FewShotPrompt) */
+    @Value("${chat.few-shot.max-tokens:800}")
+    private int fewShotMaxTokens;
 
     /**
      * 메���지 전송 및 AI 응답 생성
@@ -85,7 +101,14 @@ public class ChatService {
         try {
             // 시스템 프롬프트가 없으면 기본값 설정
             String systemPrompt = session.getSystemPrompt() != null ? session.getSystemPrompt() : "당신은 친절한 AI 어시스턴트입니다.";
-            
+            // 미리 계산한 대표 교환(style card)과, 실제 대화 샘플 중 지금 메시지와 비슷한 교환을 few-shot 예시로 추가
+            if (session.getPersona().getStyleCard() != null) {
+                systemPrompt += session.getPersona().getStyleCard();
+            }
+            // 예전 대화에서 추출한 장기 기억 중 지금 메시지와 관련 있는 사실만 추가
+            systemPrompt += memoryFacts(user.getId(), session.getPersona().getId(), request.getContent());
+            systemPrompt += fewShotExamples(session.getPersona().getId(), request.getContent());
+
             aiResponse = geminiApiClient.generateResponse(
                     systemPrompt,
                     conversationHistory,
@@ -108,6 +131,10 @@ public class ChatService {
         chatMessageRepository.save(assistantMessage);
         log.info("Assistant message saved: {}", assistantMessage.getId());
 
+        // 커밋 후 이 턴에서 장기 기억 추출 (백그라운드)
+        eventPublisher.publishEvent(new ChatTurnCompletedEvent(
+                user.getId(), session.getPersona().getId(), userMessage.getId(), assistantMessage.getId()));
+
         // 7. 응답 반환
         return toResponse(assistantMessage);
     }
@@ -140,6 +167,34 @@ public class ChatService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 관련 있는 장기 기억 렌더링 (조회 실패 시 기억 없이 진행)
+     */
+    private String memoryFacts(Long userId, Long personaId, String message) {
+        try {
+            return chatMemoryService.relevantMemory(userId, personaId, message);
+        } catch (Exception e) {
+            log.warn("Failed to retrieve memory facts for persona: {}", personaId, e);
+            return "";
+        }
+    }
+
+    /**
+     * 대화 샘플 검색 결과를 few-shot 예시로 렌더링 (검색 실패 시 예시 없이 진행)
+     */
+    private String fewShotExamples(Long personaId, String message) {
+        if (fewShotMaxExamples <= 0) {
+            return "";
+        }
+        try {
+            List<SampleExchange> exchanges = personaSampleIndex.search(personaId, message, fewShotMaxExamples);
+            return FewShotPrompt.render(exchanges, fewShotMaxTokens);
+        } catch (Exception e) {
+            log.warn("Failed to retrieve few-shot examples for persona: {}", personaId, e);
+            return "";
+        }
+    }
+
     /**
      * ChatMessage → Response DTO 변환
      */
@@ -6,16 +6,19 @@ import com.dot.backend.domain.chatsession.ChatSessionStatus;
 import com.dot.backend.domain.chatsession.dto.ChatSessionResponse;
 import com.dot.backend.domain.chatsession.repository.ChatSessionRepository;
 import com.dot.backend.domain.persona.Persona;
+import com.dot.backend.domain.persona.PersonaStatus;
 import com.dot.backend.domain.persona.repository.PersonaRepository;
 import com.dot.backend.domain.user.User;
 import com.dot.backend.dto.chat.ChatSessionListResponse;
 import com.dot.backend.util.EncryptionUtil;
+import com.dot.backend.util.PiiField;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,8 +43,13 @@ public class ChatSessionService {
 
         List<ChatSession> sessions = chatSessionRepository.findByUserOrderByUpdatedAtDesc(user);
 
+        // Persona 이름을 한 번에 복호화 (같은 Persona의 세션이 여러 개여도 한 번만)
+        Map<String, String> personaNames = encryptionUtil.decryptAll(PiiField.PERSONA_NAME, sessions.stream()
+                .map(session -> session.getPersona().getName())
+                .toList());
+
         return sessions.stream()
-                .map(this::toListResponse)
+                .map(session -> toListResponse(session, personaNames))
                 .collect(Collectors.toList());
     }
 
@@ -77,10 +85,13 @@ public class ChatSessionService {
         Persona persona = personaRepository.findByIdAndUserId(personaId, user.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
 
-        // 2. 페르소나 준비 상태 확인 (trait 존재 여부)
-//        if (!persona.isReadyForChat()) {
-//            throw new IllegalStateException("페르소나 지침서(Trait)가 생성되지 않았습니다. 다시 등록하거나 잠시 후 시도해주세요.");
-//        }
+        // 2. 페르소나 준비 상태 확인 (생성 파이프라인 완료 + trait 존재 여부)
+        if (!persona.isReadyForChat()) {
+            if (persona.getStatus() == PersonaStatus.PROCESSING) {
+                throw new IllegalStateException("페르소나를 준비하는 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            throw new IllegalStateException("페르소나 지침서(Trait)가 생성되지 않았습니다. 다시 등록하거나 잠시 후 시도해주세요.");
+        }
 
         // 3. 중복 세션 체크 (같은 유저 + 같은 페르소나로 ACTIVE 세션이 이미 있으면 막기)
         boolean alreadyExists = chatSessionRepository
@@ -114,7 +125,7 @@ public class ChatSessionService {
         return ChatSessionResponse.builder()
                 .sessionId(session.getId())
                 .personaId(session.getPersona().getId())
-                .personaName(encryptionUtil.decrypt(session.getPersona().getName()))
+                .personaName(encryptionUtil.decrypt(PiiField.PERSONA_NAME, session.getPersona().getName()))
                 .status(session.getStatus().name())
                 .startedAt(session.getStartedAt())
                 .build();
@@ -122,8 +133,10 @@ public class ChatSessionService {
     
     /**
      * ChatSession -> List Response DTO 변환
+     *
+     * @param personaNames 암호문 → 평문 (EncryptionUtil.decryptAll)
      */
-    private ChatSessionListResponse toListResponse(ChatSession session) {
+    private ChatSessionListResponse toListResponse(ChatSession session, Map<String, String> personaNames) {
         String lastMessage = chatMessageRepository
                 .findFirstByPersonaIdAndUserIdOrderByCreatedAtDesc(session.getPersona().getId(), session.getUser().getId())
                 .map(m -> m.getRole() == com.dot.backend.domain.chat.ChatMessage.Role.USER ? "나: " + m.getContent() : m.getContent())
@@ -132,7 +145,7 @@ public class ChatSessionService {
         return ChatSessionListResponse.builder()
                 .sessionId(session.getId())
                 .personaId(session.getPersona().getId())
-                .personaName(encryptionUtil.decrypt(session.getPersona().getName()))
+                .personaName(personaNames.get(session.getPersona().getName()))
                 .lastMessage(lastMessage)
                 .updatedAt(session.getUpdatedAt())
                 .build();
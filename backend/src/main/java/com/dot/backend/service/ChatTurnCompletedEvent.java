@@ -0,0 +1,17 @@
+package com.dot.backend.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 한 턴(사용자 메시지 → AI 응답)이 저장됨 (장기 기억 추출용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatTurnCompletedEvent {
+
+    private final Long userId;
+    private final Long personaId;
+    private final Long userMessageId;
+    private final Long assistantMessageId;
+}
@@ -0,0 +1,14 @@
+package com.dot.backend.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Persona의 대화 샘플이 추가 / 변경됨 (샘플로 만든 검색 색인 무효화용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ConversationSamplesChangedEvent {
+
+    private final Long personaId;
+}
@@ -0,0 +1,351 @@
+package com.dot.backend.service;
+
+import com.dot.backend.parser.ConversationStatistics;
+import com.dot.backend.parser.ParsedMessage;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 1단계 업로드에서 한 번 파싱해 둔 카톡 파일 (KakaoUploadCache 항목)
+ *
+ * 파싱 결과(메시지 + 화자별 통계)를 보관하고, 화자를 선택해 Persona를 만들 때 파일을 다시 읽지 않고 메시지를 재생한다.
+ * 메모리 한도를 넘으면 메시지만 압축 임시 파일로 내리고(spill) 통계는 메모리에 남긴다.
+ * 파싱 중에는 {@link Writer}가 메시지를 받으며, 캐시 메모리 예산을 넘으면 처음부터 파일로 쓴다.
+ */
+@Slf4j
+public class KakaoUpload {
+
+    /** 메시지 한 건의 대략적인 힙 사용량 (객체 헤더 + 참조 필드) */
+    private static final int MESSAGE_OVERHEAD_BYTES = 64;
+
+    @Getter
+    private final String uploadId;
+    @Getter
+    private final Long userId;
+    @Getter
+    private final ConversationStatistics statistics;
+    @Getter
+    private final int messageCount;
+
+    /** 메모리에 올려둔 메시지의 대략적인 크기 (캐시 메모리 한도 계산용) */
+    @Getter
+    private final long estimatedBytes;
+
+    @Getter
+    private volatile String selectedSpeaker;
+    @Getter
+    private volatile Instant expiresAt;
+
+    /** 메모리 보관 중인 메시지 (spill 후 / 해제 후 null) */
+    private List<ParsedMessage> messages;
+    private Path spillFile;
+    private boolean released;
+
+    /** 캐시 메모리 한도에 포함되는지 여부 (KakaoUploadCache 락 안에서만 변경) */
+    boolean resident = true;
+
+    private KakaoUpload(String uploadId, Long userId, List<ParsedMessage> messages, Path spillFile,
+                        int messageCount, long estimatedBytes, ConversationStatistics statistics, Instant expiresAt) {
+        this.uploadId = uploadId;
+        this.userId = userId;
+        this.messages = messages;
+        this.spillFile = spillFile;
+        this.messageCount = messageCount;
+        this.estimatedBytes = estimatedBytes;
+        this.statistics = statistics;
+        this.expiresAt = expiresAt;
+        this.resident = messages != null;
+    }
+
+    /**
+     * 화자 선택 (파싱 중 집계한 통계로 검증)
+     */
+    public void selectSpeaker(String speakerName) {
+        if (!statistics.contains(speakerName)) {
+            throw new IllegalArgumentException("화자 '" + speakerName + "'를 찾을 수 없습니다");
+        }
+        this.selectedSpeaker = speakerName;
+    }
+
+    void extendUntil(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public synchronized boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * 파싱된 메시지를 원래 순서대로 전달 (메모리 또는 spill 파일에서)
+     */
+    public synchronized void replay(Consumer<ParsedMessage> consumer) throws IOException {
+        if (released) {
+            throw new IllegalStateException("이미 해제된 업로드입니다: " + uploadId);
+        }
+        if (messages != null) {
+            messages.forEach(consumer);
+            return;
+        }
+        replaySpillFile(spillFile, messageCount, consumer);
+    }
+
+    /**
+     * 메시지를 압축 임시 파일로 내리고 메모리에서 해제
+     */
+    synchronized void spill(Path directory) throws IOException {
+        if (released || messages == null) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "upload-", ".bin");
+        try (DataOutputStream out = openSpillFile(file)) {
+            for (ParsedMessage message : messages) {
+                writeMessage(out, message);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        this.spillFile = file;
+        this.messages = null;
+        log.debug("Spilled kakao upload {} ({} messages) to {}", uploadId, messageCount, file);
+    }
+
+    /**
+     * 메시지와 spill 파일 정리 (캐시에서 만료 / 제거되거나 Persona 생성이 끝났을 때)
+     */
+    public synchronized void release() {
+        released = true;
+        messages = null;
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                log.warn("Failed to delete kakao upload spill file: {}", spillFile, e);
+            }
+            spillFile = null;
+        }
+    }
+
+    /**
+     * 캐시 메모리 예산 (KakaoUploadCache가 구현, 파싱 중인 업로드가 조금씩 예약)
+     */
+    interface MemoryBudget {
+        boolean tryReserve(long bytes);
+
+        void release(long bytes);
+    }
+
+    /**
+     * 파싱 결과를 한 건씩 받아 업로드를 만드는 쓰기 단계 (KakaoUploadCache.newWriter → accept … → KakaoUploadCache.put)
+     *
+     * 메모리 예산을 RESERVE_STEP_BYTES씩 예약하면서 메시지를 모으고, 예약에 실패하면 모은 메시지와 이후 메시지를
+     * 압축 임시 파일로 바로 쓴다 (큰 파일 하나가 캐시 메모리 한도를 넘어 힙에 올라가지 않도록).
+     * 업로드로 등록하지 않고 끝나면(파싱 실패 등) discard로 예약과 임시 파일을 정리한다.
+     */
+    public static final class Writer implements Consumer<ParsedMessage> {
+
+        private static final long RESERVE_STEP_BYTES = 1 << 20;
+
+        private final Path spillDirectory;
+        private final MemoryBudget budget;
+
+        private List<ParsedMessage> messages = new ArrayList<>();
+        private int messageCount;
+        private long estimatedBytes;
+        private long reservedBytes;
+        private Path spillFile;
+        private DataOutputStream spillOut;
+        private boolean finished;
+
+        Writer(Path spillDirectory, MemoryBudget budget) {
+            this.spillDirectory = spillDirectory;
+            this.budget = budget;
+        }
+
+        /**
+         * @throws UncheckedIOException 임시 파일 쓰기 실패 (파서 콜백이라 checked 예외를 던질 수 없음)
+         */
+        @Override
+        public void accept(ParsedMessage message) {
+            messageCount++;
+            try {
+                if (spillOut == null) {
+                    long bytes = estimateBytes(message);
+                    if (reserve(estimatedBytes + bytes)) {
+                        messages.add(message);
+                        estimatedBytes += bytes;
+                        return;
+                    }
+                    startSpill();
+                }
+                writeMessage(spillOut, message);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public int getMessageCount() {
+            return messageCount;
+        }
+
+        /**
+         * 업로드로 등록하지 않고 받은 메시지를 순서대로 재생 (재업로드의 새 메시지 등, 다 쓰면 discard)
+         */
+        public void replay(Consumer<ParsedMessage> consumer) throws IOException {
+            if (finished) {
+                throw new IllegalStateException("이미 끝난 Writer입니다");
+            }
+            if (spillOut == null) {
+                messages.forEach(consumer);
+                return;
+            }
+            spillOut.close();  // 압축 스트림을 끝까지 써야 읽을 수 있음 (이후 accept는 실패)
+            replaySpillFile(spillFile, messageCount, consumer);
+        }
+
+        long getReservedBytes() {
+            return reservedBytes;
+        }
+
+        /**
+         * 쓰기를 끝내고 업로드 생성 (예약한 메모리는 KakaoUploadCache.put이 업로드 크기로 바꿔서 계산)
+         */
+        KakaoUpload finish(String uploadId, Long userId, ConversationStatistics statistics, Instant expiresAt)
+                throws IOException {
+            finished = true;
+            if (spillOut != null) {
+                spillOut.close();
+            }
+            return new KakaoUpload(uploadId, userId, messages, spillFile, messageCount, estimatedBytes,
+                    statistics, expiresAt);
+        }
+
+        /**
+         * 업로드로 등록하지 않은 경우 예약 / 임시 파일 정리 (finish 후에는 아무것도 하지 않음)
+         */
+        public void discard() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            messages = null;
+            budget.release(reservedBytes);
+            reservedBytes = 0;
+            if (spillFile != null) {
+                try {
+                    spillOut.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close discarded kakao upload spill file: {}", spillFile, e);
+                }
+                try {
+                    Files.deleteIfExists(spillFile);
+                } catch (IOException e) {
+                    log.warn("Failed to delete kakao upload spill file: {}", spillFile, e);
+                }
+            }
+        }
+
+        private boolean reserve(long total) {
+            if (total <= reservedBytes) {
+                return true;
+            }
+            // 메시지마다 캐시 락을 잡지 않도록 한 번에 RESERVE_STEP_BYTES씩, 남은 예산이 그보다 작으면 필요한 만큼만
+            long need = total - reservedBytes;
+            long step = Math.max(need, RESERVE_STEP_BYTES);
+            if (budget.tryReserve(step)) {
+                reservedBytes += step;
+                return true;
+            }
+            if (step > need && budget.tryReserve(need)) {
+                reservedBytes += need;
+                return true;
+            }
+            return false;
+        }
+
+        private void startSpill() throws IOException {
+            Files.createDirectories(spillDirectory);
+            spillFile = Files.createTempFile(spillDirectory, "upload-", ".bin");
+            spillOut = openSpillFile(spillFile);
+            for (ParsedMessage message : messages) {
+                writeMessage(spillOut, message);
+            }
+            log.debug("Kakao upload exceeded cache memory budget after {} messages, writing to {}",
+                    messages.size(), spillFile);
+            messages = null;
+            estimatedBytes = 0;
+            budget.release(reservedBytes);
+            reservedBytes = 0;
+        }
+    }
+
+    // === Helper Methods ===
+
+    private static long estimateBytes(ParsedMessage message) {
+        return MESSAGE_OVERHEAD_BYTES + 2L * (length(message.getSpeaker())
+                + length(message.getContent()) + length(message.getSentAt()));
+    }
+
+    private static void replaySpillFile(Path file, int messageCount, Consumer<ParsedMessage> consumer) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(Files.newInputStream(file))))) {
+            for (int i = 0; i < messageCount; i++) {
+                consumer.accept(new ParsedMessage(readString(in), readString(in), readString(in)));
+            }
+        }
+    }
+
+    private static DataOutputStream openSpillFile(Path file) throws IOException {
+        return new DataOutputStream(new DeflaterOutputStream(new BufferedOutputStream(Files.newOutputStream(file))));
+    }
+
+    private static void writeMessage(DataOutputStream out, ParsedMessage message) throws IOException {
+        writeString(out, message.getSpeaker());
+        writeString(out, message.getContent());
+        writeString(out, message.getSentAt());
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    // writeUTF는 65535바이트 제한이 있어 길이 + UTF-8 바이트로 직접 기록 (null은 -1)
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
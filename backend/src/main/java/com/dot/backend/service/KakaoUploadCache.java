@@ -0,0 +1,254 @@
+package com.dot.backend.service;
+
+import com.dot.backend.parser.ConversationStatistics;
+import com.dot.backend.parser.ParsedMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 2단계 업로드용 파싱 결과 캐시
+ *
+ * 1단계(업로드)에서 파싱한 결과를 uploadId로 보관해 두고, 2단계(화자 선택 / Persona 생성)에서 재사용한다.
+ * - TTL: 마지막 접근 후 ttl이 지나면 만료 (접근할 때마다 연장)
+ * - 항목 수 한도: 넘으면 가장 오래 접근하지 않은 항목부터 제거 (LRU)
+ * - 메모리 한도: 넘으면 가장 오래 접근하지 않은 항목부터 메시지를 임시 파일로 내림 (제거하지 않음)
+ *   파싱 중인 업로드도 같은 한도에서 메모리를 예약하고, 남은 한도가 없으면 처음부터 파일로 씀 (KakaoUpload.Writer)
+ *
+ * 만료 항목은 별도 스케줄러 없이 캐시에 접근할 때 정리하며, 파일 쓰기 / 삭제는 캐시 락 밖에서 수행한다.
+ */
+@Component
+@Slf4j
+public class KakaoUploadCache {
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final long maxMemoryBytes;
+    private final Path spillDirectory;
+    private final Clock clock;
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동 (맨 앞이 LRU)
+    private final LinkedHashMap<String, KakaoUpload> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** 메모리에 올라와 있는 항목들의 추정 크기 합 + 파싱 중인 업로드가 예약한 크기 */
+    private long residentBytes;
+
+    private final KakaoUpload.MemoryBudget memoryBudget = new KakaoUpload.MemoryBudget() {
+        @Override
+        public boolean tryReserve(long bytes) {
+            synchronized (KakaoUploadCache.this) {
+                if (residentBytes + bytes > maxMemoryBytes) {
+                    return false;
+                }
+                residentBytes += bytes;
+                return true;
+            }
+        }
+
+        @Override
+        public void release(long bytes) {
+            synchronized (KakaoUploadCache.this) {
+                residentBytes -= bytes;
+            }
+        }
+    };
+
+    @Autowired
+    public KakaoUploadCache(
+            @Value("${kakao.upload-cache.ttl-minutes:30}") long ttlMinutes,
+            @Value("${kakao.upload-cache.max-entries:50}") int maxEntries,
+            @Value("${kakao.upload-cache.max-memory-bytes:268435456}") long maxMemoryBytes,
+            @Value("${kakao.upload-cache.spill-dir:${java.io.tmpdir}/dot-kakao-uploads}") String spillDirectory) {
+        this(Duration.ofMinutes(ttlMinutes), maxEntries, maxMemoryBytes, Paths.get(spillDirectory), Clock.systemUTC());
+    }
+
+    KakaoUploadCache(Duration ttl, int maxEntries, long maxMemoryBytes, Path spillDirectory, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+        this.clock = clock;
+    }
+
+    /**
+     * 파싱 결과를 받을 Writer (파서 콜백으로 넘기고 끝나면 put, 실패하면 discard)
+     */
+    public KakaoUpload.Writer newWriter() {
+        return new KakaoUpload.Writer(spillDirectory, memoryBudget);
+    }
+
+    /**
+     * 이미 모아 둔 메시지 등록 (Writer를 거치므로 메모리 한도는 같게 적용)
+     */
+    public KakaoUpload put(Long userId, List<ParsedMessage> messages, ConversationStatistics statistics) {
+        KakaoUpload.Writer writer = newWriter();
+        try {
+            messages.forEach(writer);
+            return put(userId, writer, statistics);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.discard();
+        }
+    }
+
+    /**
+     * 파싱 결과 등록
+     *
+     * @return 새 uploadId가 부여된 업로드
+     */
+    public KakaoUpload put(Long userId, KakaoUpload.Writer writer, ConversationStatistics statistics) throws IOException {
+        KakaoUpload upload = writer.finish(UUID.randomUUID().toString(), userId, statistics, clock.instant().plus(ttl));
+
+        List<KakaoUpload> evicted = new ArrayList<>();
+        List<KakaoUpload> toSpill = new ArrayList<>();
+        synchronized (this) {
+            removeExpired(evicted);
+            entries.put(upload.getUploadId(), upload);
+            // 파싱 중에 예약한 크기를 실제로 메모리에 남은 크기로 바꿈
+            residentBytes -= writer.getReservedBytes();
+            if (upload.resident) {
+                residentBytes += upload.getEstimatedBytes();
+            }
+
+            Iterator<KakaoUpload> lru = entries.values().iterator();
+            while (entries.size() > maxEntries && lru.hasNext()) {
+                KakaoUpload eldest = lru.next();
+                lru.remove();
+                unaccount(eldest);
+                evicted.add(eldest);
+            }
+
+            // 메모리 한도를 넘는 만큼 LRU 순서로 spill 대상 선정 (방금 넣은 항목도 포함될 수 있음)
+            for (KakaoUpload candidate : entries.values()) {
+                if (residentBytes <= maxMemoryBytes) break;
+                if (candidate.resident) {
+                    unaccount(candidate);
+                    toSpill.add(candidate);
+                }
+            }
+        }
+
+        evicted.forEach(KakaoUpload::release);
+        toSpill.forEach(this::spill);
+
+        log.info("Cached kakao upload {} for user {}: {} messages, {} speakers (evicted: {}, spilled: {})",
+                upload.getUploadId(), userId, upload.getMessageCount(), statistics.getSpeakers().size(),
+                evicted.size(), toSpill.size());
+        return upload;
+    }
+
+    /**
+     * 업로드 조회 (본인 업로드만, 조회 시 만료 시간 연장)
+     */
+    public KakaoUpload get(String uploadId, Long userId) {
+        List<KakaoUpload> evicted = new ArrayList<>();
+        try {
+            synchronized (this) {
+                removeExpired(evicted);
+                KakaoUpload upload = findOwned(uploadId, userId);
+                upload.extendUntil(clock.instant().plus(ttl));
+                return upload;
+            }
+        } finally {
+            evicted.forEach(KakaoUpload::release);
+        }
+    }
+
+    /**
+     * 업로드를 캐시에서 꺼냄 (이후 정리 책임은 호출한 쪽에 있음, 사용 후 release 필요)
+     */
+    public KakaoUpload take(String uploadId, Long userId) {
+        List<KakaoUpload> evicted = new ArrayList<>();
+        try {
+            synchronized (this) {
+                removeExpired(evicted);
+                KakaoUpload upload = findOwned(uploadId, userId);
+                entries.remove(uploadId);
+                unaccount(upload);
+                return upload;
+            }
+        } finally {
+            evicted.forEach(KakaoUpload::release);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void clear() {
+        List<KakaoUpload> all;
+        synchronized (this) {
+            all = new ArrayList<>(entries.values());
+            entries.clear();
+            residentBytes = 0;
+        }
+        all.forEach(KakaoUpload::release);
+    }
+
+    // === Helper Methods ===
+
+    private KakaoUpload findOwned(String uploadId, Long userId) {
+        KakaoUpload upload = uploadId != null ? entries.get(uploadId) : null;
+        // 다른 사용자의 업로드는 존재 여부도 드러내지 않음
+        if (upload == null || !upload.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("업로드를 찾을 수 없거나 만료되었습니다. 카톡 파일을 다시 업로드해주세요.");
+        }
+        return upload;
+    }
+
+    private void removeExpired(List<KakaoUpload> evicted) {
+        Instant now = clock.instant();
+        Iterator<KakaoUpload> it = entries.values().iterator();
+        while (it.hasNext()) {
+            KakaoUpload upload = it.next();
+            if (!now.isBefore(upload.getExpiresAt())) {
+                it.remove();
+                unaccount(upload);
+                evicted.add(upload);
+            }
+        }
+    }
+
+    private void unaccount(KakaoUpload upload) {
+        if (upload.resident) {
+            upload.resident = false;
+            residentBytes -= upload.getEstimatedBytes();
+        }
+    }
+
+    /**
+     * spill 실패 시 메모리에 계속 둘 수 없으므로 캐시에서 제거 (사용자는 다시 업로드)
+     */
+    private void spill(KakaoUpload upload) {
+        try {
+            upload.spill(spillDirectory);
+        } catch (IOException e) {
+            log.warn("Failed to spill kakao upload {}, evicting", upload.getUploadId(), e);
+            boolean removed;
+            synchronized (this) {
+                removed = entries.remove(upload.getUploadId(), upload);
+            }
+            if (removed) {
+                upload.release();
+            }
+        }
+    }
+}
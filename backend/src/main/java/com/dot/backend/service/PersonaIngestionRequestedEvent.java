@@ -0,0 +1,27 @@
+package com.dot.backend.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * Persona 생성 파이프라인 요청 이벤트 (Persona 저장 트랜잭션 커밋 후 백그라운드에서 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PersonaIngestionRequestedEvent {
+
+    private final Long personaId;
+
+    /** 사용자 이름 (복호화된 값, Trait 생성 프롬프트용) */
+    private final String userName;
+
+    /** 요청 중에 임시 파일로 옮겨둔 카톡 파일 (없으면 null, 처리 후 삭제) */
+    private final Path kakaoFile;
+
+    /** 2단계 업로드로 미리 파싱해 둔 카톡 파일 (없으면 null, 처리 후 release) */
+    private final KakaoUpload upload;
+
+    private final String speakerName;
+}
@@ -0,0 +1,389 @@
+package com.dot.backend.service;
+
+import com.dot.backend.domain.persona.ConversationSample;
+import com.dot.backend.domain.persona.IngestionStage;
+import com.dot.backend.domain.persona.Persona;
+import com.dot.backend.domain.persona.PersonaStatus;
+import com.dot.backend.domain.persona.SampleMessage;
+import com.dot.backend.domain.persona.repository.ConversationSampleStore;
+import com.dot.backend.domain.persona.repository.PersonaRepository;
+import com.dot.backend.parser.ConversationSampler;
+import com.dot.backend.parser.ConversationStatistics;
+import com.dot.backend.parser.IncrementalImportCollector;
+import com.dot.backend.parser.KakaoTxtParser;
+import com.dot.backend.parser.ParsedMessage;
+import com.dot.backend.util.EncryptionUtil;
+import com.dot.backend.util.PiiField;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongConsumer;
+
+/**
+ * Persona 생성 파이프라인 (백그라운드)
+ *
+ * createPersona 요청은 Persona를 PROCESSING 상태로 저장하고 바로 반환하며,
+ * 트랜잭션 커밋 후 이 서비스가 파싱(샘플 저장) → Trait 생성 → 워터마크 기록 단계를 순서대로 실행한다.
+ * 단계 / 진행률은 짧은 트랜잭션으로 그때그때 기록해서 진행률 API에서 조회할 수 있게 한다.
+ *
+ * 작업을 맡은 노드는 대기 / 실행 중인 작업의 lease(ingestion_heartbeat_at)를 주기적으로 갱신하고,
+ * 어느 노드든 lease가 만료된 작업(맡은 노드가 종료 / 재시작됨)만 실패 처리한다.
+ * 실패한 작업은 이미 커밋된 샘플 청크를 지운 뒤 FAILED로 바꾼다.
+ */
+@Service
+@Slf4j
+public class PersonaIngestionService {
+
+    /** 진행률 기록 간격 (%) */
+    private static final int PROGRESS_STEP = 5;
+
+    static final String INTERRUPTED_REASON = "서버 재시작으로 처리가 중단되었습니다";
+    static final String REJECTED_REASON = "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요";
+
+    private final PersonaRepository personaRepository;
+    private final ConversationSampleStore conversationSampleStore;
+    private final KakaoTxtParser kakaoTxtParser;
+    private final EncryptionUtil encryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor personaIngestionExecutor;
+    private final long leaseTimeoutSeconds;
+
+    /** AFTER_COMMIT 리스너 안에서 쓰는 새 트랜잭션 (끝난 트랜잭션에 참여하면 쓰기가 커밋되지 않음) */
+    private final TransactionTemplate requiresNewTransaction;
+
+    /** 이 노드가 받아서 대기 / 실행 중인 작업 (lease 갱신 대상) */
+    private final Set<Long> ownedIngestions = ConcurrentHashMap.newKeySet();
+
+    /** 샘플 저장 단위 (파싱하면서 청크마다 커밋, 메모리에는 한 청크만 보관) */
+    @Value("${persona.ingestion.sample-chunk-size:5000}")
+    private int sampleChunkSize;
+
+    public PersonaIngestionService(
+            PersonaRepository personaRepository,
+            ConversationSampleStore conversationSampleStore,
+            KakaoTxtParser kakaoTxtParser,
+            EncryptionUtil encryptionUtil,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Qualifier("personaIngestionExecutor") Executor personaIngestionExecutor,
+            @Value("${persona.ingestion.lease-timeout-seconds:300}") long leaseTimeoutSeconds) {
+        this.personaRepository = personaRepository;
+        this.conversationSampleStore = conversationSampleStore;
+        this.kakaoTxtParser = kakaoTxtParser;
+        this.encryptionUtil = encryptionUtil;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.personaIngestionExecutor = personaIngestionExecutor;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        this.requiresNewTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 시작 시 lease가 만료된 생성 작업 정리 (종료된 노드의 작업은 임시 파일이 사라졌으므로 이어서 할 수 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedIngestions() {
+        failExpiredIngestions();
+    }
+
+    /**
+     * 이 노드가 맡은 작업의 lease를 갱신하고, 다른 노드가 맡았다가 lease가 만료된 작업을 실패 처리
+     * (노드가 재시작하지 않고 사라진 경우에도 PROCESSING으로 남지 않도록 주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${persona.ingestion.heartbeat-interval-ms:60000}",
+            initialDelayString = "${persona.ingestion.heartbeat-interval-ms:60000}")
+    public void renewIngestionLeases() {
+        if (!ownedIngestions.isEmpty()) {
+            List<Long> ids = List.copyOf(ownedIngestions);
+            transactionTemplate.executeWithoutResult(status -> personaRepository.renewIngestionHeartbeats(
+                    ids, PersonaStatus.PROCESSING, LocalDateTime.now()));
+        }
+        failExpiredIngestions();
+    }
+
+    void failExpiredIngestions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(leaseTimeoutSeconds);
+        List<Long> expired = personaRepository.findIdsByStatusAndIngestionHeartbeatBefore(PersonaStatus.PROCESSING, cutoff);
+        int failed = 0;
+        for (Long personaId : expired) {
+            if (ownedIngestions.contains(personaId)) {
+                continue;  // 이 노드에서 대기 / 실행 중 (다음 갱신에서 lease 연장)
+            }
+            Boolean result = transactionTemplate.execute(status -> {
+                Persona persona = personaRepository.findById(personaId).orElse(null);
+                // 조회 후 lease가 갱신됐으면 그대로 둠
+                if (persona == null || persona.getStatus() != PersonaStatus.PROCESSING
+                        || (persona.getIngestionHeartbeatAt() != null && !persona.getIngestionHeartbeatAt().isBefore(cutoff))) {
+                    return false;
+                }
+                failIngestion(persona, INTERRUPTED_REASON);
+                return true;
+            });
+            if (Boolean.TRUE.equals(result)) failed++;
+        }
+        if (failed > 0) {
+            log.warn("Marked {} interrupted persona ingestions as FAILED", failed);
+        }
+    }
+
+    /**
+     * Persona 저장이 롤백되면 임시 파일 / 캐시에서 꺼낸 업로드만 정리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onIngestionRolledBack(PersonaIngestionRequestedEvent event) {
+        release(event);
+    }
+
+    /**
+     * Persona 저장이 커밋되면 생성 스레드 풀에 작업 제출
+     *
+     * 큐가 가득 차서 거절되면 (@Async였다면 트랜잭션 동기화가 예외를 삼켜 PROCESSING으로 남음)
+     * 바로 실패 처리하고 임시 파일 / 업로드를 정리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onIngestionRequested(PersonaIngestionRequestedEvent event) {
+        Long personaId = event.getPersonaId();
+        ownedIngestions.add(personaId);
+        try {
+            personaIngestionExecutor.execute(() -> runIngestion(event));
+        } catch (RejectedExecutionException e) {
+            log.error("Persona ingestion rejected (queue full): {}", personaId);
+            ownedIngestions.remove(personaId);
+            try {
+                requiresNewTransaction.executeWithoutResult(status -> personaRepository.findById(personaId)
+                        .ifPresent(persona -> failIngestion(persona, REJECTED_REASON)));
+            } finally {
+                release(event);
+            }
+        }
+    }
+
+    void runIngestion(PersonaIngestionRequestedEvent event) {
+        Long personaId = event.getPersonaId();
+        log.info("Starting persona ingestion: {}", personaId);
+
+        try {
+            ingest(event);
+            log.info("Persona ingestion completed: {}", personaId);
+        } catch (Exception e) {
+            log.error("Persona ingestion failed: {}", personaId, e);
+            transactionTemplate.executeWithoutResult(status -> personaRepository.findById(personaId)
+                    .ifPresent(persona -> failIngestion(persona, e.getMessage())));
+        } finally {
+            ownedIngestions.remove(personaId);
+            release(event);
+        }
+    }
+
+    private void ingest(PersonaIngestionRequestedEvent event) throws IOException {
+        Long personaId = event.getPersonaId();
+        String speakerName = event.getSpeakerName();
+
+        PersonaSnapshot snapshot = transactionTemplate.execute(status -> {
+            Persona persona = findPersona(personaId);
+            return new PersonaSnapshot(encryptionUtil.decrypt(PiiField.PERSONA_NAME, persona.getName()),
+                    persona.getRelationship(), persona.getMemo());
+        });
+
+        // 카톡 파일이 없는 경우: 기본 정보와 메모를 바탕으로 Trait 생성
+        if (event.getKakaoFile() == null && event.getUpload() == null) {
+            updateProgress(personaId, IngestionStage.GENERATING_TRAIT, 0);
+            String trait = kakaoTxtParser.analyzeAndGenerateTrait(snapshot.name, event.getUserName(),
+                    snapshot.relationship, snapshot.memo, null, null, null);
+            transactionTemplate.executeWithoutResult(status -> {
+                Persona persona = findPersona(personaId);
+                persona.updateTrait(trait);
+                persona.completeIngestion();
+            });
+            return;
+        }
+
+        // 1. 파싱하며 ConversationSample 저장 (워터마크가 없으므로 모든 메시지가 새 메시지)
+        //    메시지를 모아 두지 않고 sampleChunkSize개씩 커밋 (긴 트랜잭션 / 락 유지 방지, 실패 시 failIngestion이 정리)
+        //    화자별 통계와 Trait 분석용 대표 샘플도 같은 패스에서 수집
+        updateProgress(personaId, IngestionStage.PARSING, 0);
+        SampleChunkWriter samples = new SampleChunkWriter(speakerName, sampleChunkSize, chunk ->
+                transactionTemplate.executeWithoutResult(status -> conversationSampleStore.append(personaId, chunk)));
+        IncrementalImportCollector collector = new IncrementalImportCollector(null, null, samples);
+        ConversationSampler sampler = new ConversationSampler(speakerName);
+        ProgressReporter parseProgress = new ProgressReporter(personaId, IngestionStage.PARSING);
+        ConversationStatistics statistics;
+
+        if (event.getUpload() != null) {
+            // 2단계 업로드: 업로드 때 파싱해 둔 메시지를 재생 (파일 재파싱 없음, 통계는 그대로 재사용)
+            KakaoUpload upload = event.getUpload();
+            statistics = upload.getStatistics();
+            long total = Math.max(1, upload.getMessageCount());
+            long[] replayed = {0};
+            upload.replay(collector.andThen(sampler)
+                    .andThen(message -> parseProgress.report((double) ++replayed[0] / total)));
+        } else {
+            statistics = new ConversationStatistics();
+            long fileSize = Math.max(1, Files.size(event.getKakaoFile()));
+            try (InputStream in = new CountingInputStream(Files.newInputStream(event.getKakaoFile()),
+                    bytes -> parseProgress.report((double) bytes / fileSize))) {
+                kakaoTxtParser.parse(in, collector.andThen(statistics).andThen(sampler));
+            }
+        }
+        collector.finish();
+        samples.flush();
+        log.info("Parsed and saved {} messages from kakao file, speakers: {}", samples.getCount(), statistics.getSpeakers());
+
+        // 화자 이름 검증 (파싱 중 집계한 통계 사용, 메시지 재스캔 없음), 없으면 저장한 샘플 삭제
+        boolean saved = statistics.contains(speakerName);
+        if (!saved) {
+            log.warn("Speaker '{}' not found in messages. Available speakers: {}",
+                    speakerName, String.join(", ", statistics.getSpeakers()));
+            transactionTemplate.executeWithoutResult(status -> conversationSampleStore.deleteAll(personaId));
+        }
+
+        // 2. Trait 생성 (Gemini 분석)
+        updateProgress(personaId, IngestionStage.GENERATING_TRAIT, 0);
+        String trait = kakaoTxtParser.analyzeAndGenerateTrait(snapshot.name, event.getUserName(),
+                snapshot.relationship, snapshot.memo, sampler.render(), statistics, speakerName);
+        transactionTemplate.executeWithoutResult(status -> findPersona(personaId).updateTrait(trait));
+
+        // 3. 샘플 변경 알림 및 재업로드 워터마크 기록
+        updateProgress(personaId, IngestionStage.SAVING_SAMPLES, 0);
+        if (saved) {
+            log.info("Saved {} conversation samples for persona: {}", samples.getCount(), personaId);
+            eventPublisher.publishEvent(new ConversationSamplesChangedEvent(personaId));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Persona persona = findPersona(personaId);
+            if (saved) {
+                persona.updateSpeakerName(speakerName);
+                persona.updateImportWatermark(collector.getLastMessageAt(), collector.getTailHash());
+            }
+            persona.completeIngestion();
+        });
+    }
+
+    /**
+     * ParsedMessage -> SampleMessage 변환 (화자 이름에 따라 Role 결정)
+     */
+    static SampleMessage toSampleMessage(ParsedMessage message, String speakerName) {
+        return new SampleMessage(
+                message.getSpeaker().equals(speakerName)
+                        ? ConversationSample.Role.PERSONA
+                        : ConversationSample.Role.USER,
+                message.getContent());
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * 이미 커밋된 샘플 청크를 지우고 FAILED로 변경 (호출하는 쪽 트랜잭션 안에서)
+     */
+    private void failIngestion(Persona persona, String reason) {
+        long deleted = conversationSampleStore.deleteAll(persona.getId());
+        if (deleted > 0) {
+            log.info("Deleted {} partially saved conversation samples for persona: {}", deleted, persona.getId());
+            eventPublisher.publishEvent(new ConversationSamplesChangedEvent(persona.getId()));
+        }
+        persona.failIngestion(reason);
+    }
+
+    private Persona findPersona(Long personaId) {
+        return personaRepository.findById(personaId)
+                .orElseThrow(() -> new IllegalStateException("Persona를 찾을 수 없습니다: " + personaId));
+    }
+
+    private void updateProgress(Long personaId, IngestionStage stage, double fraction) {
+        transactionTemplate.executeWithoutResult(status ->
+                findPersona(personaId).updateIngestionProgress(stage, stage.toOverallPercent(fraction)));
+    }
+
+    private static void release(PersonaIngestionRequestedEvent event) {
+        deleteQuietly(event.getKakaoFile());
+        if (event.getUpload() != null) {
+            event.getUpload().release();
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp kakao file: {}", file, e);
+        }
+    }
+
+    private record PersonaSnapshot(String name, String relationship, String memo) {
+    }
+
+    /**
+     * 단계 안의 진행 비율을 받아 PROGRESS_STEP(%) 이상 변했을 때만 기록
+     */
+    private final class ProgressReporter {
+        private final Long personaId;
+        private final IngestionStage stage;
+        private int lastPercent;
+
+        private ProgressReporter(Long personaId, IngestionStage stage) {
+            this.personaId = personaId;
+            this.stage = stage;
+            this.lastPercent = stage.toOverallPercent(0);
+        }
+
+        private void report(double fraction) {
+            int percent = stage.toOverallPercent(fraction);
+            if (percent - lastPercent >= PROGRESS_STEP) {
+                lastPercent = percent;
+                updateProgress(personaId, stage, fraction);
+            }
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 알려주는 스트림 (파싱 진행률용)
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final LongConsumer listener;
+        private long count;
+
+        private CountingInputStream(InputStream in, LongConsumer listener) {
+            super(in);
+            this.listener = listener;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) listener.accept(++count);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) listener.accept(count += n);
+            return n;
+        }
+    }
+}
@@ -1,27 +1,48 @@
 package com.dot.backend.service;
 
-import com.dot.backend.domain.persona.ConversationSample;
+import com.dot.backend.domain.chatsession.dto.SpeakerSelectRequest;
+import com.dot.backend.domain.chatsession.dto.UploadResponse;
 import com.dot.backend.domain.persona.Persona;
+import com.dot.backend.domain.persona.PersonaStatus;
+import com.dot.backend.domain.persona.ProfileImageVariant;
+import com.dot.backend.domain.persona.repository.ConversationSampleStore;
 import com.dot.backend.domain.persona.repository.PersonaRepository;
 import com.dot.backend.domain.user.User;
 import com.dot.backend.dto.persona.*;
+import com.dot.backend.parser.ConversationStatistics;
+import com.dot.backend.parser.IncrementalImportCollector;
 import com.dot.backend.parser.KakaoTxtParser;
-import com.dot.backend.parser.ParsedMessage;
+import com.dot.backend.retrieval.PersonaSampleIndex;
+import com.dot.backend.storage.PresignedRequest;
+import com.dot.backend.storage.StorageBackend;
+import com.dot.backend.util.BlindIndex;
 import com.dot.backend.util.EncryptionUtil;
+import com.dot.backend.util.PiiField;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -33,13 +54,42 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PersonaService {
 
+    /** 직접 업로드 key: {prefix}/{userId}/{UUID}{확장자} */
+    private static final Pattern OBJECT_KEY_NAME = Pattern.compile("[0-9a-f\\-]{36}(\\.[a-z0-9]{1,10})?");
+
+    /** 카톡 원본 직접 업로드 key 접두사 (공개 URL로 서빙하지 않는 비공개 영역, 파싱 후 / 만료 시 삭제) */
+    private static final String KAKAO_UPLOAD_PREFIX = StorageBackend.PRIVATE_PREFIX + "kakao";
+
+    /** 전화번호 검색어 (숫자와 구분 기호만, 나머지는 이름 검색) */
+    private static final Pattern PHONE_NUMBER_QUERY = Pattern.compile("[0-9+\\-() ]+");
+
     private final PersonaRepository personaRepository;
+    private final ConversationSampleStore conversationSampleStore;
     private final EncryptionUtil encryptionUtil;
-    private final S3Service s3Service;
+    private final BlindIndex blindIndex;
+    private final StorageBackend storageBackend;
     private final KakaoTxtParser kakaoTxtParser;
+    private final KakaoUploadCache kakaoUploadCache;
+    private final ProfileImageProcessor profileImageProcessor;
+    private final PersonaSampleIndex personaSampleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${storage.presign.upload-expiry-minutes:15}")
+    private long presignUploadExpiryMinutes;
+
+    @Value("${storage.presign.download-expiry-minutes:10}")
+    private long presignDownloadExpiryMinutes;
+
+    @Value("${storage.presign.max-kakao-bytes:1073741824}")
+    private long maxKakaoBytes;
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    @Value("${storage.presign.max-image-bytes:20971520}")
+    private long maxImageBytes;
+
+    /** 재업로드한 새 메시지 저장 단위 (메모리에는 한 청크씩만 변환) */
+    @Value("${persona.ingestion.sample-chunk-size:5000}")
+    private int sampleChunkSize;
 
     /**
      * Persona 생성 (Multipart Form 방식)
@@ -51,7 +101,8 @@ public class PersonaService {
      * @param memo 메모
      * @param profileImage 프로필 이미지 파일
      * @param kakaoFile 카톡 대화 파일
-     * @param speakerName 화자 이름 (카톡 파일에서 Persona에 해당하는 화자)
+     * @param uploadId 2단계 업로드로 미리 올려둔 카톡 파일 ID (kakaoFile 대신 사용)
+     * @param speakerName 화자 이름 (카톡 파일에서 Persona에 해당하는 화자, uploadId 사용 시 생략하면 선택해 둔 화자)
      * @return PersonaResponse
      */
     @Transactional
@@ -63,12 +114,33 @@ public class PersonaService {
             String memo,
             MultipartFile profileImage,
             MultipartFile kakaoFile,
+            String uploadId,
             String speakerName
     ) {
         log.info("Creating persona for user: {}, name: {}, speakerName: {}", user.getEmail(), name, speakerName);
 
+        boolean hasKakaoFile = kakaoFile != null && !kakaoFile.isEmpty();
+        boolean hasUpload = uploadId != null && !uploadId.isBlank();
+        if (hasKakaoFile && hasUpload) {
+            throw new IllegalArgumentException("kakaoFile과 uploadId는 함께 보낼 수 없습니다");
+        }
+
+        // 미리 올려둔 업로드: 화자를 검증만 하고, 캐시에서 꺼내는 것은 Persona 저장 직전에
+        if (hasUpload) {
+            KakaoUpload upload = kakaoUploadCache.get(uploadId, user.getId());
+            if (speakerName == null || speakerName.isBlank()) {
+                speakerName = upload.getSelectedSpeaker();
+            }
+            if (speakerName == null) {
+                throw new IllegalArgumentException("화자를 먼저 선택하거나 화자 이름(speakerName)을 보내주세요");
+            }
+            if (!upload.getStatistics().contains(speakerName)) {
+                throw new IllegalArgumentException("화자 '" + speakerName + "'를 찾을 수 없습니다");
+            }
+        }
+
         // 사용자의 실제 이름 가져오기 (복호화)
-        String userName = encryptionUtil.decrypt(user.getName());
+        String userName = encryptionUtil.decrypt(PiiField.USER_NAME, user.getName());
         if (userName == null || userName.isBlank()) {
             userName = "사용자"; // 이름이 없는 경우 기본값
         }
@@ -86,13 +158,8 @@ public class PersonaService {
         String profileImageUrl = null;
         if (profileImage != null && !profileImage.isEmpty()) {
             try {
-                // [기존 S3 코드]
-                // profileImageUrl = s3Service.uploadProfileImage(profileImage, user.getId());
-                // log.info("Profile image uploaded: {}", profileImageUrl);
-
-                // [로컬 저장 코드]
-                profileImageUrl = saveFileLocally(profileImage, "profiles/" + user.getId());
-                log.info("Profile image saved locally: {}", profileImageUrl);
+                profileImageUrl = storeProfileImage(profileImage, user.getId());
+                log.info("Profile image uploaded: {}", profileImageUrl);
             } catch (IOException e) {
                 log.error("Failed to upload profile image", e);
                 throw new RuntimeException("프로필 이미지 업로드 실패", e);
@@ -104,80 +171,276 @@ public class PersonaService {
                 .user(user)
                 .name(encryptedName)
                 .phoneNumber(encryptedPhoneNumber)
+                .phoneNumberHash(blindIndex.phoneNumber(user.getId(), phoneNumber))
+                .nameTokens(blindIndex.nameTokens(user.getId(), name))
                 .relationship(relationship)
                 .memo(memo)
                 .profileImageUrl(profileImageUrl)
                 .isDeleted(false)
                 .build();
 
+        // 파싱 / Trait 생성 / 샘플 저장은 백그라운드 파이프라인에서 처리 (완료 전까지 PROCESSING)
+        persona.startIngestion();
         Persona savedPersona = personaRepository.save(persona);
 
-        // 카톡 파일 처리
-        if (kakaoFile != null && !kakaoFile.isEmpty()) {
+        // 요청이 끝나면 업로드 파일이 사라지므로 임시 파일로 옮겨서 전달
+        Path spooledKakaoFile = null;
+        if (hasKakaoFile) {
             try {
-                // 1. 파일 파싱
-                List<ParsedMessage> messages = kakaoTxtParser.parse(kakaoFile);
-                log.info("Parsed {} messages from kakao file", messages.size());
-
-                // 2. Trait 생성 (Gemini 분석) - 복호화된 userName 전달
-                String generatedTrait = kakaoTxtParser.analyzeAndGenerateTrait(name, userName, relationship, memo, messages, speakerName);
-                savedPersona.updateTrait(generatedTrait);
-                log.info("Generated and saved trait for persona: {}", savedPersona.getId());
-
-                // 3. ConversationSample 저장
-                processKakaoFile(savedPersona, messages, speakerName);
+                spooledKakaoFile = Files.createTempFile("dot-kakao-", ".upload");
+                kakaoFile.transferTo(spooledKakaoFile);
             } catch (IOException e) {
-                log.error("Failed to process kakao file", e);
+                log.error("Failed to spool kakao file", e);
+                throw new RuntimeException("카톡 파일 처리 실패", e);
             }
-        } else {
-            // 카톡 파일이 없는 경우: 기본 정보와 메모를 바탕으로 Trait 생성
-            log.info("No kakao file provided. Generating basic trait for persona: {}", savedPersona.getId());
-            String generatedTrait = kakaoTxtParser.analyzeAndGenerateTrait(name, userName, relationship, memo, List.of(), null);
-            savedPersona.updateTrait(generatedTrait);
         }
 
-        log.info("Persona created with ID: {}", savedPersona.getId());
+        // 목록 / 상세용 리사이즈 버전은 커밋 후 백그라운드에서 생성
+        if (profileImageUrl != null) {
+            eventPublisher.publishEvent(new ProfileImageUploadedEvent(savedPersona.getId(), profileImageUrl));
+        }
+
+        // 업로드는 캐시에서 꺼내 파이프라인에 넘김 (롤백 / 처리 완료 시 파이프라인에서 release)
+        KakaoUpload upload = hasUpload ? kakaoUploadCache.take(uploadId, user.getId()) : null;
+
+        eventPublisher.publishEvent(new PersonaIngestionRequestedEvent(
+                savedPersona.getId(), userName, spooledKakaoFile, upload, speakerName));
+
+        log.info("Persona created with ID: {} (ingestion queued)", savedPersona.getId());
 
         return toResponse(savedPersona);
     }
 
     /**
-     * 카톡 파일 파싱 데이터로 ConversationSample 저장
+     * 카톡 파일 업로드 (2단계 업로드의 1단계)
+     *
+     * 파일을 한 번만 파싱해서 화자 목록을 돌려주고, 파싱 결과는 uploadId로 캐시해 둔다.
+     * 화자 선택 / Persona 생성 시에는 uploadId만 보내면 되며 파일을 다시 올리거나 파싱하지 않는다.
+     * (DB를 쓰지 않으므로 파싱하는 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행)
      */
-    private void processKakaoFile(Persona persona, List<ParsedMessage> messages, String speakerName) {
-        log.info("Processing kakao messages for persona: {}, speakerName: {}", persona.getId(), speakerName);
-
-        // 화자 이름 검증
-        boolean speakerFound = messages.stream()
-                .anyMatch(msg -> msg.getSpeaker().equals(speakerName));
-
-        if (!speakerFound) {
-            log.warn("Speaker '{}' not found in messages. Available speakers: {}", 
-                    speakerName, 
-                    messages.stream().map(ParsedMessage::getSpeaker).distinct().collect(Collectors.joining(", ")));
-            return;
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadResponse uploadKakaoFile(User user, MultipartFile kakaoFile) {
+        log.info("Uploading kakao file for speaker selection, user: {}", user.getEmail());
+
+        if (kakaoFile == null || kakaoFile.isEmpty()) {
+            throw new IllegalArgumentException("카톡 파일이 비어있습니다");
         }
 
-        // ConversationSample로 변환 및 저장
-        List<ConversationSample> samples = messages.stream()
-                .map(msg -> {
-                    // 화자 이름에 따라 Role 결정
-                    ConversationSample.Role role = msg.getSpeaker().equals(speakerName)
-                            ? ConversationSample.Role.PERSONA
-                            : ConversationSample.Role.USER;
-
-                    return ConversationSample.builder()
-                            .persona(persona)
-                            .role(role)
-                            .message(msg.getContent())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        try (InputStream in = kakaoFile.getInputStream()) {
+            return parseAndCacheUpload(user, in);
+        } catch (IOException e) {
+            log.error("Failed to parse kakao file", e);
+            throw new RuntimeException("카톡 파일 처리 실패", e);
+        }
+    }
+
+    /**
+     * 카톡 파일 직접 업로드 URL 발급 (presigned PUT)
+     *
+     * 큰 카톡 파일을 앱 서버를 거치지 않고 저장소에 바로 올리게 한다.
+     * 업로드가 끝나면 completeKakaoUpload로 알리고, 이후 흐름(화자 선택 / Persona 생성)은 POST /uploads와 같다.
+     */
+    public PresignedUrlResponse presignKakaoUpload(User user, PresignUploadRequest request) {
+        if (request.getContentLength() > maxKakaoBytes) {
+            throw new IllegalArgumentException("카톡 파일은 " + maxKakaoBytes / (1024 * 1024) + "MB 이하만 업로드할 수 있습니다");
+        }
+
+        String key = newObjectKey(KAKAO_UPLOAD_PREFIX, user.getId(), extensionOf(request.getFileName()));
+        log.info("Presigning kakao upload: user={}, key={}, size={}", user.getEmail(), key, request.getContentLength());
+        return toPresignedUrlResponse(key, storageBackend.presignUpload(
+                key, request.getContentType(), request.getContentLength(), Duration.ofMinutes(presignUploadExpiryMinutes)));
+    }
 
-        // Persona의 samples에 추가 (CascadeType.ALL로 자동 저장)
-        persona.getSamples().addAll(samples);
+    /**
+     * 카톡 파일 직접 업로드 완료 처리
+     *
+     * 저장소의 객체를 스트림으로 읽어 파싱하고 결과를 uploadId로 캐시한다 (POST /uploads와 같은 응답).
+     * 원본 객체는 파싱 성공 / 실패와 관계없이 바로 삭제한다 (대화 원문이 저장소에 남지 않도록).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadResponse completeKakaoUpload(User user, UploadCompleteRequest request) {
+        String key = request.getObjectKey();
+        checkObjectKey(key, KAKAO_UPLOAD_PREFIX, user.getId());
+        log.info("Completing direct kakao upload: user={}, key={}", user.getEmail(), key);
 
-        log.info("Saved {} conversation samples for persona: {}", samples.size(), persona.getId());
+        try {
+            if (storageBackend.sizeOf(key) < 0) {
+                throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다. 업로드가 끝난 뒤 다시 시도해주세요.");
+            }
+            try (InputStream in = storageBackend.open(key)) {
+                return parseAndCacheUpload(user, in);
+            } finally {
+                storageBackend.delete(key);
+            }
+        } catch (IOException e) {
+            log.error("Failed to parse uploaded kakao object: {}", key, e);
+            throw new RuntimeException("카톡 파일 처리 실패", e);
+        }
+    }
+
+    /**
+     * 업로드한 카톡 파일의 화자 선택 (2단계 업로드의 2단계, 캐시된 파싱 결과로 검증)
+     */
+    public UploadResponse selectUploadSpeaker(User user, String uploadId, SpeakerSelectRequest request) {
+        KakaoUpload upload = kakaoUploadCache.get(uploadId, user.getId());
+        upload.selectSpeaker(request.getSpeakerName());
+        return toUploadResponse(upload);
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 URL 발급 (presigned PUT)
+     */
+    public PresignedUrlResponse presignProfileImageUpload(User user, Long personaId, PresignUploadRequest request) {
+        personaRepository.findByIdAndUserId(personaId, user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
+
+        String extension = imageExtensionOf(request.getContentType());
+        if (request.getContentLength() > maxImageBytes) {
+            throw new IllegalArgumentException("프로필 이미지는 " + maxImageBytes / (1024 * 1024) + "MB 이하만 업로드할 수 있습니다");
+        }
+
+        // 확장자는 파일 이름이 아니라 허용된 Content-Type으로 정함 (로컬 서빙은 확장자로 Content-Type을 정하므로)
+        String key = newObjectKey("profiles", user.getId(), extension);
+        return toPresignedUrlResponse(key, storageBackend.presignUpload(
+                key, request.getContentType(), request.getContentLength(), Duration.ofMinutes(presignUploadExpiryMinutes)));
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 완료 처리 (기존 이미지 교체, 리사이즈 버전은 백그라운드에서 생성)
+     *
+     * 클라이언트가 올린 바이트를 직접 확인해서 허용 형식이 아니거나 발급 때 선언한 형식과 다르면 객체를 지우고 거부한다.
+     */
+    @Transactional
+    public PersonaResponse completeProfileImageUpload(User user, Long personaId, UploadCompleteRequest request) {
+        Persona persona = personaRepository.findByIdAndUserId(personaId, user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
+
+        String key = request.getObjectKey();
+        checkObjectKey(key, "profiles", user.getId());
+        try {
+            if (storageBackend.sizeOf(key) < 0) {
+                throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다. 업로드가 끝난 뒤 다시 시도해주세요.");
+            }
+            String contentType;
+            try (InputStream in = storageBackend.open(key)) {
+                contentType = profileImageProcessor.validate(in);
+            }
+            if (!key.endsWith(imageExtensionOf(contentType))) {
+                throw new IllegalArgumentException("업로드한 이미지 형식이 발급 요청의 Content-Type과 다릅니다");
+            }
+        } catch (IllegalArgumentException e) {
+            storageBackend.delete(key);
+            throw e;
+        } catch (IOException e) {
+            log.error("Failed to check uploaded profile image: {}", key, e);
+            throw new RuntimeException("프로필 이미지 업로드 실패", e);
+        }
+
+        replaceProfileImage(persona, storageBackend.urlFor(key));
+        return toResponse(persona);
+    }
+
+    /**
+     * 프로필 이미지 원본 다운로드 URL 발급 (presigned GET, 비공개 버킷에서도 사용 가능)
+     */
+    public PresignedUrlResponse presignProfileImageDownload(User user, Long personaId) {
+        Persona persona = personaRepository.findByIdAndUserId(personaId, user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
+
+        String key = storageBackend.keyFromUrl(persona.getProfileImageUrl());
+        if (key == null) {
+            throw new IllegalArgumentException("프로필 이미지가 없습니다");
+        }
+        return toPresignedUrlResponse(key, storageBackend.presignDownload(key, Duration.ofMinutes(presignDownloadExpiryMinutes)));
+    }
+
+    /**
+     * 카톡 파일 재업로드 (증분 가져오기)
+     *
+     * 같은 대화방을 나중에 다시 내보낸 파일에서 이전 워터마크 이후의 메시지만 ConversationSample로 추가한다.
+     * 파일은 트랜잭션 / 행 잠금 없이 스트리밍으로 읽고, 새 메시지는 업로드 캐시와 같은 메모리 한도로 모으다가
+     * 넘으면 압축 임시 파일로 내린다. 저장은 짧은 트랜잭션에서 행을 잠그고 워터마크가 파싱 전과 같은지 확인한 뒤
+     * 새 메시지 추가와 워터마크 갱신을 함께 한다. (Trait은 다시 생성하지 않음)
+     *
+     * @param speakerName 화자 이름 (생략 시 최초 가져오기 때 저장된 화자 사용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public KakaoImportResponse reimportKakaoFile(User user, Long personaId, MultipartFile kakaoFile, String speakerName) {
+        log.info("Re-importing kakao file for persona: {}, user: {}", personaId, user.getEmail());
+
+        Persona persona = personaRepository.findByIdAndUserId(personaId, user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
+
+        if (kakaoFile == null || kakaoFile.isEmpty()) {
+            throw new IllegalArgumentException("카톡 파일이 비어있습니다");
+        }
+
+        checkNotProcessing(persona);
+
+        String speaker = speakerName != null && !speakerName.isBlank() ? speakerName : persona.getSpeakerName();
+        if (speaker == null || speaker.isBlank()) {
+            throw new IllegalArgumentException("화자 이름(speakerName)은 필수입니다");
+        }
+
+        // 1. 트랜잭션 없이 스트리밍 파싱하며 워터마크 이후 메시지만 수집 (메모리 한도를 넘으면 임시 파일)
+        LocalDateTime previousLastMessageAt = persona.getImportLastMessageAt();
+        Long previousTailHash = persona.getImportTailHash();
+        KakaoUpload.Writer newMessages = kakaoUploadCache.newWriter();
+        try {
+            IncrementalImportCollector collector = new IncrementalImportCollector(
+                    previousLastMessageAt, previousTailHash, newMessages);
+            try {
+                kakaoTxtParser.parse(kakaoFile, collector);
+            } catch (IOException | UncheckedIOException e) {
+                log.error("Failed to parse kakao file", e);
+                throw new RuntimeException("카톡 파일 처리 실패", e);
+            }
+            collector.finish();
+
+            log.info("Scanned {} messages, {} new (anchored: {}) for persona: {}",
+                    collector.getScannedCount(), collector.getNewCount(), collector.isAnchored(), personaId);
+
+            // 2. 짧은 트랜잭션: 행을 잠그고 워터마크가 그대로일 때만 새 메시지 추가 / 워터마크 갱신
+            //    (파싱하는 동안 같은 Persona의 다른 재업로드가 먼저 커밋했으면 같은 메시지를 두 번 추가하므로 거부)
+            return transactionTemplate.execute(status -> {
+                Persona locked = personaRepository.findByIdAndUserIdForUpdate(personaId, user.getId())
+                        .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
+                checkNotProcessing(locked);
+                if (!Objects.equals(locked.getImportLastMessageAt(), previousLastMessageAt)
+                        || !Objects.equals(locked.getImportTailHash(), previousTailHash)) {
+                    throw new IllegalStateException("다른 재업로드가 먼저 처리되었습니다. 다시 시도해주세요.");
+                }
+
+                // 새 메시지만 기존 샘플 뒤에 추가 (기존 samples 컬렉션을 로딩하지 않음, 메모리에는 한 청크씩)
+                if (collector.getNewCount() > 0) {
+                    SampleChunkWriter samples = new SampleChunkWriter(speaker, sampleChunkSize,
+                            chunk -> conversationSampleStore.append(locked.getId(), chunk));
+                    try {
+                        newMessages.replay(samples);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    samples.flush();
+                    eventPublisher.publishEvent(new ConversationSamplesChangedEvent(locked.getId()));
+                }
+
+                // 워터마크 갱신
+                if (collector.getLastMessageAt() != null) {
+                    locked.updateSpeakerName(speaker);
+                    locked.updateImportWatermark(collector.getLastMessageAt(), collector.getTailHash());
+                }
+
+                return KakaoImportResponse.builder()
+                        .personaId(locked.getId())
+                        .scannedCount(collector.getScannedCount())
+                        .appendedCount(collector.getNewCount())
+                        .anchored(collector.isAnchored())
+                        .lastMessageAt(locked.getImportLastMessageAt())
+                        .build();
+            });
+        } finally {
+            newMessages.discard();
+        }
     }
 
     /**
@@ -186,10 +449,34 @@ public class PersonaService {
     public List<PersonaListResponse> getPersonaList(User user) {
         log.debug("Fetching persona list for user: {}", user.getEmail());
 
-        List<Persona> personas = personaRepository.findActiveByUserId(user.getId());
+        return toListResponses(personaRepository.findActiveByUserId(user.getId()));
+    }
 
-        return personas.stream()
-                .map(this::toListResponse)
+    /**
+     * Persona 검색 (blind index 인덱스 조회, 전체 복호화 없음)
+     *
+     * - 숫자 / 구분 기호만 있으면 전화번호 완전 일치 (하이픈 등은 무시)
+     * - 그 외에는 이름 접두어 (이름 전체 또는 단어의 앞부분, 대소문자 / 공백 무시)
+     */
+    public List<PersonaListResponse> searchPersonas(User user, String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        log.debug("Searching personas for user: {}", user.getEmail());
+
+        if (PHONE_NUMBER_QUERY.matcher(query).matches()) {
+            String phoneNumberHash = blindIndex.phoneNumber(user.getId(), query);
+            if (phoneNumberHash == null) {
+                return List.of();
+            }
+            return toListResponses(personaRepository.findActiveByUserIdAndPhoneNumberHash(user.getId(), phoneNumberHash));
+        }
+
+        // 토큰은 짧게 자른 hash라 충돌할 수 있으므로 복호화한 이름으로 다시 확인
+        List<Persona> candidates = personaRepository.findActiveByUserIdAndNameToken(
+                user.getId(), blindIndex.namePrefixToken(user.getId(), query));
+        return toListResponses(candidates).stream()
+                .filter(response -> BlindIndex.matchesNamePrefix(response.getName(), query))
                 .collect(Collectors.toList());
     }
 
@@ -205,6 +492,23 @@ public class PersonaService {
         return toResponse(persona);
     }
 
+    /**
+     * Persona 생성 파이프라인 진행 상태 조회
+     */
+    public PersonaIngestionResponse getIngestionStatus(User user, Long personaId) {
+        Persona persona = personaRepository.findByIdAndUserId(personaId, user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
+
+        return PersonaIngestionResponse.builder()
+                .personaId(persona.getId())
+                .status(persona.getStatus())
+                .stage(persona.getIngestionStage())
+                .progress(persona.getIngestionProgress())
+                .errorMessage(persona.getIngestionError())
+                .readyForChat(persona.isReadyForChat())
+                .build();
+    }
+
     /**
      * Persona 수정 (Multipart Form 방식)
      */
@@ -235,32 +539,16 @@ public class PersonaService {
             encryptedPhoneNumber = encryptionUtil.encrypt(phoneNumber);
         }
 
-        // 프로필 업데이트
+        // 프로필 업데이트 (바뀐 값의 검색용 blind index도 함께)
         persona.updateProfile(encryptedName, encryptedPhoneNumber, relationship, memo);
+        persona.updateBlindIndex(
+                encryptedName != null ? blindIndex.nameTokens(user.getId(), name) : null,
+                encryptedPhoneNumber != null ? blindIndex.phoneNumber(user.getId(), phoneNumber) : null);
 
         // 프로필 이미지 업데이트 (파일이 있는 경우)
         if (profileImage != null && !profileImage.isEmpty()) {
             try {
-                // 기존 이미지 삭제
-                if (persona.getProfileImageUrl() != null) {
-                    // [기존 S3 코드]
-                    // String oldKey = s3Service.extractKeyFromUrl(persona.getProfileImageUrl());
-                    // s3Service.deleteFile(oldKey);
-
-                    // [로컬 삭제 코드]
-                    deleteLocalFile(persona.getProfileImageUrl());
-                }
-
-                // 새 이미지 업로드
-                // [기존 S3 코드]
-                // String newImageUrl = s3Service.uploadProfileImage(profileImage, user.getId());
-                // persona.updateProfileImage(newImageUrl);
-                // log.info("Profile image updated: {}", newImageUrl);
-
-                // [로컬 저장 코드]
-                String newImageUrl = saveFileLocally(profileImage, "profiles/" + user.getId());
-                persona.updateProfileImage(newImageUrl);
-                log.info("Profile image updated locally: {}", newImageUrl);
+                replaceProfileImage(persona, storeProfileImage(profileImage, user.getId()));
             } catch (IOException e) {
                 log.error("Failed to upload profile image", e);
                 throw new RuntimeException("프로필 이미지 업로드 실패", e);
@@ -283,50 +571,111 @@ public class PersonaService {
                 .orElseThrow(() -> new IllegalArgumentException("Persona를 찾을 수 없습니다"));
 
         persona.softDelete();
+        // 대화 원문이 들어 있는 샘플 색인(메모리 / 세그먼트 파일) 삭제
+        personaSampleIndex.delete(personaId);
 
         log.info("Persona soft deleted: {}", personaId);
     }
 
     // === Helper Methods ===
 
+    private static void checkNotProcessing(Persona persona) {
+        if (persona.getStatus() == PersonaStatus.PROCESSING) {
+            throw new IllegalStateException("Persona를 생성하는 중입니다. 완료 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 카톡 파일을 한 번 파싱해서 업로드 캐시에 보관 (2단계 업로드 / 직접 업로드 공통)
+     */
+    private UploadResponse parseAndCacheUpload(User user, InputStream in) throws IOException {
+        // 메시지를 리스트로 모으지 않고 캐시 Writer로 바로 전달 (메모리 한도를 넘으면 파싱 중에 임시 파일로 씀)
+        KakaoUpload.Writer writer = kakaoUploadCache.newWriter();
+        try {
+            ConversationStatistics statistics = new ConversationStatistics();
+            kakaoTxtParser.parse(in, statistics.andThen(writer));
+
+            if (writer.getMessageCount() == 0) {
+                throw new IllegalArgumentException("카톡 대화 메시지를 찾을 수 없습니다. 내보낸 대화 파일인지 확인해주세요.");
+            }
+
+            return toUploadResponse(kakaoUploadCache.put(user.getId(), writer, statistics));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            writer.discard();
+        }
+    }
+
     /**
-     * 파일을 로컬에 저장하고 접근 가능한 URL(경로) 반환
+     * 프로필 이미지 교체 (기존 원본 / 리사이즈 버전 삭제와 새 리사이즈 버전 생성은 모두 커밋 후 백그라운드에서)
      */
-    private String saveFileLocally(MultipartFile file, String subDir) throws IOException {
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".")
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
-        String fileName = UUID.randomUUID().toString() + extension;
-
-        Path uploadPath = Paths.get(uploadDir, subDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+    private void replaceProfileImage(Persona persona, String newImageUrl) {
+        if (persona.getProfileImageUrl() != null) {
+            eventPublisher.publishEvent(new ProfileImageReplacedEvent(persona.getId(), persona.getProfileImageUrl()));
         }
 
-        Path filePath = uploadPath.resolve(fileName);
-        Files.copy(file.getInputStream(), filePath);
+        persona.updateProfileImage(newImageUrl);
+        eventPublisher.publishEvent(new ProfileImageUploadedEvent(persona.getId(), newImageUrl));
+        log.info("Profile image updated: {}", newImageUrl);
+    }
 
-        // 프론트엔드에서 접근할 수 있는 경로 반환 (예: /uploads/profiles/1/uuid.jpg)
-        return "/" + uploadDir + "/" + subDir + "/" + fileName;
+    /**
+     * 직접 업로드용 key 생성 ({prefix}/{userId}/{UUID}{확장자})
+     */
+    private static String newObjectKey(String prefix, Long userId, String extension) {
+        return String.format("%s/%d/%s%s", prefix, userId, UUID.randomUUID(), extension);
     }
 
     /**
-     * 로컬 파일 삭제
+     * 완료 알림으로 받은 key가 이 사용자에게 발급한 형식인지 확인 (다른 사용자 / 다른 경로의 객체 지정 방지)
      */
-    private void deleteLocalFile(String fileUrl) {
-        if (fileUrl == null || !fileUrl.startsWith("/" + uploadDir)) {
-            return;
+    private static void checkObjectKey(String key, String prefix, Long userId) {
+        String ownerPrefix = prefix + "/" + userId + "/";
+        if (key == null || !key.startsWith(ownerPrefix)
+                || !OBJECT_KEY_NAME.matcher(key.substring(ownerPrefix.length())).matches()) {
+            throw new IllegalArgumentException("잘못된 objectKey입니다");
         }
+    }
 
-        try {
-            // URL 경로에서 실제 파일 경로로 변환 (/uploads/... -> uploads/...)
-            String relativePath = fileUrl.substring(1);
-            Path filePath = Paths.get(relativePath);
-            Files.deleteIfExists(filePath);
-            log.info("Local file deleted: {}", filePath);
-        } catch (IOException e) {
-            log.error("Failed to delete local file: {}", fileUrl, e);
+    /**
+     * 파일 이름의 확장자 (".jpg", 영문 / 숫자만 허용, 없으면 "")
+     */
+    private static String extensionOf(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            return "";
+        }
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return extension.matches("[a-z0-9]{1,10}") ? "." + extension : "";
+    }
+
+    /**
+     * 허용된 프로필 이미지 Content-Type의 저장 확장자 (SVG 등 스크립트를 담을 수 있는 형식 거부)
+     */
+    private static String imageExtensionOf(String contentType) {
+        String extension = contentType != null
+                ? ProfileImageProcessor.ALLOWED_CONTENT_TYPES.get(contentType.toLowerCase(Locale.ROOT))
+                : null;
+        if (extension == null) {
+            throw new IllegalArgumentException("JPEG, PNG, WebP, GIF 이미지만 업로드할 수 있습니다");
+        }
+        return extension;
+    }
+
+    /**
+     * 프로필 이미지 저장 (profiles/{userId}/{UUID}.{확장자}), 저장소 URL 반환
+     * 실제 바이트로 형식을 확인한 뒤 그 형식의 Content-Type / 확장자로 저장 (클라이언트가 보낸 값은 쓰지 않음)
+     * 업로드 파일을 스트림으로 그대로 넘겨 메모리에 올리지 않음
+     */
+    private String storeProfileImage(MultipartFile file, Long userId) throws IOException {
+        String contentType;
+        try (InputStream in = file.getInputStream()) {
+            contentType = profileImageProcessor.validate(in);
+        }
+        String key = newObjectKey("profiles", userId, imageExtensionOf(contentType));
+
+        try (InputStream in = file.getInputStream()) {
+            return storageBackend.store(key, in, file.getSize(), contentType);
         }
     }
 
@@ -336,26 +685,77 @@ public class PersonaService {
     private PersonaResponse toResponse(Persona persona) {
         return PersonaResponse.builder()
                 .id(persona.getId())
-                .name(encryptionUtil.decrypt(persona.getName()))
-                .phoneNumber(encryptionUtil.decrypt(persona.getPhoneNumber()))
+                .name(encryptionUtil.decrypt(PiiField.PERSONA_NAME, persona.getName()))
+                .phoneNumber(encryptionUtil.decrypt(PiiField.PERSONA_PHONE_NUMBER, persona.getPhoneNumber()))
                 .relationship(persona.getRelationship())
-                .profileImageUrl(persona.getProfileImageUrl())
+                .profileImageUrl(persona.getProfileImageUrl(ProfileImageVariant.MEDIUM))
+                .profileImageOriginalUrl(persona.getProfileImageUrl())
                 .memo(persona.getMemo())
+                .status(persona.getStatus())
                 .createdAt(persona.getCreatedAt())
                 .updatedAt(persona.getUpdatedAt())
                 .build();
     }
 
+    /**
+     * PresignedRequest -> PresignedUrlResponse 변환
+     */
+    private static PresignedUrlResponse toPresignedUrlResponse(String key, PresignedRequest request) {
+        return PresignedUrlResponse.builder()
+                .objectKey(key)
+                .url(request.getUrl())
+                .method(request.getMethod())
+                .headers(request.getHeaders())
+                .expiresAt(request.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * KakaoUpload -> UploadResponse 변환
+     */
+    private UploadResponse toUploadResponse(KakaoUpload upload) {
+        return UploadResponse.builder()
+                .uploadId(upload.getUploadId())
+                .speakers(upload.getStatistics().getSpeakers())
+                .messageCount(upload.getMessageCount())
+                .selectedSpeaker(upload.getSelectedSpeaker())
+                .expiresAt(upload.getExpiresAt())
+                .build();
+    }
+
+    /**
+     * Persona 목록 -> PersonaListResponse 목록 변환
+     *
+     * 이름 / 전화번호를 한 번에 복호화 (같은 값은 한 번만, 많으면 병렬, 이름은 복호화 캐시 사용)
+     */
+    private List<PersonaListResponse> toListResponses(List<Persona> personas) {
+        List<String> names = new ArrayList<>(personas.size());
+        List<String> phoneNumbers = new ArrayList<>(personas.size());
+        for (Persona persona : personas) {
+            names.add(persona.getName());
+            phoneNumbers.add(persona.getPhoneNumber());
+        }
+        Map<String, String> decrypted = new HashMap<>(encryptionUtil.decryptAll(PiiField.PERSONA_NAME, names));
+        decrypted.putAll(encryptionUtil.decryptAll(PiiField.PERSONA_PHONE_NUMBER, phoneNumbers));
+
+        return personas.stream()
+                .map(persona -> toListResponse(persona, decrypted))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Persona -> PersonaListResponse 변환
+     *
+     * @param decrypted 암호문 → 평문 (EncryptionUtil.decryptAll)
      */
-    private PersonaListResponse toListResponse(Persona persona) {
+    private PersonaListResponse toListResponse(Persona persona, Map<String, String> decrypted) {
         return PersonaListResponse.builder()
                 .id(persona.getId())
-                .name(encryptionUtil.decrypt(persona.getName()))
-                .phoneNumber(encryptionUtil.decrypt(persona.getPhoneNumber()))
+                .name(decrypted.get(persona.getName()))
+                .phoneNumber(decrypted.get(persona.getPhoneNumber()))
                 .relationship(persona.getRelationship())
-                .profileImageUrl(persona.getProfileImageUrl())
+                .profileImageUrl(persona.getProfileImageUrl(ProfileImageVariant.THUMBNAIL))
+                .status(persona.getStatus())
                 .build();
     }
 }
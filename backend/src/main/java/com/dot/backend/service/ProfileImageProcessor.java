@@ -0,0 +1,227 @@
+package com.dot.backend.service;
+
+import com.dot.backend.domain.persona.ProfileImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 프로필 이미지 리사이즈 (원본을 한 번만 디코딩해서 모든 버전 생성)
+ *
+ * - 디코딩 전에 헤더의 가로 x 세로로 픽셀 수 제한 검사 (압축 폭탄 방지)
+ * - 원본이 큰 경우 디코딩 단계에서 서브샘플링해서 가장 큰 버전의 2배 정도 크기로만 읽음
+ * - 정사각형 중앙 크롭 후 절반씩 단계적으로 줄여 품질 유지, JPEG로 인코딩
+ * - 업로드 허용 여부는 선언된 Content-Type이 아니라 실제 바이트로 판별 (validate)
+ */
+@Component
+public class ProfileImageProcessor {
+
+    /** 업로드를 허용하는 이미지 Content-Type -> 저장 확장자 (SVG 등 스크립트를 담을 수 있는 형식은 제외) */
+    public static final Map<String, String> ALLOWED_CONTENT_TYPES = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/webp", ".webp",
+            "image/gif", ".gif");
+
+    /** 형식 판별에 읽는 앞부분 길이 (WebP: "RIFF" + 크기 4바이트 + "WEBP") */
+    private static final int SIGNATURE_LENGTH = 12;
+
+    private final long maxPixels;
+    private final float jpegQuality;
+
+    public ProfileImageProcessor(
+            @Value("${persona.profile-image.max-pixels:40000000}") long maxPixels,
+            @Value("${persona.profile-image.jpeg-quality:0.82}") float jpegQuality) {
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * 모든 리사이즈 버전 생성
+     *
+     * @return 버전별 JPEG 바이트
+     * @throws IllegalArgumentException 이미지가 아니거나 픽셀 수 제한 초과
+     */
+    public Map<ProfileImageVariant, byte[]> createVariants(InputStream in) throws IOException {
+        BufferedImage square = cropToSquare(decode(in, largestSize()));
+
+        Map<ProfileImageVariant, byte[]> variants = new EnumMap<>(ProfileImageVariant.class);
+        // 큰 버전부터 만들고, 작은 버전은 직전 결과에서 줄임
+        BufferedImage source = square;
+        for (int i = ProfileImageVariant.values().length - 1; i >= 0; i--) {
+            ProfileImageVariant variant = ProfileImageVariant.values()[i];
+            source = scaleDown(source, variant.getSize());
+            variants.put(variant, encodeJpeg(source));
+        }
+        return variants;
+    }
+
+    /**
+     * 업로드된 파일이 허용 형식의 이미지인지 실제 바이트로 확인
+     *
+     * 앞부분 시그니처로 형식을 판별하고, 디코더가 있는 형식(JPEG / PNG / GIF)은 디코딩까지 해서 확인한다.
+     * JDK에 디코더가 없는 WebP는 시그니처만 확인 (저장 시 Content-Type / 확장자를 판별 결과로 고정하므로 스크립트로 해석되지 않음)
+     *
+     * @return 판별된 Content-Type (ALLOWED_CONTENT_TYPES의 key)
+     * @throws IllegalArgumentException 허용 형식이 아니거나 디코딩 실패 / 픽셀 수 제한 초과
+     */
+    public String validate(InputStream in) throws IOException {
+        InputStream buffered = in.markSupported() ? in : new BufferedInputStream(in);
+        buffered.mark(SIGNATURE_LENGTH);
+        byte[] header = buffered.readNBytes(SIGNATURE_LENGTH);
+        buffered.reset();
+
+        String contentType = detectContentType(header);
+        if (contentType == null) {
+            throw new IllegalArgumentException("JPEG, PNG, WebP, GIF 이미지만 업로드할 수 있습니다");
+        }
+        if (ImageIO.getImageReadersByMIMEType(contentType).hasNext()) {
+            try {
+                decode(buffered, largestSize());
+            } catch (IIOException e) {
+                throw new IllegalArgumentException("이미지를 읽을 수 없습니다", e);
+            }
+        }
+        return contentType;
+    }
+
+    // === Helper Methods ===
+
+    private static String detectContentType(byte[] header) {
+        if (startsWith(header, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        String ascii = new String(header, StandardCharsets.ISO_8859_1);
+        if (ascii.startsWith("GIF87a") || ascii.startsWith("GIF89a")) {
+            return "image/gif";
+        }
+        if (header.length == SIGNATURE_LENGTH && ascii.startsWith("RIFF") && ascii.endsWith("WEBP")) {
+            return "image/webp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] header, int... signature) {
+        if (header.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BufferedImage decode(InputStream in, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException(
+                            "이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+
+                // 짧은 변이 targetSize의 2배 이상 남는 범위에서 서브샘플링 (디코딩 메모리 절약)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.min(width, height) / (targetSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage cropToSquare(BufferedImage image) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+        return draw(image.getSubimage(x, y, side, side), side);
+    }
+
+    /**
+     * 절반씩 줄이다가 마지막에 목표 크기로 (한 번에 크게 줄이면 bilinear가 계단 현상을 만듦)
+     * 원본이 목표보다 작으면 확대하지 않음
+     */
+    private static BufferedImage scaleDown(BufferedImage image, int size) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= size) {
+            current = draw(current, current.getWidth() / 2);
+        }
+        return current.getWidth() > size ? draw(current, size) : current;
+    }
+
+    /**
+     * RGB 캔버스에 그리기 (JPEG는 알파가 없으므로 투명 영역은 흰색)
+     */
+    private static BufferedImage draw(BufferedImage image, int size) {
+        BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.drawImage(image, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static int largestSize() {
+        int max = 0;
+        for (ProfileImageVariant variant : ProfileImageVariant.values()) {
+            max = Math.max(max, variant.getSize());
+        }
+        return max;
+    }
+}
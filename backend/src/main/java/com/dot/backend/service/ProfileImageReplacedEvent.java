@@ -0,0 +1,17 @@
+package com.dot.backend.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필 이미지 교체 이벤트 (Persona 저장 트랜잭션 커밋 후 기존 원본 / 리사이즈 버전 삭제)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImageReplacedEvent {
+
+    private final Long personaId;
+
+    /** 교체되기 전 원본 이미지 URL */
+    private final String oldImageUrl;
+}
@@ -0,0 +1,95 @@
+package com.dot.backend.service;
+
+import com.dot.backend.domain.persona.ProfileImageVariant;
+import com.dot.backend.domain.persona.repository.PersonaRepository;
+import com.dot.backend.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * 프로필 이미지 리사이즈 버전 생성 (백그라운드)
+ *
+ * 업로드 요청은 원본만 저장하고 바로 반환하며, 커밋 후 이 서비스가 버전별 JPEG를 원본과 같은 저장소 경로에 만든다.
+ * 생성이 끝나기 전(또는 실패 시) 응답은 원본 URL을 그대로 사용한다.
+ * 이미지가 교체되면 기존 원본 / 버전도 커밋 후 이 서비스가 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileImageService {
+
+    private final PersonaRepository personaRepository;
+    private final ProfileImageProcessor profileImageProcessor;
+    private final StorageBackend storageBackend;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async("profileImageExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileImageUploaded(ProfileImageUploadedEvent event) {
+        String imageUrl = event.getImageUrl();
+        String key = storageBackend.keyFromUrl(imageUrl);
+        if (key == null) {
+            return; // 현재 저장소에 없는 이미지 (저장소 변경 전 URL 등)
+        }
+
+        Map<ProfileImageVariant, byte[]> variants;
+        try (InputStream in = storageBackend.open(key)) {
+            variants = profileImageProcessor.createVariants(in);
+            for (Map.Entry<ProfileImageVariant, byte[]> variant : variants.entrySet()) {
+                byte[] bytes = variant.getValue();
+                storageBackend.store(storageBackend.keyFromUrl(variant.getKey().urlFor(imageUrl)),
+                        new ByteArrayInputStream(bytes), bytes.length, "image/jpeg");
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to create profile image variants for persona {}: {}", event.getPersonaId(), imageUrl, e);
+            deleteVariants(imageUrl);
+            return;
+        }
+
+        Boolean recorded = transactionTemplate.execute(status -> personaRepository.findById(event.getPersonaId())
+                .map(persona -> persona.completeProfileImageVariants(imageUrl, variants.keySet()))
+                .orElse(false));
+
+        // 생성하는 동안 이미지가 바뀌었거나 Persona가 삭제된 경우
+        if (!Boolean.TRUE.equals(recorded)) {
+            deleteVariants(imageUrl);
+            return;
+        }
+        log.info("Profile image variants created for persona {}: {}", event.getPersonaId(), variants.keySet());
+    }
+
+    /**
+     * 교체된 기존 이미지(원본 / 리사이즈 버전) 삭제
+     * 커밋 후에 지워서, 롤백되면 Persona가 계속 가리키는 기존 이미지가 남아 있게 한다
+     */
+    @Async("profileImageExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileImageReplaced(ProfileImageReplacedEvent event) {
+        String oldImageUrl = event.getOldImageUrl();
+        storageBackend.delete(storageBackend.keyFromUrl(oldImageUrl));
+        deleteVariants(oldImageUrl);
+        log.info("Replaced profile image deleted for persona {}: {}", event.getPersonaId(), oldImageUrl);
+    }
+
+    /**
+     * 리사이즈 버전 파일 삭제 (원본은 호출한 쪽에서 삭제)
+     */
+    public void deleteVariants(String imageUrl) {
+        if (storageBackend.keyFromUrl(imageUrl) == null) {
+            return;
+        }
+        for (ProfileImageVariant variant : ProfileImageVariant.values()) {
+            storageBackend.delete(storageBackend.keyFromUrl(variant.urlFor(imageUrl)));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.dot.backend.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필 이미지 업로드 이벤트 (Persona 저장 트랜잭션 커밋 후 리사이즈 버전 생성)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImageUploadedEvent {
+
+    private final Long personaId;
+
+    /** 업로드된 원본 이미지 URL */
+    private final String imageUrl;
+}
@@ -0,0 +1,58 @@
+package com.dot.backend.service;
+
+import com.dot.backend.domain.persona.SampleMessage;
+import com.dot.backend.parser.ParsedMessage;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 파싱 / 재생 콜백에서 받은 메시지를 chunkSize개씩 모아 저장 (메모리에는 저장 전 한 청크만 보관)
+ *
+ * 청크가 차면 flusher로 넘기고 (트랜잭션 / 진행률은 flusher가 처리), 마지막 남은 메시지는 {@link #flush()}로 저장한다.
+ */
+final class SampleChunkWriter implements Consumer<ParsedMessage> {
+
+    private final String speakerName;
+    private final int chunkSize;
+    private final Consumer<List<SampleMessage>> flusher;
+
+    private List<SampleMessage> buffer;
+
+    /** 받은 메시지 수 */
+    @Getter
+    private long count;
+
+    SampleChunkWriter(String speakerName, int chunkSize, Consumer<List<SampleMessage>> flusher) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.speakerName = speakerName;
+        this.chunkSize = chunkSize;
+        this.flusher = flusher;
+        this.buffer = new ArrayList<>(Math.min(chunkSize, 1024));
+    }
+
+    @Override
+    public void accept(ParsedMessage message) {
+        buffer.add(PersonaIngestionService.toSampleMessage(message, speakerName));
+        count++;
+        if (buffer.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 모아 둔 메시지 저장 (없으면 아무것도 안 함)
+     */
+    void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<SampleMessage> chunk = buffer;
+        buffer = new ArrayList<>(Math.min(chunkSize, 1024));
+        flusher.accept(chunk);
+    }
+}
@@ -0,0 +1,142 @@
+package com.dot.backend.service;
+
+import com.dot.backend.domain.persona.repository.ConversationSampleStore;
+import com.dot.backend.domain.persona.repository.PersonaRepository;
+import com.dot.backend.retrieval.Embedder;
+import com.dot.backend.retrieval.FewShotPrompt;
+import com.dot.backend.retrieval.SampleExchange;
+import com.dot.backend.retrieval.SampleExchangeCollector;
+import com.dot.backend.retrieval.StyleCardBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Persona style card 계산 (백그라운드)
+ *
+ * 대화 샘플이 바뀌면(ConversationSamplesChangedEvent) 교환을 군집화해서 군집별 대표 교환을 골라
+ * 렌더링한 문자열을 Persona에 저장한다. 채팅 턴은 저장된 문자열을 그대로 붙이므로 검색 비용이 없다.
+ * 계산하는 동안 샘플이 또 추가됐으면 저장하지 않는다 (그 추가에 대한 이벤트가 다시 계산함).
+ * 실행 큐(sampleIndexExecutor)가 가득 차서 거절되면 샘플 저장은 그대로 두고, 주기적으로 다시 예약한다.
+ */
+@Service
+@Slf4j
+public class StyleCardService {
+
+    private final PersonaRepository personaRepository;
+    private final ConversationSampleStore conversationSampleStore;
+    private final Embedder embedder;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor sampleIndexExecutor;
+    private final int clusters;
+    private final int sampleSize;
+    private final int maxTokens;
+
+    /** 실행 큐가 가득 차서 아직 계산하지 못한 Persona */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public StyleCardService(
+            PersonaRepository personaRepository,
+            ConversationSampleStore conversationSampleStore,
+            Embedder embedder,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("sampleIndexExecutor") Executor sampleIndexExecutor,
+            @Value("${chat.style-card.clusters:8}") int clusters,
+            @Value("${chat.style-card.sample-size:5000}") int sampleSize,
+            @Value("${chat.style-card.max-tokens:400}") int maxTokens) {
+        this.personaRepository = personaRepository;
+        this.conversationSampleStore = conversationSampleStore;
+        this.embedder = embedder;
+        this.transactionTemplate = transactionTemplate;
+        this.sampleIndexExecutor = sampleIndexExecutor;
+        this.clusters = clusters;
+        this.sampleSize = sampleSize;
+        this.maxTokens = maxTokens;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSamplesChanged(ConversationSamplesChangedEvent event) {
+        if (clusters <= 0) {
+            return;
+        }
+        schedule(event.getPersonaId());
+    }
+
+    /**
+     * 큐가 가득 차서 거절된 계산 다시 예약
+     */
+    @Scheduled(fixedDelayString = "${chat.style-card.retry-interval-ms:60000}")
+    public void retryPending() {
+        for (Long personaId : List.copyOf(pending)) {
+            if (pending.remove(personaId)) {
+                schedule(personaId);
+            }
+        }
+    }
+
+    /**
+     * 백그라운드 계산 예약 (거절돼도 예외를 던지지 않음: 샘플 저장 / 재업로드를 실패시키면 안 됨)
+     */
+    private void schedule(Long personaId) {
+        try {
+            sampleIndexExecutor.execute(() -> {
+                try {
+                    refresh(personaId);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to compute style card for persona: {}", personaId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.add(personaId);
+            log.warn("Style card computation rejected for persona {}, retrying later", personaId);
+        }
+    }
+
+    /**
+     * 샘플 전체를 한 번 훑어서 style card 계산 후 저장
+     */
+    public void refresh(Long personaId) {
+        long start = System.nanoTime();
+        StyleCardBuilder builder = new StyleCardBuilder(embedder, sampleSize, personaId);
+        SampleExchangeCollector collector = new SampleExchangeCollector(builder::add);
+        long[] seen = {0};
+        conversationSampleStore.forEach(personaId, message -> {
+            seen[0]++;
+            collector.accept(message);
+        });
+        int exchanges = collector.finish();
+
+        List<SampleExchange> representatives = builder.build(clusters);
+        String card = FewShotPrompt.renderStyleCard(representatives, maxTokens);
+
+        Boolean saved = transactionTemplate.execute(status -> {
+            if (conversationSampleStore.count(personaId) != seen[0]) {
+                return false;
+            }
+            return personaRepository.findById(personaId)
+                    .map(persona -> {
+                        persona.updateStyleCard(card.isEmpty() ? null : card);
+                        return true;
+                    })
+                    .orElse(false);
+        });
+
+        if (Boolean.TRUE.equals(saved)) {
+            log.info("Style card computed for persona {}: {} representatives from {} exchanges in {}ms",
+                    personaId, representatives.size(), exchanges, (System.nanoTime() - start) / 1_000_000);
+        } else {
+            log.debug("Style card for persona {} discarded (samples changed or persona deleted)", personaId);
+        }
+    }
+}
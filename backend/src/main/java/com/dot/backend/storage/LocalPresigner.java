@@ -0,0 +1,88 @@
+package com.dot.backend.storage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 로컬 저장소용 presigned URL 서명 / 검증 (S3 presigned URL 대역)
+ *
+ * URL: /api/storage/local/{key}?expires={epochSeconds}&length={bytes}&signature={HMAC-SHA256}
+ * 서명 대상은 method, key, Content-Type, 크기, 만료 시각이라 URL을 받은 클라이언트도 다른 파일 / 크기 / 형식으로는 쓸 수 없다.
+ * 실제 전송은 LocalStorageController가 처리한다 (개발 / 테스트용이라 앱 서버를 거침).
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalPresigner {
+
+    public static final String PATH_PREFIX = "/api/storage/local/";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec secretKey;
+    private final Clock clock;
+
+    @Autowired
+    public LocalPresigner(@Value("${storage.local.presign-secret:${jwt.secret}}") String secret) {
+        this(secret, Clock.systemUTC());
+    }
+
+    LocalPresigner(String secret, Clock clock) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.clock = clock;
+    }
+
+    /**
+     * @param contentType   PUT일 때 클라이언트가 보내야 하는 Content-Type (GET이면 null)
+     * @param contentLength PUT일 때 클라이언트가 보내야 하는 크기 (GET이면 -1)
+     */
+    public PresignedRequest presign(String method, String key, String contentType, long contentLength, Duration expiresIn) {
+        Instant expiresAt = clock.instant().plus(expiresIn);
+        long expires = expiresAt.getEpochSecond();
+        String url = PATH_PREFIX + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?expires=" + expires
+                + "&length=" + contentLength
+                + "&signature=" + sign(method, key, contentType, contentLength, expires);
+
+        Map<String, String> headers = contentType != null ? Map.of(HttpHeaders.CONTENT_TYPE, contentType) : Map.of();
+        return new PresignedRequest(url, method, headers, Instant.ofEpochSecond(expires));
+    }
+
+    /**
+     * 서명 / 만료 확인 (요청에서 읽은 값 그대로 전달)
+     */
+    public boolean verify(String method, String key, String contentType, long contentLength, long expires, String signature) {
+        if (signature == null || clock.instant().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(method, key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String sign(String method, String key, String contentType, long contentLength, long expires) {
+        String canonical = String.join("\n",
+                method, key, contentType != null ? contentType : "", Long.toString(contentLength), Long.toString(expires));
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            byte[] digest = mac.doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("presigned URL 서명 실패", e);
+        }
+    }
+}
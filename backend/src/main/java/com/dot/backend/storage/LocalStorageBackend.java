@@ -0,0 +1,222 @@
+package com.dot.backend.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 로컬 디스크 저장소 (개발 환경 기본값)
+ *
+ * {uploadDir}/{key}에 저장하고 /{uploadDir}/{key} URL로 서빙한다 (WebConfig 정적 리소스 핸들러).
+ * 임시 파일에 먼저 쓰고 이동해서, 쓰는 도중의 파일이 서빙되지 않게 한다.
+ * 압축이 잘 되는 형식(텍스트, SVG 등)은 .gz 파일도 함께 만들어 두고 요청 시 그대로 내려준다 (EncodedResourceResolver).
+ * presigned URL은 LocalPresigner가 서명하고 LocalStorageController가 받는다 (S3 presigned URL과 같은 사용법).
+ * 비공개 key(private/...)는 uploadDir 밖의 privateUploadDir에 저장해서 정적 리소스로 서빙되지 않게 하고,
+ * privateUploadTtl이 지난 파일은 주기적으로 삭제한다 (완료 알림 없이 버려진 업로드).
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalStorageBackend implements StorageBackend {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final String uploadDir;
+    private final Path root;
+    private final Path privateRoot;
+    private final Duration privateUploadTtl;
+    private final LocalPresigner presigner;
+    private final Clock clock;
+
+    @Autowired
+    public LocalStorageBackend(
+            @Value("${file.upload-dir:uploads}") String uploadDir,
+            @Value("${file.private-upload-dir:private-uploads}") String privateUploadDir,
+            @Value("${storage.private-upload-ttl-hours:24}") long privateUploadTtlHours,
+            LocalPresigner presigner) {
+        this(uploadDir, privateUploadDir, Duration.ofHours(privateUploadTtlHours), presigner, Clock.systemDefaultZone());
+    }
+
+    LocalStorageBackend(String uploadDir, String privateUploadDir, Duration privateUploadTtl,
+                        LocalPresigner presigner, Clock clock) {
+        this.uploadDir = uploadDir;
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.privateRoot = Paths.get(privateUploadDir).toAbsolutePath().normalize();
+        if (privateRoot.startsWith(root) || root.startsWith(privateRoot)) {
+            throw new IllegalArgumentException("file.private-upload-dir는 file.upload-dir와 겹치지 않아야 합니다: " + privateUploadDir);
+        }
+        this.privateUploadTtl = privateUploadTtl;
+        this.presigner = presigner;
+        this.clock = clock;
+    }
+
+    @Override
+    public String store(String key, InputStream in, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (StorageBackend.isPrivate(key)) {
+            return null;
+        }
+        if (isCompressible(contentType)) {
+            writePrecompressed(target);
+        }
+        return urlFor(key);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        try {
+            Path path = resolve(key);
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(Paths.get(path + GZIP_SUFFIX));
+            log.info("Local file deleted: {}", key);
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Failed to delete local file: {}", key, e);
+        }
+    }
+
+    @Override
+    public String urlFor(String key) {
+        if (StorageBackend.isPrivate(key)) {
+            throw new IllegalArgumentException("비공개 파일은 URL로 제공하지 않습니다: " + key);
+        }
+        // 프론트엔드에서 접근할 수 있는 경로 (예: /uploads/profiles/1/uuid.jpg)
+        return "/" + uploadDir + "/" + key;
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        String prefix = "/" + uploadDir + "/";
+        return url != null && url.startsWith(prefix) ? url.substring(prefix.length()) : null;
+    }
+
+    @Override
+    public long sizeOf(String key) throws IOException {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Files.size(path) : -1;
+    }
+
+    @Override
+    public PresignedRequest presignUpload(String key, String contentType, long contentLength, Duration expiresIn) {
+        resolve(key);
+        return presigner.presign("PUT", key, contentType, contentLength, expiresIn);
+    }
+
+    @Override
+    public PresignedRequest presignDownload(String key, Duration expiresIn) {
+        resolve(key);
+        return presigner.presign("GET", key, null, -1, expiresIn);
+    }
+
+    /**
+     * 만료된 비공개 업로드 삭제 (presign 후 완료 알림이 오지 않았거나 처리 중 실패해서 남은 카톡 원본 등)
+     *
+     * @return 삭제한 파일 수
+     */
+    @Scheduled(fixedDelayString = "${storage.private-sweep-interval-ms:3600000}",
+            initialDelayString = "${storage.private-sweep-interval-ms:3600000}")
+    public int deleteExpiredPrivateUploads() {
+        if (!Files.isDirectory(privateRoot)) {
+            return 0;
+        }
+
+        FileTime cutoff = FileTime.from(clock.instant().minus(privateUploadTtl));
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(privateRoot)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException e) {
+            log.error("Failed to list private uploads: {}", privateRoot, e);
+            return 0;
+        }
+
+        int deleted = 0;
+        for (Path file : files) {
+            try {
+                if (Files.getLastModifiedTime(file).compareTo(cutoff) < 0 && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete expired private upload: {}", file, e);
+            }
+        }
+        if (deleted > 0) {
+            log.info("Expired private uploads deleted: {}", deleted);
+        }
+        return deleted;
+    }
+
+    private static boolean isCompressible(String contentType) {
+        return contentType != null && (contentType.startsWith("text/")
+                || contentType.startsWith("application/json")
+                || contentType.startsWith("image/svg+xml"));
+    }
+
+    /**
+     * 원본 옆에 .gz 파일 생성 (압축해도 작아지지 않으면 만들지 않음, 실패해도 원본 서빙에는 영향 없음)
+     */
+    private void writePrecompressed(Path target) {
+        Path gzip = Paths.get(target + GZIP_SUFFIX);
+        try {
+            Path temp = Files.createTempFile(target.getParent(), ".upload-", ".gz.tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                Files.copy(target, out);
+            }
+            if (Files.size(temp) < Files.size(target)) {
+                Files.move(temp, gzip, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.delete(temp);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to precompress uploaded file: {}", target, e);
+        }
+    }
+
+    /**
+     * key -> 실제 파일 경로 (비공개 key는 privateUploadDir 아래, 각 디렉토리 밖을 가리키는 key 거부)
+     */
+    private Path resolve(String key) {
+        Path base = StorageBackend.isPrivate(key) ? privateRoot : root;
+        String relative = StorageBackend.isPrivate(key) ? key.substring(PRIVATE_PREFIX.length()) : key;
+        Path path = base.resolve(relative).normalize();
+        if (!path.startsWith(base) || path.equals(base)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+}
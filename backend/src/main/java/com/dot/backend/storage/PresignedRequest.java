@@ -0,0 +1,26 @@
+package com.dot.backend.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 미리 서명된 요청 (클라이언트가 앱 서버를 거치지 않고 저장소에 직접 보내는 요청)
+ *
+ * 클라이언트는 url로 method 요청을 보내되 headers를 그대로 함께 보내야 한다 (서명에 포함된 헤더).
+ */
+@Getter
+@AllArgsConstructor
+public class PresignedRequest {
+
+    private final String url;
+
+    /** PUT(업로드) / GET(다운로드) */
+    private final String method;
+
+    private final Map<String, String> headers;
+
+    private final Instant expiresAt;
+}
@@ -0,0 +1,307 @@
+package com.dot.backend.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * S3 저장소 (S3AsyncClient)
+ *
+ * - 작은 파일: PutObject 한 번, 요청 스레드의 InputStream을 SDK로 바로 흘려보냄 (버퍼링 없음)
+ * - 큰 파일 / 크기를 모르는 파일: multipart upload, partSize 단위로 읽어서 최대 maxConcurrentParts개까지 동시에 업로드
+ *   → 업로드 중 힙에 올라가는 데이터는 partSize x (maxConcurrentParts + 1) 이하 (파일 크기와 무관)
+ * 업로드 중 실패하면 multipart upload를 abort해서 S3에 조각이 남지 않게 한다.
+ * presigned URL은 S3Presigner로 로컬에서 서명한다 (S3 호출 없음).
+ * 비공개 key(private/...)의 공개 차단 / 만료 삭제는 버킷 정책과 lifecycle 규칙이 맡는다 (README 참고).
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+@Slf4j
+public class S3StorageBackend implements StorageBackend {
+
+    /** S3 multipart 최소 파트 크기 (마지막 파트 제외) */
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final String bucketName;
+    private final String baseUrl;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final int maxConcurrentParts;
+
+    @Autowired
+    public S3StorageBackend(
+            S3AsyncClient s3AsyncClient,
+            S3Presigner s3Presigner,
+            @Value("${aws.s3.bucket-name:dot-bucket}") String bucketName,
+            @Value("${aws.region:ap-northeast-2}") String region,
+            @Value("${storage.s3.public-base-url:}") String publicBaseUrl,
+            @Value("${storage.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+            @Value("${storage.s3.part-size-bytes:8388608}") int partSize,
+            @Value("${storage.s3.max-concurrent-parts:4}") int maxConcurrentParts) {
+        this(s3AsyncClient, s3Presigner, bucketName,
+                publicBaseUrl.isBlank()
+                        ? String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region)
+                        : (publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/"),
+                multipartThreshold, partSize, maxConcurrentParts);
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("storage.s3.part-size-bytes는 5MB 이상이어야 합니다: " + partSize);
+        }
+    }
+
+    S3StorageBackend(S3AsyncClient s3AsyncClient, S3Presigner s3Presigner, String bucketName, String baseUrl,
+                     long multipartThreshold, int partSize, int maxConcurrentParts) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.bucketName = bucketName;
+        this.baseUrl = baseUrl;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+        this.maxConcurrentParts = Math.max(1, maxConcurrentParts);
+    }
+
+    @Override
+    public String store(String key, InputStream in, long contentLength, String contentType) throws IOException {
+        log.info("Uploading file to S3: bucket={}, key={}, size={}", bucketName, key, contentLength);
+
+        if (contentLength >= 0 && contentLength < multipartThreshold) {
+            putObject(key, in, contentLength, contentType);
+        } else {
+            multipartUpload(key, in, contentType);
+        }
+        return StorageBackend.isPrivate(key) ? null : urlFor(key);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        return join(s3AsyncClient.getObject(request, AsyncResponseTransformer.toBlockingInputStream()));
+    }
+
+    @Override
+    public void delete(String key) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+
+        log.info("Deleting file from S3: bucket={}, key={}", bucketName, key);
+        try {
+            join(s3AsyncClient.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()));
+        } catch (Exception e) {
+            // 삭제 실패해도 로그만 남기고 예외는 던지지 않음
+            log.error("Failed to delete file from S3: {}", key, e);
+        }
+    }
+
+    @Override
+    public String urlFor(String key) {
+        if (StorageBackend.isPrivate(key)) {
+            throw new IllegalArgumentException("비공개 파일은 URL로 제공하지 않습니다: " + key);
+        }
+        return baseUrl + key;
+    }
+
+    @Override
+    public String keyFromUrl(String url) {
+        return url != null && url.startsWith(baseUrl) ? url.substring(baseUrl.length()) : null;
+    }
+
+    @Override
+    public long sizeOf(String key) throws IOException {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        try {
+            return s3AsyncClient.headObject(request).join().contentLength();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof S3Exception s3Exception && s3Exception.statusCode() == 404) {
+                return -1;
+            }
+            throw new IOException("S3 요청 실패", e.getCause());
+        }
+    }
+
+    @Override
+    public PresignedRequest presignUpload(String key, String contentType, long contentLength, Duration expiresIn) {
+        PutObjectPresignRequest request = PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build())
+                .build();
+        return toPresignedRequest(s3Presigner.presignPutObject(request));
+    }
+
+    @Override
+    public PresignedRequest presignDownload(String key, Duration expiresIn) {
+        GetObjectPresignRequest request = GetObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build())
+                .build();
+        return toPresignedRequest(s3Presigner.presignGetObject(request));
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * SDK 서명 결과 -> PresignedRequest (Host는 클라이언트가 URL에서 채우므로 제외)
+     */
+    private static PresignedRequest toPresignedRequest(
+            software.amazon.awssdk.services.s3.presigner.model.PresignedRequest presigned) {
+        Map<String, String> headers = presigned.signedHeaders().entrySet().stream()
+                .filter(header -> !header.getKey().equalsIgnoreCase("host"))
+                .collect(Collectors.toMap(Map.Entry::getKey, header -> String.join(",", header.getValue())));
+        return new PresignedRequest(
+                presigned.url().toString(),
+                presigned.httpRequest().method().name(),
+                headers,
+                presigned.expiration());
+    }
+
+    private void putObject(String key, InputStream in, long contentLength, String contentType) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        BlockingInputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingInputStream(contentLength);
+        CompletableFuture<PutObjectResponse> response = s3AsyncClient.putObject(request, body);
+        try {
+            body.writeInputStream(in);
+        } catch (RuntimeException e) {
+            response.cancel(true);
+            throw new IOException("S3 업로드 실패: " + key, e);
+        }
+        join(response);
+    }
+
+    private void multipartUpload(String key, InputStream in, String contentType) throws IOException {
+        String uploadId = join(s3AsyncClient.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build())).uploadId();
+
+        Deque<CompletableFuture<CompletedPart>> inFlight = new ArrayDeque<>();
+        List<CompletedPart> completed = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            int read;
+            do {
+                byte[] buffer = new byte[partSize];
+                read = in.readNBytes(buffer, 0, partSize);
+                if (read == 0 && partNumber > 1) {
+                    break;
+                }
+
+                inFlight.add(uploadPart(key, uploadId, partNumber++,
+                        read == partSize ? buffer : Arrays.copyOf(buffer, read)));
+                // 동시에 올리는 파트 수 = 힙에 남아 있는 파트 버퍼 수
+                if (inFlight.size() >= maxConcurrentParts) {
+                    completed.add(join(inFlight.poll()));
+                }
+            } while (read == partSize);
+
+            while (!inFlight.isEmpty()) {
+                completed.add(join(inFlight.poll()));
+            }
+
+            join(s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                    .build()));
+            log.info("Multipart upload completed: key={}, parts={}", key, completed.size());
+        } catch (IOException | RuntimeException e) {
+            inFlight.forEach(part -> part.cancel(true));
+            abortQuietly(key, uploadId);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] part) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) part.length)
+                .build();
+        return s3AsyncClient.uploadPart(request, AsyncRequestBody.fromBytesUnsafe(part))
+                .thenApply(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            join(s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build()));
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload: key={}, uploadId={}", key, uploadId, e);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new IOException("S3 요청 실패", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.dot.backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * 업로드 파일 저장소 (로컬 디스크 / S3)
+ *
+ * storage.type 설정으로 구현을 선택한다. 모든 구현은 InputStream을 그대로 흘려보내며
+ * 파일 전체를 메모리에 올리지 않는다 (업로드 중 힙 사용량이 파일 크기와 무관).
+ * key는 "profiles/1/uuid.jpg" 형태의 저장소 내부 경로, URL은 클라이언트에 내려주는 주소.
+ *
+ * 큰 파일은 presignUpload / presignDownload로 서명된 URL을 내려주고 클라이언트가 저장소와 직접 주고받게 해서
+ * 전송 대역폭 / 연결 시간이 앱 서버(Tomcat 워커)를 거치지 않게 한다.
+ *
+ * "private/"로 시작하는 key(카톡 대화 원본 등)는 공개 URL로 서빙하지 않는다.
+ * 로컬은 별도 디렉토리에 저장하고 주기적으로 만료 파일을 지우며, S3는 버킷 정책 / lifecycle 규칙으로 막는다 (README 참고).
+ */
+public interface StorageBackend {
+
+    /** 공개 URL로 서빙하지 않고 일정 시간 뒤 지워지는 key 접두사 */
+    String PRIVATE_PREFIX = "private/";
+
+    static boolean isPrivate(String key) {
+        return key != null && key.startsWith(PRIVATE_PREFIX);
+    }
+
+    /**
+     * 파일 저장 (같은 key가 있으면 덮어씀)
+     *
+     * @param contentLength 바이트 수 (모르면 -1)
+     * @return 클라이언트가 접근할 URL (비공개 key는 null)
+     */
+    String store(String key, InputStream in, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 저장된 파일 읽기 (호출한 쪽에서 close)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 파일 삭제 (없거나 실패해도 예외를 던지지 않음)
+     */
+    void delete(String key);
+
+    /**
+     * @throws IllegalArgumentException 비공개 key
+     */
+    String urlFor(String key);
+
+    /**
+     * URL에서 key 추출 (이 저장소의 URL이 아니면 null)
+     */
+    String keyFromUrl(String url);
+
+    /**
+     * 저장된 파일 크기 (없으면 -1)
+     */
+    long sizeOf(String key) throws IOException;
+
+    /**
+     * 클라이언트 직접 업로드용 서명된 PUT 요청
+     *
+     * @param contentLength 업로드할 바이트 수 (서명에 포함되어 다른 크기로는 올릴 수 없음)
+     */
+    PresignedRequest presignUpload(String key, String contentType, long contentLength, Duration expiresIn);
+
+    /**
+     * 클라이언트 직접 다운로드용 서명된 GET 요청
+     */
+    PresignedRequest presignDownload(String key, Duration expiresIn);
+}
@@ -0,0 +1,169 @@
+package com.dot.backend.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 암호화 필드 검색용 blind index (HMAC-SHA256)
+ *
+ * 암호문은 IV가 매번 달라 같은 값도 일치 검색이 안 되므로, 평문의 keyed hash를 별도 컬럼에 저장해서 인덱스로 찾는다.
+ * - 전화번호: 숫자만 남겨서 hash (완전 일치 검색)
+ * - 이름: 정규화한 이름 / 단어의 앞부분(1~MAX_PREFIX_LENGTH자)마다 hash (접두어 검색)
+ *
+ * 사용자 ID를 hash 입력에 넣어 같은 값이라도 사용자마다 다른 hash가 되도록 함 (사용자 간 같은 번호 / 이름 연결 방지).
+ * 이름 토큰은 hash를 짧게 잘라(TOKEN_BYTES) 충돌을 허용하므로, 검색 결과는 복호화한 이름으로 다시 확인해야 한다.
+ * 키는 용도별로 마스터 키에서 파생하며 (HMAC(master, 용도)), 마스터 키를 바꾸면 모든 blind index를 다시 계산해야 함.
+ */
+@Component
+public class BlindIndex {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /** 이름 접두어 토큰 최대 길이 (더 긴 검색어는 이 길이로 찾고 복호화해서 확인) */
+    public static final int MAX_PREFIX_LENGTH = 10;
+
+    private static final int PHONE_HASH_BYTES = 16;
+    private static final int TOKEN_BYTES = 8;
+
+    private final ThreadLocal<Mac> phoneNumberMac;
+    private final ThreadLocal<Mac> nameMac;
+
+    public BlindIndex(@Value("${encryption.blind-index-key:}") String key) {
+        // 데이터 암호화 키를 대신 쓰지 않음 (같은 키면 데이터 키 교체 시 저장된 blind index가 모두 깨짐)
+        if (key == null || key.isBlank()) {
+            throw new IllegalStateException("BLIND_INDEX_KEY(encryption.blind-index-key)가 설정되지 않았습니다. 데이터 암호화 키와 다른 32바이트 이상의 키를 지정하세요");
+        }
+        if (key.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalArgumentException("Blind index key must be at least 32 bytes");
+        }
+
+        SecretKeySpec masterKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        SecretKeySpec phoneNumberKey = new SecretKeySpec(hmac(newMac(masterKey), "persona.phone_number"), ALGORITHM);
+        SecretKeySpec nameKey = new SecretKeySpec(hmac(newMac(masterKey), "persona.name"), ALGORITHM);
+        this.phoneNumberMac = ThreadLocal.withInitial(() -> newMac(phoneNumberKey));
+        this.nameMac = ThreadLocal.withInitial(() -> newMac(nameKey));
+    }
+
+    /**
+     * 전화번호 blind index (숫자가 없으면 null)
+     */
+    public String phoneNumber(Long userId, String phoneNumber) {
+        String digits = normalizePhoneNumber(phoneNumber);
+        if (digits.isEmpty()) {
+            return null;
+        }
+        return hash(phoneNumberMac.get(), userId, digits, PHONE_HASH_BYTES);
+    }
+
+    /**
+     * 이름 접두어 토큰 (이름 전체 / 단어별 앞부분 1~MAX_PREFIX_LENGTH자, 중복 제거)
+     */
+    public Set<String> nameTokens(Long userId, String name) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : searchableWords(name)) {
+            int length = Math.min(word.length(), MAX_PREFIX_LENGTH);
+            for (int end = 1; end <= length; end++) {
+                tokens.add(hash(nameMac.get(), userId, word.substring(0, end), TOKEN_BYTES));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 이름 검색어의 토큰 (검색어가 비어 있으면 null)
+     */
+    public String namePrefixToken(Long userId, String query) {
+        String prefix = normalizeName(query).replace(" ", "");
+        if (prefix.isEmpty()) {
+            return null;
+        }
+        return hash(nameMac.get(), userId, prefix.substring(0, Math.min(prefix.length(), MAX_PREFIX_LENGTH)), TOKEN_BYTES);
+    }
+
+    /**
+     * 복호화한 이름이 검색어로 시작하는지 (토큰 충돌 / MAX_PREFIX_LENGTH보다 긴 검색어 확인용, nameTokens와 같은 기준)
+     */
+    public static boolean matchesNamePrefix(String name, String query) {
+        String prefix = normalizeName(query).replace(" ", "");
+        return !prefix.isEmpty() && searchableWords(name).stream().anyMatch(word -> word.startsWith(prefix));
+    }
+
+    /**
+     * 전화번호 정규화 (숫자만)
+     */
+    public static String normalizePhoneNumber(String phoneNumber) {
+        if (phoneNumber == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(phoneNumber.length());
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    // === Helper Methods ===
+
+    /**
+     * NFKC + 소문자 + 공백 하나로
+     */
+    private static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .strip()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 검색 대상 단어 (공백을 뺀 이름 전체 + 단어가 여러 개면 각 단어)
+     */
+    private static List<String> searchableWords(String name) {
+        String normalized = normalizeName(name);
+        List<String> words = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return words;
+        }
+        words.add(normalized.replace(" ", ""));
+        if (normalized.indexOf(' ') >= 0) {
+            words.addAll(List.of(normalized.split(" ")));
+        }
+        return words;
+    }
+
+    private static String hash(Mac mac, Long userId, String value, int bytes) {
+        byte[] digest = hmac(mac, userId + ":" + value);
+        return HexFormat.of().formatHex(digest, 0, bytes);
+    }
+
+    private static byte[] hmac(Mac mac, String value) {
+        return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Mac을 생성할 수 없습니다: " + ALGORITHM, e);
+        }
+    }
+}
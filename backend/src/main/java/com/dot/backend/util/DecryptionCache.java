@@ -0,0 +1,267 @@
+package com.dot.backend.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 복호화 결과 캐시 (암호문 → 평문)
+ *
+ * 목록 / 상세 조회에서 같은 이름을 반복해서 복호화하지 않도록 EncryptionUtil 앞에 둔다.
+ * - TTL: 마지막 접근 후 ttl이 지나면 만료 (접근할 때마다 연장)
+ * - 항목 수 한도: 넘으면 가장 오래 접근하지 않은 항목부터 제거 (구간별 LRU)
+ * - 평문은 char[]로 보관하고, 만료 / 제거 / 종료 시 0으로 지움 (String은 지울 수 없으므로 조회마다 새로 만듦)
+ * - 민감 필드(PiiField.cacheable = false)는 EncryptionUtil에서 이 캐시를 거치지 않음
+ *
+ * 요청 스레드끼리 전역 락을 잡지 않도록 key의 hash로 나눈 구간(Segment)마다 접근 순서 LinkedHashMap과 락을 따로 둔다.
+ * 구간마다 한도(maxEntries / 구간 수)를 나눠 갖고 그 안에서 정확한 LRU로 제거한다 (항목이 적으면 구간 1개 = 전체 LRU).
+ * 만료 항목은 조회할 때(해당 항목만) 지우고, 나머지는 주기 작업(removeExpired)이 구간별로 정리한다.
+ * 지표: encryption.decrypt.cache.gets{result=hit|miss}, .evictions, .size, .hit.ratio (actuator /metrics)
+ */
+@Component
+public class DecryptionCache implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "encryption.decrypt.cache";
+
+    /** 최대 구간 수 (2의 거듭제곱) */
+    private static final int MAX_SEGMENTS = 16;
+
+    /** 구간 하나의 최소 한도 (한도가 작으면 구간을 줄여서 LRU가 전체에 가깝게) */
+    private static final int MIN_SEGMENT_ENTRIES = 256;
+
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public DecryptionCache(
+            @Value("${encryption.cache.ttl-minutes:10}") long ttlMinutes,
+            @Value("${encryption.cache.max-entries:10000}") int maxEntries) {
+        this(Duration.ofMinutes(ttlMinutes), maxEntries, Clock.systemUTC());
+    }
+
+    DecryptionCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+
+        int limit = Math.max(0, maxEntries);
+        int count = 1;
+        while (count < MAX_SEGMENTS && (long) count * 2 * MIN_SEGMENT_ENTRIES <= limit) {
+            count *= 2;
+        }
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // 나머지는 앞 구간부터 하나씩 (구간 한도의 합 = maxEntries)
+            segments[i] = new Segment(limit / count + (i < limit % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * 캐시에 있으면 평문, 없으면 null (조회 시 만료 시간 연장)
+     */
+    public String get(String encryptedText) {
+        if (maxEntries <= 0 || encryptedText == null) {
+            return null;
+        }
+        String value = segmentFor(encryptedText).get(encryptedText, clock.instant());
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 복호화 결과 등록 (구간 한도를 넘으면 그 구간의 LRU 항목 제거)
+     */
+    public void put(String encryptedText, String plainText) {
+        if (maxEntries <= 0 || encryptedText == null || plainText == null) {
+            return;
+        }
+        segmentFor(encryptedText).put(encryptedText, new Entry(plainText.toCharArray(), clock.instant().plus(ttl)));
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 적중률 (조회가 없었으면 0)
+     */
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * 만료된 항목 정리 (조회되지 않은 채 만료된 평문이 한도까지 남아 있지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${encryption.cache.cleanup-interval-ms:60000}")
+    public void removeExpired() {
+        Instant now = clock.instant();
+        for (Segment segment : segments) {
+            segment.removeExpired(now);
+        }
+    }
+
+    @PreDestroy
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", this, DecryptionCache::hitCount)
+                .tag("result", "hit")
+                .description("복호화 캐시 조회 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".gets", this, DecryptionCache::missCount)
+                .tag("result", "miss")
+                .description("복호화 캐시 조회 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", this, DecryptionCache::evictionCount)
+                .description("만료 / 한도 초과로 제거된 항목 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, DecryptionCache::size)
+                .description("캐시된 항목 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, DecryptionCache::hitRatio)
+                .description("시작 후 누적 적중률")
+                .register(registry);
+    }
+
+    // === Helper Methods ===
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /**
+     * key hash 구간 하나 (이 구간의 조회 / 등록 / 정리만 같은 락을 잡음, 평문 읽기 / 지우기도 이 락 안에서)
+     */
+    private final class Segment {
+
+        private final int capacity;
+
+        // accessOrder = true: 조회할 때마다 맨 뒤로 이동 (맨 앞이 LRU이자 가장 먼저 만료되는 항목)
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized String get(String key, Instant now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!now.isBefore(entry.expiresAt)) {
+                entries.remove(key);
+                evict(entry);
+                return null;
+            }
+            entry.expiresAt = now.plus(ttl);
+            return new String(entry.value);
+        }
+
+        private synchronized void put(String key, Entry entry) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                previous.wipe();
+            }
+
+            Iterator<Entry> lru = entries.values().iterator();
+            while (entries.size() > capacity && lru.hasNext()) {
+                Entry eldest = lru.next();
+                lru.remove();
+                evict(eldest);
+            }
+        }
+
+        /**
+         * 맨 앞부터 만료된 항목 제거 (접근 순서 = 만료 순서이므로 만료되지 않은 항목을 만나면 중단)
+         */
+        private synchronized void removeExpired(Instant now) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (now.isBefore(entry.expiresAt)) {
+                    break;
+                }
+                it.remove();
+                evict(entry);
+            }
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized void clear() {
+            entries.values().forEach(Entry::wipe);
+            entries.clear();
+        }
+
+        private void evict(Entry entry) {
+            entry.wipe();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+
+        private final char[] value;
+        private Instant expiresAt;
+
+        private Entry(char[] value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private void wipe() {
+            Arrays.fill(value, '\0');
+        }
+    }
+}
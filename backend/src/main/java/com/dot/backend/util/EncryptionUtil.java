@@ -1,21 +1,42 @@
 package com.dot.backend.util;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * AES-256-GCM 암호화 유틸리티
  *
  * 개인정보 (이름, 전화번호) 암호화/복호화에 사용
+ *
+ * 목록 조회에서 행마다 호출되므로 호출당 비용을 줄임
+ * - Cipher는 스레드마다 한 번만 생성해서 재사용 (Cipher.getInstance는 provider 조회 비용이 큼)
+ * - IV = 스레드별 64비트 난수 prefix + 32비트 카운터 (NIST SP 800-38D 8.2.1 deterministic 구성)
+ *   호출마다 공유 SecureRandom을 쓰지 않으므로 스레드 간 경합이 없고, 카운터가 한 바퀴 돌면 prefix를 새로 뽑음.
+ *   서로 다른 스레드 / 재시작 / 노드의 prefix가 겹칠 확률은 prefix 수 N에 대해 N²/2^65 (난수 IV와 같은 수준)
+ * - Base64 인코딩 / 디코딩과 암호문 / 평문은 스레드별 버퍼에서 처리 (복호화한 평문 바이트는 사용 후 0으로 지움)
+ * 저장 형식(Base64(IV + 암호문 + 태그))은 그대로라 기존 암호문과 호환됨.
+ *
+ * PiiField를 받는 decrypt / decryptAll은 DecryptionCache를 먼저 조회함 (민감 필드는 캐시하지 않음)
  */
 @Component
 @Slf4j
@@ -24,11 +45,39 @@ public class EncryptionUtil {
     private static final String ALGORITHM = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12; // 96 bits
     private static final int GCM_TAG_LENGTH = 128; // 128 bits
+    private static final int IV_PREFIX_LENGTH = 8; // 난수 prefix (나머지 4바이트는 카운터)
+
+    /** decryptAll에서 병렬로 처리하기 시작하는 서로 다른 값 수 (값 하나 복호화 ~1µs) */
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    /** 스레드별로 유지하는 버퍼 최대 크기 (더 큰 값은 호출마다 할당) */
+    private static final int MAX_CACHED_BUFFER = 16 * 1024;
+
+    private static final byte[] BASE64_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int[] BASE64_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, -1);
+        for (int i = 0; i < BASE64_ALPHABET.length; i++) {
+            BASE64_VALUES[BASE64_ALPHABET[i]] = i;
+        }
+    }
 
     private final SecretKeySpec secretKey;
     private final SecureRandom secureRandom;
+    private final ThreadLocal<CipherState> cipherState = ThreadLocal.withInitial(CipherState::new);
+    private final DecryptionCache decryptionCache;
+
+    /**
+     * 복호화 캐시 없이 생성 (테스트 / 벤치마크용)
+     */
+    public EncryptionUtil(String key) {
+        this(key, new DecryptionCache(Duration.ZERO, 0, Clock.systemUTC()));
+    }
 
-    public EncryptionUtil(@Value("${encryption.key}") String key) {
+    @Autowired
+    public EncryptionUtil(@Value("${encryption.key}") String key, DecryptionCache decryptionCache) {
         // 키가 32바이트(256비트)인지 확인
         if (key.getBytes(StandardCharsets.UTF_8).length != 32) {
             throw new IllegalArgumentException("Encryption key must be 32 bytes (256 bits)");
@@ -36,6 +85,7 @@ public class EncryptionUtil {
 
         this.secretKey = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
         this.secureRandom = new SecureRandom();
+        this.decryptionCache = decryptionCache;
 
         log.info("EncryptionUtil initialized with AES-256-GCM");
     }
@@ -52,26 +102,17 @@ public class EncryptionUtil {
         }
 
         try {
-            // IV 생성 (랜덤)
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            secureRandom.nextBytes(iv);
+            CipherState state = cipherState.get();
+            byte[] iv = state.nextIv();
+            state.cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
 
-            // Cipher 초기화
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
-
-            // 암호화
+            // IV + 암호문을 스레드 버퍼에 이어서 씀
             byte[] plainTextBytes = plainText.getBytes(StandardCharsets.UTF_8);
-            byte[] cipherText = cipher.doFinal(plainTextBytes);
-
-            // IV + 암호문 결합
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(cipherText);
+            byte[] output = state.binary(GCM_IV_LENGTH + state.cipher.getOutputSize(plainTextBytes.length));
+            System.arraycopy(iv, 0, output, 0, GCM_IV_LENGTH);
+            int length = GCM_IV_LENGTH + state.cipher.doFinal(plainTextBytes, 0, plainTextBytes.length, output, GCM_IV_LENGTH);
 
-            // Base64 인코딩
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
+            return encodeBase64(output, length, state);
 
         } catch (Exception e) {
             log.error("Encryption failed", e);
@@ -89,32 +130,95 @@ public class EncryptionUtil {
         if (encryptedText == null || encryptedText.isEmpty()) {
             return encryptedText;
         }
+        return decrypt(cipherState.get(), encryptedText);
+    }
 
-        try {
-            // Base64 디코딩
-            byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
+    /**
+     * 여러 값 한 번에 복호화 (목록 조회용)
+     *
+     * - 같은 암호문은 한 번만 복호화
+     * - 서로 다른 값이 PARALLEL_THRESHOLD개 이상이면 공용 ForkJoinPool에서 나눠 처리 (적으면 분배 비용이 더 큼)
+     * - 하나라도 실패하면 decrypt와 같이 RuntimeException
+     *
+     * @param encryptedTexts 암호문 (null / 빈 문자열 포함 가능)
+     * @return 암호문 → 평문 (null / 빈 문자열은 그대로)
+     */
+    public Map<String, String> decryptAll(Collection<String> encryptedTexts) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(encryptedTexts));
+        String[] plainTexts = new String[distinct.size()];
+        if (distinct.size() < PARALLEL_THRESHOLD) {
+            CipherState state = cipherState.get();
+            for (int i = 0; i < plainTexts.length; i++) {
+                String encryptedText = distinct.get(i);
+                plainTexts[i] = encryptedText == null || encryptedText.isEmpty()
+                        ? encryptedText : decrypt(state, encryptedText);
+            }
+        } else {
+            IntStream.range(0, plainTexts.length).parallel()
+                    .forEach(i -> plainTexts[i] = decrypt(distinct.get(i)));
+        }
+
+        Map<String, String> result = new HashMap<>(plainTexts.length * 4 / 3 + 1);
+        for (int i = 0; i < plainTexts.length; i++) {
+            result.put(distinct.get(i), plainTexts[i]);
+        }
+        return result;
+    }
 
-            // IV와 암호문 분리
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decodedBytes);
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-            byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
+    /**
+     * 필드 단위 복호화 (캐시 가능한 필드는 DecryptionCache 먼저 조회)
+     *
+     * @param field 암호문이 저장된 필드
+     * @param encryptedText Base64 인코딩된 암호문 (IV + 암호문)
+     * @return 평문
+     */
+    public String decrypt(PiiField field, String encryptedText) {
+        if (!field.isCacheable() || encryptedText == null || encryptedText.isEmpty()) {
+            return decrypt(encryptedText);
+        }
 
-            // Cipher 초기화
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+        String cached = decryptionCache.get(encryptedText);
+        if (cached != null) {
+            return cached;
+        }
+        String plainText = decrypt(encryptedText);
+        decryptionCache.put(encryptedText, plainText);
+        return plainText;
+    }
 
-            // 복호화
-            byte[] plainTextBytes = cipher.doFinal(cipherText);
+    /**
+     * 필드 단위 여러 값 복호화 (캐시에 없는 값만 decryptAll로 복호화해서 캐시에 등록)
+     *
+     * @param field 암호문이 저장된 필드
+     * @param encryptedTexts 암호문 (null / 빈 문자열 포함 가능)
+     * @return 암호문 → 평문 (null / 빈 문자열은 그대로)
+     */
+    public Map<String, String> decryptAll(PiiField field, Collection<String> encryptedTexts) {
+        if (!field.isCacheable()) {
+            return decryptAll(encryptedTexts);
+        }
 
-            return new String(plainTextBytes, StandardCharsets.UTF_8);
+        Map<String, String> result = new HashMap<>();
+        List<String> missed = new ArrayList<>();
+        for (String encryptedText : new LinkedHashSet<>(encryptedTexts)) {
+            if (encryptedText == null || encryptedText.isEmpty()) {
+                result.put(encryptedText, encryptedText);
+                continue;
+            }
+            String cached = decryptionCache.get(encryptedText);
+            if (cached != null) {
+                result.put(encryptedText, cached);
+            } else {
+                missed.add(encryptedText);
+            }
+        }
 
-        } catch (Exception e) {
-            log.error("Decryption failed", e);
-            throw new RuntimeException("Decryption failed", e);
+        if (!missed.isEmpty()) {
+            Map<String, String> decrypted = decryptAll(missed);
+            decrypted.forEach(decryptionCache::put);
+            result.putAll(decrypted);
         }
+        return result;
     }
 
     /**
@@ -137,5 +241,155 @@ public class EncryptionUtil {
             return false;
         }
     }
-}
 
+    // === Helper Methods ===
+
+    private String decrypt(CipherState state, String encryptedText) {
+        try {
+            byte[] input = state.binary(decodedLength(encryptedText));
+            int length = decodeBase64(encryptedText, input);
+            if (length < GCM_IV_LENGTH + GCM_TAG_LENGTH / 8) {
+                throw new IllegalArgumentException("암호문이 너무 짧습니다: " + length + " bytes");
+            }
+
+            state.cipher.init(Cipher.DECRYPT_MODE, secretKey,
+                    new GCMParameterSpec(GCM_TAG_LENGTH, input, 0, GCM_IV_LENGTH));
+            byte[] output = state.plain(state.cipher.getOutputSize(length - GCM_IV_LENGTH));
+            int plainLength = state.cipher.doFinal(input, GCM_IV_LENGTH, length - GCM_IV_LENGTH, output, 0);
+
+            String plainText = new String(output, 0, plainLength, StandardCharsets.UTF_8);
+            Arrays.fill(output, 0, plainLength, (byte) 0);
+            return plainText;
+
+        } catch (Exception e) {
+            log.error("Decryption failed", e);
+            throw new RuntimeException("Decryption failed", e);
+        }
+    }
+
+    /**
+     * 스레드별 Cipher / IV 카운터 / 버퍼
+     */
+    private final class CipherState {
+
+        private final Cipher cipher;
+        private final byte[] iv = new byte[GCM_IV_LENGTH];
+        private int counter;
+
+        private byte[] binary = new byte[256];
+        private byte[] plain = new byte[256];
+        private byte[] text = new byte[512];
+
+        private CipherState() {
+            try {
+                this.cipher = Cipher.getInstance(ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cipher를 생성할 수 없습니다: " + ALGORITHM, e);
+            }
+        }
+
+        /**
+         * 다음 IV (prefix는 처음과 카운터가 한 바퀴 돌았을 때만 새로 뽑음)
+         */
+        private byte[] nextIv() {
+            if (counter == 0) {
+                secureRandom.nextBytes(iv);
+            }
+            int value = counter++;
+            iv[IV_PREFIX_LENGTH] = (byte) (value >>> 24);
+            iv[IV_PREFIX_LENGTH + 1] = (byte) (value >>> 16);
+            iv[IV_PREFIX_LENGTH + 2] = (byte) (value >>> 8);
+            iv[IV_PREFIX_LENGTH + 3] = (byte) value;
+            return iv;
+        }
+
+        // 큰 값은 한 번만 쓰고 버리도록 MAX_CACHED_BUFFER를 넘으면 스레드 버퍼로 유지하지 않음
+
+        private byte[] binary(int size) {
+            return size <= binary.length ? binary : size > MAX_CACHED_BUFFER ? new byte[size] : (binary = grow(binary, size));
+        }
+
+        private byte[] plain(int size) {
+            return size <= plain.length ? plain : size > MAX_CACHED_BUFFER ? new byte[size] : (plain = grow(plain, size));
+        }
+
+        private byte[] text(int size) {
+            return size <= text.length ? text : size > MAX_CACHED_BUFFER ? new byte[size] : (text = grow(text, size));
+        }
+
+        private byte[] grow(byte[] current, int size) {
+            return new byte[Math.min(MAX_CACHED_BUFFER, Math.max(size, current.length * 2))];
+        }
+    }
+
+    private static String encodeBase64(byte[] data, int length, CipherState state) {
+        byte[] out = state.text((length + 2) / 3 * 4);
+        int o = 0;
+        int full = length - length % 3;
+        for (int i = 0; i < full; i += 3) {
+            int bits = (data[i] & 0xff) << 16 | (data[i + 1] & 0xff) << 8 | (data[i + 2] & 0xff);
+            out[o++] = BASE64_ALPHABET[bits >>> 18];
+            out[o++] = BASE64_ALPHABET[(bits >>> 12) & 0x3f];
+            out[o++] = BASE64_ALPHABET[(bits >>> 6) & 0x3f];
+            out[o++] = BASE64_ALPHABET[bits & 0x3f];
+        }
+        if (full < length) {
+            int bits = (data[full] & 0xff) << 16 | (full + 1 < length ? (data[full + 1] & 0xff) << 8 : 0);
+            out[o++] = BASE64_ALPHABET[bits >>> 18];
+            out[o++] = BASE64_ALPHABET[(bits >>> 12) & 0x3f];
+            out[o++] = full + 1 < length ? BASE64_ALPHABET[(bits >>> 6) & 0x3f] : (byte) '=';
+            out[o++] = '=';
+        }
+        return new String(out, 0, o, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Base64 문자열의 디코딩 후 바이트 수
+     *
+     * @throws IllegalArgumentException 길이가 4의 배수가 아님
+     */
+    private static int decodedLength(String text) {
+        int length = text.length();
+        if (length % 4 != 0) {
+            throw new IllegalArgumentException("Base64 길이가 잘못됐습니다: " + length);
+        }
+        int padding = text.charAt(length - 1) == '=' ? (text.charAt(length - 2) == '=' ? 2 : 1) : 0;
+        return length / 4 * 3 - padding;
+    }
+
+    /**
+     * 표준 Base64(패딩 포함)를 out에 디코딩
+     *
+     * @return 디코딩한 바이트 수
+     * @throws IllegalArgumentException Base64 문자가 아님
+     */
+    private static int decodeBase64(String text, byte[] out) {
+        int decodedLength = decodedLength(text);
+        int length = text.length();
+        int o = 0;
+        for (int i = 0; i < length; i += 4) {
+            boolean last = i + 4 == length;
+            int c0 = base64Value(text.charAt(i));
+            int c1 = base64Value(text.charAt(i + 1));
+            int c2 = last && text.charAt(i + 2) == '=' && text.charAt(i + 3) == '=' ? 0 : base64Value(text.charAt(i + 2));
+            int c3 = last && text.charAt(i + 3) == '=' ? 0 : base64Value(text.charAt(i + 3));
+            if ((c0 | c1 | c2 | c3) < 0) {
+                throw new IllegalArgumentException("Base64 문자가 아닙니다");
+            }
+
+            int bits = c0 << 18 | c1 << 12 | c2 << 6 | c3;
+            out[o++] = (byte) (bits >>> 16);
+            if (o < decodedLength) {
+                out[o++] = (byte) (bits >>> 8);
+            }
+            if (o < decodedLength) {
+                out[o++] = (byte) bits;
+            }
+        }
+        return o;
+    }
+
+    private static int base64Value(char c) {
+        return c < 128 ? BASE64_VALUES[c] : -1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.dot.backend.util;
+
+/**
+ * 암호화해서 저장하는 개인정보 필드
+ *
+ * cacheable = false인 필드(민감 정보)는 복호화 결과를 DecryptionCache에 두지 않고 매번 복호화한다.
+ */
+public enum PiiField {
+
+    USER_NAME(true),
+    PERSONA_NAME(true),
+    PERSONA_PHONE_NUMBER(false);
+
+    private final boolean cacheable;
+
+    PiiField(boolean cacheable) {
+        this.cacheable = cacheable;
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+}
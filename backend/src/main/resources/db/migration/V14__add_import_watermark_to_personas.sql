@@ -0,0 +1,6 @@
+-- V14__add_import_watermark_to_personas.sql
+-- 카톡 파일 재업로드 시 새 메시지만 추가하기 위한 워터마크
+
+ALTER TABLE personas ADD COLUMN speaker_name VARCHAR(100) DEFAULT NULL COMMENT '카톡 파일에서 Persona에 해당하는 화자 이름';
+ALTER TABLE personas ADD COLUMN import_last_message_at DATETIME(6) DEFAULT NULL COMMENT '마지막으로 가져온 메시지 시간';
+ALTER TABLE personas ADD COLUMN import_tail_hash BIGINT DEFAULT NULL COMMENT '마지막으로 가져온 꼬리 메시지 롤링 해시';
@@ -0,0 +1,7 @@
+-- V15__add_ingestion_status_to_personas.sql
+-- Persona 백그라운드 생성 파이프라인 상태 / 진행률 (기존 Persona는 READY)
+
+ALTER TABLE personas ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'READY' COMMENT 'PROCESSING | READY | FAILED';
+ALTER TABLE personas ADD COLUMN ingestion_stage VARCHAR(30) DEFAULT NULL COMMENT '생성 파이프라인 단계';
+ALTER TABLE personas ADD COLUMN ingestion_progress INT DEFAULT NULL COMMENT '생성 파이프라인 진행률 (0~100)';
+ALTER TABLE personas ADD COLUMN ingestion_error VARCHAR(500) DEFAULT NULL COMMENT '생성 실패 사유';
@@ -0,0 +1,14 @@
+-- V16__use_time_ordered_ids.sql
+-- 채팅 메시지 / 대화 샘플 / 채팅 세션 / Refresh Token ID를 애플리케이션에서 생성 (TimeOrderedIdGenerator)
+-- AUTO_INCREMENT를 제거해서 INSERT 시 생성 키를 받아올 필요가 없도록 함 (Hibernate JDBC batch 사용 가능)
+-- 기존 ID는 그대로 유지 (새 ID는 기존 값보다 항상 큼)
+
+ALTER TABLE chat_message MODIFY COLUMN id BIGINT NOT NULL;
+ALTER TABLE conversation_sample MODIFY COLUMN id BIGINT NOT NULL;
+ALTER TABLE refresh_tokens MODIFY COLUMN id BIGINT NOT NULL;
+
+-- chat_sessions.id는 chat_logs가 참조하므로 외래키를 잠시 제거 후 다시 생성 (MySQL / MariaDB 모두 지원하는 DROP FOREIGN KEY)
+ALTER TABLE chat_logs DROP FOREIGN KEY fk_chat_logs_session;
+ALTER TABLE chat_sessions MODIFY COLUMN id BIGINT NOT NULL;
+ALTER TABLE chat_logs ADD CONSTRAINT fk_chat_logs_session
+    FOREIGN KEY (chat_session_id) REFERENCES chat_sessions(id) ON DELETE SET NULL;
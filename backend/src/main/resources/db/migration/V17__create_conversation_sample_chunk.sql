@@ -0,0 +1,13 @@
+-- V17__create_conversation_sample_chunk.sql
+-- 대화 샘플 압축 청크 테이블 (메시지 수천 건을 deflate 압축 BLOB 한 행으로 저장)
+
+CREATE TABLE conversation_sample_chunk (
+    id BIGINT NOT NULL PRIMARY KEY COMMENT 'TimeOrderedIdGenerator',
+    persona_id BIGINT NOT NULL,
+    chunk_seq INT NOT NULL COMMENT 'Persona 안에서의 청크 순서 (0부터)',
+    message_count INT NOT NULL COMMENT '청크에 담긴 메시지 수',
+    payload LONGBLOB NOT NULL COMMENT 'SampleChunkCodec 형식 (role 비트 + 길이 + UTF-8, deflate)',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    CONSTRAINT fk_sample_chunk_persona FOREIGN KEY (persona_id) REFERENCES personas(id) ON DELETE CASCADE,
+    CONSTRAINT uq_sample_chunk_persona_seq UNIQUE (persona_id, chunk_seq)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='대화 샘플 압축 청크 테이블';
@@ -0,0 +1,4 @@
+-- V18__add_profile_image_variants.sql
+-- 프로필 이미지 리사이즈 버전 생성 여부 (NULL이면 원본만 있음)
+
+ALTER TABLE personas ADD COLUMN profile_image_variants VARCHAR(100) DEFAULT NULL COMMENT '생성된 리사이즈 버전 (THUMBNAIL,MEDIUM)';
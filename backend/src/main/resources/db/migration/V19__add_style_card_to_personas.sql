@@ -0,0 +1,4 @@
+-- V19__add_style_card_to_personas.sql
+-- 대화 샘플에서 미리 골라 둔 대표 교환 (NULL이면 아직 계산 전이거나 샘플 없음)
+
+ALTER TABLE personas ADD COLUMN style_card TEXT DEFAULT NULL COMMENT '군집별 대표 대화 교환 (few-shot style card)';
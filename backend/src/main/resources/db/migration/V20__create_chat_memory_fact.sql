@@ -0,0 +1,15 @@
+-- V20__create_chat_memory_fact.sql
+-- 채팅에서 추출한 사용자-Persona별 장기 기억 (이름, 약속, 취향 등 짧은 사실 문장)
+
+CREATE TABLE chat_memory_fact (
+    id BIGINT NOT NULL PRIMARY KEY COMMENT 'TimeOrderedIdGenerator',
+    persona_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    content VARCHAR(500) NOT NULL COMMENT '사실 한 문장',
+    source_message_id BIGINT NOT NULL COMMENT '추출한 사용자 메시지 (chat_message.id)',
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) DEFAULT NULL,
+    CONSTRAINT fk_memory_fact_persona FOREIGN KEY (persona_id) REFERENCES personas(id) ON DELETE CASCADE,
+    CONSTRAINT fk_memory_fact_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_memory_fact_user_persona (user_id, persona_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='채팅 장기 기억 테이블';
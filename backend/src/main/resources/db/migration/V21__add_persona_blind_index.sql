@@ -0,0 +1,16 @@
+-- V21__add_persona_blind_index.sql
+-- 암호화된 이름 / 전화번호 검색용 blind index (HMAC, BlindIndex)
+-- 기존 행은 V22 (Java 마이그레이션, com.dot.backend.migration)에서 복호화해서 채움
+
+-- 1. 전화번호 hash (사용자별 완전 일치 검색)
+ALTER TABLE personas ADD COLUMN phone_number_hash VARCHAR(32) DEFAULT NULL COMMENT '전화번호 blind index (HMAC-SHA256 앞 16바이트 hex)';
+CREATE INDEX idx_persona_user_phone_hash ON personas (user_id, phone_number_hash);
+
+-- 2. 이름 접두어 토큰 (Persona당 이름 / 단어의 앞부분마다 한 행)
+CREATE TABLE persona_name_token (
+    persona_id BIGINT NOT NULL,
+    token VARCHAR(16) NOT NULL COMMENT '이름 접두어 blind index (HMAC-SHA256 앞 8바이트 hex, 사용자 ID 포함)',
+    PRIMARY KEY (persona_id, token),
+    CONSTRAINT fk_name_token_persona FOREIGN KEY (persona_id) REFERENCES personas(id) ON DELETE CASCADE,
+    INDEX idx_persona_name_token (token)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Persona 이름 검색 토큰 테이블';
@@ -0,0 +1,8 @@
+-- V23__add_ingestion_heartbeat_to_personas.sql
+-- 생성 파이프라인 lease: 작업을 맡은 노드가 주기적으로 갱신하고, 갱신이 끊긴 작업만 실패 처리
+-- (여러 노드 중 하나가 재시작해도 다른 노드에서 실행 중인 작업은 건드리지 않음)
+
+ALTER TABLE personas ADD COLUMN ingestion_heartbeat_at DATETIME(6) DEFAULT NULL COMMENT '생성 작업 lease 마지막 갱신 시간';
+
+-- 이미 생성 중인 작업은 지금부터 lease 시작 (맡은 노드가 살아 있으면 갱신, 아니면 lease 만료 후 실패 처리)
+UPDATE personas SET ingestion_heartbeat_at = CURRENT_TIMESTAMP(6) WHERE status = 'PROCESSING';
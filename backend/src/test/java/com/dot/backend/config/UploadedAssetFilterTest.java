@@ -0,0 +1,131 @@
+package com.dot.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UploadedAssetFilter 테스트 (sendfile 위임 / 통과 조건)
+ */
+class UploadedAssetFilterTest {
+
+    private static final String URI = "/uploads/profiles/1/a.jpg";
+
+    @TempDir
+    Path dir;
+
+    private Path root;
+    private Path file;
+    private UploadedAssetFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = dir.resolve("uploads");
+        file = root.resolve("profiles/1/a.jpg");
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[4096]);
+        filter = new UploadedAssetFilter("uploads", root, 1024);
+    }
+
+    @Test
+    @DisplayName("파일 전체 GET은 헤더만 쓰고 sendfile 속성으로 Tomcat에 전송을 맡김")
+    void fullGet_DelegatesToSendfile() throws Exception {
+        // given
+        MockHttpServletRequest request = sendfileRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(request.getAttribute(UploadedAssetFilter.SENDFILE_FILENAME_ATTR)).isEqualTo(file.toString());
+        assertThat(request.getAttribute(UploadedAssetFilter.SENDFILE_START_ATTR)).isEqualTo(0L);
+        assertThat(request.getAttribute(UploadedAssetFilter.SENDFILE_END_ATTR)).isEqualTo(4096L);
+        assertThat(response.getContentLengthLong()).isEqualTo(4096L);
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 304, 본문 / sendfile 없음")
+    void matchingEtag_NotModified() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(sendfileRequest(), first, new MockFilterChain());
+
+        MockHttpServletRequest request = sendfileRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(request.getAttribute(UploadedAssetFilter.SENDFILE_FILENAME_ATTR)).isNull();
+    }
+
+    @Test
+    @DisplayName("Range 요청 / sendfile 미지원 / 작은 파일 / 미리 압축된 파일은 리소스 핸들러로 통과")
+    void passesThroughToResourceHandler() throws Exception {
+        // given
+        MockHttpServletRequest range = sendfileRequest();
+        range.addHeader(HttpHeaders.RANGE, "bytes=0-99");
+
+        MockHttpServletRequest unsupported = new MockHttpServletRequest("GET", URI);
+
+        Files.write(root.resolve("profiles/1/small.jpg"), new byte[100]);
+        MockHttpServletRequest small = sendfileRequest();
+        small.setRequestURI("/uploads/profiles/1/small.jpg");
+
+        Files.write(root.resolve("profiles/1/a.jpg.gz"), new byte[10]);
+        MockHttpServletRequest precompressed = sendfileRequest();
+        precompressed.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        // when & then
+        for (MockHttpServletRequest request : new MockHttpServletRequest[]{range, unsupported, small, precompressed}) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertThat(chain.getRequest()).isSameAs(request);
+            assertThat(request.getAttribute(UploadedAssetFilter.SENDFILE_FILENAME_ATTR)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("업로드 디렉토리 밖을 가리키는 경로는 sendfile로 넘기지 않음")
+    void pathTraversal_PassesThrough() throws Exception {
+        // given
+        Files.write(dir.resolve("secret.txt"), new byte[4096]);
+        MockHttpServletRequest request = sendfileRequest();
+        request.setRequestURI("/uploads/../secret.txt");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(request.getAttribute(UploadedAssetFilter.SENDFILE_FILENAME_ATTR)).isNull();
+    }
+
+    private static MockHttpServletRequest sendfileRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+        request.setAttribute(UploadedAssetFilter.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package com.dot.backend.domain.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TimeOrderedIdGenerator 단위 테스트
+ */
+class TimeOrderedIdGeneratorTest {
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1; // 자바스크립트 Number.MAX_SAFE_INTEGER
+
+    @Test
+    @DisplayName("연속 생성 시 항상 증가 (같은 밀리초에 256개를 넘어도)")
+    void nextId_Increasing() {
+        // when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(TimeOrderedIdGenerator.nextId());
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allMatch(id -> id > 0 && id <= MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+    void nextId_UniqueAcrossThreads() {
+        // given
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // when
+        IntStream.range(0, 8).parallel().forEach(t -> {
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(TimeOrderedIdGenerator.nextId());
+            }
+        });
+
+        // then
+        assertThat(ids).hasSize(80_000);
+    }
+}
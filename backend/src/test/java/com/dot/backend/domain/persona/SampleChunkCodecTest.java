@@ -0,0 +1,61 @@
+package com.dot.backend.domain.persona;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SampleChunkCodec 단위 테스트
+ */
+class SampleChunkCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 순서, 역할, 내용이 그대로 복원됨")
+    void encodeDecode_RoundTrip() {
+        // given
+        List<SampleMessage> messages = List.of(
+                new SampleMessage(ConversationSample.Role.USER, "밥 먹었어?"),
+                new SampleMessage(ConversationSample.Role.PERSONA, "응 ㅋㅋ 너는? 😀"),
+                new SampleMessage(ConversationSample.Role.PERSONA, ""),
+                new SampleMessage(ConversationSample.Role.USER, "긴 메시지 ".repeat(500))
+        );
+
+        // when
+        List<SampleMessage> decoded = SampleChunkCodec.decode(SampleChunkCodec.encode(messages));
+
+        // then
+        assertThat(decoded).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    @DisplayName("반복이 많은 대화는 원본보다 훨씬 작게 저장됨")
+    void encode_Compresses() {
+        // given
+        List<SampleMessage> messages = new ArrayList<>();
+        int rawSize = 0;
+        for (int i = 0; i < 2000; i++) {
+            String message = (i % 2 == 0 ? "밥 먹었어? 오늘 날씨 좋다~ " : "응 조심히 들어가 ㅋㅋ ") + i;
+            messages.add(new SampleMessage(
+                    i % 2 == 0 ? ConversationSample.Role.USER : ConversationSample.Role.PERSONA, message));
+            rawSize += message.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        // when
+        byte[] payload = SampleChunkCodec.encode(messages);
+
+        // then
+        assertThat(payload.length).isLessThan(rawSize / 4);
+    }
+
+    @Test
+    @DisplayName("형식이 다른 데이터는 예외")
+    void decode_InvalidPayload() {
+        assertThatThrownBy(() -> SampleChunkCodec.decode(new byte[]{9, 1, 2}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
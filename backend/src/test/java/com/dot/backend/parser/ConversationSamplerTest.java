@@ -0,0 +1,52 @@
+package com.dot.backend.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConversationSampler 단위 테스트
+ */
+class ConversationSamplerTest {
+
+    @Test
+    @DisplayName("전체 기간에서 고르게 샘플링하고 글자 수 예산을 지킴")
+    void render_SpreadsAcrossHistoryWithinBudget() {
+        // given
+        ConversationSampler sampler = new ConversationSampler("엄마", 2000);
+        for (int i = 0; i < 100_000; i++) {
+            sampler.accept(new ParsedMessage(i % 2 == 0 ? "나" : "엄마", "메시지" + i, "2024-01-15 10:00:00"));
+        }
+
+        // when
+        String sample = sampler.render();
+
+        // then
+        List<Integer> indexes = Pattern.compile("메시지(\\d+)").matcher(sample).results()
+                .map(m -> Integer.parseInt(m.group(1)))
+                .toList();
+
+        assertThat(sample.length()).isLessThanOrEqualTo(2000);
+        assertThat(indexes).anyMatch(i -> i < 10_000);  // 처음 10% 구간
+        assertThat(indexes).anyMatch(i -> i >= 90_000); // 마지막 10% 구간
+        assertThat(indexes).isSorted();                 // 시간 순서 유지
+        assertThat(sampler.getExchangeCount()).isEqualTo(50_000);
+    }
+
+    @Test
+    @DisplayName("상대방 턴과 대상 화자 턴을 한 쌍으로 유지")
+    void render_KeepsConversationPairs() {
+        // given
+        ConversationSampler sampler = new ConversationSampler("엄마");
+        sampler.accept(new ParsedMessage("나", "밥 먹었어?", "2024-01-15 10:00:00"));
+        sampler.accept(new ParsedMessage("엄마", "응", "2024-01-15 10:01:00"));
+        sampler.accept(new ParsedMessage("엄마", "너는?", "2024-01-15 10:01:00"));
+
+        // when & then
+        assertThat(sampler.render()).isEqualTo("나: 밥 먹었어?\n엄마: 응\n엄마: 너는?");
+    }
+}
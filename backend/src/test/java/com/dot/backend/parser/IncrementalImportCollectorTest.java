@@ -0,0 +1,94 @@
+package com.dot.backend.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IncrementalImportCollector / KakaoTimestamp 단위 테스트
+ */
+class IncrementalImportCollectorTest {
+
+    @Test
+    @DisplayName("카톡 시간 문자열 파싱 (안드로이드 / 아이폰)")
+    void kakaoTimestamp_Parse() {
+        assertThat(KakaoTimestamp.parse("2024년 1월 15일 오전 12:05")).isEqualTo(LocalDateTime.of(2024, 1, 15, 0, 5));
+        assertThat(KakaoTimestamp.parse("2024년 1월 5일 오후 3:07")).isEqualTo(LocalDateTime.of(2024, 1, 5, 15, 7));
+        assertThat(KakaoTimestamp.parse("2024-01-15 10:23:45")).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 23, 45));
+        assertThat(KakaoTimestamp.parse("알 수 없는 형식")).isNull();
+    }
+
+    @Test
+    @DisplayName("재업로드 시 워터마크 이후 메시지만 수집 (같은 분에 여러 메시지가 있어도 정확한 위치)")
+    void collect_OnlyMessagesAfterWatermark() {
+        // given - 분 단위 시간이라 같은 시간의 메시지가 4개씩 존재
+        List<ParsedMessage> export = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            export.add(new ParsedMessage(i % 2 == 0 ? "엄마" : "나", "메시지" + (i % 7),
+                    String.format("2024년 1월 15일 오전 10:%02d", i / 4)));
+        }
+
+        List<ParsedMessage> firstMessages = new ArrayList<>();
+        IncrementalImportCollector first = new IncrementalImportCollector(null, null, firstMessages::add);
+        export.subList(0, 62).forEach(first);
+        first.finish();
+
+        // when
+        List<ParsedMessage> secondMessages = new ArrayList<>();
+        IncrementalImportCollector second = new IncrementalImportCollector(
+                first.getLastMessageAt(), first.getTailHash(), secondMessages::add);
+        export.forEach(second);
+        second.finish();
+
+        // then
+        assertThat(firstMessages).hasSize(62);
+        assertThat(second.isAnchored()).isTrue();
+        assertThat(secondMessages).containsExactlyElementsOf(export.subList(62, 100));
+        assertThat(second.getNewCount()).isEqualTo(38);
+        assertThat(second.getScannedCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("기준점을 찾지 못하면 마지막 메시지 시간 이후만 수집")
+    void collect_FallbackToTimestamp() {
+        List<ParsedMessage> newMessages = new ArrayList<>();
+        IncrementalImportCollector collector = new IncrementalImportCollector(
+                LocalDateTime.of(2024, 1, 15, 10, 0), 12345L, newMessages::add);
+
+        collector.accept(new ParsedMessage("엄마", "이전", "2024-01-15 09:59:00"));
+        collector.accept(new ParsedMessage("엄마", "같은 시간", "2024-01-15 10:00:00"));
+        collector.accept(new ParsedMessage("나", "이후", "2024-01-15 10:00:01"));
+        collector.finish();
+
+        assertThat(collector.isAnchored()).isFalse();
+        assertThat(newMessages).extracting(ParsedMessage::getContent).containsExactly("이후");
+    }
+
+    @Test
+    @DisplayName("기준점을 찾는 동안에는 보류 메시지만 모으고, 한도를 넘으면 시간 기준으로 바로 전달")
+    void collect_BoundedPendingWhileSearchingAnchor() {
+        // given
+        List<ParsedMessage> newMessages = new ArrayList<>();
+        IncrementalImportCollector collector = new IncrementalImportCollector(
+                LocalDateTime.of(2024, 1, 15, 10, 0), 12345L, newMessages::add);
+
+        // when
+        for (int i = 0; i < IncrementalImportCollector.MAX_PENDING; i++) {
+            collector.accept(new ParsedMessage("나", "이후" + i, "2024-01-15 10:00:01"));
+        }
+        int beforeOverflow = newMessages.size();
+        collector.accept(new ParsedMessage("나", "넘침", "2024-01-15 10:00:02"));
+        collector.accept(new ParsedMessage("나", "마지막", "2024-01-15 10:00:03"));
+
+        // then
+        assertThat(beforeOverflow).isZero();
+        assertThat(newMessages).hasSize(IncrementalImportCollector.MAX_PENDING + 2);
+        assertThat(newMessages.get(newMessages.size() - 1).getContent()).isEqualTo("마지막");
+        assertThat(collector.isAnchored()).isFalse();
+    }
+}
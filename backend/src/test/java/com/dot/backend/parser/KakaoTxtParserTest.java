@@ -0,0 +1,107 @@
+package com.dot.backend.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * KakaoTxtParser 파싱 테스트 (zip 업로드, 시스템 메시지 키워드)
+ */
+class KakaoTxtParserTest {
+
+    private final KakaoTxtParser parser = new KakaoTxtParser(null, List.of());
+
+    @Test
+    @DisplayName("zip 안의 .txt 파일들을 순서대로 파싱하고 다른 항목은 무시")
+    void parse_ZipWithSeveralTxtEntries() throws IOException {
+        // given
+        byte[] zip = zip(
+                "KakaoTalk_1.txt", "2024-01-15 10:00:00 엄마 : 밥 먹었어?\n2024-01-15 10:01:00 나 : 응",
+                "photo.jpg", "binary",
+                "__MACOSX/._KakaoTalk_1.txt", "meta",
+                "KakaoTalk_2.txt", "2024년 1월 16일 오전 9:00, 엄마 : 잘 자"
+        );
+
+        // when
+        List<ParsedMessage> messages = parser.parse(new ByteArrayInputStream(zip));
+
+        // then
+        assertThat(messages).extracting(ParsedMessage::getContent).containsExactly("밥 먹었어?", "응", "잘 자");
+    }
+
+    @Test
+    @DisplayName("zip 압축 해제 크기 / 항목 수 제한 초과 시 예외")
+    void parse_ZipLimits() throws IOException {
+        byte[] zip = zip(
+                "a.txt", "2024-01-15 10:00:00 엄마 : " + "ㅋ".repeat(1000),
+                "b.txt", "2024-01-15 10:00:00 엄마 : 안녕"
+        );
+
+        ReflectionTestUtils.setField(parser, "maxUnzippedBytes", 100L);
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(zip)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("압축 해제 크기");
+
+        ReflectionTestUtils.setField(parser, "maxUnzippedBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(parser, "maxZipEntries", 1);
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(zip)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("항목 수");
+    }
+
+    @Test
+    @DisplayName("건너뛰는 .txt 외 항목의 압축 해제 크기도 한도에 포함")
+    void parse_ZipLimitCountsSkippedEntries() throws IOException {
+        // given: 압축률이 높은 큰 바이너리 항목 + 작은 대화 파일
+        byte[] zip = zip(
+                "bomb.bin", "\0".repeat(100_000),
+                "a.txt", "2024-01-15 10:00:00 엄마 : 안녕"
+        );
+        ReflectionTestUtils.setField(parser, "maxUnzippedBytes", 10_000L);
+
+        // when & then
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(zip)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("압축 해제 크기");
+    }
+
+    @Test
+    @DisplayName("설정한 시스템 키워드는 기본 키워드에 더해짐 (기본 키워드도 계속 걸러냄)")
+    void parse_ConfiguredKeywordsAddToDefaults() throws IOException {
+        // given
+        KakaoTxtParser configured = new KakaoTxtParser(null, List.of("삭제된 메시지입니다.", "님이 나갔습니다"));
+        String txt = String.join("\n",
+                "2024-01-15 10:00:00 엄마 : 밥 먹었어?",
+                "2024-01-15 10:00:30 엄마 : 삭제된 메시지입니다.",
+                "2024-01-15 10:01:00 나 : 아빠님이 들어왔습니다.",
+                "2024-01-15 10:02:00 나 : 응");
+
+        // when
+        List<ParsedMessage> messages = configured.parse(new ByteArrayInputStream(txt.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(messages).extracting(ParsedMessage::getContent).containsExactly("밥 먹었어?", "응");
+    }
+
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
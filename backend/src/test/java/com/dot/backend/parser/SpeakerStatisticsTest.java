@@ -0,0 +1,99 @@
+package com.dot.backend.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SpeakerStatistics / SpaceSavingCounter 단위 테스트
+ */
+class SpeakerStatisticsTest {
+
+    private static final LocalDateTime SENT_AT = LocalDateTime.of(2024, 1, 15, 21, 0);
+
+    @Test
+    @DisplayName("메시지 수, 평균 길이, 길이 / 답장 지연 히스토그램, 시간대 집계")
+    void record_AccumulatesCountsAndHistograms() {
+        // given
+        SpeakerStatistics stats = new SpeakerStatistics("엄마");
+
+        // when
+        stats.record("밥 먹었어?", SENT_AT, 30);
+        stats.record("오늘은 일찍 들어와라 저녁 같이 먹자", SENT_AT, 10 * 60);
+        stats.record("응", SENT_AT.withHour(8), -1);
+
+        // then
+        assertThat(stats.getMessageCount()).isEqualTo(3);
+        assertThat(stats.getAverageLength()).isEqualTo((6 + 20 + 1) / 3.0);
+        assertThat(stats.getLengthHistogram()).containsExactly(1, 1, 1, 0, 0, 0);
+        assertThat(stats.getReplyCount()).isEqualTo(2);
+        assertThat(stats.getResponseLatencyHistogram()).containsExactly(1, 0, 1, 0, 0, 0);
+        assertThat(stats.topHours(2)).containsExactly(21, 8);
+    }
+
+    @Test
+    @DisplayName("이모지, 반복 자모, 카톡 이모티콘을 표현으로 집계하고 미디어 문구는 어미에서 제외")
+    void record_CountsExpressionsAndEndings() {
+        // given
+        SpeakerStatistics stats = new SpeakerStatistics("엄마");
+
+        // when
+        stats.record("ㅋㅋㅋ 잘 자라", SENT_AT, -1);
+        stats.record("사랑해❤", SENT_AT, -1);
+        stats.record("이모티콘", SENT_AT, -1);
+        stats.record("사진", SENT_AT, -1);
+        stats.record("ㅋㅋ 잘 자라", SENT_AT, -1);
+
+        // then
+        assertThat(stats.topExpressions(3)).extracting(Map.Entry::getKey)
+                .containsExactly("ㅋㅋ", "❤", "이모티콘");
+        assertThat(stats.topExpressions(1).get(0).getValue()).isEqualTo(2);
+        assertThat(stats.topEndings(2)).extracting(Map.Entry::getKey)
+                .containsExactly("자라", "랑해");
+        assertThat(stats.topEndings(10)).extracting(Map.Entry::getKey).doesNotContain("사진");
+    }
+
+    @Test
+    @DisplayName("키 수 한도를 넘긴 뒤 자주 쓰기 시작한 어미도 상위에 나타남")
+    void topEndings_IncludesLateFrequentKeys() {
+        // given: 앞부분에 서로 다른 어미 1000개
+        SpeakerStatistics stats = new SpeakerStatistics("엄마");
+        for (int i = 0; i < 1000; i++) {
+            stats.record("메시지" + (char) ('가' + i), SENT_AT, -1);
+        }
+
+        // when: 후반에 같은 어미를 반복
+        for (int i = 0; i < 50; i++) {
+            stats.record("알았어요", SENT_AT, -1);
+        }
+
+        // then
+        List<Map.Entry<String, Integer>> top = stats.topEndings(1);
+        assertThat(top).extracting(Map.Entry::getKey).containsExactly("어요");
+        assertThat(top.get(0).getValue()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("SpaceSavingCounter: 한도 안에서는 정확히 세고, 넘으면 가장 작은 카운터를 넘겨받음")
+    void spaceSavingCounter_ReplacesSmallestCounter() {
+        // given
+        SpaceSavingCounter counter = new SpaceSavingCounter(2);
+        counter.increment("a");
+        counter.increment("a");
+        counter.increment("b");
+
+        // when
+        counter.increment("c");
+
+        // then: b(1)를 c가 넘겨받아 2로 시작, a와 같은 개수면 먼저 들어온 a가 앞
+        assertThat(counter.size()).isEqualTo(2);
+        assertThat(counter.top(10)).containsExactly(Map.entry("a", 2), Map.entry("c", 2));
+        assertThatThrownBy(() -> new SpaceSavingCounter(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
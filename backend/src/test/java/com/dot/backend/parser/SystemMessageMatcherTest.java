@@ -0,0 +1,43 @@
+package com.dot.backend.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SystemMessageMatcher 단위 테스트
+ */
+class SystemMessageMatcherTest {
+
+    private final SystemMessageMatcher matcher = SystemMessageMatcher.of(KakaoTxtParser.DEFAULT_SYSTEM_KEYWORDS);
+
+    @Test
+    @DisplayName("시스템 메시지 키워드 포함 시 매칭")
+    void containsAny_SystemMessage() {
+        assertThat(matcher.containsAny("홍길동님이 들어왔습니다.")).isTrue();
+        assertThat(matcher.containsAny("저장한 날짜 : 2024-01-15 10:23:45")).isTrue();
+        assertThat(matcher.containsAny("2024년 1월 15일 오전 10:23, 홍길동 : 안녕하세요")).isFalse();
+    }
+
+    @Test
+    @DisplayName("겹치는 키워드도 한 번의 스캔으로 모두 찾음")
+    void findAll_OverlappingKeywords() {
+        SystemMessageMatcher overlapping = SystemMessageMatcher.of(List.of("he", "she", "his", "hers"));
+
+        assertThat(overlapping.findAll("ushers")).containsExactly("he", "she", "hers");
+        assertThat(overlapping.findAll("ahishe")).containsExactly("he", "she", "his");
+        assertThat(overlapping.findAll("xyz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 키워드와 중복은 무시")
+    void of_IgnoresBlankAndDuplicates() {
+        SystemMessageMatcher m = SystemMessageMatcher.of(List.of("사진", " ", "사진", "이모티콘"));
+
+        assertThat(m.getKeywords()).containsExactly("사진", "이모티콘");
+        assertThat(m.containsAny("")).isFalse();
+    }
+}
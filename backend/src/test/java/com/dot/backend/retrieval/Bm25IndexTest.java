@@ -0,0 +1,146 @@
+package com.dot.backend.retrieval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Bm25Index 테스트 (문자 bigram + BM25 검색)
+ */
+class Bm25IndexTest {
+
+    @Test
+    @DisplayName("조사 / 어미가 달라도 bigram이 겹치는 교환을 먼저 찾음")
+    void search_MatchesKoreanVariants() {
+        // given
+        Bm25Index index = Bm25Index.builder()
+                .add("오늘 날씨 어때?", "비 온대 우산 챙겨")
+                .add("밥은 먹었니?", "응 방금 먹었어 엄마는?")
+                .add("주말에 뭐 해?", "친구 만나러 가")
+                .add(null, "잘 자 내일 봐")
+                .build();
+
+        // when
+        List<SampleExchange> result = index.search("밥 먹었어?", 2);
+
+        // then
+        assertThat(result).isNotEmpty();
+        assertThat(result.get(0).getContext()).isEqualTo("밥은 먹었니?");
+        assertThat(result.get(0).getReply()).isEqualTo("응 방금 먹었어 엄마는?");
+    }
+
+    @Test
+    @DisplayName("점수 내림차순으로 최대 k개, 겹치는 토큰이 없는 교환은 제외")
+    void search_TopKInScoreOrder() {
+        // given
+        Bm25Index index = Bm25Index.builder()
+                .add("회사 끝났어", "수고했어")
+                .add("회사 회의 길어졌어", "회의 끝나면 연락해")
+                .add("회의 또 있어", "힘내")
+                .add("강아지 산책", "다녀와")
+                .build();
+
+        // when
+        List<SampleExchange> top2 = index.search("회사 회의", 2);
+        List<SampleExchange> all = index.search("회사 회의", 10);
+
+        // then
+        assertThat(top2).hasSize(2);
+        assertThat(top2.get(0).getContext()).isEqualTo("회사 회의 길어졌어");
+        assertThat(top2.get(0).getScore()).isGreaterThanOrEqualTo(top2.get(1).getScore());
+        assertThat(all).hasSize(3)
+                .extracting(SampleExchange::getContext)
+                .doesNotContain("강아지 산책");
+    }
+
+    @Test
+    @DisplayName("빈 색인 / 빈 질의 / 색인에 없는 토큰만 있는 질의는 빈 결과")
+    void search_EmptyCases() {
+        // given
+        Bm25Index empty = Bm25Index.builder().build();
+        Bm25Index index = Bm25Index.builder().add("안녕", "안녕하세요").build();
+
+        // when & then
+        assertThat(empty.search("안녕", 3)).isEmpty();
+        assertThat(index.search("", 3)).isEmpty();
+        assertThat(index.search("?!~", 3)).isEmpty();
+        assertThat(index.search("고양이", 3)).isEmpty();
+        assertThat(index.search("안녕", 0)).isEmpty();
+        assertThat(index.search("ANNYEONG 안녕", 3)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("교환 수가 많아도 상위 k개를 정확히 고름 (전체 정렬 결과와 비교)")
+    void search_LargeIndexMatchesFullSort() {
+        // given
+        Random random = new Random(7);
+        String[] words = {"밥", "먹었어", "회사", "퇴근", "주말", "영화", "날씨", "우산", "엄마", "아빠", "강아지", "산책",
+                "시험", "공부", "ㅋㅋ", "ㅎㅎ", "배고파", "졸려", "운동", "병원"};
+        Bm25Index.Builder builder = Bm25Index.builder();
+        List<String> contexts = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String context = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            contexts.add(context);
+            builder.add(context, words[random.nextInt(words.length)]);
+        }
+        Bm25Index index = builder.build();
+
+        // when
+        List<SampleExchange> top = index.search("주말에 영화 보러 갈래", 5);
+        List<SampleExchange> all = index.search("주말에 영화 보러 갈래", contexts.size());
+
+        // then
+        assertThat(index.size()).isEqualTo(20_000);
+        assertThat(top).hasSize(5);
+        for (int i = 0; i < top.size(); i++) {
+            assertThat(top.get(i).getScore()).isEqualTo(all.get(i).getScore());
+        }
+        for (int i = 1; i < all.size(); i++) {
+            assertThat(all.get(i - 1).getScore()).isGreaterThanOrEqualTo(all.get(i).getScore());
+        }
+    }
+
+    @Test
+    @DisplayName("기존 색인 뒤에 이어 붙인 색인은 처음부터 만든 색인과 검색 결과가 같음")
+    void builderWithBase_MatchesFullBuild() {
+        // given
+        Random random = new Random(3);
+        String[] words = {"밥", "먹었어", "회사", "퇴근", "주말", "영화", "날씨", "우산", "엄마", "강아지", "산책", "ok"};
+        List<String[]> exchanges = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            String context = i % 5 == 0 ? null : words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+            exchanges.add(new String[]{context, words[random.nextInt(words.length)]});
+        }
+
+        Bm25Index.Builder fullBuilder = Bm25Index.builder();
+        Bm25Index.Builder baseBuilder = Bm25Index.builder();
+        for (int i = 0; i < exchanges.size(); i++) {
+            fullBuilder.add(exchanges.get(i)[0], exchanges.get(i)[1]);
+            if (i < 2000) {
+                baseBuilder.add(exchanges.get(i)[0], exchanges.get(i)[1]);
+            }
+        }
+        Bm25Index.Builder appendBuilder = Bm25Index.builder(baseBuilder.build());
+        for (int i = 2000; i < exchanges.size(); i++) {
+            appendBuilder.add(exchanges.get(i)[0], exchanges.get(i)[1]);
+        }
+
+        // when
+        Bm25Index full = fullBuilder.build();
+        Bm25Index appended = appendBuilder.build();
+
+        // then
+        assertThat(appended.size()).isEqualTo(full.size());
+        assertThat(appended.termCount()).isEqualTo(full.termCount());
+        for (String query : new String[]{"밥 먹었어?", "주말 영화", "ok 우산", "강아지 산책 가자"}) {
+            assertThat(appended.search(query, 10)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(full.search(query, 10));
+        }
+        assertThat(appended.text(2999)).isEqualTo(full.text(2999));
+    }
+}
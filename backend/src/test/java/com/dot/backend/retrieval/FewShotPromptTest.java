@@ -0,0 +1,71 @@
+package com.dot.backend.retrieval;
+
+import com.dot.backend.domain.persona.ConversationSample.Role;
+import com.dot.backend.domain.persona.SampleMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SampleExchangeCollector / FewShotPrompt 테스트 (교환 묶기, 토큰 예산)
+ */
+class FewShotPromptTest {
+
+    @Test
+    @DisplayName("연속 메시지는 한 턴으로 묶고 (사용자 턴 → Persona 턴)을 교환으로 넘김")
+    void collector_GroupsTurnsIntoExchanges() {
+        // given
+        List<String[]> exchanges = new ArrayList<>();
+        SampleExchangeCollector collector = new SampleExchangeCollector(
+                (context, reply) -> exchanges.add(new String[]{context, reply}));
+
+        // when
+        List.of(
+                new SampleMessage(Role.PERSONA, "일어났어?"),
+                new SampleMessage(Role.USER, "응"),
+                new SampleMessage(Role.USER, "이제 일어남"),
+                new SampleMessage(Role.PERSONA, "밥 먹어"),
+                new SampleMessage(Role.PERSONA, "국 데워놨어"),
+                new SampleMessage(Role.USER, "고마워")
+        ).forEach(collector);
+        int count = collector.finish();
+
+        // then: 마지막 사용자 턴은 답이 없어서 교환이 아님
+        assertThat(count).isEqualTo(2);
+        assertThat(exchanges.get(0)).containsExactly(null, "일어났어?");
+        assertThat(exchanges.get(1)).containsExactly("응\n이제 일어남", "밥 먹어\n국 데워놨어");
+    }
+
+    @Test
+    @DisplayName("관련도 순서로 예산 안에 들어가는 예시만 넣고, 없으면 빈 문자열")
+    void render_RespectsTokenBudget() {
+        // given
+        SampleExchange first = new SampleExchange(0, "밥 먹었어?", "응 먹었어", 3f);
+        SampleExchange second = new SampleExchange(1, "뭐 먹었는데", "김치찌개".repeat(50), 2f);
+        SampleExchange third = new SampleExchange(2, null, "ㅇㅇ", 1f);
+
+        // when
+        String rendered = FewShotPrompt.render(List.of(first, second, third), 150);
+        String none = FewShotPrompt.render(List.of(), 150);
+
+        // then
+        assertThat(rendered)
+                .contains("상대: 밥 먹었어?\n나: 응 먹었어\n")
+                .doesNotContain("김치찌개")
+                .doesNotContain("ㅇㅇ");
+        assertThat(FewShotPrompt.estimateTokens(rendered)).isLessThanOrEqualTo(150);
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 추정: 비 ASCII 글자 1개 = 1토큰, ASCII 4글자 = 1토큰")
+    void estimateTokens() {
+        assertThat(FewShotPrompt.estimateTokens("안녕하세요")).isEqualTo(5);
+        assertThat(FewShotPrompt.estimateTokens("hello world!")).isEqualTo(3);
+        assertThat(FewShotPrompt.estimateTokens("ok 좋아")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,124 @@
+package com.dot.backend.retrieval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HnswIndex / HashingEmbedder 테스트 (근사 최근접 이웃 검색)
+ */
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    @DisplayName("전수 비교 대비 top-10 recall 95% 이상, 유사도 내림차순")
+    void search_RecallAgainstBruteForce() {
+        // given
+        Random random = new Random(7);
+        float[][] vectors = new float[5000][];
+        HnswIndex.Builder builder = HnswIndex.builder(DIMENSION, vectors.length, 16, 100, 1);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomUnitVector(random);
+            builder.add(vectors[i]);
+        }
+        HnswIndex index = builder.build();
+
+        // when
+        int found = 0;
+        for (int q = 0; q < 50; q++) {
+            float[] query = randomUnitVector(random);
+            List<HnswIndex.Hit> hits = index.search(query, 10, 64);
+
+            // then
+            assertThat(hits).hasSize(10);
+            assertThat(hits).extracting(HnswIndex.Hit::similarity)
+                    .isSortedAccordingTo(Comparator.reverseOrder());
+
+            Set<Integer> exact = IntStream.range(0, vectors.length).boxed()
+                    .sorted(Comparator.comparingDouble(i -> -dot(query, vectors[i])))
+                    .limit(10)
+                    .collect(Collectors.toSet());
+            found += (int) hits.stream().filter(hit -> exact.contains(hit.node())).count();
+        }
+        assertThat(found / 500.0).isGreaterThanOrEqualTo(0.95);
+    }
+
+    @Test
+    @DisplayName("색인된 벡터 자신으로 검색하면 자기 노드가 1위")
+    void search_FindsIndexedVector() {
+        // given
+        Random random = new Random(11);
+        float[][] vectors = new float[300][];
+        HnswIndex.Builder builder = HnswIndex.builder(DIMENSION, vectors.length, 8, 50, 1);
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomUnitVector(random);
+            builder.add(vectors[i]);
+        }
+        HnswIndex index = builder.build();
+
+        // when & then
+        for (int i = 0; i < vectors.length; i += 37) {
+            List<HnswIndex.Hit> hits = index.search(vectors[i], 1, 32);
+            assertThat(hits.get(0).node()).isEqualTo(i);
+            assertThat(hits.get(0).similarity()).isCloseTo(1f, within(1e-4f));
+        }
+    }
+
+    @Test
+    @DisplayName("용량 초과 / 차원 불일치 / build 후 추가는 예외")
+    void builder_RejectsInvalidInput() {
+        // given
+        HnswIndex.Builder builder = HnswIndex.builder(DIMENSION, 1, 16, 100, 1);
+        builder.add(randomUnitVector(new Random(1)));
+
+        // when & then
+        assertThatThrownBy(() -> builder.add(randomUnitVector(new Random(2))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> builder.build().search(new float[DIMENSION + 1], 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("HashingEmbedder: 정규화된 벡터, bigram이 겹치는 문장이 더 가까움")
+    void hashingEmbedder_SimilarTextsCloser() {
+        // given
+        HashingEmbedder embedder = new HashingEmbedder(128);
+        float[] query = new float[128];
+        float[] variant = new float[128];
+        float[] unrelated = new float[128];
+
+        // when
+        embedder.embed("밥 먹었어?", query);
+        embedder.embed("밥은 먹었니", variant);
+        embedder.embed("주말에 뭐 해", unrelated);
+
+        // then
+        assertThat(dot(query, query)).isCloseTo(1f, within(1e-4f));
+        assertThat(dot(query, variant)).isGreaterThan(dot(query, unrelated));
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        float norm = (float) Math.sqrt(dot(vector, vector));
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] /= norm;
+        }
+        return vector;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        return (float) IntStream.range(0, a.length).mapToDouble(i -> a[i] * b[i]).sum();
+    }
+}
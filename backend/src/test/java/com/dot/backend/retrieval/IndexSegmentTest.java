@@ -0,0 +1,126 @@
+package com.dot.backend.retrieval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IndexSegment / IndexSegmentStore 테스트 (세그먼트 저장 → mmap으로 열기)
+ */
+class IndexSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    private final HashingEmbedder embedder = new HashingEmbedder(32);
+
+    @Test
+    @DisplayName("저장한 세그먼트를 열면 BM25 / 벡터 검색 결과가 메모리 색인과 같음")
+    void writeAndOpen_SameSearchResults() throws Exception {
+        // given
+        Bm25Index lexical = Bm25Index.builder()
+                .add("오늘 날씨 어때?", "비 온대 우산 챙겨")
+                .add("밥은 먹었니?", "응 방금 먹었어 엄마는?")
+                .add(null, "잘 자 내일 봐")
+                .build();
+        HnswIndex vectors = vectorsOf(lexical);
+        Path file = dir.resolve("v1.seg");
+
+        // when
+        IndexSegment.write(file, new IndexSegment.Contents(1, 42, lexical, vectors, embedder.id()));
+        IndexSegment.Contents opened = IndexSegment.open(file);
+
+        // then
+        assertThat(opened.version()).isEqualTo(1);
+        assertThat(opened.messageCount()).isEqualTo(42);
+        assertThat(opened.embedderId()).isEqualTo(embedder.id());
+        assertThat(opened.lexical().search("밥 먹었어?", 3)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(lexical.search("밥 먹었어?", 3));
+        assertThat(opened.lexical().text(2)).isEqualTo("잘 자 내일 봐");
+
+        float[] query = new float[embedder.dimension()];
+        embedder.embed("밥 먹었어?", query);
+        assertThat(opened.vectors().search(query, 3, 16)).isEqualTo(vectors.search(query, 3, 16));
+    }
+
+    @Test
+    @DisplayName("벡터 없이 저장한 세그먼트는 BM25만 열림")
+    void writeWithoutVectors_OpensLexicalOnly() throws Exception {
+        // given
+        Bm25Index lexical = Bm25Index.builder().add("안녕", "안녕하세요").build();
+        Path file = dir.resolve("v1.seg");
+
+        // when
+        IndexSegment.write(file, new IndexSegment.Contents(1, 2, lexical, null, embedder.id()));
+        IndexSegment.Contents opened = IndexSegment.open(file);
+
+        // then
+        assertThat(opened.vectors()).isNull();
+        assertThat(opened.embedderId()).isEmpty();
+        assertThat(opened.lexical().search("안녕", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("저장할 때마다 버전이 오르고 이전 버전 파일은 지워짐, 손상된 최신 세그먼트는 버리고 이전 버전을 엶")
+    void store_VersionsAndDiscardsCorrupt() throws Exception {
+        // given
+        IndexSegmentStore store = new IndexSegmentStore(dir.toString());
+        Bm25Index first = Bm25Index.builder().add("안녕", "안녕하세요").build();
+        Bm25Index second = Bm25Index.builder(first).add("밥 먹었어?", "응").build();
+
+        // when
+        long v1 = store.save(7L, 2, first, null, embedder.id());
+        long v2 = store.save(7L, 4, second, null, embedder.id());
+        IndexSegment.Contents latest = store.openLatest(7L);
+
+        // then
+        assertThat(v1).isEqualTo(1);
+        assertThat(v2).isEqualTo(2);
+        assertThat(latest.messageCount()).isEqualTo(4);
+        assertThat(latest.lexical().size()).isEqualTo(2);
+        assertThat(Files.exists(dir.resolve("7/v1.seg"))).isFalse();
+        assertThat(store.openLatest(8L)).isNull();
+
+        // when (손상)
+        Files.write(dir.resolve("7/v3.seg"), new byte[100]);
+
+        // then
+        assertThat(store.openLatest(7L).version()).isEqualTo(2);
+        assertThat(Files.exists(dir.resolve("7/v3.seg"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Persona 세그먼트 삭제: 디렉토리째 지우고 다른 Persona는 유지")
+    void store_DeleteAll() throws Exception {
+        // given
+        IndexSegmentStore store = new IndexSegmentStore(dir.toString());
+        Bm25Index lexical = Bm25Index.builder().add("안녕", "안녕하세요").build();
+        store.save(7L, 2, lexical, null, embedder.id());
+        store.save(8L, 2, lexical, null, embedder.id());
+        Files.write(dir.resolve("7/.v2-1.tmp"), new byte[10]);
+
+        // when
+        store.deleteAll(7L);
+        store.deleteAll(9L);
+
+        // then
+        assertThat(Files.exists(dir.resolve("7"))).isFalse();
+        assertThat(store.openLatest(7L)).isNull();
+        assertThat(store.openLatest(8L).version()).isEqualTo(1);
+    }
+
+    private HnswIndex vectorsOf(Bm25Index lexical) {
+        HnswIndex.Builder builder = HnswIndex.builder(embedder.dimension(), lexical.size(), 4, 16, 1);
+        float[] vector = new float[embedder.dimension()];
+        for (int i = 0; i < lexical.size(); i++) {
+            embedder.embed(lexical.text(i), vector);
+            builder.add(vector);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.dot.backend.retrieval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MemoryPrompt 테스트 (추출 응답 파싱, 관련 사실 선택)
+ */
+class MemoryPromptTest {
+
+    @Test
+    @DisplayName("목록 기호를 떼고, 이미 아는 사실 / 응답 안 중복은 버리고, 최대 개수까지만")
+    void parseFacts_DeduplicatesAndLimits() {
+        // given
+        String response = """
+                - 딸 이름은 지은이다
+                * 다음 주 토요일에 병원 예약이 있다.
+                1. 딸 이름은 지은이다!
+                2) 2024년에 이사했다
+                - 매운 음식을 싫어한다
+                """;
+
+        // when
+        List<String> facts = MemoryPrompt.parseFacts(response, List.of("다음 주 토요일에 병원 예약이 있다"), 2);
+
+        // then
+        assertThat(facts).containsExactly("딸 이름은 지은이다", "2024년에 이사했다");
+    }
+
+    @Test
+    @DisplayName("'없음' 응답이나 null은 빈 목록")
+    void parseFacts_None() {
+        assertThat(MemoryPrompt.parseFacts("없음", List.of(), 3)).isEmpty();
+        assertThat(MemoryPrompt.parseFacts(null, List.of(), 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지금 메시지와 관련 있는 사실만 넣고, 없으면 빈 문자열")
+    void render_SelectsRelevantFacts() {
+        // given
+        List<String> facts = List.of(
+                "딸 이름은 지은이다",
+                "다음 주 토요일에 병원 예약이 있다",
+                "매운 음식을 싫어한다",
+                "고양이를 키운다");
+
+        // when
+        String rendered = MemoryPrompt.render(facts, "병원 예약 몇 시였지?", 5);
+        String none = MemoryPrompt.render(facts, "ㅎㅎ", 5);
+
+        // then
+        assertThat(rendered)
+                .contains("- 다음 주 토요일에 병원 예약이 있다\n")
+                .doesNotContain("고양이");
+        assertThat(none).isEmpty();
+        assertThat(MemoryPrompt.render(List.of(), "병원", 5)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package com.dot.backend.retrieval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * StyleCardBuilder 테스트 (군집별 대표 교환, 표본 상한)
+ */
+class StyleCardBuilderTest {
+
+    private final HashingEmbedder embedder = new HashingEmbedder(128);
+
+    @Test
+    @DisplayName("대화 유형마다 대표 교환을 하나씩, 큰 군집부터 고름")
+    void build_PicksRepresentativePerCluster() {
+        // given: 식사 60건, 날씨 30건, 병원 10건
+        StyleCardBuilder builder = new StyleCardBuilder(embedder, 1000, 42);
+        for (int i = 0; i < 60; i++) {
+            builder.add("밥 먹었어? " + i, "응 밥 먹었어 김치찌개 " + i);
+        }
+        for (int i = 0; i < 30; i++) {
+            builder.add("오늘 날씨 추워 " + i, "날씨 추우니까 옷 따뜻하게 입어 " + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            builder.add("병원 예약했어 " + i, "병원 다녀오면 연락해 " + i);
+        }
+
+        // when
+        List<SampleExchange> card = builder.build(3);
+
+        // then
+        assertThat(card).hasSize(3);
+        assertThat(card.get(0).getReply()).contains("밥");
+        assertThat(card.get(1).getReply()).contains("날씨");
+        assertThat(card.get(2).getReply()).contains("병원");
+        assertThat(card.get(0).getScore()).isCloseTo(0.6f, within(0.01f));
+    }
+
+    @Test
+    @DisplayName("교환이 군집 수보다 적으면 교환 수만큼, 없으면 빈 목록")
+    void build_FewerExchangesThanClusters() {
+        // given
+        StyleCardBuilder builder = new StyleCardBuilder(embedder, 1000, 42);
+        builder.add(null, "일어났어?");
+        builder.add("응", "밥 먹어");
+
+        // when / then
+        assertThat(builder.build(8)).hasSize(2);
+        assertThat(new StyleCardBuilder(embedder, 1000, 42).build(8)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("표본 수를 넘는 교환은 무작위 표본으로 군집화")
+    void build_SamplesLargeInput() {
+        // given
+        StyleCardBuilder builder = new StyleCardBuilder(embedder, 50, 7);
+        for (int i = 0; i < 10_000; i++) {
+            builder.add("질문 " + i, i % 2 == 0 ? "밥 먹었어 " + i : "잘 자 " + i);
+        }
+
+        // when
+        List<SampleExchange> card = builder.build(2);
+
+        // then: 표본 안의 위치만 참조
+        assertThat(card).hasSize(2);
+        assertThat(card).allSatisfy(exchange -> assertThat(exchange.getPosition()).isBetween(0, 49));
+        assertThat(card.stream().mapToDouble(SampleExchange::getScore).sum()).isCloseTo(1.0, within(0.001));
+    }
+}
@@ -0,0 +1,245 @@
+package com.dot.backend.service;
+
+import com.dot.backend.parser.ConversationStatistics;
+import com.dot.backend.parser.ParsedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * KakaoUploadCache 테스트 (TTL / LRU 제거 / 메모리 한도 초과 시 spill / 파싱 중 spill)
+ */
+class KakaoUploadCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    @TempDir
+    Path spillDir;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 오래된 업로드를 파일로 내리고, 재생 결과는 그대로")
+    void put_SpillsWhenOverMemoryLimit() throws IOException {
+        // given
+        KakaoUploadCache cache = cache(10, 1);
+        List<ParsedMessage> messages = List.of(
+                new ParsedMessage("엄마", "밥 먹었어?", "2024-01-15 10:00:00"),
+                new ParsedMessage("나", "ㅋ".repeat(70000), "2024-01-15 10:01:00"),
+                new ParsedMessage("엄마", "", null));
+
+        // when
+        KakaoUpload upload = cache.put(USER_ID, messages, statistics(messages));
+
+        // then
+        assertThat(upload.isSpilled()).isTrue();
+        assertThat(files()).hasSize(1);
+
+        List<ParsedMessage> replayed = new ArrayList<>();
+        cache.get(upload.getUploadId(), USER_ID).replay(replayed::add);
+        assertThat(replayed).extracting(ParsedMessage::getSpeaker, ParsedMessage::getContent, ParsedMessage::getSentAt)
+                .containsExactly(
+                        tuple("엄마", "밥 먹었어?", "2024-01-15 10:00:00"),
+                        tuple("나", "ㅋ".repeat(70000), "2024-01-15 10:01:00"),
+                        tuple("엄마", "", null));
+
+        upload.release();
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파싱 중인 업로드가 메모리 한도를 넘으면 그때부터 파일로 쓰고, 다른 업로드는 메모리에 유지")
+    void writer_SpillsWhileParsing() throws IOException {
+        // given
+        KakaoUploadCache cache = cache(10, 5000);
+        KakaoUpload small = cache.put(USER_ID, messages(), statistics(messages()));
+
+        // when
+        KakaoUpload.Writer writer = cache.newWriter();
+        for (int i = 0; i < 1000; i++) {
+            writer.accept(new ParsedMessage("엄마", "메시지" + i, "2024-01-15 10:00:00"));
+        }
+        assertThat(files()).hasSize(1);
+        KakaoUpload large = cache.put(USER_ID, writer, new ConversationStatistics());
+
+        // then
+        List<String> replayed = new ArrayList<>();
+        large.replay(message -> replayed.add(message.getContent()));
+        assertThat(large.isSpilled()).isTrue();
+        assertThat(large.getMessageCount()).isEqualTo(1000);
+        assertThat(replayed).hasSize(1000).startsWith("메시지0").endsWith("메시지999");
+        assertThat(small.isSpilled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 Writer도 파일로 내린 메시지를 그대로 재생하고 discard로 정리 (재업로드)")
+    void writer_ReplayWithoutPut() throws IOException {
+        // given
+        KakaoUploadCache cache = cache(10, 5000);
+        KakaoUpload.Writer writer = cache.newWriter();
+        for (int i = 0; i < 1000; i++) {
+            writer.accept(new ParsedMessage("엄마", "메시지" + i, "2024-01-15 10:00:00"));
+        }
+
+        // when
+        List<String> replayed = new ArrayList<>();
+        writer.replay(message -> replayed.add(message.getContent()));
+        writer.discard();
+
+        // then
+        assertThat(replayed).hasSize(1000).startsWith("메시지0").endsWith("메시지999");
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등록하지 않은 Writer는 discard로 임시 파일과 메모리 예약을 정리")
+    void writer_DiscardReleasesFileAndBudget() throws IOException {
+        // given
+        KakaoUploadCache cache = cache(10, 5000);
+        KakaoUpload.Writer writer = cache.newWriter();
+        for (int i = 0; i < 1000; i++) {
+            writer.accept(new ParsedMessage("엄마", "메시지" + i, "2024-01-15 10:00:00"));
+        }
+
+        // when
+        writer.discard();
+
+        // then: 파일이 지워지고, 예약이 풀려서 작은 업로드는 다시 메모리에 올라감
+        assertThat(files()).isEmpty();
+        assertThat(cache.put(USER_ID, messages(), statistics(messages())).isSpilled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 조회 후 TTL이 지나면 만료되고 spill 파일도 삭제")
+    void get_ExpiresAfterTtl() throws IOException {
+        // given
+        KakaoUploadCache cache = cache(10, 1);
+        KakaoUpload upload = cache.put(USER_ID, messages(), statistics(messages()));
+
+        // when: 조회하면 만료 시간 연장
+        clock.advance(Duration.ofMinutes(20));
+        cache.get(upload.getUploadId(), USER_ID);
+        clock.advance(Duration.ofMinutes(20));
+
+        // then
+        assertThat(cache.get(upload.getUploadId(), USER_ID)).isSameAs(upload);
+
+        clock.advance(Duration.ofMinutes(30));
+        assertThatThrownBy(() -> cache.get(upload.getUploadId(), USER_ID))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("만료");
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("항목 수 한도를 넘으면 가장 오래 조회하지 않은 업로드부터 제거")
+    void put_EvictsLeastRecentlyUsed() {
+        // given
+        KakaoUploadCache cache = cache(2, Long.MAX_VALUE);
+        KakaoUpload first = cache.put(USER_ID, messages(), statistics(messages()));
+        KakaoUpload second = cache.put(USER_ID, messages(), statistics(messages()));
+
+        // when
+        cache.get(first.getUploadId(), USER_ID);
+        cache.put(USER_ID, messages(), statistics(messages()));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(first.getUploadId(), USER_ID)).isSameAs(first);
+        assertThatThrownBy(() -> cache.get(second.getUploadId(), USER_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 업로드는 조회 / 사용 불가, take 후에는 캐시에서 빠짐")
+    void take_OwnerOnly() {
+        // given
+        KakaoUploadCache cache = cache(10, Long.MAX_VALUE);
+        KakaoUpload upload = cache.put(USER_ID, messages(), statistics(messages()));
+
+        // when & then
+        assertThatThrownBy(() -> cache.take(upload.getUploadId(), 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.take(upload.getUploadId(), USER_ID)).isSameAs(upload);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("파싱 결과에 없는 화자는 선택 불가")
+    void selectSpeaker_UnknownSpeaker() {
+        // given
+        KakaoUploadCache cache = cache(10, Long.MAX_VALUE);
+        KakaoUpload upload = cache.put(USER_ID, messages(), statistics(messages()));
+
+        // when
+        upload.selectSpeaker("엄마");
+
+        // then
+        assertThat(upload.getSelectedSpeaker()).isEqualTo("엄마");
+        assertThatThrownBy(() -> upload.selectSpeaker("아빠"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("아빠");
+    }
+
+    // === Helper Methods ===
+
+    private KakaoUploadCache cache(int maxEntries, long maxMemoryBytes) {
+        return new KakaoUploadCache(Duration.ofMinutes(30), maxEntries, maxMemoryBytes, spillDir, clock);
+    }
+
+    private static List<ParsedMessage> messages() {
+        return List.of(
+                new ParsedMessage("엄마", "밥 먹었어?", "2024-01-15 10:00:00"),
+                new ParsedMessage("나", "응", "2024-01-15 10:01:00"));
+    }
+
+    private static ConversationStatistics statistics(List<ParsedMessage> messages) {
+        ConversationStatistics statistics = new ConversationStatistics();
+        messages.forEach(statistics);
+        return statistics;
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(spillDir)) {
+            return files.toList();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
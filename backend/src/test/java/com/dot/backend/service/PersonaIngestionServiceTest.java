@@ -0,0 +1,234 @@
+package com.dot.backend.service;
+
+import com.dot.backend.domain.persona.ConversationSample;
+import com.dot.backend.domain.persona.Persona;
+import com.dot.backend.domain.persona.PersonaStatus;
+import com.dot.backend.domain.persona.SampleMessage;
+import com.dot.backend.domain.persona.repository.ConversationSampleStore;
+import com.dot.backend.domain.persona.repository.PersonaRepository;
+import com.dot.backend.domain.user.User;
+import com.dot.backend.domain.user.repository.UserRepository;
+import com.dot.backend.parser.KakaoTxtParser;
+import com.dot.backend.util.EncryptionUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PersonaIngestionService 통합 테스트 (성공 / 실패 / 재시작 / 큐 거절)
+ *
+ * 파이프라인이 단계마다 직접 커밋하므로 테스트 트랜잭션 없이 실행하고 끝나면 정리
+ */
+@SpringBootTest
+class PersonaIngestionServiceTest {
+
+    private static final String KAKAO_TXT = String.join("\n",
+            "2024-01-15 10:00:00 나 : 밥 먹었어?",
+            "2024-01-15 10:01:00 엄마 : 응 먹었지",
+            "2024-01-15 10:02:00 나 : 뭐 먹었어?",
+            "2024-01-15 10:03:00 엄마 : 된장찌개",
+            "2024-01-15 10:04:00 나 : 맛있겠다",
+            "2024-01-15 10:05:00 엄마 : 너도 챙겨 먹어");
+
+    @Autowired
+    private PersonaIngestionService ingestionService;
+
+    @Autowired
+    private PersonaRepository personaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @SpyBean
+    private ConversationSampleStore conversationSampleStore;
+
+    @SpyBean
+    private KakaoTxtParser kakaoTxtParser;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("ingest@example.com")
+                .password("encodedPassword")
+                .build());
+
+        // Gemini 호출 대신 고정 Trait
+        doReturn("다정한 엄마").when(kakaoTxtParser)
+                .analyzeAndGenerateTrait(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        personaRepository.findAll().forEach(persona -> conversationSampleStore.deleteAll(persona.getId()));
+        personaRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("카톡 파일 생성 성공: 샘플 저장, READY, 임시 파일 삭제")
+    void runIngestion_Success() throws IOException {
+        // given
+        Persona persona = createProcessingPersona();
+        Path kakaoFile = writeKakaoFile();
+
+        // when
+        ingestionService.runIngestion(new PersonaIngestionRequestedEvent(persona.getId(), "나", kakaoFile, null, "엄마"));
+
+        // then
+        Persona result = personaRepository.findById(persona.getId()).orElseThrow();
+        assertThat(result.getStatus()).isEqualTo(PersonaStatus.READY);
+        assertThat(result.getIngestionProgress()).isEqualTo(100);
+        assertThat(result.getTrait()).isEqualTo("다정한 엄마");
+        assertThat(result.getSpeakerName()).isEqualTo("엄마");
+        assertThat(conversationSampleStore.count(persona.getId())).isEqualTo(6);
+        assertThat(kakaoFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("샘플 저장 중 실패: 이미 커밋된 청크를 지우고 FAILED, 임시 파일 삭제")
+    void runIngestion_FailureDeletesCommittedSamples() throws IOException {
+        // given: 2건씩 커밋, 두 번째 청크에서 실패
+        ReflectionTestUtils.setField(ingestionService, "sampleChunkSize", 2);
+        doCallRealMethod().doThrow(new IllegalStateException("저장 실패"))
+                .when(conversationSampleStore).append(anyLong(), anyList());
+        Persona persona = createProcessingPersona();
+        Path kakaoFile = writeKakaoFile();
+
+        // when
+        try {
+            ingestionService.runIngestion(new PersonaIngestionRequestedEvent(persona.getId(), "나", kakaoFile, null, "엄마"));
+        } finally {
+            ReflectionTestUtils.setField(ingestionService, "sampleChunkSize", 5000);
+        }
+
+        // then
+        Persona result = personaRepository.findById(persona.getId()).orElseThrow();
+        assertThat(result.getStatus()).isEqualTo(PersonaStatus.FAILED);
+        assertThat(result.getIngestionError()).isEqualTo("저장 실패");
+        assertThat(conversationSampleStore.count(persona.getId())).isZero();
+        assertThat(kakaoFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파일에 화자가 없으면 파싱하며 저장한 샘플을 지우고 Trait만 저장")
+    void runIngestion_UnknownSpeakerDeletesStreamedSamples() throws IOException {
+        // given
+        ReflectionTestUtils.setField(ingestionService, "sampleChunkSize", 2);
+        Persona persona = createProcessingPersona();
+        Path kakaoFile = writeKakaoFile();
+
+        // when
+        try {
+            ingestionService.runIngestion(new PersonaIngestionRequestedEvent(persona.getId(), "나", kakaoFile, null, "아빠"));
+        } finally {
+            ReflectionTestUtils.setField(ingestionService, "sampleChunkSize", 5000);
+        }
+
+        // then
+        Persona result = personaRepository.findById(persona.getId()).orElseThrow();
+        assertThat(result.getStatus()).isEqualTo(PersonaStatus.READY);
+        assertThat(result.getSpeakerName()).isNull();
+        assertThat(result.getImportLastMessageAt()).isNull();
+        assertThat(conversationSampleStore.count(persona.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작: lease가 만료된 작업만 실패 처리하고 다른 노드가 갱신 중인 작업은 유지")
+    void failInterruptedIngestions_OnlyExpiredLeases() {
+        // given
+        Persona expired = createProcessingPersona();
+        Persona alive = createProcessingPersona();
+        jdbcTemplate.update("UPDATE personas SET ingestion_heartbeat_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(1), expired.getId());
+        // 종료된 노드가 커밋해 둔 샘플 청크
+        transactionTemplate.executeWithoutResult(status -> conversationSampleStore.append(expired.getId(),
+                List.of(new SampleMessage(ConversationSample.Role.PERSONA, "응 먹었지"))));
+
+        // when
+        ingestionService.failInterruptedIngestions();
+
+        // then
+        Persona expiredResult = personaRepository.findById(expired.getId()).orElseThrow();
+        assertThat(expiredResult.getStatus()).isEqualTo(PersonaStatus.FAILED);
+        assertThat(expiredResult.getIngestionError()).isEqualTo(PersonaIngestionService.INTERRUPTED_REASON);
+        assertThat(conversationSampleStore.count(expired.getId())).isZero();
+        assertThat(personaRepository.findById(alive.getId()).orElseThrow().getStatus())
+                .isEqualTo(PersonaStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("스레드 풀 큐가 가득 차서 거절되면 바로 FAILED, 임시 파일 삭제")
+    void onIngestionRequested_RejectedMarksFailed() throws IOException {
+        // given
+        PersonaIngestionService rejecting = new PersonaIngestionService(personaRepository, conversationSampleStore,
+                kakaoTxtParser, encryptionUtil, transactionTemplate, eventPublisher,
+                task -> {
+                    throw new RejectedExecutionException("queue full");
+                }, 300);
+        Persona persona = createProcessingPersona();
+        Path kakaoFile = writeKakaoFile();
+
+        // when
+        rejecting.onIngestionRequested(new PersonaIngestionRequestedEvent(persona.getId(), "나", kakaoFile, null, "엄마"));
+
+        // then
+        Persona result = personaRepository.findById(persona.getId()).orElseThrow();
+        assertThat(result.getStatus()).isEqualTo(PersonaStatus.FAILED);
+        assertThat(result.getIngestionError()).isEqualTo(PersonaIngestionService.REJECTED_REASON);
+        assertThat(kakaoFile).doesNotExist();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Persona createProcessingPersona() {
+        Persona persona = Persona.builder()
+                .user(testUser)
+                .name(encryptionUtil.encrypt("엄마"))
+                .phoneNumber(encryptionUtil.encrypt("010-1234-5678"))
+                .relationship("어머니")
+                .isDeleted(false)
+                .build();
+        persona.startIngestion();
+        return personaRepository.save(persona);
+    }
+
+    private static Path writeKakaoFile() throws IOException {
+        Path file = Files.createTempFile("dot-kakao-test-", ".upload");
+        Files.writeString(file, KAKAO_TXT, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -5,14 +5,20 @@ import com.dot.backend.domain.persona.repository.PersonaRepository;
 import com.dot.backend.domain.user.User;
 import com.dot.backend.domain.user.repository.UserRepository;
 import com.dot.backend.dto.persona.*;
+import com.dot.backend.storage.StorageBackend;
 import com.dot.backend.util.EncryptionUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -36,6 +42,9 @@ class PersonaServiceTest {
     @Autowired
     private EncryptionUtil encryptionUtil;
 
+    @Autowired
+    private StorageBackend storageBackend;
+
     private User testUser;
     private User otherUser;
 
@@ -60,16 +69,9 @@ class PersonaServiceTest {
     @Test
     @DisplayName("Persona 생성 성공")
     void createPersona_Success() {
-        // given
-        PersonaCreateRequest request = PersonaCreateRequest.builder()
-                .name("엄마")
-                .phoneNumber("010-1234-5678")
-                .relationship("어머니")
-                .memo("따뜻하고 다정한 말투")
-                .build();
-
         // when
-        PersonaResponse response = personaService.createPersona(testUser, request);
+        PersonaResponse response = personaService.createPersona(testUser, "엄마", "010-1234-5678", "어머니",
+                "따뜻하고 다정한 말투", null, null, null, null);
 
         // then
         assertThat(response).isNotNull();
@@ -103,6 +105,43 @@ class PersonaServiceTest {
         assertThat(result).extracting("name").containsExactlyInAnyOrder("엄마", "아빠");
     }
 
+    @Test
+    @DisplayName("Persona 검색 - 이름 접두어 / 전화번호 (blind index, 본인 것만)")
+    void searchPersonas_ByNamePrefixAndPhoneNumber() {
+        // given
+        createPersona(testUser, "엄마", "010-1111-1111");
+        createPersona(testUser, "엄지 공주", "010-2222-2222");
+        createPersona(testUser, "아빠", null);
+        createPersona(otherUser, "엄마", "010-1111-1111");
+
+        // when / then
+        assertThat(personaService.searchPersonas(testUser, "엄"))
+                .extracting("name").containsExactlyInAnyOrder("엄마", "엄지 공주");
+        assertThat(personaService.searchPersonas(testUser, "공주"))
+                .extracting("name").containsExactly("엄지 공주");
+        assertThat(personaService.searchPersonas(testUser, "01011111111"))
+                .extracting("name").containsExactly("엄마");
+        assertThat(personaService.searchPersonas(testUser, "010-9999-9999")).isEmpty();
+        assertThatThrownBy(() -> personaService.searchPersonas(testUser, " "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Persona 검색 - 이름 / 전화번호를 수정하면 새 값으로 검색됨")
+    void searchPersonas_AfterUpdate() {
+        // given
+        PersonaResponse created = createPersona(testUser, "엄마", "010-1111-1111");
+
+        // when
+        personaService.updatePersona(testUser, created.getId(), "어머니", "010-3333-3333", null, null, null);
+
+        // then
+        assertThat(personaService.searchPersonas(testUser, "엄")).isEmpty();
+        assertThat(personaService.searchPersonas(testUser, "어머")).extracting("name").containsExactly("어머니");
+        assertThat(personaService.searchPersonas(testUser, "010-1111-1111")).isEmpty();
+        assertThat(personaService.searchPersonas(testUser, "010-3333-3333")).hasSize(1);
+    }
+
     @Test
     @DisplayName("Persona 상세 조회 성공")
     void getPersonaDetail_Success() {
@@ -125,14 +164,9 @@ class PersonaServiceTest {
         // given
         Persona persona = createTestPersona(testUser, "엄마", "010-1234-5678");
 
-        PersonaUpdateRequest request = PersonaUpdateRequest.builder()
-                .name("어머니")
-                .relationship("mother")
-                .memo("새로운 메모")
-                .build();
-
         // when
-        PersonaResponse response = personaService.updatePersona(testUser, persona.getId(), request);
+        PersonaResponse response = personaService.updatePersona(testUser, persona.getId(), "어머니", null,
+                "mother", "새로운 메모", null);
 
         // then
         assertThat(response.getName()).isEqualTo("어머니");
@@ -180,12 +214,10 @@ class PersonaServiceTest {
     void updatePersona_OtherUser_Fail() {
         // given
         Persona persona = createTestPersona(testUser, "엄마", "010-1234-5678");
-        PersonaUpdateRequest request = PersonaUpdateRequest.builder()
-                .name("해커")
-                .build();
 
         // when & then
-        assertThatThrownBy(() -> personaService.updatePersona(otherUser, persona.getId(), request))
+        assertThatThrownBy(() -> personaService.updatePersona(otherUser, persona.getId(), "해커", null,
+                null, null, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Persona를 찾을 수 없습니다");
     }
@@ -206,8 +238,8 @@ class PersonaServiceTest {
 
     // Note: 암호화로 인해 동일한 전화번호도 매번 다른 암호문이 생성되므로
     // DB unique constraint나 단순 문자열 비교로는 중복을 막을 수 없음
-    // 실제 구현 시에는 모든 Persona를 조회하여 복호화 후 비교하는 로직이 필요
-    // TODO: 전화번호 중복 체크 로직 개선 필요
+    // 일치 확인은 blind index로 가능 (PersonaRepository.existsByUserIdAndPhoneNumberHashAndIsDeletedFalse)
+    // TODO: 전화번호 중복 허용 여부 결정 후 생성 시 체크 (V10부터 선택 필드, UNIQUE 없음)
 
     /*
     @Test
@@ -222,14 +254,8 @@ class PersonaServiceTest {
     @Test
     @DisplayName("이름과 전화번호가 암호화되어 저장됨")
     void createPersona_EncryptionTest() {
-        // given
-        PersonaCreateRequest request = PersonaCreateRequest.builder()
-                .name("테스트")
-                .phoneNumber("010-9999-9999")
-                .build();
-
         // when
-        PersonaResponse response = personaService.createPersona(testUser, request);
+        PersonaResponse response = createPersona(testUser, "테스트", "010-9999-9999");
 
         // then
         Persona savedPersona = personaRepository.findById(response.getId()).orElseThrow();
@@ -253,21 +279,12 @@ class PersonaServiceTest {
     @DisplayName("부분 수정 - null 필드는 변경 안 됨")
     void updatePersona_PartialUpdate() {
         // given - Service로 생성하고 한 번 수정
-        PersonaCreateRequest createRequest = PersonaCreateRequest.builder()
-                .name("엄마")
-                .phoneNumber("010-1234-5678")
-                .relationship("어머니")
-                .memo("원래 메모")
-                .build();
-        PersonaResponse created = personaService.createPersona(testUser, createRequest);
-
-        // 이름만 변경하는 요청
-        PersonaUpdateRequest request = PersonaUpdateRequest.builder()
-                .name("새이름") // 이름만 변경
-                .build();
+        PersonaResponse created = personaService.createPersona(testUser, "엄마", "010-1234-5678", "어머니",
+                "원래 메모", null, null, null, null);
 
-        // when
-        PersonaResponse response = personaService.updatePersona(testUser, created.getId(), request);
+        // when - 이름만 변경
+        PersonaResponse response = personaService.updatePersona(testUser, created.getId(), "새이름", null,
+                null, null, null);
 
         // then
         assertThat(response.getName()).isEqualTo("새이름");
@@ -305,24 +322,37 @@ class PersonaServiceTest {
 
     @Test
     @DisplayName("프로필 이미지만 변경")
-    void updatePersona_OnlyProfileImage() {
+    void updatePersona_OnlyProfileImage() throws IOException {
         // given
         Persona persona = createTestPersona(testUser, "엄마", "010-1234-5678");
-
-        PersonaUpdateRequest request = PersonaUpdateRequest.builder()
-                .profileImageUrl("https://new-image-url.com/profile.jpg")
-                .build();
+        MockMultipartFile profileImage = new MockMultipartFile("profileImage", "profile.png", "image/png", png());
 
         // when
-        PersonaResponse response = personaService.updatePersona(testUser, persona.getId(), request);
+        PersonaResponse response = personaService.updatePersona(testUser, persona.getId(), null, null,
+                null, null, profileImage);
 
         // then
-        assertThat(response.getProfileImageUrl()).isEqualTo("https://new-image-url.com/profile.jpg");
-        assertThat(response.getName()).isEqualTo("엄마"); // 유지
+        String imageUrl = response.getProfileImageOriginalUrl();
+        try {
+            assertThat(imageUrl).startsWith("/uploads/profiles/" + testUser.getId() + "/").endsWith(".png");
+            assertThat(response.getName()).isEqualTo("엄마"); // 유지
+        } finally {
+            storageBackend.delete(storageBackend.keyFromUrl(imageUrl));
+        }
     }
 
     // ==================== Helper Methods ====================
 
+    private static byte[] png() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private PersonaResponse createPersona(User user, String name, String phoneNumber) {
+        return personaService.createPersona(user, name, phoneNumber, null, null, null, null, null, null);
+    }
+
     private Persona createTestPersona(User user, String name, String phoneNumber) {
         String encryptedName = encryptionUtil.encrypt(name);
         String encryptedPhoneNumber = encryptionUtil.encrypt(phoneNumber);
@@ -0,0 +1,131 @@
+package com.dot.backend.service;
+
+import com.dot.backend.domain.persona.ProfileImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ProfileImageProcessor 리사이즈 테스트
+ */
+class ProfileImageProcessorTest {
+
+    private final ProfileImageProcessor processor = new ProfileImageProcessor(40_000_000L, 0.82f);
+
+    @Test
+    @DisplayName("가로로 긴 투명 PNG를 정사각형 JPEG 버전들로 변환")
+    void createVariants_CropsAndResizes() throws IOException {
+        // given: 3000x2000, 가운데 빨간 사각형, 나머지 투명
+        BufferedImage image = new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(1000, 500, 1000, 1000);
+        g.dispose();
+
+        // when
+        Map<ProfileImageVariant, byte[]> variants = processor.createVariants(new ByteArrayInputStream(png(image)));
+
+        // then
+        assertThat(variants).containsOnlyKeys(ProfileImageVariant.values());
+        for (ProfileImageVariant variant : ProfileImageVariant.values()) {
+            BufferedImage resized = ImageIO.read(new ByteArrayInputStream(variants.get(variant)));
+            assertThat(resized.getWidth()).isEqualTo(variant.getSize());
+            assertThat(resized.getHeight()).isEqualTo(variant.getSize());
+
+            int size = variant.getSize();
+            assertThat(new Color(resized.getRGB(size / 2, size / 2)).getRed()).isGreaterThan(200);
+            // 투명 영역은 흰색으로
+            assertThat(new Color(resized.getRGB(1, 1)).getBlue()).isGreaterThan(200);
+        }
+        assertThat(variants.get(ProfileImageVariant.THUMBNAIL).length)
+                .isLessThan(variants.get(ProfileImageVariant.MEDIUM).length);
+    }
+
+    @Test
+    @DisplayName("원본이 버전보다 작으면 확대하지 않음")
+    void createVariants_DoesNotUpscale() throws IOException {
+        // given
+        BufferedImage image = new BufferedImage(200, 300, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        Map<ProfileImageVariant, byte[]> variants = processor.createVariants(new ByteArrayInputStream(png(image)));
+
+        // then
+        assertThat(ImageIO.read(new ByteArrayInputStream(variants.get(ProfileImageVariant.MEDIUM))).getWidth())
+                .isEqualTo(200);
+        assertThat(ImageIO.read(new ByteArrayInputStream(variants.get(ProfileImageVariant.THUMBNAIL))).getWidth())
+                .isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("픽셀 수 제한을 넘거나 이미지가 아니면 예외")
+    void createVariants_Rejects() throws IOException {
+        ProfileImageProcessor limited = new ProfileImageProcessor(1000L, 0.82f);
+        byte[] large = png(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB));
+
+        assertThatThrownBy(() -> limited.createVariants(new ByteArrayInputStream(large)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("100x100");
+
+        assertThatThrownBy(() -> processor.createVariants(new ByteArrayInputStream("not an image".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실제 바이트로 형식 판별: PNG / JPEG / GIF / WebP 허용")
+    void validate_DetectsAllowedFormats() throws IOException {
+        // given
+        BufferedImage image = new BufferedImage(50, 40, BufferedImage.TYPE_INT_RGB);
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.ISO_8859_1);
+
+        // when & then
+        assertThat(processor.validate(new ByteArrayInputStream(png(image)))).isEqualTo("image/png");
+        assertThat(processor.validate(new ByteArrayInputStream(encode(image, "jpeg")))).isEqualTo("image/jpeg");
+        assertThat(processor.validate(new ByteArrayInputStream(encode(image, "gif")))).isEqualTo("image/gif");
+        assertThat(processor.validate(new ByteArrayInputStream(webp))).isEqualTo("image/webp");
+    }
+
+    @Test
+    @DisplayName("SVG / 깨진 이미지 / 픽셀 수 초과는 거부")
+    void validate_Rejects() throws IOException {
+        // given
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>"
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] truncated = Arrays.copyOf(png(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB)), 40);
+        ProfileImageProcessor limited = new ProfileImageProcessor(1000L, 0.82f);
+        byte[] large = png(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB));
+
+        // when & then
+        assertThatThrownBy(() -> processor.validate(new ByteArrayInputStream(svg)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> processor.validate(new ByteArrayInputStream(truncated)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limited.validate(new ByteArrayInputStream(large)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("100x100");
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,269 @@
+package com.dot.backend.storage;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디렉토리를 버킷처럼 쓰는 S3AsyncClient (테스트용 S3 대역)
+ *
+ * S3StorageBackend가 쓰는 API만 구현한다.
+ * - 객체: {root}/{bucket}/{key}
+ * - multipart 파트: {root}/.multipart/{uploadId}/{partNumber}, 완료 시 파트 번호 순서로 이어 붙임
+ * 요청 본문(AsyncRequestBody)은 실제 클라이언트처럼 구독해서 버퍼 단위로 파일에 쓴다.
+ */
+class FileSystemS3AsyncClient implements S3AsyncClient {
+
+    private final Path root;
+    private final Set<String> activeUploads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger uploadedParts = new AtomicInteger();
+
+    /** 이 번호의 파트 업로드를 실패시킴 (-1이면 실패 없음) */
+    private volatile int failOnPart = -1;
+
+    FileSystemS3AsyncClient(Path root) {
+        this.root = root;
+    }
+
+    void failOnPart(int partNumber) {
+        this.failOnPart = partNumber;
+    }
+
+    Path objectPath(String bucket, String key) {
+        return root.resolve(bucket).resolve(key);
+    }
+
+    int uploadedParts() {
+        return uploadedParts.get();
+    }
+
+    int activeUploads() {
+        return activeUploads.size();
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3";
+    }
+
+    @Override
+    public S3ServiceClientConfiguration serviceClientConfiguration() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+        return write(body, objectPath(request.bucket(), request.key()))
+                .thenApply(size -> PutObjectResponse.builder().eTag("\"" + size + "\"").build());
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        activeUploads.add(uploadId);
+        return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .uploadId(uploadId)
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody body) {
+        if (!activeUploads.contains(request.uploadId())) {
+            return CompletableFuture.failedFuture(new IllegalStateException("unknown upload: " + request.uploadId()));
+        }
+        if (request.partNumber() == failOnPart) {
+            return CompletableFuture.failedFuture(new IOException("injected failure on part " + failOnPart));
+        }
+        return write(body, partPath(request.uploadId(), request.partNumber()))
+                .thenApply(size -> {
+                    uploadedParts.incrementAndGet();
+                    return UploadPartResponse.builder().eTag("\"part-" + request.partNumber() + "\"").build();
+                });
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(
+            CompleteMultipartUploadRequest request) {
+        List<CompletedPart> parts = request.multipartUpload().parts();
+        for (int i = 0; i < parts.size(); i++) {
+            if (parts.get(i).partNumber() != i + 1) {
+                return CompletableFuture.failedFuture(new IllegalStateException("parts out of order: " + parts));
+            }
+        }
+
+        Path target = objectPath(request.bucket(), request.key());
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = Files.newOutputStream(target)) {
+                for (CompletedPart part : parts) {
+                    Files.copy(partPath(request.uploadId(), part.partNumber()), out);
+                }
+            }
+            deleteUpload(request.uploadId());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        try {
+            deleteUpload(request.uploadId());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public CompletableFuture<DeleteObjectResponse> deleteObject(DeleteObjectRequest request) {
+        try {
+            Files.deleteIfExists(objectPath(request.bucket(), request.key()));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(DeleteObjectResponse.builder().build());
+    }
+
+    @Override
+    public <ReturnT> CompletableFuture<ReturnT> getObject(GetObjectRequest request,
+                                                          AsyncResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+        Path path = objectPath(request.bucket(), request.key());
+        if (!Files.exists(path)) {
+            NoSuchKeyException e = NoSuchKeyException.builder().message("no such key: " + request.key()).build();
+            transformer.exceptionOccurred(e);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<ReturnT> result = transformer.prepare();
+        try {
+            transformer.onResponse(GetObjectResponse.builder().contentLength(Files.size(path)).build());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        transformer.onStream(AsyncRequestBody.fromFile(path));
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<HeadObjectResponse> headObject(HeadObjectRequest request) {
+        Path path = objectPath(request.bucket(), request.key());
+        if (!Files.exists(path)) {
+            return CompletableFuture.failedFuture(NoSuchKeyException.builder()
+                    .statusCode(404)
+                    .message("no such key: " + request.key())
+                    .build());
+        }
+        try {
+            return CompletableFuture.completedFuture(HeadObjectResponse.builder().contentLength(Files.size(path)).build());
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // === Helper Methods ===
+
+    private Path partPath(String uploadId, int partNumber) {
+        return root.resolve(".multipart").resolve(uploadId).resolve(String.valueOf(partNumber));
+    }
+
+    private void deleteUpload(String uploadId) throws IOException {
+        activeUploads.remove(uploadId);
+        Path directory = root.resolve(".multipart").resolve(uploadId);
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * 요청 본문을 구독해서 받은 버퍼를 그대로 파일에 씀
+     *
+     * @return 기록한 바이트 수
+     */
+    private static CompletableFuture<Long> write(AsyncRequestBody body, Path target) {
+        FileChannel channel;
+        try {
+            Files.createDirectories(target.getParent());
+            channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return body.subscribe(buffer -> {
+                    try {
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .thenApply(done -> {
+                    try (channel) {
+                        return channel.size();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .whenComplete((size, error) -> {
+                    if (error != null) {
+                        try {
+                            channel.close();
+                        } catch (IOException ignored) {
+                            // 실패 경로의 정리
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,65 @@
+package com.dot.backend.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LocalPresigner 테스트 (로컬 presigned URL 서명 / 검증)
+ */
+class LocalPresignerTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-03T12:00:00Z");
+
+    private final LocalPresigner presigner = new LocalPresigner("test-secret", Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("발급한 PUT URL은 같은 key / Content-Type / 크기로만 검증 통과")
+    void presignUpload_VerifiesOnlyMatchingRequest() {
+        // given
+        PresignedRequest request = presigner.presign("PUT", "kakao/1/a.zip", "application/zip", 1024, Duration.ofMinutes(15));
+        UriComponents url = UriComponentsBuilder.fromUriString(request.getUrl()).build();
+        long expires = Long.parseLong(url.getQueryParams().getFirst("expires"));
+        String signature = url.getQueryParams().getFirst("signature");
+
+        // when & then
+        assertThat(url.getPath()).isEqualTo(LocalPresigner.PATH_PREFIX + "kakao/1/a.zip");
+        assertThat(request.getHeaders()).containsEntry("Content-Type", "application/zip");
+        assertThat(request.getExpiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+
+        assertThat(presigner.verify("PUT", "kakao/1/a.zip", "application/zip", 1024, expires, signature)).isTrue();
+        assertThat(presigner.verify("PUT", "kakao/2/a.zip", "application/zip", 1024, expires, signature)).isFalse();
+        assertThat(presigner.verify("PUT", "kakao/1/a.zip", "text/html", 1024, expires, signature)).isFalse();
+        assertThat(presigner.verify("PUT", "kakao/1/a.zip", "application/zip", 4096, expires, signature)).isFalse();
+        assertThat(presigner.verify("GET", "kakao/1/a.zip", "application/zip", 1024, expires, signature)).isFalse();
+        assertThat(presigner.verify("PUT", "kakao/1/a.zip", "application/zip", 1024, expires + 60, signature)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 URL / 다른 키로 서명한 URL은 거부")
+    void verify_RejectsExpiredOrForeignSignature() {
+        // given
+        PresignedRequest request = presigner.presign("GET", "profiles/1/a.jpg", null, -1, Duration.ofMinutes(10));
+        UriComponents url = UriComponentsBuilder.fromUriString(request.getUrl()).build();
+        long expires = Long.parseLong(url.getQueryParams().getFirst("expires"));
+        String signature = url.getQueryParams().getFirst("signature");
+
+        LocalPresigner later = new LocalPresigner("test-secret",
+                Clock.fixed(NOW.plus(Duration.ofMinutes(11)), ZoneOffset.UTC));
+        LocalPresigner otherSecret = new LocalPresigner("other-secret", Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when & then
+        assertThat(presigner.verify("GET", "profiles/1/a.jpg", null, -1, expires, signature)).isTrue();
+        assertThat(later.verify("GET", "profiles/1/a.jpg", null, -1, expires, signature)).isFalse();
+        assertThat(otherSecret.verify("GET", "profiles/1/a.jpg", null, -1, expires, signature)).isFalse();
+        assertThat(presigner.verify("GET", "profiles/1/a.jpg", null, -1, expires, null)).isFalse();
+    }
+}
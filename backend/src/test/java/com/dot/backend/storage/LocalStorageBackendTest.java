@@ -0,0 +1,92 @@
+package com.dot.backend.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LocalStorageBackend 테스트 (비공개 key 분리 저장 / 만료 삭제)
+ */
+class LocalStorageBackendTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-03T12:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    private LocalStorageBackend storage;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        storage = new LocalStorageBackend(dir.resolve("uploads").toString(), dir.resolve("private-uploads").toString(),
+                Duration.ofHours(24), new LocalPresigner("test-secret", clock), clock);
+    }
+
+    @Test
+    @DisplayName("비공개 key는 공개 디렉토리 밖에 저장하고 URL / .gz 사본을 만들지 않음")
+    void store_PrivateKeyOutsidePublicDir() throws IOException {
+        // given
+        byte[] data = "2024-01-15 10:00:00 엄마 : 밥 먹었어?\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String url = storage.store("private/kakao/1/a.txt", new ByteArrayInputStream(data), data.length, "text/plain");
+
+        // then
+        assertThat(url).isNull();
+        assertThat(dir.resolve("private-uploads/kakao/1/a.txt")).exists();
+        assertThat(dir.resolve("private-uploads/kakao/1/a.txt.gz")).doesNotExist();
+        assertThat(dir.resolve("uploads/private")).doesNotExist();
+        assertThat(storage.open("private/kakao/1/a.txt").readAllBytes()).isEqualTo(data);
+        assertThatThrownBy(() -> storage.urlFor("private/kakao/1/a.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.open("private/../uploads/x.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 비공개 파일만 삭제하고 공개 파일은 유지")
+    void deleteExpiredPrivateUploads_OnlyExpired() throws IOException {
+        // given
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        storage.store("private/kakao/1/old.txt", new ByteArrayInputStream(data), data.length, "text/plain");
+        storage.store("private/kakao/1/new.txt", new ByteArrayInputStream(data), data.length, "text/plain");
+        storage.store("profiles/1/old.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg");
+        FileTime old = FileTime.from(NOW.minus(Duration.ofHours(25)));
+        Files.setLastModifiedTime(dir.resolve("private-uploads/kakao/1/old.txt"), old);
+        Files.setLastModifiedTime(dir.resolve("private-uploads/kakao/1/new.txt"), FileTime.from(NOW.minusSeconds(60)));
+        Files.setLastModifiedTime(dir.resolve("uploads/profiles/1/old.jpg"), old);
+
+        // when
+        int deleted = storage.deleteExpiredPrivateUploads();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(dir.resolve("private-uploads/kakao/1/old.txt")).doesNotExist();
+        assertThat(dir.resolve("private-uploads/kakao/1/new.txt")).exists();
+        assertThat(dir.resolve("uploads/profiles/1/old.jpg")).exists();
+    }
+
+    @Test
+    @DisplayName("비공개 디렉토리가 공개 디렉토리 안에 있으면 예외")
+    void constructor_RejectsNestedPrivateDir() {
+        assertThatThrownBy(() -> new LocalStorageBackend(dir.resolve("uploads").toString(),
+                dir.resolve("uploads/private").toString(), Duration.ofHours(24),
+                new LocalPresigner("test-secret"), Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
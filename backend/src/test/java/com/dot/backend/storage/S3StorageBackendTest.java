@@ -0,0 +1,159 @@
+package com.dot.backend.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * S3StorageBackend 테스트 (파일 시스템 기반 S3 대역 사용)
+ */
+class S3StorageBackendTest {
+
+    private static final String BUCKET = "dot-test";
+    private static final String BASE_URL = "https://dot-test.s3.ap-northeast-2.amazonaws.com/";
+
+    @TempDir
+    Path root;
+
+    private FileSystemS3AsyncClient s3;
+    private S3StorageBackend storage;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new FileSystemS3AsyncClient(root);
+        // 테스트에서는 파트 크기를 작게 (실제 설정은 5MB 이상만 허용)
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+        storage = new S3StorageBackend(s3, presigner, BUCKET, BASE_URL, 4096, 1024, 2);
+    }
+
+    @Test
+    @DisplayName("multipart 기준보다 작은 파일은 PutObject 한 번으로 저장")
+    void store_SmallFileWithPutObject() throws IOException {
+        // given
+        byte[] data = randomBytes(3000);
+
+        // when
+        String url = storage.store("profiles/1/a.jpg", new ByteArrayInputStream(data), data.length, "image/jpeg");
+
+        // then
+        assertThat(url).isEqualTo(BASE_URL + "profiles/1/a.jpg");
+        assertThat(Files.readAllBytes(s3.objectPath(BUCKET, "profiles/1/a.jpg"))).isEqualTo(data);
+        assertThat(s3.uploadedParts()).isZero();
+    }
+
+    @Test
+    @DisplayName("큰 파일 / 크기를 모르는 파일은 파트 단위 multipart upload로 저장")
+    void store_LargeFileWithMultipart() throws IOException {
+        // given
+        byte[] data = randomBytes(5000);
+
+        // when
+        storage.store("kakao/1/big.txt", new ByteArrayInputStream(data), data.length, "text/plain");
+        storage.store("kakao/1/unknown.txt", new ByteArrayInputStream(data), -1, "text/plain");
+
+        // then: 1024 x 4 + 904
+        assertThat(Files.readAllBytes(s3.objectPath(BUCKET, "kakao/1/big.txt"))).isEqualTo(data);
+        assertThat(Files.readAllBytes(s3.objectPath(BUCKET, "kakao/1/unknown.txt"))).isEqualTo(data);
+        assertThat(s3.uploadedParts()).isEqualTo(10);
+        assertThat(s3.activeUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 multipart upload를 abort하고 예외")
+    void store_AbortsOnPartFailure() {
+        // given
+        byte[] data = randomBytes(5000);
+        s3.failOnPart(3);
+
+        // when & then
+        assertThatThrownBy(() -> storage.store("kakao/1/big.txt", new ByteArrayInputStream(data), data.length, "text/plain"))
+                .isInstanceOf(IOException.class);
+        assertThat(s3.activeUploads()).isZero();
+        assertThat(s3.objectPath(BUCKET, "kakao/1/big.txt")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("URL ↔ key 변환, 읽기, 삭제")
+    void openAndDelete() throws IOException {
+        // given
+        byte[] data = randomBytes(2000);
+        String url = storage.store("profiles/1/b.png", new ByteArrayInputStream(data), data.length, "image/png");
+
+        // when
+        String key = storage.keyFromUrl(url);
+
+        // then
+        assertThat(key).isEqualTo("profiles/1/b.png");
+        assertThat(storage.keyFromUrl("/uploads/profiles/1/b.png")).isNull();
+        try (InputStream in = storage.open(key)) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+
+        storage.delete(key);
+        assertThat(s3.objectPath(BUCKET, key)).doesNotExist();
+        assertThatThrownBy(() -> storage.open(key)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("저장된 객체 크기 조회, 없으면 -1")
+    void sizeOf() throws IOException {
+        // given
+        byte[] data = randomBytes(1500);
+        storage.store("kakao/1/c.txt", new ByteArrayInputStream(data), data.length, "text/plain");
+
+        // when & then
+        assertThat(storage.sizeOf("kakao/1/c.txt")).isEqualTo(1500);
+        assertThat(storage.sizeOf("kakao/1/missing.txt")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("presigned PUT은 Content-Type / 크기를 서명에 포함하고, Host 헤더는 내려주지 않음")
+    void presignUpload() {
+        // when
+        PresignedRequest upload = storage.presignUpload("kakao/1/d.zip", "application/zip", 52428800, Duration.ofMinutes(15));
+        PresignedRequest download = storage.presignDownload("profiles/1/e.jpg", Duration.ofMinutes(10));
+
+        // then
+        assertThat(upload.getMethod()).isEqualTo("PUT");
+        assertThat(upload.getUrl())
+                .startsWith("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/kakao/1/d.zip?")
+                .contains("X-Amz-Signature=")
+                .contains("X-Amz-Expires=900");
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(upload.getHeaders());
+        assertThat(headers)
+                .containsEntry("content-type", "application/zip")
+                .containsEntry("content-length", "52428800")
+                .doesNotContainKey("host");
+        assertThat(upload.getExpiresAt()).isNotNull();
+
+        assertThat(download.getMethod()).isEqualTo("GET");
+        assertThat(download.getUrl()).contains("/profiles/1/e.jpg?").contains("X-Amz-Expires=600");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dot.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BlindIndex 테스트 (정규화, 사용자별 hash, 이름 접두어 토큰)
+ */
+class BlindIndexTest {
+
+    private final BlindIndex blindIndex = new BlindIndex("0123456789abcdef0123456789abcdef");
+
+    @Test
+    @DisplayName("전화번호는 구분 기호와 관계없이 같은 hash, 사용자가 다르면 다른 hash")
+    void phoneNumber_NormalizedAndScopedByUser() {
+        // when
+        String hash = blindIndex.phoneNumber(1L, "010-1234-5678");
+
+        // then
+        assertThat(hash).hasSize(32);
+        assertThat(blindIndex.phoneNumber(1L, "010 1234 5678")).isEqualTo(hash);
+        assertThat(blindIndex.phoneNumber(1L, "01012345678")).isEqualTo(hash);
+        assertThat(blindIndex.phoneNumber(2L, "010-1234-5678")).isNotEqualTo(hash);
+        assertThat(blindIndex.phoneNumber(1L, "010-1234-5679")).isNotEqualTo(hash);
+        assertThat(blindIndex.phoneNumber(1L, "---")).isNull();
+        assertThat(blindIndex.phoneNumber(1L, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("이름 전체 / 단어의 앞부분마다 토큰, 검색어 토큰이 그 안에 있음")
+    void nameTokens_ContainPrefixTokens() {
+        // when
+        Set<String> tokens = blindIndex.nameTokens(1L, "Alice  Kim");
+
+        // then: alicekim 8개 + alice (전체 접두어와 중복) + kim 3개
+        assertThat(tokens).hasSize(11);
+        assertThat(tokens).contains(
+                blindIndex.namePrefixToken(1L, "al"),
+                blindIndex.namePrefixToken(1L, "ALICE K"),
+                blindIndex.namePrefixToken(1L, "ki"));
+        assertThat(tokens).doesNotContain(
+                blindIndex.namePrefixToken(1L, "lice"),
+                blindIndex.namePrefixToken(2L, "al"));
+        assertThat(blindIndex.namePrefixToken(1L, "  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("긴 이름은 MAX_PREFIX_LENGTH까지만 토큰, 더 긴 검색어는 같은 토큰으로 찾고 복호화한 이름으로 확인")
+    void namePrefix_LongQuery() {
+        // given
+        String name = "가나다라마바사아자차카타";
+        Set<String> tokens = blindIndex.nameTokens(1L, name);
+
+        // when
+        String longQueryToken = blindIndex.namePrefixToken(1L, "가나다라마바사아자차카");
+
+        // then
+        assertThat(tokens).hasSize(BlindIndex.MAX_PREFIX_LENGTH).contains(longQueryToken);
+        assertThat(BlindIndex.matchesNamePrefix(name, "가나다라마바사아자차카")).isTrue();
+        assertThat(BlindIndex.matchesNamePrefix(name, "가나다라마바사아자차파")).isFalse();
+        assertThat(BlindIndex.matchesNamePrefix("김 철수", "철")).isTrue();
+        assertThat(BlindIndex.matchesNamePrefix("김 철수", "수")).isFalse();
+    }
+}
@@ -0,0 +1,216 @@
+package com.dot.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DecryptionCache 테스트 (TTL, LRU, 주기 정리, 동시 접근, 적중률, 민감 필드 제외)
+ */
+class DecryptionCacheTest {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("마지막 접근 후 TTL이 지나면 만료 (조회하면 연장)")
+    void get_ExpiresAfterIdleTtl() {
+        // given
+        DecryptionCache cache = new DecryptionCache(Duration.ofMinutes(10), 100, clock);
+        cache.put("a", "엄마");
+        cache.put("b", "아빠");
+
+        // when
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(cache.get("a")).isEqualTo("엄마");
+        clock.advance(Duration.ofMinutes(2));
+
+        // then
+        assertThat(cache.get("a")).isEqualTo("엄마");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("항목 수 한도를 넘으면 가장 오래 접근하지 않은 항목부터 제거")
+    void put_EvictsLeastRecentlyUsed() {
+        // given
+        DecryptionCache cache = new DecryptionCache(Duration.ofMinutes(10), 2, clock);
+        cache.put("a", "엄마");
+        cache.put("b", "아빠");
+        cache.get("a");
+
+        // when
+        cache.put("c", "할머니");
+
+        // then
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("엄마");
+        assertThat(cache.get("c")).isEqualTo("할머니");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구간으로 나뉜 큰 캐시에서도 계속 조회되는 항목은 남고 한도를 지킴")
+    void put_KeepsHotEntryAcrossSegments() {
+        // given: 1024개 → 256개씩 4구간
+        DecryptionCache cache = new DecryptionCache(Duration.ofMinutes(10), 1024, clock);
+        cache.put("hot", "엄마");
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            cache.put("cold-" + i, "이름-" + i);
+            assertThat(cache.get("hot")).isEqualTo("엄마");
+        }
+
+        // then
+        assertThat(cache.size()).isEqualTo(1024);
+        assertThat(cache.evictionCount()).isEqualTo(5001 - 1024);
+        assertThat(cache.get("cold-4999")).isEqualTo("이름-4999");
+        assertThat(cache.get("cold-0")).isNull();
+    }
+
+    @Test
+    @DisplayName("주기 정리: 조회되지 않은 만료 항목도 제거")
+    void removeExpired_RemovesUnreadEntries() {
+        // given
+        DecryptionCache cache = new DecryptionCache(Duration.ofMinutes(10), 100, clock);
+        cache.put("a", "엄마");
+        cache.put("b", "아빠");
+        clock.advance(Duration.ofMinutes(5));
+        cache.put("c", "할머니");
+
+        // when
+        clock.advance(Duration.ofMinutes(6));
+        cache.removeExpired();
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.evictionCount()).isEqualTo(2);
+        assertThat(cache.get("c")).isEqualTo("할머니");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회 / 등록해도 평문이 섞이거나 지워진 값이 나오지 않고 한도를 지킴")
+    void concurrentAccess_KeepsValuesAndLimit() throws Exception {
+        // given
+        DecryptionCache cache = new DecryptionCache(Duration.ofMinutes(10), 50, Clock.systemUTC());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            results.add(executor.submit(() -> {
+                int wrong = 0;
+                for (int i = 0; i < 20_000; i++) {
+                    String key = "k" + ((i * 31 + seed) % 200);
+                    String value = cache.get(key);
+                    if (value == null) {
+                        cache.put(key, "평문-" + key);
+                    } else if (!value.equals("평문-" + key)) {
+                        wrong++;
+                    }
+                }
+                return wrong;
+            }));
+        }
+        executor.shutdown();
+
+        // then
+        for (Future<Integer> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS)).isZero();
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(8 * 20_000);
+    }
+
+    @Test
+    @DisplayName("조회 결과에 따라 적중 / 실패 수와 적중률 집계, clear 후 비어 있음")
+    void hitRatio_CountsHitsAndMisses() {
+        // given
+        DecryptionCache cache = new DecryptionCache(Duration.ofMinutes(10), 100, clock);
+        assertThat(cache.hitRatio()).isZero();
+        cache.put("a", "엄마");
+
+        // when
+        cache.get("a");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.clear();
+
+        // then
+        assertThat(cache.hitCount()).isEqualTo(3);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.75);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("EncryptionUtil: 이름은 캐시를 거치고, 전화번호(민감 필드)는 캐시하지 않음")
+    void encryptionUtil_SkipsSensitiveFields() {
+        // given
+        DecryptionCache cache = new DecryptionCache(Duration.ofMinutes(10), 100, clock);
+        EncryptionUtil encryptionUtil = new EncryptionUtil(KEY, cache);
+        String name = encryptionUtil.encrypt("엄마");
+        String phoneNumber = encryptionUtil.encrypt("010-1234-5678");
+
+        // when
+        String first = encryptionUtil.decrypt(PiiField.PERSONA_NAME, name);
+        String second = encryptionUtil.decrypt(PiiField.PERSONA_NAME, name);
+        String phone = encryptionUtil.decrypt(PiiField.PERSONA_PHONE_NUMBER, phoneNumber);
+        Map<String, String> names = encryptionUtil.decryptAll(PiiField.PERSONA_NAME,
+                List.of(name, encryptionUtil.encrypt("아빠"), ""));
+        Map<String, String> phones = encryptionUtil.decryptAll(PiiField.PERSONA_PHONE_NUMBER, List.of(phoneNumber));
+
+        // then
+        assertThat(first).isEqualTo("엄마");
+        assertThat(second).isEqualTo("엄마");
+        assertThat(phone).isEqualTo("010-1234-5678");
+        assertThat(names).hasSize(3).containsEntry(name, "엄마").containsEntry("", "");
+        assertThat(phones).containsEntry(phoneNumber, "010-1234-5678");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(phoneNumber)).isNull();
+        assertThat(cache.hitCount()).isEqualTo(2);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
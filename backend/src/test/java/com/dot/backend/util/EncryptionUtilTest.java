@@ -0,0 +1,142 @@
+package com.dot.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EncryptionUtil 테스트 (Base64 경계 길이, 기존 암호문 호환, 변조 검출, 스레드별 IV)
+ */
+class EncryptionUtilTest {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    private final EncryptionUtil encryptionUtil = new EncryptionUtil(KEY);
+
+    @Test
+    @DisplayName("길이와 관계없이 (Base64 패딩 0~2개, 스레드 버퍼보다 큰 값 포함) 암호화 후 복호화하면 원문")
+    void encryptDecrypt_RoundTrip() {
+        for (int length = 1; length <= 100; length++) {
+            String plainText = "가a".repeat(length).substring(0, length);
+            assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(plainText))).isEqualTo(plainText);
+        }
+
+        String large = "엄마".repeat(20_000);
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt(large))).isEqualTo(large);
+        assertThat(encryptionUtil.encrypt(null)).isNull();
+        assertThat(encryptionUtil.decrypt("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 형식은 Base64(IV + 암호문 + 태그) 그대로 (기존 방식 암호문 복호화 / 기존 방식으로 복호화 가능)")
+    void format_CompatibleWithPerCallCipher() throws Exception {
+        // given: 변경 전 방식 (호출마다 Cipher, 난수 IV, java.util.Base64)
+        SecretKeySpec key = new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES");
+        byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        byte[] cipherText = cipher.doFinal("010-1234-5678".getBytes(StandardCharsets.UTF_8));
+        byte[] combined = new byte[iv.length + cipherText.length];
+        System.arraycopy(iv, 0, combined, 0, iv.length);
+        System.arraycopy(cipherText, 0, combined, iv.length, cipherText.length);
+        String legacy = Base64.getEncoder().encodeToString(combined);
+
+        // when
+        String decrypted = encryptionUtil.decrypt(legacy);
+        byte[] encrypted = Base64.getDecoder().decode(encryptionUtil.encrypt("홍길동"));
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, encrypted, 0, 12));
+        String legacyDecrypted = new String(cipher.doFinal(encrypted, 12, encrypted.length - 12), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(decrypted).isEqualTo("010-1234-5678");
+        assertThat(legacyDecrypted).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("변조된 암호문 / Base64가 아닌 값은 복호화 실패")
+    void decrypt_RejectsTamperedText() {
+        // given
+        byte[] encrypted = Base64.getDecoder().decode(encryptionUtil.encrypt("홍길동"));
+        encrypted[encrypted.length - 1] ^= 1;
+        String tampered = Base64.getEncoder().encodeToString(encrypted);
+
+        // when / then
+        assertThatThrownBy(() -> encryptionUtil.decrypt(tampered)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> encryptionUtil.decrypt("not base64!")).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> encryptionUtil.decrypt("AAAA")).isInstanceOf(RuntimeException.class);
+        // 실패 후에도 같은 스레드의 Cipher를 계속 사용 가능
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt("홍길동"))).isEqualTo("홍길동");
+    }
+
+    @Test
+    @DisplayName("decryptAll: 같은 암호문은 하나로, null / 빈 문자열은 그대로, 많으면 병렬로 처리해도 결과 동일")
+    void decryptAll_DeduplicatesAndParallelizes() {
+        // given
+        String name = encryptionUtil.encrypt("엄마");
+        List<String> small = Arrays.asList(name, null, "", name, encryptionUtil.encrypt("010-1234-5678"));
+        List<String> plainTexts = new ArrayList<>();
+        List<String> large = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            plainTexts.add("사람" + i);
+            large.add(encryptionUtil.encrypt("사람" + i));
+        }
+
+        // when
+        Map<String, String> smallResult = encryptionUtil.decryptAll(small);
+        Map<String, String> largeResult = encryptionUtil.decryptAll(large);
+
+        // then
+        assertThat(smallResult).hasSize(4)
+                .containsEntry(name, "엄마")
+                .containsEntry(null, null)
+                .containsEntry("", "");
+        assertThat(large).extracting(largeResult::get).containsExactlyElementsOf(plainTexts);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 암호화해도 IV가 겹치지 않음")
+    void encrypt_UniqueIvsAcrossThreads() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 5_000;
+        Set<String> ivs = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    String encrypted = encryptionUtil.encrypt("홍길동");
+                    ivs.add(Arrays.toString(Arrays.copyOf(Base64.getDecoder().decode(encrypted), 12)));
+                    assertThat(encryptionUtil.decrypt(encrypted)).isEqualTo("홍길동");
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ivs).hasSize(threads * perThread);
+    }
+}